@@ -0,0 +1,223 @@
+package com.sprint.ootd5team.domain.feed.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 피드 목록 likedByMe 판단 방식별 페이지 조회 지연 벤치마크
+ * <p>
+ * - correlatedExists: 행마다 EXISTS 서브쿼리 (기존 feedProjection)
+ * - batchedLookup: 페이지 조회 + feed_id IN (...) 일괄 조회 1회 (캐시 MISS / OVERFLOW 경로)
+ * - recentLikeCache: 페이지 조회 + 메모리 집합 판단 (캐시 HIT 경로, Redis 왕복 비용 제외)
+ * <p>
+ * H2 인메모리 DB 기준 (피드 20,000건 / 좋아요 200,000건) 이므로 절대값보다 방식 간 비율을 본다.
+ * 실제 PostgreSQL 에서는 EXISTS 가 행마다 인덱스 탐색을 하므로 네트워크 / 플래너 조건에 따라 차이가 달라진다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedLikedByMeBenchmark {
+
+    private static final int FEED_COUNT = 20_000;
+    private static final int USER_COUNT = 2_000;
+    private static final int LIKES_PER_USER = 100;
+    private static final int CURSOR_COUNT = 64;
+
+    @Param({"20", "50", "100"})
+    public int pageSize;
+
+    private Connection connection;
+    private PreparedStatement existsPage;
+    private PreparedStatement plainPage;
+    private PreparedStatement likedIn;
+
+    private UUID userId;
+    private Set<UUID> cachedLikes;
+    private Timestamp[] cursors;
+    private int cursorIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:feed-liked-by-me;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE tbl_feeds (
+                    id UUID PRIMARY KEY,
+                    author_id UUID NOT NULL,
+                    content VARCHAR(255),
+                    like_count BIGINT NOT NULL,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+                )""");
+            statement.execute("""
+                CREATE TABLE tbl_feed_likes (
+                    id UUID PRIMARY KEY,
+                    feed_id UUID NOT NULL,
+                    user_id UUID NOT NULL,
+                    CONSTRAINT uq_feed_like UNIQUE (feed_id, user_id)
+                )""");
+            statement.execute("CREATE INDEX idx_feeds_created_at ON tbl_feeds(created_at DESC, id)");
+            statement.execute("CREATE INDEX idx_feed_likes_user_feed ON tbl_feed_likes(user_id, feed_id)");
+        }
+
+        Random random = new Random(42);
+        List<UUID> feedIds = seedFeeds(random);
+        seedLikes(random, feedIds);
+
+        existsPage = connection.prepareStatement("""
+            SELECT f.id, f.content, f.like_count, f.created_at,
+                   EXISTS (SELECT 1 FROM tbl_feed_likes fl WHERE fl.feed_id = f.id AND fl.user_id = ?) AS liked
+            FROM tbl_feeds f
+            WHERE f.created_at < ?
+            ORDER BY f.created_at DESC, f.id
+            LIMIT ?""");
+        plainPage = connection.prepareStatement("""
+            SELECT f.id, f.content, f.like_count, f.created_at
+            FROM tbl_feeds f
+            WHERE f.created_at < ?
+            ORDER BY f.created_at DESC, f.id
+            LIMIT ?""");
+        likedIn = connection.prepareStatement(
+            "SELECT feed_id FROM tbl_feed_likes WHERE user_id = ? AND feed_id IN ("
+                + "?,".repeat(pageSize + 1).replaceAll(",$", "") + ")");
+
+        cursors = new Timestamp[CURSOR_COUNT];
+        for (int i = 0; i < CURSOR_COUNT; i++) {
+            cursors[i] = Timestamp.from(Instant.parse("2025-01-01T00:00:00Z")
+                .minusSeconds((long) random.nextInt(FEED_COUNT - 200) * 60));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void correlatedExists(Blackhole bh) throws SQLException {
+        existsPage.setObject(1, userId);
+        existsPage.setTimestamp(2, nextCursor());
+        existsPage.setInt(3, pageSize + 1);
+        try (ResultSet rs = existsPage.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getObject(1));
+                bh.consume(rs.getBoolean(5));
+            }
+        }
+    }
+
+    @Benchmark
+    public void batchedLookup(Blackhole bh) throws SQLException {
+        List<UUID> page = fetchPage(bh);
+
+        likedIn.setObject(1, userId);
+        for (int i = 0; i < pageSize + 1; i++) {
+            likedIn.setObject(i + 2, i < page.size() ? page.get(i) : page.get(0));
+        }
+        Set<UUID> liked = new HashSet<>();
+        try (ResultSet rs = likedIn.executeQuery()) {
+            while (rs.next()) {
+                liked.add(rs.getObject(1, UUID.class));
+            }
+        }
+        for (UUID feedId : page) {
+            bh.consume(liked.contains(feedId));
+        }
+    }
+
+    @Benchmark
+    public void recentLikeCache(Blackhole bh) throws SQLException {
+        for (UUID feedId : fetchPage(bh)) {
+            bh.consume(cachedLikes.contains(feedId));
+        }
+    }
+
+    private List<UUID> fetchPage(Blackhole bh) throws SQLException {
+        plainPage.setTimestamp(1, nextCursor());
+        plainPage.setInt(2, pageSize + 1);
+        List<UUID> page = new ArrayList<>(pageSize + 1);
+        try (ResultSet rs = plainPage.executeQuery()) {
+            while (rs.next()) {
+                page.add(rs.getObject(1, UUID.class));
+                bh.consume(rs.getString(2));
+            }
+        }
+        return page;
+    }
+
+    private Timestamp nextCursor() {
+        cursorIndex = (cursorIndex + 1) % CURSOR_COUNT;
+        return cursors[cursorIndex];
+    }
+
+    private List<UUID> seedFeeds(Random random) throws SQLException {
+        List<UUID> feedIds = new ArrayList<>(FEED_COUNT);
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO tbl_feeds (id, author_id, content, like_count, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < FEED_COUNT; i++) {
+                UUID feedId = new UUID(random.nextLong(), random.nextLong());
+                feedIds.add(feedId);
+                insert.setObject(1, feedId);
+                insert.setObject(2, new UUID(0L, random.nextInt(USER_COUNT)));
+                insert.setString(3, "피드 내용 " + i);
+                insert.setLong(4, random.nextInt(100));
+                insert.setTimestamp(5, Timestamp.from(base.minusSeconds(i * 60L)));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return feedIds;
+    }
+
+    /** 사용자마다 무작위 피드 LIKES_PER_USER 개에 좋아요, 측정 사용자는 그중 첫 번째 사용자 */
+    private void seedLikes(Random random, List<UUID> feedIds) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+            "INSERT INTO tbl_feed_likes (id, feed_id, user_id) VALUES (?, ?, ?)")) {
+            for (int u = 0; u < USER_COUNT; u++) {
+                UUID user = new UUID(1L, u);
+                Set<UUID> liked = new HashSet<>();
+                while (liked.size() < LIKES_PER_USER) {
+                    liked.add(feedIds.get(random.nextInt(FEED_COUNT)));
+                }
+                for (UUID feedId : liked) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setObject(2, feedId);
+                    insert.setObject(3, user);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+                if (u == 0) {
+                    userId = user;
+                    cachedLikes = Set.copyOf(liked);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.sprint.ootd5team.domain.recommendation.benchmark;
+
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 벤치마크용 의상 코퍼스 (clothes_data.sql 더미 데이터 파싱)
+ * <p>
+ * - new_items VALUES ('이름', 'TYPE') → 의상 이름 / 타입
+ * - 매핑 VALUES ('이름', '속성ID'::uuid, '값') → 의상별 속성값
+ */
+public final class ClothesDataCorpus {
+
+    private static final String RESOURCE = "/clothes_data.sql";
+
+    private static final Pattern ATTRIBUTE_ROW = Pattern.compile(
+        "\\('([0-9a-f-]{36})',\\s*'([^']+)',\\s*NOW\\(\\)\\)");
+    private static final Pattern ITEM_ROW = Pattern.compile(
+        "\\('([^']+)',\\s*'([A-Z]+)'\\)");
+    private static final Pattern VALUE_ROW = Pattern.compile(
+        "\\('([^']+)',\\s*'([0-9a-f-]{36})'::uuid,\\s*'([^']*)'\\)");
+
+    private static volatile List<Item> cached;
+
+    private ClothesDataCorpus() {
+    }
+
+    /** 의상 이름, 타입, 속성명 → 속성값 */
+    public record Item(String name, ClothesType type, Map<String, String> attributes) {
+
+        public String attr(String attributeName) {
+            return attributes.getOrDefault(attributeName, "");
+        }
+    }
+
+    public static List<Item> items() {
+        List<Item> items = cached;
+        if (items == null) {
+            items = parse(read());
+            cached = items;
+        }
+        return items;
+    }
+
+    private static List<Item> parse(String sql) {
+        Map<String, String> attributeNames = new LinkedHashMap<>();
+        Matcher attributeMatcher = ATTRIBUTE_ROW.matcher(sql);
+        while (attributeMatcher.find()) {
+            attributeNames.put(attributeMatcher.group(1), attributeMatcher.group(2));
+        }
+
+        Map<String, ClothesType> types = new LinkedHashMap<>();
+        Matcher itemMatcher = ITEM_ROW.matcher(sql);
+        while (itemMatcher.find()) {
+            types.putIfAbsent(itemMatcher.group(1), ClothesType.valueOf(itemMatcher.group(2)));
+        }
+
+        Map<String, Map<String, String>> attributes = new LinkedHashMap<>();
+        Matcher valueMatcher = VALUE_ROW.matcher(sql);
+        while (valueMatcher.find()) {
+            String attributeName = attributeNames.get(valueMatcher.group(2));
+            if (attributeName != null) {
+                attributes.computeIfAbsent(valueMatcher.group(1), k -> new LinkedHashMap<>())
+                    .putIfAbsent(attributeName, valueMatcher.group(3));
+            }
+        }
+
+        List<Item> items = new ArrayList<>(types.size());
+        types.forEach((name, type) ->
+            items.add(new Item(name, type, attributes.getOrDefault(name, Map.of()))));
+        if (items.isEmpty()) {
+            throw new IllegalStateException("clothes_data.sql에서 의상 데이터를 찾지 못했습니다.");
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static String read() {
+        try (InputStream in = ClothesDataCorpus.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " 리소스가 클래스패스에 없습니다.");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sprint.ootd5team.domain.recommendation.benchmark;
+
+import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
+import com.sprint.ootd5team.domain.recommendation.enums.Color;
+import com.sprint.ootd5team.domain.recommendation.enums.Material;
+import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OptionalItemSubType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OuterType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.ShoesType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
+import com.sprint.ootd5team.domain.recommendation.enums.util.EnumParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * EnumParser 벤치마크: 리플렉션 기반(기존) vs 사전 컴파일 인덱스(현재)
+ * <p>
+ * - clothes_data.sql 의상마다 ClothesFeatureExtractor와 같은 조합으로 파싱
+ *   (색상 / 소재 / 스타일 + 타입별 세부 종류)
+ * - 두 구현의 결과가 다르면 Setup 단계에서 실패
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnumParserBenchmark {
+
+    /** 파싱 요청 한 건 (EnumParser.parseFromAttrAndName 인자) */
+    private record Query(Class<? extends Enum> enumClass, String attrValue, String name, Enum defaultValue) {
+    }
+
+    private List<Query> queries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queries = new ArrayList<>();
+        for (ClothesDataCorpus.Item item : ClothesDataCorpus.items()) {
+            String name = item.name();
+            queries.add(new Query(Color.class, item.attr("색상"), name, Color.OTHER));
+            queries.add(new Query(Material.class, item.attr("소재"), name, Material.OTHER));
+            queries.add(new Query(ClothesStyle.class, item.attr("스타일"), name, ClothesStyle.OTHER));
+            switch (item.type()) {
+                case TOP -> queries.add(new Query(TopType.class, item.attr("상의 종류"), name, TopType.OTHER));
+                case BOTTOM -> queries.add(new Query(BottomType.class, item.attr("하의 종류"), name, BottomType.OTHER));
+                case OUTER -> queries.add(new Query(OuterType.class, item.attr("아우터 종류"), name, OuterType.OTHER));
+                case SHOES -> queries.add(new Query(ShoesType.class, item.attr("신발타입"), name, ShoesType.OTHER));
+                case ETC -> queries.add(
+                    new Query(OptionalItemSubType.class, item.attr("아이템 종류"), name, OptionalItemSubType.NONE));
+                default -> {
+                }
+            }
+        }
+
+        for (Query query : queries) {
+            Object legacy = legacy(query);
+            Object indexed = indexed(query);
+            if (legacy != indexed) {
+                throw new IllegalStateException("파싱 결과 불일치: " + query + " legacy=" + legacy + ", indexed=" + indexed);
+            }
+        }
+    }
+
+    @Benchmark
+    public void reflective(Blackhole bh) {
+        for (Query query : queries) {
+            bh.consume(legacy(query));
+        }
+    }
+
+    @Benchmark
+    public void compiledIndex(Blackhole bh) {
+        for (Query query : queries) {
+            bh.consume(indexed(query));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object legacy(Query q) {
+        return LegacyEnumParser.parseFromAttrAndName((Class) q.enumClass(), q.attrValue(), q.name(), q.defaultValue());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object indexed(Query q) {
+        return EnumParser.parseFromAttrAndName((Class) q.enumClass(), q.attrValue(), q.name(), q.defaultValue());
+    }
+}
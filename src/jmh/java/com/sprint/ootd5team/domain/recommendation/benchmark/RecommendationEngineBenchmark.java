@@ -0,0 +1,170 @@
+package com.sprint.ootd5team.domain.recommendation.benchmark;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothesattribute.mapper.ClothesAttributeMapperImpl;
+import com.sprint.ootd5team.domain.recommendation.dto.ApparentTemperatureDto;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.WeatherInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.ClothesFeatureExtractor;
+import com.sprint.ootd5team.domain.recommendation.engine.OutfitCombinationGenerator;
+import com.sprint.ootd5team.domain.recommendation.engine.RecommendationParallelExecutor;
+import com.sprint.ootd5team.domain.recommendation.engine.SingleItemScoringEngine;
+import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
+import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapperImpl;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import com.sprint.ootd5team.domain.weather.enums.WindspeedLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 추천 엔진 단계별 벤치마크
+ * <p>
+ * - 옷장 크기(50/500/5000)별 가상 옷장(SyntheticWardrobe)에서 측정
+ * - toFilteredDto: 특징값 즉시 계산 / 저장된 특징값 사용
+ * - getTopItemsByType: 옷장 전체 단품 점수 + 타입별 상위 N개 (순차 / 병렬)
+ * - generateWithScoring: 타입별 상위 N개 후보로 코디 조합 (운영과 같은 입력)
+ * - OutfitScore.add: 옷장에서 뽑은 코디에 아이템 순차 추가
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecommendationEngineBenchmark {
+
+    private static final long SEED = 20251017L;
+    private static final int OUTFIT_SAMPLES = 256;
+    private static final int OUTFIT_SIZE = 6;
+    private static final int PARALLELISM = 4;
+
+    @Param({"50", "500", "5000"})
+    public int wardrobeSize;
+
+    private RecommendationMapper recommendationMapper;
+    private SingleItemScoringEngine scoringEngine;
+    private RecommendationParallelExecutor parallelExecutor;
+    private SingleItemScoringEngine parallelScoringEngine;
+    private OutfitCombinationGenerator outfitCombinationGenerator;
+    private RecommendationInfoDto info;
+
+    private List<Clothes> wardrobe;
+    private List<ClothesFeature> storedFeatures;
+    private List<ClothesFilteredDto> filtered;
+    private List<ClothesScore> topItems;
+    private ClothesScore[][] outfitSamples;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClothesFeatureExtractor extractor = new ClothesFeatureExtractor();
+        recommendationMapper = new RecommendationMapperImpl();
+        inject(recommendationMapper, "clothesFeatureExtractor", extractor);
+        inject(recommendationMapper, "clothesAttributeMapper", new ClothesAttributeMapperImpl());
+
+        scoringEngine = new SingleItemScoringEngine(RecommendationParallelExecutor.sequential());
+        parallelExecutor = new RecommendationParallelExecutor(true, PARALLELISM, 0, 0, new SimpleMeterRegistry());
+        parallelScoringEngine = new SingleItemScoringEngine(parallelExecutor);
+        outfitCombinationGenerator = new OutfitCombinationGenerator(RecommendationParallelExecutor.sequential());
+        info = new RecommendationInfoDto(
+            new WeatherInfoDto(
+                PrecipitationType.RAIN,
+                60.0,
+                WindspeedLevel.MODERATE,
+                SkyStatus.MOSTLY_CLOUDY,
+                new ApparentTemperatureDto(14.0, 70.0, 3.0, Instant.parse("2025-10-17T03:00:00Z"))
+            ),
+            new ProfileInfoDto("공용", 30, 3),
+            14.0
+        );
+
+        wardrobe = SyntheticWardrobe.generate(wardrobeSize, SEED);
+        storedFeatures = wardrobe.stream().map(extractor::extract).toList();
+        filtered = wardrobe.stream().map(recommendationMapper::toFilteredDto).toList();
+        topItems = scoringEngine.getTopItemsByType(info, filtered);
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        outfitSamples = new ClothesScore[OUTFIT_SAMPLES][OUTFIT_SIZE];
+        for (ClothesScore[] outfit : outfitSamples) {
+            for (int i = 0; i < outfit.length; i++) {
+                ClothesFilteredDto item = filtered.get(random.nextInt(filtered.size()));
+                outfit[i] = ClothesScore.from(item, scoringEngine.calculateSingleItemScore(info, item));
+            }
+        }
+    }
+
+    @Benchmark
+    public void toFilteredDtoExtract(Blackhole bh) {
+        for (Clothes clothes : wardrobe) {
+            bh.consume(recommendationMapper.toFilteredDto(clothes));
+        }
+    }
+
+    @Benchmark
+    public void toFilteredDtoStoredFeature(Blackhole bh) {
+        for (int i = 0; i < wardrobe.size(); i++) {
+            bh.consume(recommendationMapper.toFilteredDto(wardrobe.get(i), storedFeatures.get(i)));
+        }
+    }
+
+    @Benchmark
+    public List<ClothesScore> getTopItemsByType() {
+        return scoringEngine.getTopItemsByType(info, filtered);
+    }
+
+    /** 임계값 0: 항상 병렬 경로 (getTopItemsByType 대비 손익분기 확인용) */
+    @Benchmark
+    public List<ClothesScore> getTopItemsByTypeParallel() {
+        return parallelScoringEngine.getTopItemsByType(info, filtered);
+    }
+
+    @Benchmark
+    public List<OutfitScore> generateWithScoring() {
+        return outfitCombinationGenerator.generateWithScoring(topItems);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void outfitScoreAdd(Blackhole bh) {
+        for (ClothesScore[] items : outfitSamples) {
+            OutfitScore outfit = new OutfitScore();
+            for (ClothesScore item : items) {
+                outfit.add(item);
+            }
+            bh.consume(outfit.score());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parallelExecutor.shutdown();
+    }
+
+    /** MapStruct 구현체의 주입 필드 설정 (스프링 컨텍스트 없이 사용) */
+    private static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        if (field == null) {
+            throw new IllegalStateException(target.getClass().getSimpleName() + "." + fieldName + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
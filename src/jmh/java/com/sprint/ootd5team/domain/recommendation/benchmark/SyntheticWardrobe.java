@@ -0,0 +1,55 @@
+package com.sprint.ootd5team.domain.recommendation.benchmark;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 가상 옷장 생성기
+ * <p>
+ * - clothes_data.sql 의 의상 이름 / 타입 / 속성값 어휘를 무작위 조합
+ * - 같은 (size, seed)면 항상 같은 옷장 생성 (실행 간 비교 가능)
+ */
+public final class SyntheticWardrobe {
+
+    private static final String COLOR_ATTRIBUTE = "색상";
+
+    private SyntheticWardrobe() {
+    }
+
+    public static List<Clothes> generate(int size, long seed) {
+        List<ClothesDataCorpus.Item> corpus = ClothesDataCorpus.items();
+
+        // 속성명 → 등장한 값 목록 (중복 포함 = 실제 분포 유지)
+        Map<String, List<String>> vocabulary = new LinkedHashMap<>();
+        for (ClothesDataCorpus.Item item : corpus) {
+            item.attributes().forEach((name, value) ->
+                vocabulary.computeIfAbsent(name, k -> new ArrayList<>()).add(value));
+        }
+        Map<String, ClothesAttribute> attributes = new LinkedHashMap<>();
+        vocabulary.keySet().forEach(name -> attributes.put(name, new ClothesAttribute(name)));
+
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Clothes> wardrobe = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 타입 / 기본 이름은 코퍼스 의상에서, 속성값은 속성별 어휘에서 추출
+            ClothesDataCorpus.Item base = corpus.get(random.nextInt(corpus.size()));
+            Map<String, String> values = new LinkedHashMap<>();
+            vocabulary.forEach((name, pool) -> values.put(name, pool.get(random.nextInt(pool.size()))));
+
+            Clothes clothes = Clothes.builder()
+                .name(values.getOrDefault(COLOR_ATTRIBUTE, "") + " " + base.name())
+                .type(base.type())
+                .build();
+            values.forEach((name, value) ->
+                clothes.addClothesAttributeValue(new ClothesAttributeValue(attributes.get(name), value)));
+            wardrobe.add(clothes);
+        }
+        return wardrobe;
+    }
+}
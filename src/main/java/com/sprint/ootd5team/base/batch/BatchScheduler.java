@@ -19,6 +19,7 @@ public class BatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final WeatherBatchConfig batchConfig;
+    private final ClothesSeasonBackfillConfig clothesSeasonBackfillConfig;
     private final WeatherCleanupService weatherCleanupService;
 
     @Scheduled(cron = "0 0 23 * * *", zone = "Asia/Seoul")
@@ -36,6 +37,23 @@ public class BatchScheduler {
         }
     }
 
+    /**
+     * 계절 비트마스크가 없는 의상 백필 (배포 직후 / SQL 직접 적재분 처리, 대상이 없으면 즉시 종료)
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void backfillClothesSeasonMask() {
+        JobParameters jobParameters = new JobParametersBuilder()
+            .addLong("time", System.currentTimeMillis())
+            .toJobParameters();
+        try {
+            jobLauncher.run(clothesSeasonBackfillConfig.clothesSeasonBackfillJob(), jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException
+                 | JobParametersInvalidException |
+                 org.springframework.batch.core.repository.JobRestartException e) {
+            log.error("[ClothesSeasonBackfill] Job 실행 실패: {}", e.getMessage());
+        }
+    }
+
     @Scheduled(cron = "0 0 2 ? * MON", zone = "Asia/Seoul")
     public void cleanupUnusedWeathers() {
         try {
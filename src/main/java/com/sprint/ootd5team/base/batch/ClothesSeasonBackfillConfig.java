@@ -0,0 +1,39 @@
+package com.sprint.ootd5team.base.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 의상 계절 비트마스크(tbl_clothes.season_mask) 백필 Job
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ClothesSeasonBackfillConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ClothesSeasonBackfillTasklet clothesSeasonBackfillTasklet;
+
+    @Bean
+    public Job clothesSeasonBackfillJob() {
+        return new JobBuilder("clothesSeasonBackfillJob", jobRepository)
+            .incrementer(new RunIdIncrementer())
+            .start(clothesSeasonBackfillStep())
+            .build();
+    }
+
+    @Bean
+    public Step clothesSeasonBackfillStep() {
+        return new StepBuilder("clothesSeasonBackfillStep", jobRepository)
+            .tasklet(clothesSeasonBackfillTasklet, transactionManager)
+            .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.sprint.ootd5team.base.batch;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
+import com.sprint.ootd5team.domain.recommendation.enums.util.SeasonMask;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * season_mask 가 없는 의상의 계절 비트마스크 백필
+ * <p>
+ * - 한 번 실행(트랜잭션)마다 CHUNK_SIZE 개씩 계산 후 저장
+ * - 속성값은 fetch join 으로 함께 조회 (의상마다 지연 로딩하지 않음)
+ * - 처리 대상이 남아 있으면 CONTINUABLE 로 반복
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClothesSeasonBackfillTasklet implements Tasklet {
+
+    static final int CHUNK_SIZE = 200;
+
+    private final ClothesRepository clothesRepository;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<UUID> ids = clothesRepository.findIdsWithoutSeasonMask(Limit.of(CHUNK_SIZE));
+        if (ids.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Clothes> clothesList = clothesRepository.findAllWithAttributeValuesByIds(ids);
+        clothesList.forEach(clothes -> clothes.updateSeasonMask(SeasonMask.fromClothes(clothes)));
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(clothesList.size());
+
+        log.info("[ClothesSeasonBackfill] 계절 비트마스크 {}개 갱신", clothesList.size());
+        return ids.size() < CHUNK_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sprint.ootd5team.base.batch;
+
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 추천 결과 사전 계산 Step
+ * - weatherBatchJob 에서 날씨 저장 Step 다음에 실행 (아침 피크 대비)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RecommendationPrecomputeBatchConfig {
+
+    private static final int CHUNK_SIZE = 50;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final RecommendationPrecomputeReader recommendationPrecomputeReader;
+    private final RecommendationPrecomputeProcessor recommendationPrecomputeProcessor;
+    private final RecommendationPrecomputeWriter recommendationPrecomputeWriter;
+
+    @Bean
+    public Step recommendationPrecomputeStep() {
+        return new StepBuilder("recommendationPrecomputeStep", jobRepository)
+            .<UUID, PrecomputedRecommendation>chunk(CHUNK_SIZE, transactionManager)
+            .reader(recommendationPrecomputeReader)
+            .processor(recommendationPrecomputeProcessor)
+            .writer(recommendationPrecomputeWriter)
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.sprint.ootd5team.base.batch;
+
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.service.RecommendationPrecomputeService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * @class RecommendationPrecomputeProcessor
+ * @brief 사용자별 추천 결과를 계산한다. 결과가 없거나 실패하면 null을 반환해 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationPrecomputeProcessor implements
+    ItemProcessor<UUID, PrecomputedRecommendation> {
+
+    private final RecommendationPrecomputeService recommendationPrecomputeService;
+
+    @Override
+    public PrecomputedRecommendation process(UUID userId) {
+        try {
+            return recommendationPrecomputeService.precompute(userId).orElse(null);
+        } catch (Exception e) {
+            // 한 사용자 실패로 스텝 전체가 중단되지 않도록 건너뜀 (조회 시 실시간 계산으로 대체)
+            log.warn("[RecommendationPrecomputeProcessor] 추천 사전 계산 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sprint.ootd5team.base.batch;
+
+import com.sprint.ootd5team.domain.recommendation.service.RecommendationPrecomputeService;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.stereotype.Component;
+
+/**
+ * @class RecommendationPrecomputeReader
+ * @brief 위치가 설정된 프로필의 사용자 ID를 추천 사전 계산 대상으로 공급한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationPrecomputeReader implements ItemStreamReader<UUID> {
+
+    private final RecommendationPrecomputeService recommendationPrecomputeService;
+    private Iterator<UUID> iterator;
+
+    @Override
+    public UUID read() {
+        if (iterator == null || !iterator.hasNext()) {
+            return null;
+        }
+        return iterator.next();
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        List<UUID> userIds = recommendationPrecomputeService.findTargetUserIds();
+        iterator = userIds.iterator();
+        log.info("[RecommendationPrecomputeReader] 총 {}명의 추천 사전 계산 대상 로드", userIds.size());
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        iterator = null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sprint.ootd5team.base.batch;
+
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.repository.PrecomputedRecommendationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendationPrecomputeWriter implements ItemWriter<PrecomputedRecommendation> {
+
+    private final PrecomputedRecommendationRepository precomputedRecommendationRepository;
+
+    @Override
+    public void write(Chunk<? extends PrecomputedRecommendation> chunk) {
+        for (PrecomputedRecommendation recommendation : chunk) {
+            precomputedRecommendationRepository.save(recommendation);
+        }
+        log.debug("[RecommendationPrecomputeWriter] 추천 사전 계산 결과 {}건 저장", chunk.size());
+    }
+}
@@ -25,12 +25,14 @@ public class WeatherBatchConfig {
     private final PlatformTransactionManager transactionManager;
     private final ItemStreamReader<LocationWithProfileIds> weatherBatchDataReader;
     private final WeatherBatchWriter weatherBatchWriter;
+    private final RecommendationPrecomputeBatchConfig recommendationPrecomputeBatchConfig;
 
     @Bean
     public Job weatherBatchJob() {
         return new JobBuilder("weatherJob", jobRepository)
             .incrementer(new RunIdIncrementer())
             .start(weatherBatchStep())
+            .next(recommendationPrecomputeBatchConfig.recommendationPrecomputeStep())
             .listener(weatherJobLoggingListener())
             .build();
     }
@@ -1,7 +1,12 @@
 package com.sprint.ootd5team.base.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.engine.model.CandidatePoolKey;
+import com.sprint.ootd5team.domain.recommendation.repository.PrecomputedRecommendationRepository;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +18,17 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Redis 캐시 중 특정 prefix(ownerId:)로 시작하는 항목만 제거하는 유틸리티
  * <p>
  * Spring Cache의 @CacheEvict는 와일드카드 키 삭제를 지원하지 않기 때문에
  * SCAN 명령을 이용해 직접 키를 탐색하고 삭제
+ * <p>
+ * 같은 시점에 로컬 추천 후보 풀 캐시(recommendationCandidateCache)와
+ * 배치로 미리 계산한 추천 결과도 owner 기준으로 제거
  */
 @Slf4j
 @Component
@@ -28,6 +38,8 @@ public class CacheEvictHelper {
 
     private static final String CACHE_NAME = "clothesByUser";
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Cache<CandidatePoolKey, List<ClothesFilteredDto>> recommendationCandidateCache;
+    private final PrecomputedRecommendationRepository precomputedRecommendationRepository;
 
     /**
      * 특정 ownerId의 clothesByUser 캐시만 제거
@@ -35,6 +47,19 @@ public class CacheEvictHelper {
      * @param ownerId 캐시 프리픽스 기준 owner UUID
      */
     public void evictClothesByOwner(UUID ownerId) {
+        evictCandidatePool(ownerId);
+        precomputedRecommendationRepository.deleteByUserId(ownerId);
+
+        // 커밋 전에 다른 요청이 이전 데이터로 후보 풀을 다시 채울 수 있으므로 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCandidatePool(ownerId);
+                }
+            });
+        }
+
         // 전역 prefix 유무/값(예: "ootd:")과 무관하게 매칭되도록 선행 와일드카드 사용
         String pattern = "*" + CACHE_NAME + "::" + ownerId + ":*";
         Set<String> keysToDelete = scanKeys(pattern);
@@ -48,6 +73,17 @@ public class CacheEvictHelper {
         }
     }
 
+    /**
+     * 추천 후보 풀 캐시에서 해당 owner의 모든 계절 조합 제거
+     */
+    private void evictCandidatePool(UUID ownerId) {
+        boolean removed = recommendationCandidateCache.asMap().keySet()
+            .removeIf(key -> key.ownerId().equals(ownerId));
+        if (removed) {
+            log.debug("[CacheEvictHelper] Removed recommendation candidate pools for ownerId={}", ownerId);
+        }
+    }
+
     /**
      * Redis SCAN 명령을 이용해 pattern에 매칭되는 키 목록을 찾는다.
      */
@@ -43,6 +43,25 @@ public class AsyncConfig {
     }
 
 
+    /**
+     * 비동기 LLM 추천 전용 스레드풀
+     *    - 느린 LLM 호출이 요청 스레드/DB 커넥션을 점유하지 않도록 분리
+     *    - 큐가 가득 차면 거부(TaskRejectedException) → 호출 측에서 알고리즘 결과만 반환
+     * @return 생성된 TaskExecutor Bean
+     */
+    @Bean(name = "llmTaskExecutor")
+    public TaskExecutor llmTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("llm-task-");
+        executor.setTaskDecorator(mdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+
     /**
      * 로깅 정보를 실행 스레드에 전달하기 위한 TaskDecorator
      *  - 다른 스레드에서 실행되더라도 요청 단위 식별자(RequestId)가 유지되도록 해줌
@@ -4,12 +4,19 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sprint.ootd5team.domain.directmessage.entity.DirectMessageRoom;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDetailCache;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.engine.model.CandidatePoolKey;
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -55,6 +62,21 @@ public class CacheConfig {
             .disableCachingNullValues();
     }
 
+    /**
+     * 피드 상세 L2 캐시 TTL (기본 설정의 직렬화 / prefix 는 그대로 사용)
+     * - 작성자 프로필 변경은 이벤트로 제거하지 않으므로 기본 TTL 보다 짧게 유지
+     */
+    @Bean
+    public RedisCacheManagerBuilderCustomizer feedDetailCacheCustomizer(
+        RedisCacheConfiguration redisCacheConfiguration,
+        @Value("${ootd.feed.detail-cache.remote-ttl:5m}") Duration ttl
+    ) {
+        return builder -> builder.withCacheConfiguration(
+            FeedDetailCache.CACHE_NAME,
+            redisCacheConfiguration.entryTtl(ttl)
+        );
+    }
+
     // ========== DirectMessage Chache ==========
     @Bean
     public Cache<UUID, String> dmUserNameCache() {
@@ -80,4 +102,33 @@ public class CacheConfig {
             .build();
     }
 
+    // ========== Recommendation Cache ==========
+
+    /**
+     * 추천 후보 풀 캐시 (사용자 + 허용 계절 → 매핑된 의상 목록)
+     * - 의상 수 기준 가중치로 메모리 상한 관리
+     * - 의상 생성/수정/삭제 시 CacheEvictHelper.evictClothesByOwner 에서 제거
+     */
+    @Bean
+    public Cache<CandidatePoolKey, List<ClothesFilteredDto>> recommendationCandidateCache() {
+        return Caffeine.newBuilder()
+            .maximumWeight(200_000)
+            .weigher((CandidatePoolKey key, List<ClothesFilteredDto> pool) -> pool.size() + 1)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    }
+
+    /**
+     * LLM 추천 응답 캐시 (요청 지문 → 추천 의상 ID 목록)
+     * - 진행 중인 요청도 future로 등록되어 같은 지문의 동시 요청이 결과를 공유
+     * - 후보 의상이 바뀌면 지문이 달라지므로 별도 무효화 없이 TTL로 정리
+     */
+    @Bean
+    public AsyncCache<String, List<UUID>> llmRecommendationCache() {
+        return Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .buildAsync();
+    }
+
 }
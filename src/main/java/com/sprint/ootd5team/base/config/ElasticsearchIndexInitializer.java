@@ -1,103 +1,94 @@
 package com.sprint.ootd5team.base.config;
 
-import com.sprint.ootd5team.domain.feed.search.FeedDocument;
-import java.util.List;
-import java.util.Map;
+import com.sprint.ootd5team.domain.feed.search.FeedIndexDefinition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.annotation.Profile;
-import org.springframework.context.event.EventListener;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
-import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Component;
 
-@Profile({"dev", "test"})
+/**
+ * 피드 검색 별칭 초기화
+ * <p>
+ * - spring.elasticsearch.indices.feed 는 별칭 이름 (검색 / 인덱서 모두 별칭으로 접근)
+ * - 별칭이 없으면 {별칭}-v1 인덱스를 만들거나(이미 있으면 그대로 사용) 별칭을 연결
+ * - 별칭이 없는 채로 쓰기가 들어오면 별칭 이름의 일반 인덱스가 자동 생성되므로 모든 프로필에서 실행
+ * - 피드 인덱서 등 Kafka 리스너 컨테이너(phase: Integer.MAX_VALUE - 100)보다 먼저 시작하도록 SmartLifecycle 로 실행
+ * - 별칭이 이미 있으면 현재 매핑에 새 필드만 추가 (기존 필드 변경은 재색인 필요)
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class ElasticsearchIndexInitializer {
+public class ElasticsearchIndexInitializer implements SmartLifecycle {
+
+    /** Kafka 리스너 컨테이너 / 웹 서버보다 앞선 phase */
+    static final int PHASE = 0;
 
     private final ElasticsearchOperations operations;
 
     @Value("${spring.elasticsearch.indices.feed}")
-    private String indexName;
+    private String alias;
+
+    private volatile boolean running;
 
-    @EventListener(ApplicationReadyEvent.class)
-    public void createIndexIfNotExists() {
-        IndexOperations indexOps = operations.indexOps(FeedDocument.class);
+    @Override
+    public void start() {
+        createIndexIfNotExists();
+        running = true;
+    }
 
-        if (!indexOps.exists()) {
-            log.info("[ElasticsearchIndexInitializer] Elasticsearch 인덱스 생성 요청: {}", indexName);
+    @Override
+    public void stop() {
+        running = false;
+    }
 
-            Map<String, Object> settings = Map.of(
-                "index", Map.of(
-                    "max_ngram_diff", 2,
-                    "refresh_interval", "1s",
-                    "number_of_replicas", 1,
-                    "translog", Map.of(
-                        "durability", "async"
-                    )
-                ),
-                "analysis", Map.of(
-                    "tokenizer", Map.of(
-                        "nori_tokenizer", Map.of(
-                            "type", "nori_tokenizer",
-                            "decompound_mode", "mixed"
-                        ),
-                        "ngram_tokenizer", Map.of(
-                            "type", "ngram",
-                            "min_gram", 1,
-                            "max_gram", 3
-                        )
-                    ),
-                    "analyzer", Map.of(
-                        "korean_nori_custom", Map.of(
-                            "type", "custom",
-                            "tokenizer", "nori_tokenizer",
-                            "filter", List.of("nori_readingform", "lowercase")
-                        ),
-                        "ngram_analyzer", Map.of(
-                            "type", "custom",
-                            "tokenizer", "ngram_tokenizer",
-                            "filter", List.of("lowercase")
-                        )
-                    )
-                )
-            );
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
 
-            Document mapping = Document.create().append("properties", Map.of(
-                "feedId", Map.of("type", "keyword"),
-                "content", Map.of(
-                    "type", "text",
-                    "analyzer", "korean_nori_custom",
-                    "search_analyzer", "ngram_analyzer",
-                    "fields", Map.of(
-                        "ngram", Map.of(
-                            "type", "text",
-                            "analyzer", "ngram_analyzer"
-                        )
-                    )
-                ),
-                "likeCount", Map.of("type", "long"),
-                "createdAt", Map.of(
-                    "type", "date",
-                    "format", "strict_date_optional_time||epoch_millis"
-                )
-            ));
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
 
-            try {
-                indexOps.create(settings);
-                indexOps.putMapping(mapping);
-            } catch (Exception e) {
-                log.warn("[ElasticsearchIndexInitializer] 이미 존재하거나 생성 실패", e);
+    private void createIndexIfNotExists() {
+        IndexOperations aliasOps = operations.indexOps(IndexCoordinates.of(alias));
+        if (aliasOps.exists()) {
+            log.info("[ElasticsearchIndexInitializer] 이미 존재하는 Index: {}", alias);
+            putMapping(aliasOps);
+            return;
+        }
+
+        String indexName = FeedIndexDefinition.initialIndexName(alias);
+        IndexOperations indexOps = operations.indexOps(IndexCoordinates.of(indexName));
+
+        try {
+            if (!indexOps.exists()) {
+                log.info("[ElasticsearchIndexInitializer] Elasticsearch 인덱스 생성 요청: {}", indexName);
+                indexOps.create(FeedIndexDefinition.settings(), FeedIndexDefinition.mapping());
             }
+            indexOps.alias(new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .build())));
+            log.info("[ElasticsearchIndexInitializer] Elasticsearch 별칭 연결 완료: {} → {}", alias, indexName);
+        } catch (Exception e) {
+            log.warn("[ElasticsearchIndexInitializer] 인덱스 / 별칭 생성 실패: {}", indexName, e);
+        }
+    }
 
-            log.info("[ElasticsearchIndexInitializer] Elasticsearch 인덱스 생성 완료: {}", indexName);
-        } else {
-            log.info("[ElasticsearchIndexInitializer] 이미 존재하는 Index: {}", indexName);
+    private void putMapping(IndexOperations aliasOps) {
+        try {
+            aliasOps.putMapping(FeedIndexDefinition.mapping());
+        } catch (Exception e) {
+            log.warn("[ElasticsearchIndexInitializer] 매핑 갱신 실패 → 재색인 필요: {}", alias, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.sprint.ootd5team.base.config;
+
+import com.sprint.ootd5team.base.sse.broker.RedisSseBroker;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 다중 노드 SSE 전달 설정
+ * - 브로드캐스트 채널과 이 노드 전용 채널을 구독해 RedisSseBroker 로 전달
+ */
+@Configuration
+@ConditionalOnProperty(name = "ootd.sse.broker", havingValue = "redis")
+public class SseBrokerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer sseMessageListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisSseBroker redisSseBroker
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisSseBroker, List.of(
+            new ChannelTopic(RedisSseBroker.BROADCAST_CHANNEL),
+            new ChannelTopic(redisSseBroker.nodeChannel())
+        ));
+        return container;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sprint.ootd5team.base.eventlistener;
+
+import com.sprint.ootd5team.domain.feed.event.type.FeedAuthorUpdatedEvent;
+import com.sprint.ootd5team.domain.feed.indexer.FeedAuthorIndexUpdater;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 변경 커밋 이후 피드 검색 문서의 작성자 정보 갱신
+ * - 실패해도 원 요청에는 영향 없음 (다음 재색인 때 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedAuthorIndexEventListener {
+
+    private final FeedAuthorIndexUpdater feedAuthorIndexUpdater;
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(FeedAuthorUpdatedEvent event) {
+        try {
+            feedAuthorIndexUpdater.update(event);
+        } catch (Exception e) {
+            log.warn("[FeedAuthorIndexEventListener] 검색 문서 작성자 정보 갱신 실패 - userId:{}", event.userId(), e);
+        }
+    }
+}
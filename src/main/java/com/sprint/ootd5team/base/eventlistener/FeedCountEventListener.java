@@ -0,0 +1,32 @@
+package com.sprint.ootd5team.base.eventlistener;
+
+import com.sprint.ootd5team.domain.feed.event.type.FeedCountChangedEvent;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedTotalCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 피드 생성 / 삭제 커밋 이후 피드 개수 카운터 갱신
+ * - 실패해도 카운터 TTL 만료 시 COUNT 로 재초기화됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCountEventListener {
+
+    private final FeedTotalCounter feedTotalCounter;
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(FeedCountChangedEvent event) {
+        try {
+            feedTotalCounter.apply(event);
+        } catch (Exception e) {
+            log.warn("[FeedCountEventListener] 피드 카운터 갱신 실패 - authorId:{}, delta:{}",
+                event.authorId(), event.delta(), e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sprint.ootd5team.base.eventlistener;
+
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFollowChangedEvent;
+import com.sprint.ootd5team.domain.feed.service.FeedTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팔로잉 타임라인 갱신 리스너
+ * - 피드 / 팔로우 트랜잭션 커밋 이후 비동기로 타임라인 fan-out, 백필, 정리 수행
+ * - 실패해도 원 요청에는 영향 없음 (타임라인은 조회 시 삭제된 피드를 걸러냄)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineEventListener {
+
+    private final FeedTimelineService feedTimelineService;
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(TimelineFeedCreatedEvent event) {
+        try {
+            feedTimelineService.fanOut(event);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineEventListener] 타임라인 fan-out 실패 - feedId:{}", event.feedId(), e);
+        }
+    }
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(TimelineFeedDeletedEvent event) {
+        try {
+            feedTimelineService.removeFeed(event);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineEventListener] 타임라인 피드 제거 실패 - feedId:{}", event.feedId(), e);
+        }
+    }
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(TimelineFollowChangedEvent event) {
+        try {
+            feedTimelineService.onFollowChanged(event);
+        } catch (Exception e) {
+            log.warn("[FeedTimelineEventListener] 팔로우 타임라인 갱신 실패 - followerId:{}, followeeId:{}",
+                event.followerId(), event.followeeId(), e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sprint.ootd5team.base.eventlistener;
+
+import com.sprint.ootd5team.domain.notification.counter.UnreadNotificationCounter;
+import com.sprint.ootd5team.domain.notification.event.type.UnreadCountChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 생성 / 삭제 커밋 이후 안 읽은 알림 수 카운터 갱신
+ * - 실패해도 보정 작업 또는 카운터 TTL 만료 시 COUNT 로 바로잡힘
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountEventListener {
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Async("eventTaskExecutor")
+    @TransactionalEventListener
+    public void on(UnreadCountChangedEvent event) {
+        try {
+            unreadNotificationCounter.apply(event);
+        } catch (Exception e) {
+            log.warn("[UnreadCountEventListener] 안 읽은 알림 수 갱신 실패 - delta:{}", event.delta(), e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sprint.ootd5team.base.exception.feed;
+
+import com.sprint.ootd5team.base.errorcode.ErrorCode;
+import java.util.Collection;
+import java.util.UUID;
+
+public class FeedIndexFailedException extends FeedException {
+
+    public FeedIndexFailedException() {
+        super(ErrorCode.FEED_INDEX_FAILED);
+    }
+
+    public FeedIndexFailedException(Throwable cause) {
+        super(ErrorCode.FEED_INDEX_FAILED, cause);
+    }
+
+    public static FeedIndexFailedException withFeedIds(Collection<UUID> feedIds) {
+        FeedIndexFailedException exception = new FeedIndexFailedException();
+        exception.addDetail("feedIds", feedIds);
+        return exception;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sprint.ootd5team.base.exception.feed;
+
+import com.sprint.ootd5team.base.errorcode.ErrorCode;
+
+public class FeedReindexFailedException extends FeedException {
+
+    public FeedReindexFailedException() {
+        super(ErrorCode.FEED_REINDEX_FAILED);
+    }
+
+    public FeedReindexFailedException(Throwable cause) {
+        super(ErrorCode.FEED_REINDEX_FAILED, cause);
+    }
+
+    public static FeedReindexFailedException withReason(String reason) {
+        FeedReindexFailedException exception = new FeedReindexFailedException();
+        exception.addDetail("reason", reason);
+        return exception;
+    }
+}
@@ -0,0 +1,16 @@
+package com.sprint.ootd5team.base.exception.feed;
+
+import com.sprint.ootd5team.base.errorcode.ErrorCode;
+
+public class FeedReindexInProgressException extends FeedException {
+
+    public FeedReindexInProgressException() {
+        super(ErrorCode.FEED_REINDEX_IN_PROGRESS);
+    }
+
+    public static FeedReindexInProgressException withTargetIndex(String targetIndex) {
+        FeedReindexInProgressException exception = new FeedReindexInProgressException();
+        exception.addDetail("targetIndex", targetIndex);
+        return exception;
+    }
+}
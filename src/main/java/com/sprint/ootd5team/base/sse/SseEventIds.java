@@ -0,0 +1,37 @@
+package com.sprint.ootd5team.base.sse;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * SSE 이벤트 ID 생성 (UUID v7: 상위 48비트 = 생성 시각 epoch millis)
+ * <p>
+ * Last-Event-ID 만으로 생성 시각을 알 수 있어, 재연결 시 저장소가 별도 색인 없이
+ * 그 시각 이후 구간만 조회할 수 있음
+ */
+public final class SseEventIds {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private SseEventIds() {
+    }
+
+    public static UUID next() {
+        long millis = System.currentTimeMillis();
+        long msb = (millis << 16) | 0x7000L | (RANDOM.nextInt() & 0x0FFFL);
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 이벤트 ID 의 생성 시각 (epoch millis)
+     *
+     * @return v7 이 아니면(이전 버전에서 발급한 임의 UUID 등) -1
+     */
+    public static long timestamp(UUID eventId) {
+        if (eventId == null || eventId.version() != 7) {
+            return -1;
+        }
+        return eventId.getMostSignificantBits() >>> 16;
+    }
+}
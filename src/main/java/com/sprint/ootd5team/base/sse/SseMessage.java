@@ -26,7 +26,7 @@ public class SseMessage {
         @JsonProperty("data") Object data,
         @JsonProperty("targetUserIds") Set<UUID> targetUserIds
     ) {
-        this.id = id == null ? UUID.randomUUID() : id;
+        this.id = id == null ? SseEventIds.next() : id;
         this.eventName = eventName;
         this.data = data;
         this.targetUserIds = targetUserIds;
@@ -0,0 +1,33 @@
+package com.sprint.ootd5team.base.sse.broker;
+
+import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.service.SseLocalDelivery;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 SSE 브로커
+ * - 단일 인스턴스 / 테스트 환경용, 이 노드의 emitter 로 바로 전송
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ootd.sse.broker", havingValue = "memory", matchIfMissing = true)
+public class LocalSseBroker implements SseBroker {
+
+    private final SseLocalDelivery sseLocalDelivery;
+
+    @Override
+    public void publish(SseMessage message) {
+        sseLocalDelivery.deliver(message);
+    }
+
+    @Override
+    public void connected(UUID userId) {
+    }
+
+    @Override
+    public void disconnected(UUID userId) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.sprint.ootd5team.base.sse.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
+import com.sprint.ootd5team.base.sse.service.SseLocalDelivery;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Redis pub/sub 기반 SSE 브로커 (다중 노드)
+ * <p>
+ * - 브로드캐스트: sse:broadcast 채널로 발행 → 모든 노드가 자신의 emitter 로 전송
+ * - 개별 전송: SsePresenceRegistry 로 수신자가 연결된 노드를 찾아 노드별 채널(sse:node:{nodeId})로
+ *   그 노드의 수신자만 담아 발행, 이 노드에 연결된 수신자는 Redis 를 거치지 않고 바로 전송
+ * - 여러 메시지 전달(publishAll): 전체 수신자의 접속 노드를 한 번에 조회하고, 노드별로 메시지 배열을 1회 발행
+ * - 어느 노드에도 연결되지 않은 수신자는 발행하지 않음 (재연결 시 SseMessageRepository 에서 복원)
+ * - Redis 오류 시 이 노드의 emitter 로만 전송
+ * - 구독은 SseBrokerConfig 의 RedisMessageListenerContainer 에서 등록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ootd.sse.broker", havingValue = "redis")
+public class RedisSseBroker implements SseBroker, MessageListener {
+
+    public static final String BROADCAST_CHANNEL = "sse:broadcast";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    private static final TypeReference<List<SseMessage>> MESSAGE_LIST = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SsePresenceRegistry presenceRegistry;
+    private final SseLocalDelivery sseLocalDelivery;
+    private final SseEmitterRepository sseEmitterRepository;
+    private final String nodeId;
+
+    public RedisSseBroker(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        SsePresenceRegistry presenceRegistry,
+        SseLocalDelivery sseLocalDelivery,
+        SseEmitterRepository sseEmitterRepository,
+        @Value("${ootd.sse.node-id:}") String nodeId
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.presenceRegistry = presenceRegistry;
+        this.sseLocalDelivery = sseLocalDelivery;
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+
+        log.info("[RedisSseBroker] nodeId={}", this.nodeId);
+    }
+
+    public String nodeChannel() {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    @Override
+    public void publish(SseMessage message) {
+        try {
+            if (message.getTargetUserIds() == null) {
+                redisTemplate.convertAndSend(BROADCAST_CHANNEL, serialize(message));
+                return;
+            }
+
+            Map<String, Set<UUID>> nodes = presenceRegistry.findNodes(message.getTargetUserIds());
+            log.debug("[RedisSseBroker] 개별 전송 - id={}, targets={}, nodes={}",
+                message.getId(), message.getTargetUserIds().size(), nodes.size());
+
+            for (Map.Entry<String, Set<UUID>> entry : nodes.entrySet()) {
+                SseMessage forNode = SseMessage.builder()
+                    .id(message.getId())
+                    .eventName(message.getEventName())
+                    .data(message.getData())
+                    .targetUserIds(entry.getValue())
+                    .build();
+
+                if (entry.getKey().equals(nodeId)) {
+                    sseLocalDelivery.deliver(forNode);
+                } else {
+                    redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + entry.getKey(), serialize(forNode));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] 발행 실패 → 이 노드의 emitter 로만 전송 - id={}, error={}",
+                message.getId(), e.getMessage());
+            sseLocalDelivery.deliver(message);
+        }
+    }
+
+    @Override
+    public void publishAll(List<SseMessage> messages) {
+        List<SseMessage> targeted = messages.stream().filter(m -> m.getTargetUserIds() != null).toList();
+        messages.stream().filter(m -> m.getTargetUserIds() == null).forEach(this::publish);
+        if (targeted.isEmpty()) {
+            return;
+        }
+
+        try {
+            Set<UUID> receivers = new HashSet<>();
+            targeted.forEach(m -> receivers.addAll(m.getTargetUserIds()));
+            Map<String, Set<UUID>> nodes = presenceRegistry.findNodes(receivers);
+            log.debug("[RedisSseBroker] 일괄 전송 - messages={}, targets={}, nodes={}",
+                targeted.size(), receivers.size(), nodes.size());
+
+            for (Map.Entry<String, Set<UUID>> entry : nodes.entrySet()) {
+                List<SseMessage> forNode = new ArrayList<>();
+                for (SseMessage message : targeted) {
+                    Set<UUID> connected = new HashSet<>(message.getTargetUserIds());
+                    connected.retainAll(entry.getValue());
+                    if (!connected.isEmpty()) {
+                        forNode.add(SseMessage.builder()
+                            .id(message.getId())
+                            .eventName(message.getEventName())
+                            .data(message.getData())
+                            .targetUserIds(connected)
+                            .build());
+                    }
+                }
+
+                if (entry.getKey().equals(nodeId)) {
+                    forNode.forEach(sseLocalDelivery::deliver);
+                } else if (!forNode.isEmpty()) {
+                    redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + entry.getKey(),
+                        objectMapper.writeValueAsString(forNode));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] 일괄 발행 실패 → 이 노드의 emitter 로만 전송 - messages={}, error={}",
+                targeted.size(), e.getMessage());
+            targeted.forEach(sseLocalDelivery::deliver);
+        }
+    }
+
+    /**
+     * 브로드캐스트 / 이 노드 채널 수신 → 이 노드의 emitter 로 전송
+     * - 일괄 전송(publishAll)은 메시지 배열로 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String json = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (json.startsWith("[")) {
+                objectMapper.readValue(json, MESSAGE_LIST).forEach(sseLocalDelivery::deliver);
+                return;
+            }
+            sseLocalDelivery.deliver(objectMapper.readValue(json, SseMessage.class));
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] 수신 메시지 처리 실패 - channel={}, error={}",
+                new String(message.getChannel(), StandardCharsets.UTF_8), e.getMessage());
+        }
+    }
+
+    @Override
+    public void connected(UUID userId) {
+        try {
+            presenceRegistry.register(nodeId, List.of(userId));
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] 접속 등록 실패 - userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void disconnected(UUID userId) {
+        try {
+            presenceRegistry.unregister(nodeId, userId);
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] 접속 해제 실패 - userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 사용자의 접속 만료 시각 갱신 (presence ttl 보다 짧은 주기)
+     */
+    @Scheduled(fixedDelayString = "${ootd.sse.presence.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        Set<UUID> userIds = sseEmitterRepository.findAll().keySet();
+        try {
+            presenceRegistry.register(nodeId, userIds);
+            log.debug("[RedisSseBroker] heartbeat - nodeId={}, users={}", nodeId, userIds.size());
+        } catch (Exception e) {
+            log.warn("[RedisSseBroker] heartbeat 실패 - nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    private String serialize(SseMessage message) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(message);
+    }
+}
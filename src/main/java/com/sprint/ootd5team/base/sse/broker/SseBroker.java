@@ -0,0 +1,36 @@
+package com.sprint.ootd5team.base.sse.broker;
+
+import com.sprint.ootd5team.base.sse.SseMessage;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 SSE 메시지 전달
+ * <p>
+ * - 각 노드는 자신에게 연결된 emitter 로만 전송하므로, 메시지를 수신자가 연결된 노드까지 전달하는 역할
+ * - connected / disconnected 는 이 노드의 사용자 연결 여부 (대상 노드 선택에 사용)
+ */
+public interface SseBroker {
+
+    /**
+     * 메시지 전달 (targetUserIds 가 null 이면 모든 노드)
+     */
+    void publish(SseMessage message);
+
+    /**
+     * 여러 메시지를 한 번에 전달 (알림 fan-out 등 청크 단위 전송)
+     */
+    default void publishAll(List<SseMessage> messages) {
+        messages.forEach(this::publish);
+    }
+
+    /**
+     * 사용자의 첫 emitter 가 이 노드에 등록됨
+     */
+    void connected(UUID userId);
+
+    /**
+     * 사용자의 마지막 emitter 가 이 노드에서 제거됨
+     */
+    void disconnected(UUID userId);
+}
@@ -0,0 +1,111 @@
+package com.sprint.ootd5team.base.sse.broker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 사용자 접속 노드 레지스트리 (userId → nodeId)
+ * <p>
+ * - 사용자별 ZSET: sse:presence:{userId} → { nodeId: 만료 시각(epoch millis) }
+ * - 여러 탭 / 디바이스가 서로 다른 노드에 붙을 수 있으므로 노드를 여러 개 보관
+ * - 노드는 주기적으로 자신에게 연결된 사용자의 만료 시각을 갱신 (heartbeat), 종료된 노드는 ttl 후 조회에서 제외
+ * - 모든 연산은 사용자 수만큼 파이프라인 1회
+ */
+@Component
+@ConditionalOnProperty(name = "ootd.sse.broker", havingValue = "redis")
+public class SsePresenceRegistry {
+
+    private static final String KEY_PREFIX = "sse:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public SsePresenceRegistry(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.sse.presence.ttl:90s}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 사용자들이 nodeId 에 연결되어 있음을 기록 (만료 시각 갱신, 만료된 노드 정리)
+     */
+    public void register(String nodeId, Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        double expiresAt = now + ttl.toMillis();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (UUID userId : userIds) {
+                    String key = key(userId);
+                    operations.opsForZSet().add(key, nodeId, expiresAt);
+                    operations.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                    operations.expire(key, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    public void unregister(String nodeId, UUID userId) {
+        redisTemplate.opsForZSet().remove(key(userId), nodeId);
+    }
+
+    /**
+     * 사용자들이 연결된 노드 조회
+     *
+     * @return nodeId → 그 노드에 연결된 사용자 (어디에도 연결되지 않은 사용자는 제외)
+     */
+    public Map<String, Set<UUID>> findNodes(Collection<UUID> userIds) {
+        List<UUID> users = new ArrayList<>(userIds);
+        double now = System.currentTimeMillis();
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (UUID userId : users) {
+                    operations.opsForZSet().rangeByScore(key(userId), now, Double.POSITIVE_INFINITY);
+                }
+                return null;
+            }
+        });
+
+        Map<String, Set<UUID>> nodes = new HashMap<>();
+        Iterator<Object> iterator = results.iterator();
+        for (UUID userId : users) {
+            Object result = iterator.next();
+            if (result instanceof Collection<?> nodeIds) {
+                for (Object nodeId : nodeIds) {
+                    nodes.computeIfAbsent(nodeId.toString(), k -> new HashSet<>()).add(userId);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
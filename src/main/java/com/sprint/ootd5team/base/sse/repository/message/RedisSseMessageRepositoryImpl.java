@@ -2,64 +2,87 @@ package com.sprint.ootd5team.base.sse.repository.message;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.base.sse.SseEventIds;
 import com.sprint.ootd5team.base.sse.SseMessage;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
 /**
  * <pre>
- * Redis 기반 SSE(Server-Sent Events) 메시지 저장소 구현체
+ * Redis Streams 기반 SSE(Server-Sent Events) 메시지 저장소 구현체
  *
- * - 메시지 영속화를 위해 두가지 Redis 자료구조 사용
- *  1. Sorted Set(ZSET): 메시지 ID를 Score(저장시각, epoch millis) 기준으로 정렬해 저장</li>
- *  2. Hash: 메시지 Id -> 직렬화된 JSON 본문을 매핑</li>
+ * - 개별 대상 메시지: 수신자별 스트림(sse:stream:user:{userId})에 추가
+ * - 브로드캐스트 메시지: 공용 스트림(sse:stream:broadcast)에 한 번만 저장하고 모든 사용자가 함께 조회
+ * - 스트림 항목: { id: 이벤트 ID, payload: 직렬화된 JSON 본문 }
+ * - 추가할 때마다 MAXLEN ~ max-length 로 잘라내고, 마지막 추가 후 ttl 이 지나면 스트림 전체 만료
  *
- * 이 방식으로 각 메시지의 전송 순서 보장하고, TTL을 적용하여 일정 시간 후 자동 정리
- * TTL은 메시지 저장 시마다 갱신
- *
- * - 브로드캐스트 메시지와 개별 대상 메시지 모두 저장 가능</li>
- * - 재연결 시 {@code Last-Event-ID} 이후의 메시지를 순서대로 복원</li>
- * - 개별 대상 메시지는 {@code targetUserIds} 를 기준으로 수신자 필터링</li>
+ * 재연결 시 {@code Last-Event-ID}(UUID v7)에서 생성 시각을 읽어 그 사용자 스트림과 공용 스트림의
+ * 해당 시각 이후 구간만 XRANGE 로 조회 (O(log n + k), 다른 사용자 메시지는 읽지 않음)
+ * - 노드 간 시계 차이를 고려해 clock-skew 만큼 앞에서부터 읽고 이벤트 ID 의 시각으로 다시 거름
+ * - 같은 밀리초의 다른 스트림 메시지는 중복 전송될 수 있음 (유실보다 중복을 택함)
+ * - v7 이 아닌 이전 형식의 ID 는 위치를 알 수 없으므로 복원하지 않음
  * <pre>
  */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 @ConditionalOnProperty(name = "ootd.sse.repository", havingValue = "redis")
 public class RedisSseMessageRepositoryImpl implements SseMessageRepository {
 
-    // 정렬 관리용 ZSET(id만)
-    private static final String SSE_MESSAGES_KEY = "sse:messages";
-
-    // 본문 저장용 HASH(id -> Hash 매핑)
-    private static final String SSE_PAYLOADS_KEY = "sse:payloads";
-
-    // 키 만료 시간(초). 기본값 1시간
-    private static final long TTL = 60 * 60;
+    private static final String USER_STREAM_PREFIX = "sse:stream:user:";
+    private static final String BROADCAST_STREAM_KEY = "sse:stream:broadcast";
+    private static final String ID_FIELD = "id";
+    private static final String PAYLOAD_FIELD = "payload";
 
-    // 문자열 기반 Redis 연산 템플릿. Sorted Set(ZSET) 연산에 사용
+    // 문자열 기반 Redis 연산 템플릿. Stream 연산에 사용
     private final StringRedisTemplate redisTemplate;
 
     // SseMessage 직렬화/역직렬화에 사용되는 Jackson ObjectMapper
     private final ObjectMapper objectMapper;
 
+    private final long maxLength;
+    private final Duration ttl;
+    private final Duration clockSkew;
+
+    public RedisSseMessageRepositoryImpl(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${ootd.sse.replay.max-length:200}") long maxLength,
+        @Value("${ootd.sse.replay.ttl:1h}") Duration ttl,
+        @Value("${ootd.sse.replay.clock-skew:5s}") Duration clockSkew
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxLength = maxLength;
+        this.ttl = ttl;
+        this.clockSkew = clockSkew;
+    }
+
     /**
      * 메시지를 Redis에 저장
      *
      * <p>저장 로직:
      * <ol>
-     *   <li>ZSET({@code sse:messages})에 메시지 ID를 현재 시각(millis)을 score로 하여 추가</li>
-     *   <li>HASH({@code sse:payloads})에 메시지 ID → 직렬화된 JSON 본문을 저장</li>
-     *   <li>두 키 모두 TTL(기본 1시간)을 갱신</li>
+     *   <li>브로드캐스트면 공용 스트림, 아니면 수신자별 스트림에 XADD (메시지 수와 무관하게 파이프라인 1회)</li>
+     *   <li>각 스트림을 MAXLEN ~ max-length 로 잘라내고 TTL 갱신</li>
      * </ol>
      *
      * @param message 저장할 SSE 메시지
@@ -67,38 +90,60 @@ public class RedisSseMessageRepositoryImpl implements SseMessageRepository {
      */
     @Override
     public void save(SseMessage message) {
-        try {
-            String id = message.getId().toString();
-            log.debug("[RedisSseMessageRepositoryImpl] SSE 메시지 저장 시도: id={}, event={}",
-                message.getId(), message.getEventName());
-            String json = objectMapper.writeValueAsString(message);
-            long score = System.currentTimeMillis();
-
-            // ZSET에는 id만 저장
-            redisTemplate.opsForZSet().add(SSE_MESSAGES_KEY, id, score);
-            redisTemplate.expire(SSE_MESSAGES_KEY, Duration.ofSeconds(TTL));
+        saveAll(List.of(message));
+    }
 
-            // HASH에는 payload 저장
-            redisTemplate.opsForHash().put(SSE_PAYLOADS_KEY, id, json);
-            redisTemplate.expire(SSE_PAYLOADS_KEY, Duration.ofSeconds(TTL));
+    /**
+     * 여러 메시지를 파이프라인 1회로 저장
+     *
+     * @param messages 저장할 SSE 메시지 목록
+     * @throws RuntimeException 메시지를 JSON 직렬화할 수 없는 경우
+     */
+    @Override
+    public void saveAll(Collection<SseMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
 
-            log.info("[RedisSseMessageRepositoryImpl] 저장 완료: id={}, score={}", id, score);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("SseMessage 직렬화 실패", e);
+        Set<String> streams = new LinkedHashSet<>();
+        List<Map.Entry<String, Map<String, String>>> records = new ArrayList<>();
+        for (SseMessage message : messages) {
+            Map<String, String> fields = Map.of(ID_FIELD, message.getId().toString(),
+                PAYLOAD_FIELD, serialize(message));
+            for (String key : keys(message)) {
+                records.add(Map.entry(key, fields));
+                streams.add(key);
+            }
         }
-    }
 
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (Map.Entry<String, Map<String, String>> record : records) {
+                    operations.opsForStream()
+                        .add(StreamRecords.newRecord().in(record.getKey()).ofMap(record.getValue()));
+                }
+                for (String key : streams) {
+                    operations.opsForStream().trim(key, maxLength, true);
+                    operations.expire(key, ttl);
+                }
+                return null;
+            }
+        });
+
+        log.debug("[RedisSseMessageRepositoryImpl] 저장 완료: messages={}, streams={}",
+            messages.size(), streams.size());
+    }
 
     /**
      * 지정된 사용자 기준으로, {@code lastEventId} 이후의 메시지를 조회
      *
      * <p>조회 로직:
      * <ol>
-     *   <li>ZSET에서 {@code lastEventId} 의 rank를 조회</li>
-     *   <li>해당 rank 이후의 모든 ID를 오름차순으로 가져옴</li>
-     *   <li>HASH에서 각 ID에 대한 JSON 본문을 조회</li>
-     *   <li>JSON을 {@link SseMessage} 로 역직렬화</li>
-     *   <li>{@code targetUserIds} 가 지정된 메시지는 userId 포함 여부로 필터링</li>
+     *   <li>{@code lastEventId} 에서 생성 시각을 읽음</li>
+     *   <li>사용자 스트림과 공용 스트림에서 그 시각(- clock-skew) 이후 항목을 XRANGE 로 조회</li>
+     *   <li>{@code lastEventId} 와 그 이전 메시지를 제외하고 생성 시각 순으로 병합</li>
      * </ol>
      *
      * @param userId      조회 요청 사용자 ID
@@ -108,40 +153,79 @@ public class RedisSseMessageRepositoryImpl implements SseMessageRepository {
      */
     @Override
     public List<SseMessage> findAfter(UUID userId, UUID lastEventId) {
-        if (lastEventId == null) {
+        long lastTimestamp = SseEventIds.timestamp(lastEventId);
+        if (lastTimestamp < 0) {
+            log.debug("[RedisSseMessageRepositoryImpl] 위치를 알 수 없는 lastEventId: {}", lastEventId);
             return List.of();
         }
 
-        // lastEventId의 위치 찾기
-        Long rank = redisTemplate.opsForZSet().rank(SSE_MESSAGES_KEY, lastEventId.toString());
-        if (rank == null) {
-            return List.of();
+        Range<String> range = Range.rightUnbounded(
+            Range.Bound.inclusive(Math.max(0, lastTimestamp - clockSkew.toMillis()) + "-0"));
+
+        List<SseMessage> result = new ArrayList<>();
+        result.addAll(after(read(userStreamKey(userId), range), lastEventId, lastTimestamp));
+        result.addAll(after(read(BROADCAST_STREAM_KEY, range), lastEventId, lastTimestamp));
+        result.sort(Comparator.comparingLong(m -> SseEventIds.timestamp(m.getId())));
+
+        log.debug("[RedisSseMessageRepositoryImpl] 조회 완료: userId={}, lastEventId={}, returned={}",
+            userId, lastEventId, result.size());
+        return result;
+    }
+
+    private List<MapRecord<String, Object, Object>> read(String key, Range<String> range) {
+        List<MapRecord<String, Object, Object>> records =
+            redisTemplate.opsForStream().range(key, range, Limit.limit().count((int) maxLength));
+        return records == null ? List.of() : records;
+    }
+
+    /**
+     * 한 스트림에서 lastEventId 이후 메시지만 남김
+     * - lastEventId 가 이 스트림에 있으면 같은 밀리초라도 그 앞의 항목은 제외
+     */
+    private List<SseMessage> after(List<MapRecord<String, Object, Object>> records, UUID lastEventId,
+        long lastTimestamp) {
+        String lastId = lastEventId.toString();
+        boolean passed = records.stream().noneMatch(r -> lastId.equals(r.getValue().get(ID_FIELD)));
+
+        List<SseMessage> messages = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            if (lastId.equals(record.getValue().get(ID_FIELD))) {
+                passed = true;
+                continue;
+            }
+            SseMessage message = deserialize(record.getValue().get(PAYLOAD_FIELD));
+            long timestamp = SseEventIds.timestamp(message.getId());
+            if (timestamp > lastTimestamp || (timestamp == lastTimestamp && passed)) {
+                messages.add(message);
+            }
         }
+        return messages;
+    }
 
-        // lastEventId 이후의 id들 가져오기 (Redis가 순서를 보장함)
-        Set<String> raw = redisTemplate.opsForZSet().range(SSE_MESSAGES_KEY, rank + 1, -1);
-        if (raw == null || raw.isEmpty()) {
-            return List.of();
+    private List<String> keys(SseMessage message) {
+        Set<UUID> targetUserIds = message.getTargetUserIds();
+        return targetUserIds == null
+            ? List.of(BROADCAST_STREAM_KEY)
+            : targetUserIds.stream().map(this::userStreamKey).toList();
+    }
+
+    private String serialize(SseMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("SseMessage 직렬화 실패", e);
+        }
+    }
+
+    private SseMessage deserialize(Object payload) {
+        try {
+            return objectMapper.readValue(String.valueOf(payload), SseMessage.class);
+        } catch (Exception e) {
+            throw new RuntimeException("SseMessage 역직렬화 실패", e);
         }
+    }
 
-        // HASH에서 payload 조회 (Collection<Object> 캐스팅 필요)
-        List<Object> payloads = redisTemplate.opsForHash()
-            .multiGet(SSE_PAYLOADS_KEY, new ArrayList<>(raw));
-
-        List<String> jsons = payloads.stream()
-            .filter(Objects::nonNull)
-            .map(Object::toString)
-            .toList();
-
-        return jsons.stream()
-            .map(json -> {
-                try {
-                    return objectMapper.readValue(json, SseMessage.class);
-                } catch (Exception e) {
-                    throw new RuntimeException("SseMessage 역직렬화 실패", e);
-                }
-            })
-            .filter(m -> m.getTargetUserIds() == null || m.getTargetUserIds().contains(userId))
-            .toList();
+    private String userStreamKey(UUID userId) {
+        return USER_STREAM_PREFIX + userId;
     }
 }
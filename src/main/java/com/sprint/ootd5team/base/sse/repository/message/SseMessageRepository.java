@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.base.sse.repository.message;
 
 import com.sprint.ootd5team.base.sse.SseMessage;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,5 +9,12 @@ public interface SseMessageRepository {
 
     void save(SseMessage message);
 
+    /**
+     * 여러 메시지를 한 번에 저장 (알림 fan-out 등 청크 단위 전송)
+     */
+    default void saveAll(Collection<SseMessage> messages) {
+        messages.forEach(this::save);
+    }
+
     List<SseMessage> findAfter(UUID userId, UUID lastEventId);
 }
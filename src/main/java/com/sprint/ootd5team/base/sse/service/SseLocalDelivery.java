@@ -0,0 +1,62 @@
+package com.sprint.ootd5team.base.sse.service;
+
+import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 노드에 연결된 emitter 로만 SSE 메시지를 전송
+ * <p>
+ * - 대상 사용자가 없으면(브로드캐스트) 이 노드의 모든 emitter 로 전송
+ * - 전송 실패한 emitter 는 completeWithError 로 종료 (콜백에서 저장소 정리)
+ * - 다른 노드로의 전달은 SseBroker 가 담당
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseLocalDelivery {
+
+    private final SseEmitterRepository sseEmitterRepository;
+
+    public void deliver(SseMessage message) {
+        if (message.getTargetUserIds() == null) {
+            sseEmitterRepository.findAll().forEach((userId, emitters) -> {
+                log.debug("[SSE] Broadcast → userId={}, targets={}", userId, emitters.size());
+                emitters.forEach(e -> send(e, message));
+            });
+            return;
+        }
+
+        for (UUID userId : message.getTargetUserIds()) {
+            List<SseEmitter> emitters = sseEmitterRepository.get(userId);
+            log.debug("[SSE] Send → userId={}, emitters={}", userId, emitters.size());
+            emitters.forEach(e -> send(e, message));
+        }
+    }
+
+    /**
+     * 지정된 이벤트 ID로 이벤트를 전송합니다.
+     *
+     * @param emitter 대상 Emitter
+     * @param message 전송할 메시지
+     */
+    public void send(SseEmitter emitter, SseMessage message) {
+        try {
+            emitter.send(SseEmitter.event()
+                .id(message.getId().toString())
+                .name(message.getEventName())
+                .data(message.getData(), MediaType.APPLICATION_JSON));
+            log.debug("[SSE] 이벤트 전송 성공 - event={}, id={}", message.getEventName(), message.getId());
+        } catch (Exception e) {
+            emitter.completeWithError(e);
+            log.warn("[SSE] 이벤트 전송 실패 - event={}, id={}, error={}",
+                message.getEventName(), message.getId(), e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.base.sse.service;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -10,6 +11,8 @@ public interface SseService {
 
     void send(Collection<UUID> receiverIds, String eventName, Object data);
 
+    void sendEach(String eventName, Map<UUID, ?> dataByReceiver);
+
     void broadcast(String eventName, Object data);
 
     void cleanUp();
@@ -2,6 +2,7 @@ package com.sprint.ootd5team.base.sse.service;
 
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
 import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.broker.SseBroker;
 import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
 import com.sprint.ootd5team.base.sse.repository.message.SseMessageRepository;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
@@ -9,10 +10,11 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -27,6 +29,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  * <p>
  * 인메모리 메시지 저장소 사용
  * 재연결시 Last-Event-Id를 기준으로 유실된 이벤트를 복원
+ * <p>
+ * emitter 는 연결된 노드에만 있으므로 전송은 SseBroker 를 통해 수신자가 연결된 노드로 전달
+ * (각 노드는 SseLocalDelivery 로 자신의 emitter 에만 전송)
  */
 @Service
 @RequiredArgsConstructor
@@ -39,6 +44,8 @@ public class SseServiceImpl implements SseService {
     private final SseEmitterRepository sseEmitterRepository;
     private final SseMessageRepository sseMessageRepository;
     private final UserRepository userRepository;
+    private final SseBroker sseBroker;
+    private final SseLocalDelivery sseLocalDelivery;
 
     /**
      * SEE 연결을 생성하고, 필요시 유실된 이벤트를 복원
@@ -57,18 +64,19 @@ public class SseServiceImpl implements SseService {
         SseEmitter sseEmitter = new SseEmitter(TIMEOUT);
         log.info("[SSE] 연결 등록 - userId={}, emitter={}", userId, sseEmitter);
         sseEmitterRepository.add(userId, sseEmitter);
+        sseBroker.connected(userId);
 
         // 콜백 등록: 완료/타임아웃/에러 시 정리
         sseEmitter.onCompletion(() -> {
-            sseEmitterRepository.remove(userId, sseEmitter);
+            removeEmitter(userId, sseEmitter);
             log.info("[SSE] 연결 종료 - userId={}", userId);
         });
         sseEmitter.onTimeout(() -> {
-            sseEmitterRepository.remove(userId, sseEmitter);
+            removeEmitter(userId, sseEmitter);
             log.info("[SSE] 연결 타임아웃 - userId={}", userId);
         });
         sseEmitter.onError(e -> {
-            sseEmitterRepository.remove(userId, sseEmitter);
+            removeEmitter(userId, sseEmitter);
             log.warn("[SSE] 연결 에러 - userId={}, error={}", userId, e.getMessage());
         });
 
@@ -86,8 +94,7 @@ public class SseServiceImpl implements SseService {
             List<SseMessage> missed = sseMessageRepository.findAfter(userId, lastEventId);
             log.info("[SSE] 유실 이벤트 복원 - userId={}, lastEventId={}, 복원 개수={}",
                 userId, lastEventId, missed.size());
-            missed.forEach(
-                m -> sendToEmitter(sseEmitter, m.getEventName(), m.getData(), m.getId()));
+            missed.forEach(m -> sseLocalDelivery.send(sseEmitter, m));
         }
 
         return sseEmitter;
@@ -106,7 +113,7 @@ public class SseServiceImpl implements SseService {
             // ping 실패한 emitter를 저장소에서 제거
             for (SseEmitter emitter : emitters) {
                 if (!ping(emitter)) {
-                    sseEmitterRepository.remove(userId, emitter);
+                    removeEmitter(userId, emitter);
                     removed++;
                 }
             }
@@ -120,7 +127,7 @@ public class SseServiceImpl implements SseService {
     }
 
     /**
-     * 서버에 SSE 연결을 맺은 모든 userId -> 모든 emitter에 같은 이벤트를 전송
+     * SSE 연결을 맺은 모든 노드의 모든 userId -> 모든 emitter에 같은 이벤트를 전송
      *
      * @param eventName 이벤트 이름
      * @param data      전송할 데이터(직렬화 가능 객체)
@@ -132,11 +139,7 @@ public class SseServiceImpl implements SseService {
         sseMessageRepository.save(message);
         log.info("[SSE] Broadcast 이벤트 전송 - event={}, id={}", eventName, message.getId());
 
-        // 각 사용자별 모든 emitter로 전송
-        sseEmitterRepository.findAll().forEach((userId, emitters) -> {
-            log.debug("[SSE] Broadcast → userId={}, targets={}", userId, emitters.size());
-            emitters.forEach(e -> sendToEmitter(e, eventName, data, message.getId()));
-        });
+        sseBroker.publish(message);
     }
 
     /**
@@ -160,59 +163,61 @@ public class SseServiceImpl implements SseService {
         log.info("[SSE] 개별 전송 이벤트 - event={}, id={}, targets={}",
             eventName, message.getId(), receiverIds.size());
 
-        // 대상 사용자들의 emitter에 전송
-        for (UUID userId : receiverIds) {
-            List<SseEmitter> emitters = sseEmitterRepository.get(userId);
-            log.debug("[SSE] Send → userId={}, emitters={}", userId, emitters.size());
-            emitters.forEach(e -> sendToEmitter(e, eventName, data, message.getId()));
-        }
+        // 대상 사용자들이 연결된 노드의 emitter에 전송
+        sseBroker.publish(message);
     }
 
     /**
-     * Emitter가 유효한지 확인하기 위해 ping 이벤트를 전송합니다.
+     * 수신자마다 다른 데이터를 한 번에 전송합니다. (알림 fan-out 등)
+     * <p>
+     * 수신자별 메시지를 만들어 저장 1회, 브로커 발행 1회로 처리
      *
-     * @param emitter 검사할 Emitter
-     * @return 전송 성공 여부
+     * @param eventName      이벤트 이름
+     * @param dataByReceiver 수신자 사용자 ID → 전송할 데이터
      */
-    private boolean ping(SseEmitter emitter) {
-        try {
-            emitter.send(SseEmitter.event().name("ping").data("keep-alive"));
-            return true;
-        } catch (Exception e) {
-            log.debug("[SSE] ping 실패 - error={}", e.getMessage());
-            return false;
+    @Override
+    public void sendEach(String eventName, Map<UUID, ?> dataByReceiver) {
+        if (dataByReceiver.isEmpty()) {
+            return;
         }
+
+        List<SseMessage> messages = dataByReceiver.entrySet().stream()
+            .map(entry -> SseMessage.builder()
+                .eventName(eventName)
+                .data(entry.getValue())
+                .targetUserIds(Set.of(entry.getKey()))
+                .build())
+            .toList();
+
+        sseMessageRepository.saveAll(messages);
+        log.info("[SSE] 일괄 개별 전송 이벤트 - event={}, targets={}", eventName, messages.size());
+
+        sseBroker.publishAll(messages);
     }
 
     /**
-     * 편의 메서드: 랜덤 ID로 이벤트 전송.
-     *
-     * @param emitter   대상 Emitter
-     * @param eventName 이벤트 이름
-     * @param data      데이터
+     * emitter 제거, 이 노드에 남은 연결이 없으면 브로커에 접속 해제 알림
      */
-    private void sendToEmitter(SseEmitter emitter, String eventName, Object data) {
-        sendToEmitter(emitter, eventName, data, UUID.randomUUID());
+    private void removeEmitter(UUID userId, SseEmitter emitter) {
+        sseEmitterRepository.remove(userId, emitter);
+        if (sseEmitterRepository.get(userId).isEmpty()) {
+            sseBroker.disconnected(userId);
+        }
     }
 
     /**
-     * 지정된 이벤트 ID로 이벤트를 전송합니다.
+     * Emitter가 유효한지 확인하기 위해 ping 이벤트를 전송합니다.
      *
-     * @param emitter 대상 Emitter
-     * @param event   이벤트 이름
-     * @param data    데이터
-     * @param eventId 이벤트 ID(UUID)
+     * @param emitter 검사할 Emitter
+     * @return 전송 성공 여부
      */
-    private void sendToEmitter(SseEmitter emitter, String event, Object data, UUID eventId) {
+    private boolean ping(SseEmitter emitter) {
         try {
-            emitter.send(SseEmitter.event()
-                .id(eventId.toString())
-                .name(event)
-                .data(data, MediaType.APPLICATION_JSON));
-            log.debug("[SSE] 이벤트 전송 성공 - event={}, id={}", event, eventId);
+            emitter.send(SseEmitter.event().name("ping").data("keep-alive"));
+            return true;
         } catch (Exception e) {
-            emitter.completeWithError(e);
-            log.warn("[SSE] 이벤트 전송 실패 - event={}, id={}, error={}", event, eventId, e.getMessage());
+            log.debug("[SSE] ping 실패 - error={}", e.getMessage());
+            return false;
         }
     }
 }
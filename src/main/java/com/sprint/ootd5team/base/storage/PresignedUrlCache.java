@@ -0,0 +1,66 @@
+package com.sprint.ootd5team.base.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3 Presigned URL 캐시 (object key → URL)
+ * <p>
+ * - 캐시 TTL = presigned-url-expiration - min-remaining
+ *   → 캐시에서 꺼낸 URL도 최소 min-remaining 초 이상 유효
+ * - 크기 제한(max-size), 파일 삭제 시 invalidate
+ * - 메트릭: cache.gets{cache=presignedUrl, result=hit|miss} 등 (CaffeineCacheMetrics)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ootd.storage.type", havingValue = "s3")
+public class PresignedUrlCache {
+
+    static final String CACHE_NAME = "presignedUrl";
+
+    private final Cache<String, String> cache;
+    private final boolean enabled;
+
+    public PresignedUrlCache(
+        @Value("${ootd.storage.s3.presigned-url-expiration:600}") int presignedUrlExpiration,
+        @Value("${ootd.storage.s3.presigned-url-cache.min-remaining:300}") int minRemaining,
+        @Value("${ootd.storage.s3.presigned-url-cache.max-size:50000}") long maxSize,
+        MeterRegistry meterRegistry
+    ) {
+        long ttlSeconds = Math.max(0, presignedUrlExpiration - minRemaining);
+        this.enabled = ttlSeconds > 0;
+        if (!enabled) {
+            // 만료 시간이 너무 짧으면 캐시하지 않음 (항상 새로 서명)
+            log.warn("[PresignedUrlCache] TTL이 0 이하라 캐시 비활성화: expiration={}, minRemaining={}",
+                presignedUrlExpiration, minRemaining);
+        }
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        log.info("[PresignedUrlCache] ttl={}s, maxSize={}", ttlSeconds, maxSize);
+    }
+
+    /**
+     * 캐시된 URL 반환, 없으면 presign 후 저장
+     */
+    public String get(String key, Function<String, String> presigner) {
+        return enabled ? cache.get(key, presigner) : presigner.apply(key);
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+}
@@ -51,6 +51,8 @@ public class S3FileStorage implements FileStorage {
 
     private final S3Presigner s3Presigner;
 
+    private final PresignedUrlCache presignedUrlCache;
+
     private final long maxUploadSize;
 
     @Value("${ootd.storage.s3.bucket}")
@@ -62,10 +64,12 @@ public class S3FileStorage implements FileStorage {
     public S3FileStorage(
         S3Client s3Client,
         S3Presigner s3Presigner,
+        PresignedUrlCache presignedUrlCache,
         @Value("${ootd.storage.s3.max-upload-size}") DataSize maxUploadSize
     ) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
+        this.presignedUrlCache = presignedUrlCache;
         this.maxUploadSize = maxUploadSize.toBytes();
     }
 
@@ -159,7 +163,7 @@ public class S3FileStorage implements FileStorage {
                 .build();
 
             String url = s3Presigner.presignGetObject(presignReq).url().toString();
-            log.info("[S3] Presigned URL 생성: key={}, url={}", key, url);
+            log.debug("[S3] Presigned URL 생성: key={}", key);
 
             return url;
         } catch (NoSuchKeyException e) {
@@ -185,6 +189,7 @@ public class S3FileStorage implements FileStorage {
     public void delete(String key) {
         try {
             s3Client.deleteObject(b -> b.bucket(bucket).key(key));
+            presignedUrlCache.invalidate(key);
             log.info("[S3] 삭제 성공: key={}", key);
         } catch (Exception e) {
             log.error("[S3] 삭제 실패: key={}, ex={}", key, e.toString(), e);
@@ -192,9 +197,12 @@ public class S3FileStorage implements FileStorage {
         }
     }
 
+    /**
+     * 조회 응답용 URL 변환 (Presigned URL 캐시 사용)
+     */
     @Override
     public String resolveUrl(String path) {
-        return path != null ? download(path) : null;
+        return path != null ? presignedUrlCache.get(path, this::download) : null;
     }
 
     private String resolveContentType(String filename, String extension, String contentType) {
@@ -44,6 +44,10 @@ public class Clothes extends BaseUpdatableEntity {
     @Column(name = "image_url")
     private String imageUrl;
 
+    /** 계절 속성 비트마스크 (SeasonMask 참고, null = 백필 전) */
+    @Column(name = "season_mask")
+    private Integer seasonMask;
+
     @OneToMany(mappedBy = "clothes", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ClothesAttributeValue> clothesAttributeValues = new ArrayList<>();
@@ -85,4 +89,8 @@ public class Clothes extends BaseUpdatableEntity {
         this.imageUrl = imageUrl;
     }
 
+    public void updateSeasonMask(int seasonMask) {
+        this.seasonMask = seasonMask;
+    }
+
 }
@@ -43,13 +43,24 @@ public interface ClothesRepository extends JpaRepository<Clothes, UUID>, Clothes
     })
     List<Clothes> findByOwner_Id(@Param("ownerId") UUID ownerId);
 
+    /**
+     * 계절 필터 후보 의상 ID 조회 (타입별 최대 10개 무작위)
+     * - season_mask IN (seasonMasks): (owner_id, season_mask) 인덱스 조회
+     * - season_mask 가 아직 없는(백필 전) 의상만 기존 계절 속성값 토큰 매칭으로 조회
+     */
     @Query(value = """
         WITH candidates AS (
-            SELECT DISTINCT c.id, c.type
+            SELECT c.id, c.type
+            FROM tbl_clothes c
+            WHERE c.owner_id = :ownerId
+              AND c.season_mask IN (:seasonMasks)
+            UNION
+            SELECT c.id, c.type
             FROM tbl_clothes c
             JOIN tbl_clothes_attributes_values v ON v.clothes_id = c.id
             JOIN tbl_clothes_attributes a ON a.id = v.attribute_id
             WHERE c.owner_id = :ownerId
+              AND c.season_mask IS NULL
               AND a.name = '계절'
               AND (
                 EXISTS (
@@ -71,9 +82,24 @@ public interface ClothesRepository extends JpaRepository<Clothes, UUID>, Clothes
         """, nativeQuery = true)
     List<UUID> findClothesIdsBySeasonFilter(
         @Param("ownerId") UUID ownerId,
+        @Param("seasonMasks") Collection<Integer> seasonMasks,
         @Param("tokens") String[] tokens,
         @Param("includeAllSeason") boolean includeAllSeason);
 
+    /** 계절 비트마스크 백필 대상 의상 ID */
+    @Query("select c.id from Clothes c where c.seasonMask is null order by c.id")
+    List<UUID> findIdsWithoutSeasonMask(Limit limit);
+
+    /** 계절 비트마스크 백필 대상 의상 + 속성값 (속성이 없는 의상도 포함하도록 left join) */
+    @Query("""
+            select distinct c
+            from Clothes c
+            left join fetch c.clothesAttributeValues v
+            left join fetch v.attribute a
+            where c.id in :ids
+        """)
+    List<Clothes> findAllWithAttributeValuesByIds(@Param("ids") List<UUID> ids);
+
     @Query("""
             select distinct c
             from Clothes c
@@ -22,6 +22,8 @@ import com.sprint.ootd5team.domain.clothesattribute.dto.ClothesAttributeDto;
 import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
 import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
 import com.sprint.ootd5team.domain.clothesattribute.repository.ClothesAttributeRepository;
+import com.sprint.ootd5team.domain.recommendation.enums.util.SeasonMask;
+import com.sprint.ootd5team.domain.recommendation.service.ClothesFeatureService;
 import com.sprint.ootd5team.domain.user.entity.User;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
 import java.io.IOException;
@@ -59,6 +61,7 @@ public class ClothesServiceImpl implements ClothesService {
     private final UserRepository userRepository;
     private final ClothesAttributeRepository attributeRepository;
     private final CacheEvictHelper cacheEvictHelper;
+    private final ClothesFeatureService clothesFeatureService;
 
     @Value("${ootd.storage.s3.prefix.clothes}")
     private String clothesPrefix;
@@ -179,12 +182,14 @@ public class ClothesServiceImpl implements ClothesService {
             .build();
 
         cavs.forEach(clothes::addClothesAttributeValue);
+        clothes.updateSeasonMask(SeasonMask.fromClothes(clothes));
 
         // 5. 저장 (실패 시 이미지 삭제)
         try {
             clothesRepository.save(clothes);
             log.info("[ClothesService] Clothes 저장 완료: clothesId={}, ownerId={}",
                 clothes.getId(), ownerId);
+            clothesFeatureService.refresh(clothes);
             cacheEvictHelper.evictClothesByOwner(ownerId);
             return clothesMapper.toDto(clothes);
         } catch (RuntimeException e) {
@@ -273,6 +278,8 @@ public class ClothesServiceImpl implements ClothesService {
             applyAttributes(clothes, request.attributes());
         }
 
+        // 추천용 특징값 재계산 (이름/타입/속성 변경 반영)
+        clothesFeatureService.refresh(clothes);
         cacheEvictHelper.evictClothesByOwner(ownerId);
 
         log.info("[clothes] 수정 완료 - clothesId: {}, name: {}, type: {}, imageUrl: {}",
@@ -310,6 +317,9 @@ public class ClothesServiceImpl implements ClothesService {
         clothes.getClothesAttributeValues().removeIf(
             cav -> !requestIds.contains(cav.getAttribute().getId())
         );
+
+        // 계절 필터용 비트마스크 갱신
+        clothes.updateSeasonMask(SeasonMask.fromClothes(clothes));
     }
 
     /**
@@ -380,6 +390,7 @@ public class ClothesServiceImpl implements ClothesService {
         }
 
         deleteFileSafely(clothes.getImageUrl(), "의상 삭제");
+        clothesFeatureService.delete(clothesId);
         clothesRepository.deleteById(clothesId);
         cacheEvictHelper.evictClothesByOwner(ownerId);
         log.info("[clothes] 삭제 완료 - ownerId={}", ownerId);
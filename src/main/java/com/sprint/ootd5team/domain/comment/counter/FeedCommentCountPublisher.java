@@ -0,0 +1,71 @@
+package com.sprint.ootd5team.domain.comment.counter;
+
+import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 피드 댓글 수 변경 이벤트 병합 발행
+ * <p>
+ * - 댓글 생성 / 삭제 커밋 후 변경된 피드 ID 만 모아 두고, publish 주기마다 커밋된 commentCount 를
+ *   한 번에 조회해 피드당 FeedCommentCountUpdateEvent 1건 발행 (요청마다 재조회 / 트랜잭션 안 발행 없음)
+ * - 이벤트는 절대값이므로 증감 방향과 관계없이 같은 방식으로 처리하며, 재색인 재생과 겹쳐도 결과가 같음
+ * - 그 사이 삭제된 피드는 조회 결과에 없으므로 이벤트를 발행하지 않음
+ * - 댓글 수 자체는 댓글과 같은 트랜잭션에서 DB 에 반영되므로, 인스턴스 종료로 잃는 것은 검색 문서 갱신뿐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedCommentCountPublisher {
+
+    private final FeedRepository feedRepository;
+    private final FeedEventProducer feedEventProducer;
+
+    private final Set<UUID> changedFeedIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 현재 트랜잭션이 커밋되면 피드를 발행 대상으로 표시 (롤백 시 무시)
+     */
+    public void changedAfterCommit(UUID feedId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changedFeedIds.add(feedId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changedFeedIds.add(feedId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ootd.feed.comment.publish-interval-ms:1000}")
+    public void publish() {
+        if (changedFeedIds.isEmpty()) {
+            return;
+        }
+        List<UUID> feedIds = List.copyOf(changedFeedIds);
+        feedIds.forEach(changedFeedIds::remove);
+
+        List<FeedCommentCountUpdateEvent> events;
+        try {
+            events = feedRepository.findCommentCountEvents(feedIds);
+        } catch (RuntimeException e) {
+            changedFeedIds.addAll(feedIds);
+            log.error("[FeedCommentCountPublisher] 댓글 수 조회 실패, 다음 주기에 재시도 - feeds:{}", feedIds.size(), e);
+            throw e;
+        }
+        events.forEach(feedEventProducer::publishCommentCountUpdatedEvent);
+        log.debug("[FeedCommentCountPublisher] 댓글 수 이벤트 발행 - feeds:{}, events:{}", feedIds.size(), events.size());
+    }
+}
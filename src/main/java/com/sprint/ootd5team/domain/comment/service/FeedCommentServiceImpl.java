@@ -5,6 +5,7 @@ import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.domain.comment.dto.data.CommentDto;
 import com.sprint.ootd5team.domain.comment.dto.request.CommentCreateRequest;
 import com.sprint.ootd5team.domain.comment.dto.request.CommentListRequest;
+import com.sprint.ootd5team.domain.comment.counter.FeedCommentCountPublisher;
 import com.sprint.ootd5team.domain.comment.dto.response.CommentDtoCursorResponse;
 import com.sprint.ootd5team.domain.comment.entity.FeedComment;
 import com.sprint.ootd5team.domain.comment.mapper.FeedCommentMapper;
@@ -33,6 +34,7 @@ public class FeedCommentServiceImpl implements FeedCommentService {
     private final ProfileRepository profileRepository;
     private final FeedCommentMapper feedCommentMapper;
     private final ApplicationEventPublisher eventPublisher;
+    private final FeedCommentCountPublisher feedCommentCountPublisher;
 
     /**
      * 피드에 달린 댓글 목록을 커서 기반 페이지네이션으로 조회한다.
@@ -103,6 +105,7 @@ public class FeedCommentServiceImpl implements FeedCommentService {
         log.debug("[FeedCommentService] 저장된 FeedComment: {}", saved);
 
         feedRepository.incrementCommentCount(feedId);
+        feedCommentCountPublisher.changedAfterCommit(feedId);
         CommentDto dto = feedCommentMapper.toDto(saved, profile);
 
         // 알림 받는 피드 작성자 id
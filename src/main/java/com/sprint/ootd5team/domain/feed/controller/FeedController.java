@@ -5,9 +5,11 @@ import com.sprint.ootd5team.domain.feed.controller.api.FeedApi;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedCreateRequest;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedTimelineRequest;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedUpdateRequest;
 import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
 import com.sprint.ootd5team.domain.feed.service.FeedService;
+import com.sprint.ootd5team.domain.feed.service.FeedTimelineService;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class FeedController implements FeedApi {
 
     private final FeedService feedService;
+    private final FeedTimelineService feedTimelineService;
     private final AuthService authService;
 
     @Override
@@ -52,6 +55,15 @@ public class FeedController implements FeedApi {
         return ResponseEntity.ok(feeds);
     }
 
+    @Override
+    @GetMapping("/timeline")
+    public ResponseEntity<FeedDtoCursorResponse> getTimeline(@Valid FeedTimelineRequest feedTimelineRequest) {
+        UUID userId = authService.getCurrentUserId();
+        FeedDtoCursorResponse timeline = feedTimelineService.getTimeline(feedTimelineRequest, userId);
+
+        return ResponseEntity.ok(timeline);
+    }
+
     @GetMapping("/{feedId}")
     public ResponseEntity<FeedDto> getFeed(
         @PathVariable UUID feedId,
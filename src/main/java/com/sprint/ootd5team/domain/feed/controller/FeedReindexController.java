@@ -0,0 +1,36 @@
+package com.sprint.ootd5team.domain.feed.controller;
+
+import com.sprint.ootd5team.domain.feed.controller.api.FeedReindexApi;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedReindexStatusResponse;
+import com.sprint.ootd5team.domain.feed.search.reindex.FeedReindexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/feeds/reindex")
+@RestController
+public class FeedReindexController implements FeedReindexApi {
+
+    private final FeedReindexService feedReindexService;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<FeedReindexStatusResponse> start() {
+        FeedReindexStatusResponse status = feedReindexService.start();
+
+        return ResponseEntity
+            .status(HttpStatus.ACCEPTED)
+            .body(status);
+    }
+
+    @Override
+    @GetMapping
+    public ResponseEntity<FeedReindexStatusResponse> status() {
+        return ResponseEntity.ok(feedReindexService.status());
+    }
+}
@@ -4,6 +4,7 @@ import com.sprint.ootd5team.base.exception.ErrorResponse;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedCreateRequest;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedTimelineRequest;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedUpdateRequest;
 import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -48,6 +49,19 @@ public interface FeedApi {
     })
     ResponseEntity<FeedDtoCursorResponse> getFeeds(@ModelAttribute FeedListRequest feedListRequest);
 
+    @Operation(summary = "팔로잉 타임라인 조회", description = "팔로우한 사용자의 피드를 최신순으로 조회")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", description = "팔로잉 타임라인 조회 성공",
+            content = @Content(schema = @Schema(implementation = FeedDtoCursorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400", description = "팔로잉 타임라인 조회 실패",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    ResponseEntity<FeedDtoCursorResponse> getTimeline(@ModelAttribute FeedTimelineRequest feedTimelineRequest);
+
     @Operation(summary = "피드 수정")
     @ApiResponses(value = {
         @ApiResponse(
@@ -0,0 +1,37 @@
+package com.sprint.ootd5team.domain.feed.controller.api;
+
+import com.sprint.ootd5team.base.exception.ErrorResponse;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedReindexStatusResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+
+@Tag(name = "피드 검색 인덱스 관리", description = "피드 검색 재색인 API (관리자)")
+public interface FeedReindexApi {
+
+    @Operation(summary = "피드 재색인 시작", description = "새 인덱스에 전체 피드를 적재한 뒤 검색 별칭을 교체 (백그라운드 실행)")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202", description = "피드 재색인 시작",
+            content = @Content(schema = @Schema(implementation = FeedReindexStatusResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409", description = "이미 재색인 진행 중",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    ResponseEntity<FeedReindexStatusResponse> start();
+
+    @Operation(summary = "피드 재색인 진행 상황 조회")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", description = "피드 재색인 진행 상황 조회 성공",
+            content = @Content(schema = @Schema(implementation = FeedReindexStatusResponse.class))
+        )
+    })
+    ResponseEntity<FeedReindexStatusResponse> status();
+}
@@ -53,4 +53,19 @@ public record FeedDto(
             likedByMe
         );
     }
-}
\ No newline at end of file
+
+    public FeedDto withLikedByMe(boolean likedByMe) {
+        return new FeedDto(
+            id,
+            createdAt,
+            updatedAt,
+            author,
+            weather,
+            ootds,
+            content,
+            likeCount,
+            commentCount,
+            likedByMe
+        );
+    }
+}
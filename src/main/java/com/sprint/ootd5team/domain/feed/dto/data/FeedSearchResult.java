@@ -3,10 +3,23 @@ package com.sprint.ootd5team.domain.feed.dto.data;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * 키워드 검색 결과
+ *
+ * @param feeds 사용자와 무관한 후처리까지 끝난 피드 DTO (feedIds 순서, 검색 결과 캐시 payload)
+ *              - FeedSearchService 가 Elasticsearch 문서(피드 카드)로 채우고,
+ *                FeedService 는 카드가 없는 문서 보충과 이미지 URL 변환만 수행
+ */
 public record FeedSearchResult(
     List<UUID> feedIds,
     String nextCursor,
     UUID nextIdAfter,
     boolean hasNext,
-    long totalCount
-) {}
\ No newline at end of file
+    long totalCount,
+    List<FeedDto> feeds
+) {
+
+    public FeedSearchResult withFeeds(List<FeedDto> feeds) {
+        return new FeedSearchResult(feedIds, nextCursor, nextIdAfter, hasNext, totalCount, feeds);
+    }
+}
@@ -0,0 +1,28 @@
+package com.sprint.ootd5team.domain.feed.dto.data;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 타임라인 항목 (피드 ID + 작성 시각)
+ * - 정렬 기준은 피드 목록 createdAt 정렬과 동일 (createdAt DESC, id ASC)
+ */
+public record TimelineEntry(
+    UUID feedId,
+    Instant createdAt
+) {
+
+    public static final Comparator<TimelineEntry> NEWEST_FIRST =
+        Comparator.comparing(TimelineEntry::createdAt).reversed()
+            .thenComparing(TimelineEntry::feedId);
+
+    /** 커서(createdAt, idAfter) 이후 항목인지 여부 */
+    public boolean isAfter(Instant cursor, UUID idAfter) {
+        if (cursor == null || idAfter == null) {
+            return true;
+        }
+        int compared = createdAt.compareTo(cursor);
+        return compared < 0 || (compared == 0 && feedId.compareTo(idAfter) > 0);
+    }
+}
@@ -0,0 +1,19 @@
+package com.sprint.ootd5team.domain.feed.dto.enums;
+
+/**
+ * 피드 재색인 진행 단계
+ */
+public enum FeedReindexState {
+    /** 실행 이력 없음 */
+    IDLE,
+    /** 새 인덱스 생성 / 시작 오프셋 기록 */
+    PREPARING,
+    /** DB 스냅샷 대량 적재 */
+    BULK_LOADING,
+    /** 적재 중 발생한 Kafka 이벤트 재생 */
+    REPLAYING,
+    /** 별칭 교체 및 교체 직전 이벤트 보정 */
+    SWAPPING,
+    COMPLETED,
+    FAILED
+}
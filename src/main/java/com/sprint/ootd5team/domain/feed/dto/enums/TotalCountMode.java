@@ -0,0 +1,13 @@
+package com.sprint.ootd5team.domain.feed.dto.enums;
+
+/**
+ * 피드 목록 totalCount 계산 방식
+ */
+public enum TotalCountMode {
+    /** 필터 차원별 카운터 사용, 여러 필터 조합은 추정값 (기본값) */
+    ESTIMATED,
+    /** 매 요청 COUNT 쿼리 실행 */
+    EXACT,
+    /** 계산 생략 (totalCount = -1) */
+    NONE
+}
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.feed.dto.request;
 
 import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.dto.enums.TotalCountMode;
 import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
 import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
 import jakarta.validation.constraints.NotBlank;
@@ -17,5 +18,6 @@ public record FeedListRequest(
     String keywordLike,
     SkyStatus skyStatusEqual,
     PrecipitationType precipitationTypeEqual,
-    UUID authorIdEqual
+    UUID authorIdEqual,
+    TotalCountMode totalCountMode
 ) { }
\ No newline at end of file
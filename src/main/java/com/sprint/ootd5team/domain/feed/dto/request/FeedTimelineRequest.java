@@ -0,0 +1,10 @@
+package com.sprint.ootd5team.domain.feed.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record FeedTimelineRequest(
+    String cursor,
+    UUID idAfter,
+    @NotNull int limit
+) { }
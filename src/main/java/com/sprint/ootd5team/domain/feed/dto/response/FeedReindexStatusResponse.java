@@ -0,0 +1,34 @@
+package com.sprint.ootd5team.domain.feed.dto.response;
+
+import com.sprint.ootd5team.domain.feed.dto.enums.FeedReindexState;
+import java.time.Instant;
+
+/**
+ * 피드 재색인 진행 상황
+ *
+ * @param totalFeeds     적재 시작 시점의 피드 수 (진행률 분모, 추정치)
+ * @param indexedFeeds   새 인덱스에 적재된 피드 수
+ * @param failedFeeds    재시도 불가 오류로 적재되지 않은 피드 수
+ * @param replayedEvents 재생한 Kafka 이벤트 수
+ * @param docsPerSecond  대량 적재 처리량 (문서/초)
+ */
+public record FeedReindexStatusResponse(
+    FeedReindexState state,
+    String alias,
+    String targetIndex,
+    String previousIndex,
+    long totalFeeds,
+    long indexedFeeds,
+    long failedFeeds,
+    long replayedEvents,
+    double docsPerSecond,
+    Instant startedAt,
+    Instant finishedAt,
+    String error
+) {
+
+    public static FeedReindexStatusResponse idle(String alias) {
+        return new FeedReindexStatusResponse(FeedReindexState.IDLE, alias, null, null,
+            0, 0, 0, 0, 0, null, null, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sprint.ootd5team.domain.feed.event.consumer;
+
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDetailCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 변경 이벤트로 피드 상세 캐시({@link FeedDetailCache})를 무효화하는 소비자
+ *
+ * <p>L1 은 인스턴스 로컬이므로 인스턴스마다 고유한 consumer group 으로 모든 이벤트를 받는다.
+ * 각 인스턴스가 L2(Redis) 도 함께 제거하며, 생성 이벤트는 캐시된 값이 없으므로 구독하지 않는다.
+ * 해석할 수 없는 메시지가 있으면 로컬 전체를 무효화한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedDetailCacheInvalidator {
+
+    private final FeedIndexEventParser parser;
+    private final FeedDetailCache feedDetailCache;
+
+    @KafkaListener(
+        topics = {
+            FeedIndexEventParser.CONTENT_UPDATED_TOPIC,
+            FeedIndexEventParser.LIKE_UPDATED_TOPIC,
+            FeedIndexEventParser.COMMENT_COUNT_UPDATED_TOPIC,
+            FeedIndexEventParser.DELETED_TOPIC
+        },
+        groupId = "ootd.feed-detail-cache-#{T(java.util.UUID).randomUUID()}",
+        batch = "true",
+        autoStartup = "${ootd.feed.detail-cache.enabled:true}",
+        properties = {
+            "auto.offset.reset:latest",
+            "max.poll.records:${ootd.feed.indexer.max-batch-size:500}"
+        }
+    )
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        FeedIndexBatch batch = new FeedIndexBatch();
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                parser.accumulate(batch, record.topic(), record.value());
+            } catch (Exception e) {
+                log.warn("[FeedDetailCacheInvalidator] 메시지 해석 실패 → 로컬 전체 무효화 - topic:{}, offset:{}",
+                    record.topic(), record.offset());
+                feedDetailCache.invalidateLocal();
+            }
+        }
+
+        feedDetailCache.invalidate(batch);
+    }
+}
@@ -1,95 +1,76 @@
 package com.sprint.ootd5team.domain.feed.event.consumer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
-import java.util.function.Consumer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
 /**
- * Kafka에서 발행된 피드 관련 이벤트를 수신하고,
- * 해당 이벤트 타입에 따라 {@link ElasticsearchFeedIndexer}를 통해 인덱스를 갱신하는 소비자
+ * Kafka에서 발행된 피드 관련 이벤트를 배치 단위로 수신하고,
+ * feedId 별로 병합해 {@link ElasticsearchFeedIndexer}의 _bulk 요청 1회로 인덱스를 갱신하는 소비자
+ *
+ * <p>오프셋은 리스너가 정상 반환한 뒤에만 배치 단위로 커밋된다 (AckMode.BATCH).
+ * 예외 발생 시 KafkaErrorHandlerConfig 의 에러 핸들러가 배치를 재시도하고, 재시도 후에도 실패하면 DLT로 보낸다.</p>
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeedEventConsumer {
 
-    private final ObjectMapper objectMapper;
+    private final FeedIndexEventParser parser;
     private final ElasticsearchFeedIndexer indexer;
 
-    @KafkaListener(topics = "ootd.Feeds.Created", groupId = "ootd.feed-indexer")
-    public void consumeFeedIndexCreatedEvent(String message) {
-        handleEvent(message, FeedIndexCreatedEvent.class, indexer::create);
-    }
-
-    @KafkaListener(topics = "ootd.Feeds.ContentUpdated", groupId = "ootd.feed-indexer")
-    public void consumeFeedContentUpdatedEvent(String message) {
-        handleEvent(message, FeedContentUpdatedEvent.class, indexer::updateContent);
-    }
-
-    @KafkaListener(topics = "ootd.Feeds.LikeUpdated", groupId = "ootd.feed-indexer")
-    public void consumeFeedLikeCountUpdatedEvent(String message) {
-        handleEvent(message, FeedLikeCountUpdateEvent.class, indexer::updateLikeCount);
-    }
-
-    @KafkaListener(topics = "ootd.Feeds.Deleted", groupId = "ootd.feed-indexer")
-    public void consumeFeedDeletedEvent(String message) {
-        handleEvent(message, FeedDeletedEvent.class, indexer::delete);
-    }
+    @KafkaListener(
+        topics = {
+            FeedIndexEventParser.CREATED_TOPIC,
+            FeedIndexEventParser.CONTENT_UPDATED_TOPIC,
+            FeedIndexEventParser.LIKE_UPDATED_TOPIC,
+            FeedIndexEventParser.COMMENT_COUNT_UPDATED_TOPIC,
+            FeedIndexEventParser.DELETED_TOPIC
+        },
+        groupId = "ootd.feed-indexer",
+        batch = "true",
+        properties = "max.poll.records:${ootd.feed.indexer.max-batch-size:500}"
+    )
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        FeedIndexBatch batch = new FeedIndexBatch();
+        Map<UUID, Integer> firstRecordIndex = new HashMap<>();
 
-    /**
-     * 전달받은 Kafka 메시지를 지정된 이벤트 타입으로 역직렬화하고,
-     * 해당 이벤트에 맞는 인덱싱 작업을 수행한다.
-     *
-     * @param message 수신한 Kafka 메시지(JSON 문자열)
-     * @param clazz 역직렬화할 이벤트 클래스 타입
-     * @param handler 이벤트 처리 로직을 수행할 함수
-     * @param <T> 이벤트 타입
-     */
-    private <T> void handleEvent(String message, Class<T> clazz, Consumer<T> handler) {
-        try {
-            T event;
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
             try {
-                event = objectMapper.readValue(message, clazz);
-            } catch (MismatchedInputException e) {
-                if (looksLikeDoubleEncoded(message)) {
-                    String unwrapped = objectMapper.readValue(message, String.class);
-                    log.warn("[FeedEventConsumer] 이중 직렬화 감지. clazz={}", clazz.getSimpleName());
-                    event = objectMapper.readValue(unwrapped, clazz);
-                } else {
-                    throw e;
-                }
+                UUID feedId = parser.accumulate(batch, record.topic(), record.value());
+                firstRecordIndex.putIfAbsent(feedId, i);
+            } catch (Exception e) {
+                // 실패 레코드 이전까지만 반영하고, 해당 레코드부터 에러 핸들러에 위임 (이전 오프셋은 커밋)
+                log.warn("[FeedEventConsumer] 메시지 처리 실패 - topic:{}, offset:{}", record.topic(), record.offset());
+                flush(batch, firstRecordIndex);
+                throw new BatchListenerFailedException("[FeedEventConsumer] Kafka 메시지 처리 실패", e, i);
             }
-
-            handler.accept(event);
-            log.info("[FeedEventConsumer] {} 처리 완료: {}", clazz.getSimpleName(), event);
-
-        } catch (Exception e) {
-            String errorMessage = e.getMessage();
-
-            if (errorMessage != null && errorMessage.contains("document missing")) {
-                log.warn("[FeedEventConsumer] 문서 없음 → 건너뜀 (commit): {}", message);
-                return;
-            }
-            throw new RuntimeException("[FeedEventConsumer] Kafka 메시지 처리 실패", e);
         }
-    }
 
-    private boolean looksLikeDoubleEncoded(String s) {
-        if (s == null) return false;
-        String trimmed = s.trim();
+        flush(batch, firstRecordIndex);
+    }
 
-        return trimmed.length() >= 2
-            && trimmed.charAt(0) == '"'
-            && trimmed.charAt(trimmed.length() - 1) == '"'
-            && trimmed.contains("\\\"feedId\\\"");
+    private void flush(FeedIndexBatch batch, Map<UUID, Integer> firstRecordIndex) {
+        Set<UUID> rejected = indexer.bulk(batch);
+        if (!rejected.isEmpty()) {
+            // 재시도 불가 항목: 해당 피드의 첫 레코드부터 에러 핸들러에 위임 → 재시도 후 DLT
+            int index = rejected.stream()
+                .mapToInt(firstRecordIndex::get)
+                .min()
+                .orElseThrow();
+            throw new BatchListenerFailedException("[FeedEventConsumer] Elasticsearch 반영 거부: " + rejected, index);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.sprint.ootd5team.domain.feed.event.consumer;
+
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
+import com.sprint.ootd5team.domain.feed.search.FeedSearchCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 인덱스 이벤트로 검색 결과 캐시({@link FeedSearchCache})를 무효화하는 소비자
+ *
+ * <p>캐시는 인스턴스 로컬이므로 인스턴스마다 고유한 consumer group 으로 모든 이벤트를 받는다.
+ * 기동 이전 이벤트는 필요 없으므로 최신 오프셋부터 읽고, 해석할 수 없는 메시지가 있으면 전체 무효화한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedSearchCacheInvalidator {
+
+    private final FeedIndexEventParser parser;
+    private final FeedSearchCache feedSearchCache;
+
+    @KafkaListener(
+        topics = {
+            FeedIndexEventParser.CREATED_TOPIC,
+            FeedIndexEventParser.CONTENT_UPDATED_TOPIC,
+            FeedIndexEventParser.LIKE_UPDATED_TOPIC,
+            FeedIndexEventParser.COMMENT_COUNT_UPDATED_TOPIC,
+            FeedIndexEventParser.DELETED_TOPIC
+        },
+        groupId = "ootd.feed-search-cache-#{T(java.util.UUID).randomUUID()}",
+        batch = "true",
+        autoStartup = "${ootd.feed.search-cache.enabled:true}",
+        properties = {
+            "auto.offset.reset:latest",
+            "max.poll.records:${ootd.feed.indexer.max-batch-size:500}"
+        }
+    )
+    public void consume(List<ConsumerRecord<String, String>> records) {
+        FeedIndexBatch batch = new FeedIndexBatch();
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                parser.accumulate(batch, record.topic(), record.value());
+            } catch (Exception e) {
+                log.warn("[FeedSearchCacheInvalidator] 메시지 해석 실패 → 전체 무효화 - topic:{}, offset:{}",
+                    record.topic(), record.offset());
+                feedSearchCache.invalidateAll();
+                return;
+            }
+        }
+
+        feedSearchCache.invalidate(batch);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.feed.event.producer;
 
 import com.sprint.ootd5team.domain.feed.event.handler.FeedFailedEventHandler;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Component;
 /**
  * 피드 도메인 관련 Kafka 이벤트를 발행하는 프로듀서
  *
- * <p>피드 생성, 내용 수정, 좋아요 수 변경, 삭제와 같은 주요 이벤트를 Kafka 토픽으로 비동기 전송한다.
+ * <p>피드 생성, 내용 수정, 좋아요 수 / 댓글 수 변경, 삭제와 같은 주요 이벤트를 Kafka 토픽으로 비동기 전송한다.
  * Kafka 발행 실패 시 {@link FeedFailedEventHandler}를 통해 파일로 저장한다.</p>
  */
 @Slf4j
@@ -44,6 +45,12 @@ public class FeedEventProducer {
         send(topic, event.getFeedId().toString(), event, "FeedLikeCountUpdateEvent");
     }
 
+    @Async("eventTaskExecutor")
+    public void publishCommentCountUpdatedEvent(FeedCommentCountUpdateEvent event) {
+        String topic = "ootd.Feeds.CommentCountUpdated";
+        send(topic, event.getFeedId().toString(), event, "FeedCommentCountUpdateEvent");
+    }
+
     @Async("eventTaskExecutor")
     public void publishFeedDeletedEvent(FeedDeletedEvent event) {
         String topic = "ootd.Feeds.Deleted";
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.feed.event.scheduler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedFailedEvent;
@@ -146,6 +147,8 @@ public class FailedEventRetryScheduler {
                 objectMapper.readValue(eventJson, FeedContentUpdatedEvent.class);
             case "FeedLikeCountUpdateEvent" ->
                 objectMapper.readValue(eventJson, FeedLikeCountUpdateEvent.class);
+            case "FeedCommentCountUpdateEvent" ->
+                objectMapper.readValue(eventJson, FeedCommentCountUpdateEvent.class);
             case "FeedDeletedEvent" ->
                 objectMapper.readValue(eventJson, FeedDeletedEvent.class);
             default -> null;
@@ -165,6 +168,8 @@ public class FailedEventRetryScheduler {
             return e.getFeedId().toString();
         } else if (event instanceof FeedLikeCountUpdateEvent e) {
             return e.getFeedId().toString();
+        } else if (event instanceof FeedCommentCountUpdateEvent e) {
+            return e.getFeedId().toString();
         } else if (event instanceof FeedDeletedEvent e) {
             return e.getFeedId().toString();
         }
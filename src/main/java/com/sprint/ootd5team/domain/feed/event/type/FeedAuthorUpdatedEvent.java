@@ -0,0 +1,14 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.util.UUID;
+
+/**
+ * 피드 작성자 프로필(이름, 프로필 이미지) 변경 이벤트 (커밋 이후 검색 문서의 작성자 정보 갱신)
+ *
+ * @param profileImageUrl 변환 전 저장소 key
+ */
+public record FeedAuthorUpdatedEvent(
+    UUID userId,
+    String name,
+    String profileImageUrl
+) { }
@@ -0,0 +1,17 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@Getter
+public class FeedCommentCountUpdateEvent {
+
+    private UUID feedId;
+    private long newCommentCount;
+}
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.feed.event.type;
 
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.time.Instant;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,4 +15,5 @@ public class FeedContentUpdatedEvent {
 
     private UUID feedId;
     private String content;
-}
\ No newline at end of file
+    private Instant updatedAt;
+}
@@ -0,0 +1,12 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.util.UUID;
+
+/**
+ * 피드 개수 카운터 증감 이벤트 (피드 생성 +1 / 삭제 -1, 커밋 이후 처리)
+ */
+public record FeedCountChangedEvent(
+    UUID authorId,
+    UUID weatherId,
+    long delta
+) { }
@@ -1,12 +1,22 @@
 package com.sprint.ootd5team.domain.feed.event.type;
 
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
+import com.sprint.ootd5team.domain.user.dto.AuthorDto;
+import com.sprint.ootd5team.domain.weather.dto.data.WeatherSummaryDto;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+/**
+ * 피드 생성 인덱스 이벤트
+ * - 검색 결과를 DB 조회 없이 그릴 수 있도록 피드 카드 정보(작성자, 날씨, OOTD)를 함께 전달
+ * - 이미지 URL은 변환 전 저장소 key
+ */
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
@@ -16,4 +26,13 @@ public class FeedIndexCreatedEvent {
     private UUID feedId;
     private String content;
     private Instant createdAt;
-}
\ No newline at end of file
+    private AuthorDto author;
+    private WeatherSummaryDto weather;
+    private List<OotdDto> ootds;
+
+    public static FeedIndexCreatedEvent from(FeedDto dto) {
+        return new FeedIndexCreatedEvent(
+            dto.id(), dto.content(), dto.createdAt(), dto.author(), dto.weather(), dto.ootds()
+        );
+    }
+}
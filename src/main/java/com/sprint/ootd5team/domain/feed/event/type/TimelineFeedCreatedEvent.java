@@ -0,0 +1,15 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 팔로워 타임라인 fan-out 이벤트 (피드 생성 커밋 이후 처리)
+ */
+public record TimelineFeedCreatedEvent(
+    UUID feedId,
+    UUID authorId,
+    Instant createdAt,
+    List<UUID> followerIds
+) { }
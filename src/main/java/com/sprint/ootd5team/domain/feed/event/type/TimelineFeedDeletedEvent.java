@@ -0,0 +1,11 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.util.UUID;
+
+/**
+ * 팔로워 타임라인 정리 이벤트 (피드 삭제 커밋 이후 처리)
+ */
+public record TimelineFeedDeletedEvent(
+    UUID feedId,
+    UUID authorId
+) { }
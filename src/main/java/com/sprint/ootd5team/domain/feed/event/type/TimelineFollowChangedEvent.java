@@ -0,0 +1,14 @@
+package com.sprint.ootd5team.domain.feed.event.type;
+
+import java.util.UUID;
+
+/**
+ * 팔로우 / 언팔로우 시 타임라인 백필 / 정리 이벤트
+ *
+ * @param followed true = 팔로우 (백필), false = 언팔로우 (정리)
+ */
+public record TimelineFollowChangedEvent(
+    UUID followerId,
+    UUID followeeId,
+    boolean followed
+) { }
@@ -1,81 +1,153 @@
 package com.sprint.ootd5team.domain.feed.indexer;
 
-import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
-import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
-import com.sprint.ootd5team.domain.feed.search.FeedDocument;
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.sprint.ootd5team.base.exception.feed.FeedIndexFailedException;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch.Change;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.document.Document;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 
 /**
  * Kafka로부터 전달받은 피드 관련 이벤트를 기반으로
  * Elasticsearch 인덱스를 생성·수정·삭제하는 컴포넌트
+ * <p>
+ * - 배치 단위로 병합된 변경({@link FeedIndexBatch})을 _bulk 요청 1회로 반영
+ * - 항목별 실패 중 재시도 가능한 항목(429, 5xx)만 모아 최대 max-retries 회 재요청 (지수 백오프)
+ * - 문서 없음(404)은 삭제된 피드에 대한 늦은 업데이트로 보고 건너뜀
+ * - 기본 대상은 검색 별칭, 재색인 중에는 새 인덱스를 직접 지정
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ElasticsearchFeedIndexer {
 
-    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final String indexName;
+    private final int maxRetries;
+    private final Duration retryBackoff;
 
-    @Value("${spring.elasticsearch.indices.feed}")
-    private String indexName;
+    public ElasticsearchFeedIndexer(
+        ElasticsearchClient client,
+        @Value("${spring.elasticsearch.indices.feed}") String indexName,
+        @Value("${ootd.feed.indexer.max-retries:3}") int maxRetries,
+        @Value("${ootd.feed.indexer.retry-backoff:200ms}") Duration retryBackoff
+    ) {
+        this.client = client;
+        this.indexName = indexName;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+    }
 
     /**
-     * 피드 생성 이벤트를 기반으로 새로운 Elasticsearch 문서를 생성합니다.
+     * 병합된 변경을 _bulk 요청으로 반영합니다.
+     *
+     * @param batch feedId 별로 병합된 변경
+     * @return 재시도 불가 오류(매핑 오류 등)로 반영되지 않은 feedId
+     * @throws FeedIndexFailedException 재시도 후에도 재시도 가능 오류가 남았거나 요청 자체가 실패한 경우
      */
-    public void create(FeedIndexCreatedEvent event) {
-        FeedDocument document = FeedDocument.builder()
-            .feedId(event.getFeedId())
-            .content(event.getContent())
-            .createdAt(event.getCreatedAt())
-            .build();
-
-        operations.save(document);
-
-        log.info("[ElasticsearchFeedIndexer] Feed 인덱싱 완료: {}", event.getFeedId());
+    public Set<UUID> bulk(FeedIndexBatch batch) {
+        return bulk(batch, indexName);
     }
 
     /**
-     * 피드 내용 수정 이벤트를 기반으로 Elasticsearch 문서의 content 필드를 업데이트합니다.
+     * 병합된 변경을 지정한 인덱스에 _bulk 요청으로 반영합니다. (재색인 대상 인덱스 적재 / 이벤트 재생)
+     *
+     * @param batch       feedId 별로 병합된 변경
+     * @param targetIndex 반영할 인덱스 또는 별칭
+     * @return 재시도 불가 오류(매핑 오류 등)로 반영되지 않은 feedId
+     * @throws FeedIndexFailedException 재시도 후에도 재시도 가능 오류가 남았거나 요청 자체가 실패한 경우
      */
-    public void updateContent(FeedContentUpdatedEvent event) {
-        Map<String, Object> doc = Map.of("content", event.getContent());
-        UpdateQuery query = UpdateQuery.builder(event.getFeedId().toString())
-            .withDocument(Document.from(doc))
-            .build();
+    public Set<UUID> bulk(FeedIndexBatch batch, String targetIndex) {
+        Set<UUID> rejected = new LinkedHashSet<>();
+        if (batch.isEmpty()) {
+            return rejected;
+        }
+
+        Map<UUID, Change> pending = new LinkedHashMap<>();
+        batch.changes().forEach(change -> pending.put(change.getFeedId(), change));
+
+        for (int attempt = 0; ; attempt++) {
+            BulkResponse response = execute(targetIndex, pending.values());
+            Map<UUID, Change> retry = new LinkedHashMap<>();
+
+            if (response.errors()) {
+                for (BulkResponseItem item : response.items()) {
+                    if (item.error() == null || item.id() == null) {
+                        continue;
+                    }
+                    UUID feedId = UUID.fromString(item.id());
+                    if (item.status() == 404) {
+                        log.warn("[ElasticsearchFeedIndexer] 문서 없음 → 건너뜀: {}", feedId);
+                    } else if (isRetryable(item.status())) {
+                        retry.put(feedId, pending.get(feedId));
+                    } else {
+                        log.error("[ElasticsearchFeedIndexer] 재시도 불가 오류 - feedId:{}, status:{}, reason:{}",
+                            feedId, item.status(), item.error().reason());
+                        rejected.add(feedId);
+                    }
+                }
+            }
+
+            if (retry.isEmpty()) {
+                log.info("[ElasticsearchFeedIndexer] bulk 반영 완료 - index:{}, events:{}, operations:{}, attempts:{}",
+                    targetIndex, batch.eventCount(), batch.changes().size(), attempt + 1);
+                return rejected;
+            }
+            if (attempt >= maxRetries) {
+                log.error("[ElasticsearchFeedIndexer] 재시도 한도 초과 - 남은 항목:{}", retry.size());
+                throw FeedIndexFailedException.withFeedIds(retry.keySet());
+            }
 
-        operations.update(query, IndexCoordinates.of(indexName));
-        log.info("[ElasticsearchFeedIndexer] content 업데이트 완료: {}", event.getFeedId());
+            log.warn("[ElasticsearchFeedIndexer] 일부 항목 재시도 - attempt:{}, items:{}", attempt + 1, retry.size());
+            sleep(retryBackoff.toMillis() << attempt);
+            pending.clear();
+            pending.putAll(retry);
+        }
     }
 
-    /**
-     * 좋아요 수 변경 이벤트를 기반으로 Elasticsearch 문서의 likeCount 필드를 업데이트합니다.
-     */
+    private BulkResponse execute(String targetIndex, Collection<Change> changes) {
+        BulkRequest.Builder request = new BulkRequest.Builder().index(targetIndex);
+        changes.forEach(change -> request.operations(toOperation(targetIndex, change)));
+        try {
+            return client.bulk(request.build());
+        } catch (IOException e) {
+            throw new FeedIndexFailedException(e);
+        }
+    }
 
-    public void updateLikeCount(FeedLikeCountUpdateEvent event) {
-        Map<String, Object> doc = Map.of("likeCount", event.getNewLikeCount());
-        UpdateQuery query = UpdateQuery.builder(event.getFeedId().toString())
-            .withDocument(Document.from(doc))
-            .build();
+    private BulkOperation toOperation(String targetIndex, Change change) {
+        String id = change.getFeedId().toString();
+        if (change.isDeleted()) {
+            return BulkOperation.of(op -> op.delete(d -> d.index(targetIndex).id(id)));
+        }
+        if (change.isCreated()) {
+            return BulkOperation.of(op -> op.index(i -> i.index(targetIndex).id(id).document(change.document())));
+        }
+        return BulkOperation.of(op -> op.update(u -> u.index(targetIndex).id(id)
+            .action(a -> a.doc(change.partialDocument()))));
+    }
 
-        operations.update(query, IndexCoordinates.of(indexName));
-        log.info("[ElasticsearchFeedIndexer] likeCount 업데이트 완료: {}", event.getFeedId());
+    private boolean isRetryable(int status) {
+        return status == 429 || status >= 500;
     }
 
-    /**
-     * 피드 삭제 이벤트를 기반으로 Elasticsearch 인덱스에서 해당 문서를 제거합니다.
-     */
-    public void delete(FeedDeletedEvent event) {
-        operations.delete(event.getFeedId().toString(), IndexCoordinates.of(indexName));
-        log.info("[ElasticsearchFeedIndexer] 인덱스 삭제 완료: {}", event.getFeedId());
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FeedIndexFailedException(e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.sprint.ootd5team.domain.feed.indexer;
+
+import com.sprint.ootd5team.domain.feed.event.type.FeedAuthorUpdatedEvent;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작성자 프로필 변경을 해당 작성자의 모든 피드 검색 문서에 반영 (_update_by_query 1회)
+ * <p>
+ * - 버전 충돌(동시 좋아요 수 갱신 등) 문서는 건너뜀 → 다음 재색인 때 보정
+ * - 재색인 중에는 교체 전 인덱스에만 반영될 수 있음
+ */
+@Slf4j
+@Component
+public class FeedAuthorIndexUpdater {
+
+    private static final String SCRIPT =
+        "ctx._source.author.name = params.name; ctx._source.author.profileImageUrl = params.profileImageUrl";
+
+    private final ElasticsearchOperations operations;
+    private final IndexCoordinates index;
+
+    public FeedAuthorIndexUpdater(
+        ElasticsearchOperations operations,
+        @Value("${spring.elasticsearch.indices.feed}") String alias
+    ) {
+        this.operations = operations;
+        this.index = IndexCoordinates.of(alias);
+    }
+
+    public void update(FeedAuthorUpdatedEvent event) {
+        NativeQuery query = NativeQuery.builder()
+            .withQuery(q -> q.term(t -> t
+                .field("author.userId")
+                .value(event.userId().toString())))
+            .build();
+
+        // profileImageUrl 은 null 일 수 있음
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", event.name());
+        params.put("profileImageUrl", event.profileImageUrl());
+
+        UpdateQuery updateQuery = UpdateQuery.builder(query)
+            .withScriptType(ScriptType.INLINE)
+            .withLang("painless")
+            .withScript(SCRIPT)
+            .withParams(params)
+            .withAbortOnVersionConflict(false)
+            .build();
+
+        ByQueryResponse response = operations.updateByQuery(updateQuery, index);
+        log.info("[FeedAuthorIndexUpdater] 작성자 정보 반영 - userId:{}, updated:{}, conflicts:{}",
+            event.userId(), response.getUpdated(), response.getVersionConflicts());
+    }
+}
@@ -0,0 +1,178 @@
+package com.sprint.ootd5team.domain.feed.indexer;
+
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.user.dto.AuthorDto;
+import com.sprint.ootd5team.domain.weather.dto.data.WeatherSummaryDto;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * Kafka 배치 단위 피드 인덱스 변경 병합기
+ * <p>
+ * - feedId 별로 이벤트를 모아 최종 상태 1건으로 병합 → _bulk 요청의 항목 1개
+ * - 생성: 피드 카드 전체 문서 색인 (같은 배치의 내용 / 좋아요 수 / 댓글 수 변경을 함께 반영)
+ * - 내용 / 좋아요 수 / 댓글 수: 나중 값 우선 (부분 업데이트)
+ * - 삭제: 같은 배치의 다른 모든 변경보다 우선
+ * - 스냅샷: 재색인 시 DB 에서 읽은 피드 1건 → 전체 문서 색인
+ */
+public class FeedIndexBatch {
+
+    /** FeedDocument.createdAt / updatedAt 매핑 (DateFormat.date_time) 과 같은 형식 */
+    private static final DateTimeFormatter DATE_TIME =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX").withZone(ZoneOffset.UTC);
+
+    private final Map<UUID, Change> changes = new LinkedHashMap<>();
+    private int eventCount;
+
+    public void created(FeedIndexCreatedEvent event) {
+        Change change = change(event.getFeedId());
+        if (change.deleted) {
+            return;
+        }
+        change.created = true;
+        change.createdAt = event.getCreatedAt();
+        change.author = event.getAuthor();
+        change.weather = event.getWeather();
+        change.ootds = event.getOotds();
+        if (change.content == null) {
+            change.content = event.getContent();
+        }
+        if (change.updatedAt == null) {
+            change.updatedAt = event.getCreatedAt();
+        }
+    }
+
+    public void contentUpdated(FeedContentUpdatedEvent event) {
+        Change change = change(event.getFeedId());
+        if (!change.deleted) {
+            change.content = event.getContent();
+            if (event.getUpdatedAt() != null) {
+                change.updatedAt = event.getUpdatedAt();
+            }
+        }
+    }
+
+    public void likeCountUpdated(FeedLikeCountUpdateEvent event) {
+        Change change = change(event.getFeedId());
+        if (!change.deleted) {
+            change.likeCount = event.getNewLikeCount();
+        }
+    }
+
+    public void commentCountUpdated(FeedCommentCountUpdateEvent event) {
+        Change change = change(event.getFeedId());
+        if (!change.deleted) {
+            change.commentCount = event.getNewCommentCount();
+        }
+    }
+
+    /** DB 에서 읽은 피드 카드 1건 (OOTD 포함, 이미지 URL은 변환 전 key) */
+    public void snapshot(FeedDto feed) {
+        Change change = change(feed.id());
+        change.created = true;
+        change.content = feed.content();
+        change.likeCount = feed.likeCount();
+        change.commentCount = feed.commentCount();
+        change.createdAt = feed.createdAt();
+        change.updatedAt = feed.updatedAt();
+        change.author = feed.author();
+        change.weather = feed.weather();
+        change.ootds = feed.ootds();
+    }
+
+    public void deleted(FeedDeletedEvent event) {
+        change(event.getFeedId()).deleted = true;
+    }
+
+    public Collection<Change> changes() {
+        return changes.values();
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /** 병합 전 이벤트 수 */
+    public int eventCount() {
+        return eventCount;
+    }
+
+    private Change change(UUID feedId) {
+        eventCount++;
+        return changes.computeIfAbsent(feedId, Change::new);
+    }
+
+    /**
+     * 피드 1건의 병합된 변경
+     */
+    @Getter
+    public static final class Change {
+
+        private final UUID feedId;
+        private boolean deleted;
+        private boolean created;
+        private String content;
+        private Instant createdAt;
+        private Instant updatedAt;
+        private Long likeCount;
+        private Long commentCount;
+        private AuthorDto author;
+        private WeatherSummaryDto weather;
+        private List<OotdDto> ootds;
+
+        private Change(UUID feedId) {
+            this.feedId = feedId;
+        }
+
+        /** 생성 시 색인할 전체 문서 */
+        public Map<String, Object> document() {
+            Map<String, Object> document = new HashMap<>();
+            document.put("feedId", feedId.toString());
+            document.put("content", content);
+            document.put("likeCount", likeCount != null ? likeCount : 0L);
+            document.put("commentCount", commentCount != null ? commentCount : 0L);
+            if (createdAt != null) {
+                document.put("createdAt", DATE_TIME.format(createdAt));
+            }
+            if (updatedAt != null) {
+                document.put("updatedAt", DATE_TIME.format(updatedAt));
+            }
+            document.put("author", author);
+            document.put("weather", weather);
+            document.put("ootds", ootds != null ? ootds : List.of());
+            return document;
+        }
+
+        /** 업데이트 시 변경된 필드만 담은 부분 문서 */
+        public Map<String, Object> partialDocument() {
+            Map<String, Object> document = new HashMap<>();
+            if (content != null) {
+                document.put("content", content);
+            }
+            if (updatedAt != null) {
+                document.put("updatedAt", DATE_TIME.format(updatedAt));
+            }
+            if (likeCount != null) {
+                document.put("likeCount", likeCount);
+            }
+            if (commentCount != null) {
+                document.put("commentCount", commentCount);
+            }
+            return document;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.sprint.ootd5team.domain.feed.indexer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 인덱스 토픽 메시지 → {@link FeedIndexBatch} 누적
+ * <p>
+ * - 실시간 소비(FeedEventConsumer)와 재색인 중 이벤트 재생(FeedEventReplayer)이 같은 규칙으로 병합
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedIndexEventParser {
+
+    public static final String CREATED_TOPIC = "ootd.Feeds.Created";
+    public static final String CONTENT_UPDATED_TOPIC = "ootd.Feeds.ContentUpdated";
+    public static final String LIKE_UPDATED_TOPIC = "ootd.Feeds.LikeUpdated";
+    public static final String COMMENT_COUNT_UPDATED_TOPIC = "ootd.Feeds.CommentCountUpdated";
+    public static final String DELETED_TOPIC = "ootd.Feeds.Deleted";
+
+    public static final List<String> TOPICS = List.of(
+        CREATED_TOPIC, CONTENT_UPDATED_TOPIC, LIKE_UPDATED_TOPIC, COMMENT_COUNT_UPDATED_TOPIC, DELETED_TOPIC
+    );
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 메시지를 역직렬화해 배치에 누적합니다.
+     *
+     * @param batch   누적할 배치
+     * @param topic   수신 토픽
+     * @param message 수신한 Kafka 메시지(JSON 문자열)
+     * @return 변경 대상 feedId
+     */
+    public UUID accumulate(FeedIndexBatch batch, String topic, String message) throws JsonProcessingException {
+        return switch (topic) {
+            case CREATED_TOPIC -> {
+                FeedIndexCreatedEvent event = deserialize(message, FeedIndexCreatedEvent.class);
+                batch.created(event);
+                yield event.getFeedId();
+            }
+            case CONTENT_UPDATED_TOPIC -> {
+                FeedContentUpdatedEvent event = deserialize(message, FeedContentUpdatedEvent.class);
+                batch.contentUpdated(event);
+                yield event.getFeedId();
+            }
+            case LIKE_UPDATED_TOPIC -> {
+                FeedLikeCountUpdateEvent event = deserialize(message, FeedLikeCountUpdateEvent.class);
+                batch.likeCountUpdated(event);
+                yield event.getFeedId();
+            }
+            case COMMENT_COUNT_UPDATED_TOPIC -> {
+                FeedCommentCountUpdateEvent event = deserialize(message, FeedCommentCountUpdateEvent.class);
+                batch.commentCountUpdated(event);
+                yield event.getFeedId();
+            }
+            case DELETED_TOPIC -> {
+                FeedDeletedEvent event = deserialize(message, FeedDeletedEvent.class);
+                batch.deleted(event);
+                yield event.getFeedId();
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 토픽: " + topic);
+        };
+    }
+
+    /**
+     * 전달받은 Kafka 메시지를 지정된 이벤트 타입으로 역직렬화한다.
+     * 이중 직렬화된 JSON 문자열이면 한 번 풀어서 다시 역직렬화한다.
+     *
+     * @param message 수신한 Kafka 메시지(JSON 문자열)
+     * @param clazz 역직렬화할 이벤트 클래스 타입
+     * @param <T> 이벤트 타입
+     */
+    private <T> T deserialize(String message, Class<T> clazz) throws JsonProcessingException {
+        try {
+            return objectMapper.readValue(message, clazz);
+        } catch (MismatchedInputException e) {
+            if (looksLikeDoubleEncoded(message)) {
+                String unwrapped = objectMapper.readValue(message, String.class);
+                log.warn("[FeedIndexEventParser] 이중 직렬화 감지. clazz={}", clazz.getSimpleName());
+                return objectMapper.readValue(unwrapped, clazz);
+            }
+            throw e;
+        }
+    }
+
+    private boolean looksLikeDoubleEncoded(String s) {
+        if (s == null) return false;
+        String trimmed = s.trim();
+
+        return trimmed.length() >= 2
+            && trimmed.charAt(0) == '"'
+            && trimmed.charAt(trimmed.length() - 1) == '"'
+            && trimmed.contains("\\\"feedId\\\"");
+    }
+}
@@ -0,0 +1,22 @@
+package com.sprint.ootd5team.domain.feed.repository.count;
+
+import java.util.Collection;
+import java.util.OptionalLong;
+
+/**
+ * 필터 차원별 피드 개수 카운터 저장소
+ * <p>
+ * - 키: all / author:{id} / sky:{SkyStatus} / precipitation:{PrecipitationType}
+ * - 최초 조회 시 COUNT 쿼리 결과로 초기화, 이후 피드 생성/삭제 시 증감
+ * - TTL 만료 후 다시 COUNT 로 초기화되어 누적 오차가 보정됨
+ */
+public interface FeedCountRepository {
+
+    OptionalLong get(String key);
+
+    /** 카운터 초기화 (이미 존재하면 유지) */
+    void initialize(String key, long count);
+
+    /** 존재하는(초기화된) 카운터만 증감 */
+    void incrementIfPresent(Collection<String> keys, long delta);
+}
@@ -0,0 +1,68 @@
+package com.sprint.ootd5team.domain.feed.repository.count;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.OptionalLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메모리(Caffeine) 기반 피드 카운터 저장소
+ * - 단일 인스턴스 / 테스트 환경용
+ * - 증감 시 만료 시각을 갱신하지 않음 (초기화 시점 기준 TTL)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.feed.count.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryFeedCountRepository implements FeedCountRepository {
+
+    private final Cache<String, Long> counters;
+
+    public InMemoryFeedCountRepository(@Value("${ootd.feed.count.ttl:1h}") Duration ttl) {
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(expireAfterCreate(ttl))
+            .build();
+    }
+
+    @Override
+    public OptionalLong get(String key) {
+        Long count = counters.getIfPresent(key);
+        return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+    }
+
+    @Override
+    public void initialize(String key, long count) {
+        counters.asMap().putIfAbsent(key, count);
+    }
+
+    @Override
+    public void incrementIfPresent(Collection<String> keys, long delta) {
+        for (String key : keys) {
+            counters.asMap().computeIfPresent(key, (k, count) -> Math.max(0L, count + delta));
+        }
+    }
+
+    private static Expiry<String, Long> expireAfterCreate(Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, Long value, long currentTime) {
+                return ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+
+            @Override
+            public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
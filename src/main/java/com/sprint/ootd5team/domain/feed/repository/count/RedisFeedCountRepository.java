@@ -0,0 +1,65 @@
+package com.sprint.ootd5team.domain.feed.repository.count;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 피드 카운터 저장소
+ * <p>
+ * - 차원별 String 키: feed:count:{dimension}
+ * - 초기화는 SET NX + TTL, 증감은 Lua 스크립트로 존재하는 키만 INCRBY (TTL 유지)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.feed.count.repository", havingValue = "redis")
+public class RedisFeedCountRepository implements FeedCountRepository {
+
+    private static final String KEY_PREFIX = "feed:count:";
+
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+        for _, key in ipairs(KEYS) do
+          if redis.call('EXISTS', key) == 1 then
+            redis.call('INCRBY', key, ARGV[1])
+          end
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisFeedCountRepository(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.feed.count.ttl:1h}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public OptionalLong get(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return value != null ? OptionalLong.of(Math.max(0L, Long.parseLong(value))) : OptionalLong.empty();
+    }
+
+    @Override
+    public void initialize(String key, long count) {
+        redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, String.valueOf(count), ttl);
+    }
+
+    @Override
+    public void incrementIfPresent(Collection<String> keys, long delta) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> redisKeys = keys.stream().map(key -> KEY_PREFIX + key).toList();
+        redisTemplate.execute(INCREMENT_IF_PRESENT, redisKeys, String.valueOf(delta));
+    }
+}
@@ -1,6 +1,10 @@
 package com.sprint.ootd5team.domain.feed.repository.feed;
 
 import com.sprint.ootd5team.domain.feed.entity.Feed;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,12 +14,12 @@ import org.springframework.data.repository.query.Param;
 public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositoryCustom {
 
     @Modifying
-    @Query("update Feed f set f.likeCount = f.likeCount + 1 where f.id = :feedId")
-    void incrementLikeCount(@Param("feedId") UUID feedId);
-
-    @Modifying
-    @Query("update Feed f set f.likeCount = f.likeCount - 1 where f.id = :feedId and f.likeCount > 0")
-    int decrementLikeCount(@Param("feedId") UUID feedId);
+    @Query("""
+        update Feed f
+        set f.likeCount = case when f.likeCount + :delta < 0 then 0 else f.likeCount + :delta end
+        where f.id = :feedId
+        """)
+    int addLikeCount(@Param("feedId") UUID feedId, @Param("delta") long delta);
 
     @Modifying
     @Query("update Feed f set f.commentCount = f.commentCount + 1 where f.id = :feedId")
@@ -24,6 +28,17 @@ public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositor
     @Query("select f.authorId from Feed f where f.id = :feedId")
     UUID findAuthorIdByFeedId(@Param("feedId") UUID feedId);
 
-    @Query("select f.likeCount from Feed f where f.id = :feedId")
-    long findLikeCountByFeedId(@Param("feedId") UUID feedId);
-}
\ No newline at end of file
+    @Query("""
+        select new com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent(f.id, f.likeCount)
+        from Feed f
+        where f.id in :feedIds
+        """)
+    List<FeedLikeCountUpdateEvent> findLikeCountEvents(@Param("feedIds") Collection<UUID> feedIds);
+
+    @Query("""
+        select new com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent(f.id, f.commentCount)
+        from Feed f
+        where f.id in :feedIds
+        """)
+    List<FeedCommentCountUpdateEvent> findCommentCountEvents(@Param("feedIds") Collection<UUID> feedIds);
+}
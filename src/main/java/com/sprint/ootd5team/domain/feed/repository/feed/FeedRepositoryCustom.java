@@ -1,23 +1,30 @@
 package com.sprint.ootd5team.domain.feed.repository.feed;
 
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
 import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
 import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface FeedRepositoryCustom {
 
-    List<FeedDto> findFeedDtos(FeedListRequest request, UUID currentUserId);
+    List<FeedDto> findFeedDtos(FeedListRequest request);
 
-    List<FeedDto> findFeedDtosByIds(
-        FeedListRequest request, List<UUID> feedIds, UUID currentUserId
-    );
+    List<FeedDto> findFeedDtosByIds(FeedListRequest request, List<UUID> feedIds);
+
+    FeedDto findFeedDtoById(UUID feedId);
 
-    FeedDto findFeedDtoById(UUID feedId, UUID currentUserId);
+    List<FeedDto> findFeedDtosAfterId(UUID afterId, int limit);
 
     long countFeeds(
         String keywordLike, SkyStatus skyStatus, PrecipitationType precipitationType, UUID authorId
     );
+
+    List<TimelineEntry> findTimelineEntriesByAuthorIds(
+        Collection<UUID> authorIds, Instant cursor, UUID idAfter, int limit
+    );
 }
\ No newline at end of file
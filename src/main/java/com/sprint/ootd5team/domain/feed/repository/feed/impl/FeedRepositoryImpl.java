@@ -6,16 +6,15 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.SortSpecDto;
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
 import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
 import com.sprint.ootd5team.domain.feed.entity.QFeed;
 import com.sprint.ootd5team.base.exception.feed.InvalidSortOptionException;
 import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepositoryCustom;
-import com.sprint.ootd5team.domain.like.entity.QFeedLike;
 import com.sprint.ootd5team.domain.profile.entity.QProfile;
 import com.sprint.ootd5team.domain.user.dto.AuthorDto;
 import com.sprint.ootd5team.domain.user.entity.QUser;
@@ -26,6 +25,7 @@ import com.sprint.ootd5team.domain.weather.entity.QWeather;
 import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
 import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -48,15 +48,13 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
      * 피드 목록 조회
      *
      * <p>조건(cursor, 정렬, 키워드, 날씨, 작성자)에 맞는 FeedDto 목록을 조회한다.
-     * likedByMe 여부는 현재 사용자 ID를 기준으로 서브쿼리로 계산된다.
-     * OOTD 데이터는 포함하지 않으며 서비스 계층에서 batch로 채운다.</p>
+     * OOTD 데이터와 likedByMe 여부는 포함하지 않으며 서비스 계층에서 batch로 채운다.</p>
      *
-     * @param request       페이지네이션 및 필터 조건을 담은 요청 객체
-     * @param currentUserId 현재 로그인한 사용자 ID (likedByMe 계산용)
+     * @param request 페이지네이션 및 필터 조건을 담은 요청 객체
      * @return FeedDto 목록 (limit+1개 조회 → 서비스 계층에서 hasNext 판별)
      */
     @Override
-    public List<FeedDto> findFeedDtos(FeedListRequest request, UUID currentUserId) {
+    public List<FeedDto> findFeedDtos(FeedListRequest request) {
         QFeed feed = QFeed.feed;
         QUser user = QUser.user;
         QProfile profile = QProfile.profile;
@@ -65,7 +63,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         SortSpecDto sortSpec = buildSortSpec(request);
 
         return queryFactory
-            .select(feedProjection(currentUserId))
+            .select(feedProjection())
             .from(feed)
             .join(user).on(feed.authorId.eq(user.id))
             .leftJoin(profile).on(profile.user.id.eq(user.id))
@@ -83,9 +81,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
     }
 
     @Override
-    public List<FeedDto> findFeedDtosByIds(
-        FeedListRequest request, List<UUID> feedIds, UUID currentUserId
-    ) {
+    public List<FeedDto> findFeedDtosByIds(FeedListRequest request, List<UUID> feedIds) {
         if (feedIds == null || feedIds.isEmpty()) {
             log.debug("[FeedRepository] feedIds 비어있음 → 빈 리스트 반환");
             return List.of();
@@ -99,7 +95,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         SortSpecDto sortSpec = buildSortSpec(request);
 
         return queryFactory
-            .select(feedProjection(currentUserId))
+            .select(feedProjection())
             .from(feed)
             .join(user).on(feed.authorId.eq(user.id))
             .leftJoin(profile).on(profile.user.id.eq(user.id))
@@ -113,21 +109,20 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
      * 단일 피드 조회
      *
      * <p>feedId 기준으로 FeedDto를 조회한다.
-     * OOTD 데이터는 포함하지 않으며 서비스 계층에서 batch로 채운다.</p>
+     * OOTD 데이터와 likedByMe 여부는 포함하지 않으며 서비스 계층에서 batch로 채운다.</p>
      *
-     * @param feedId        조회할 피드의 ID
-     * @param currentUserId 현재 로그인한 사용자 ID (likedByMe 계산용)
+     * @param feedId 조회할 피드의 ID
      * @return FeedDto
      */
     @Override
-    public FeedDto findFeedDtoById(UUID feedId, UUID currentUserId) {
+    public FeedDto findFeedDtoById(UUID feedId) {
         QFeed feed = QFeed.feed;
         QUser user = QUser.user;
         QProfile profile = QProfile.profile;
         QWeather weather = QWeather.weather;
 
         return queryFactory
-            .select(feedProjection(currentUserId))
+            .select(feedProjection())
             .from(feed)
             .join(user).on(feed.authorId.eq(user.id))
             .leftJoin(profile).on(profile.user.id.eq(user.id))
@@ -136,6 +131,35 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
             .fetchOne();
     }
 
+    /**
+     * id 키셋 페이지 조회 (재색인용)
+     *
+     * <p>id 오름차순으로 afterId 이후의 FeedDto를 조회한다.
+     * OOTD 데이터와 likedByMe 여부는 포함하지 않는다.</p>
+     *
+     * @param afterId 이전 페이지 마지막 피드 ID
+     * @param limit   최대 조회 개수
+     * @return FeedDto 목록
+     */
+    @Override
+    public List<FeedDto> findFeedDtosAfterId(UUID afterId, int limit) {
+        QFeed feed = QFeed.feed;
+        QUser user = QUser.user;
+        QProfile profile = QProfile.profile;
+        QWeather weather = QWeather.weather;
+
+        return queryFactory
+            .select(feedProjection())
+            .from(feed)
+            .join(user).on(feed.authorId.eq(user.id))
+            .leftJoin(profile).on(profile.user.id.eq(user.id))
+            .join(weather).on(feed.weatherId.eq(weather.id))
+            .where(feed.id.gt(afterId))
+            .orderBy(feed.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
     /**
      * 피드 개수 조회
      *
@@ -168,6 +192,42 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
         return count != null ? count : 0L;
     }
 
+    /**
+     * 작성자 목록의 타임라인 항목 조회
+     *
+     * <p>fan-out 대상에서 제외된 작성자(팔로워 수 임계값 이상)의 피드를 조회 시점에 병합하거나,
+     * 팔로우 / 언팔로우 시 타임라인 백필 / 정리에 사용한다.
+     * 정렬과 커서 조건은 createdAt 내림차순 피드 목록과 동일하다.</p>
+     *
+     * @param authorIds 작성자 ID 목록
+     * @param cursor    이전 페이지 마지막 항목의 createdAt (null 이면 처음부터)
+     * @param idAfter   이전 페이지 마지막 항목의 feedId
+     * @param limit     최대 조회 개수
+     * @return (feedId, createdAt) 목록
+     */
+    @Override
+    public List<TimelineEntry> findTimelineEntriesByAuthorIds(
+        Collection<UUID> authorIds, Instant cursor, UUID idAfter, int limit
+    ) {
+        if (authorIds == null || authorIds.isEmpty()) {
+            return List.of();
+        }
+
+        QFeed feed = QFeed.feed;
+
+        BooleanExpression cursorCondition = (cursor != null && idAfter != null)
+            ? feed.createdAt.lt(cursor).or(feed.createdAt.eq(cursor).and(feed.id.gt(idAfter)))
+            : null;
+
+        return queryFactory
+            .select(Projections.constructor(TimelineEntry.class, feed.id, feed.createdAt))
+            .from(feed)
+            .where(feed.authorId.in(authorIds), cursorCondition)
+            .orderBy(feed.createdAt.desc(), feed.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
     private BooleanExpression keywordLike(String keyword) {
         return keyword != null ? QFeed.feed.content.containsIgnoreCase(keyword) : null;
     }
@@ -189,10 +249,11 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
 
     /**
      * 공통 FeedDto projection
+     * - likedByMe 는 행마다 상관 서브쿼리(EXISTS)를 두지 않고 false 로 두며,
+     *   FeedDtoAssembler 가 페이지 단위 1회 조회로 채운다.
      */
-    private Expression<FeedDto> feedProjection(UUID currentUserId) {
+    private Expression<FeedDto> feedProjection() {
         QFeed feed = QFeed.feed;
-        QFeedLike feedLike = QFeedLike.feedLike;
         QUser user = QUser.user;
         QProfile profile = QProfile.profile;
         QWeather weather = QWeather.weather;
@@ -226,11 +287,7 @@ public class FeedRepositoryImpl implements FeedRepositoryCustom {
             feed.content,
             feed.likeCount,
             feed.commentCount,
-            JPAExpressions.selectOne()
-                .from(feedLike)
-                .where(feedLike.feedId.eq(feed.id)
-                    .and(feedLike.userId.eq(currentUserId)))
-                .exists()
+            Expressions.constant(false)
         );
     }
 
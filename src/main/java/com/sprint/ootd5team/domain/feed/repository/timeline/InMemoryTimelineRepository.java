@@ -0,0 +1,104 @@
+package com.sprint.ootd5team.domain.feed.repository.timeline;
+
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메모리 기반 타임라인 저장소
+ * - 단일 인스턴스 / 테스트 환경용
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.feed.timeline.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTimelineRepository implements TimelineRepository {
+
+    private final Map<UUID, NavigableSet<TimelineEntry>> timelines = new ConcurrentHashMap<>();
+    private final Set<UUID> pullAuthors = ConcurrentHashMap.newKeySet();
+    private final int maxSize;
+
+    public InMemoryTimelineRepository(@Value("${ootd.feed.timeline.max-size:800}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void push(TimelineEntry entry, Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            pushAll(userId, List.of(entry));
+        }
+    }
+
+    @Override
+    public void pushAll(UUID userId, Collection<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        timelines.compute(userId, (key, timeline) -> {
+            NavigableSet<TimelineEntry> target = timeline != null
+                ? timeline
+                : new ConcurrentSkipListSet<>(TimelineEntry.NEWEST_FIRST);
+            target.addAll(entries);
+            while (target.size() > maxSize) {
+                target.pollLast();
+            }
+            return target;
+        });
+    }
+
+    @Override
+    public void remove(UUID feedId, Collection<UUID> userIds) {
+        for (UUID userId : userIds) {
+            removeAll(userId, List.of(feedId));
+        }
+    }
+
+    @Override
+    public void removeAll(UUID userId, Collection<UUID> feedIds) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        if (timeline != null) {
+            timeline.removeIf(entry -> feedIds.contains(entry.feedId()));
+        }
+    }
+
+    @Override
+    public List<TimelineEntry> find(UUID userId, Instant cursor, UUID idAfter, int limit) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        if (timeline == null) {
+            return List.of();
+        }
+        return timeline.stream()
+            .filter(entry -> entry.isAfter(cursor, idAfter))
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public long count(UUID userId) {
+        NavigableSet<TimelineEntry> timeline = timelines.get(userId);
+        return timeline != null ? timeline.size() : 0L;
+    }
+
+    @Override
+    public void markPullAuthor(UUID authorId) {
+        pullAuthors.add(authorId);
+    }
+
+    @Override
+    public void unmarkPullAuthor(UUID authorId) {
+        pullAuthors.remove(authorId);
+    }
+
+    @Override
+    public Set<UUID> findPullAuthors() {
+        return Set.copyOf(pullAuthors);
+    }
+}
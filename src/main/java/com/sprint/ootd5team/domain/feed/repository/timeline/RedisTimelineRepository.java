@@ -0,0 +1,219 @@
+package com.sprint.ootd5team.domain.feed.repository.timeline;
+
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 타임라인 저장소
+ * <p>
+ * - 사용자별 Sorted Set: feed:timeline:{userId} → { feedId: createdAt(epoch micros) }
+ * - 추가 시 ZREMRANGEBYRANK 로 최신 max-size 개만 유지, 키 TTL 갱신 (비활성 사용자 타임라인 자동 정리)
+ * - 여러 사용자 대상 쓰기는 파이프라인으로 한 번에 전송
+ * - pull 작성자: feed:timeline:pull-authors (Set)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.feed.timeline.repository", havingValue = "redis")
+public class RedisTimelineRepository implements TimelineRepository {
+
+    private static final String KEY_PREFIX = "feed:timeline:";
+    private static final String PULL_AUTHORS_KEY = KEY_PREFIX + "pull-authors";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+    private final Duration ttl;
+
+    public RedisTimelineRepository(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.feed.timeline.max-size:800}") int maxSize,
+        @Value("${ootd.feed.timeline.ttl:30d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void push(TimelineEntry entry, Collection<UUID> userIds) {
+        String member = entry.feedId().toString();
+        double score = score(entry.createdAt());
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (UUID userId : userIds) {
+                    String key = key(userId);
+                    operations.opsForZSet().add(key, member, score);
+                    trim(operations, key);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void pushAll(UUID userId, Collection<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (TimelineEntry entry : entries) {
+            tuples.add(TypedTuple.of(entry.feedId().toString(), score(entry.createdAt())));
+        }
+
+        String key = key(userId);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForZSet().add(key, tuples);
+                trim(operations, key);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void remove(UUID feedId, Collection<UUID> userIds) {
+        String member = feedId.toString();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (UUID userId : userIds) {
+                    operations.opsForZSet().remove(key(userId), member);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void removeAll(UUID userId, Collection<UUID> feedIds) {
+        if (feedIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(key(userId), feedIds.stream().map(UUID::toString).toArray());
+    }
+
+    /**
+     * score <= cursor 인 항목을 최신순으로 가져온 뒤 같은 시각(score == cursor)의 idAfter 이전 항목 제외
+     * - 같은 score 항목 수만큼 더 읽어 필터링 후에도 limit 개를 채움
+     * - Redis 는 같은 score 를 member 사전순으로 자르므로, 마지막 score 의 항목을 모두 더 읽어
+     *   NEWEST_FIRST(id ASC) 기준으로 다시 자름
+     */
+    @Override
+    public List<TimelineEntry> find(UUID userId, Instant cursor, UUID idAfter, int limit) {
+        String key = key(userId);
+        double max = Double.POSITIVE_INFINITY;
+        long ties = 0;
+        if (cursor != null && idAfter != null) {
+            max = score(cursor);
+            Long count = redisTemplate.opsForZSet().count(key, max, max);
+            ties = count != null ? count : 0L;
+        }
+
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+            .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, 0, limit + ties);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        Set<TimelineEntry> entries = new HashSet<>(toEntries(tuples));
+        if (tuples.size() >= limit + ties) {
+            // 페이지 경계에 걸친 같은 시각 항목을 모두 포함
+            double boundary = tuples.stream()
+                .map(TypedTuple::getScore)
+                .filter(Objects::nonNull)
+                .min(Double::compare)
+                .orElse(max);
+            Set<TypedTuple<String>> boundaryTuples =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(key, boundary, boundary);
+            if (boundaryTuples != null) {
+                entries.addAll(toEntries(boundaryTuples));
+            }
+        }
+        return entries.stream()
+            .filter(entry -> entry.isAfter(cursor, idAfter))
+            .sorted(TimelineEntry.NEWEST_FIRST)
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public long count(UUID userId) {
+        Long count = redisTemplate.opsForZSet().zCard(key(userId));
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public void markPullAuthor(UUID authorId) {
+        redisTemplate.opsForSet().add(PULL_AUTHORS_KEY, authorId.toString());
+    }
+
+    @Override
+    public void unmarkPullAuthor(UUID authorId) {
+        redisTemplate.opsForSet().remove(PULL_AUTHORS_KEY, authorId.toString());
+    }
+
+    @Override
+    public Set<UUID> findPullAuthors() {
+        Set<String> members = redisTemplate.opsForSet().members(PULL_AUTHORS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> authorIds = new HashSet<>(members.size());
+        for (String member : members) {
+            authorIds.add(UUID.fromString(member));
+        }
+        return authorIds;
+    }
+
+    private static List<TimelineEntry> toEntries(Set<TypedTuple<String>> tuples) {
+        List<TimelineEntry> entries = new ArrayList<>(tuples.size());
+        for (TypedTuple<String> tuple : tuples) {
+            if (tuple.getValue() == null || tuple.getScore() == null) {
+                continue;
+            }
+            entries.add(new TimelineEntry(UUID.fromString(tuple.getValue()), instant(tuple.getScore())));
+        }
+        return entries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void trim(RedisOperations operations, String key) {
+        // 오래된(score 낮은) 항목부터 제거 → 최신 maxSize 개 유지
+        operations.opsForZSet().removeRange(key, 0, -(maxSize + 1L));
+        operations.expire(key, ttl);
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    /** DB(timestamp) 정밀도와 같은 마이크로초 단위 score (double 로 손실 없이 표현 가능) */
+    private static double score(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant instant(double score) {
+        return Instant.EPOCH.plus((long) score, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,47 @@
+package com.sprint.ootd5team.domain.feed.repository.timeline;
+
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 팔로잉 타임라인 저장소 (fan-out-on-write)
+ * <p>
+ * - 사용자별로 최신 max-size 개의 피드 ID만 유지 (오래된 항목부터 제거)
+ * - 팔로워가 많은 작성자(pull 작성자)는 fan-out 대상에서 제외하고 조회 시 DB에서 병합
+ */
+public interface TimelineRepository {
+
+    /** 여러 사용자의 타임라인에 같은 피드 추가 (피드 생성 fan-out) */
+    void push(TimelineEntry entry, Collection<UUID> userIds);
+
+    /** 한 사용자의 타임라인에 여러 피드 추가 (팔로우 백필) */
+    void pushAll(UUID userId, Collection<TimelineEntry> entries);
+
+    /** 여러 사용자의 타임라인에서 피드 제거 (피드 삭제) */
+    void remove(UUID feedId, Collection<UUID> userIds);
+
+    /** 한 사용자의 타임라인에서 여러 피드 제거 (언팔로우) */
+    void removeAll(UUID userId, Collection<UUID> feedIds);
+
+    /**
+     * 커서 이후 항목 조회 (createdAt DESC, id ASC)
+     *
+     * @param cursor  이전 페이지 마지막 항목의 createdAt (null 이면 처음부터)
+     * @param idAfter 이전 페이지 마지막 항목의 feedId
+     */
+    List<TimelineEntry> find(UUID userId, Instant cursor, UUID idAfter, int limit);
+
+    long count(UUID userId);
+
+    /** fan-out 대신 조회 시 병합할 작성자로 등록 */
+    void markPullAuthor(UUID authorId);
+
+    /** pull 작성자 등록 해제 (팔로워 수가 임계값 미만으로 줄어 다시 fan-out) */
+    void unmarkPullAuthor(UUID authorId);
+
+    Set<UUID> findPullAuthors();
+}
@@ -1,6 +1,11 @@
 package com.sprint.ootd5team.domain.feed.search;
 
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
+import com.sprint.ootd5team.domain.user.dto.AuthorDto;
+import com.sprint.ootd5team.domain.weather.dto.data.WeatherSummaryDto;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,13 +21,18 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
 /**
  * Elasticsearch 인덱스에 저장되는 피드 문서 모델.
  *
- * <p>인덱스명: {@code feeds-v5}</p>
+ * <p>조회 / 색인 대상은 {@code spring.elasticsearch.indices.feed} 별칭으로 명시적으로 지정한다.
+ * 실제 인덱스는 {별칭}-v{버전} 이름으로 생성된다 (FeedIndexDefinition 참고).</p>
+ *
+ * <p>검색 결과를 DB 조회 없이 그릴 수 있도록 피드 카드 정보(작성자, 날씨, OOTD, 댓글 수)를 함께 저장한다.
+ * 필터 대상(author.userId, weather.skyStatus, weather.precipitation.type)만 색인하고 나머지는 _source 로만 보관한다.
+ * 이미지 URL은 변환 전 저장소 key 이다.</p>
  */
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Builder
-@Document(indexName = "feeds-v1")
+@Document(indexName = "feeds", createIndex = false)
 public class FeedDocument {
 
     @Id
@@ -34,7 +44,37 @@ public class FeedDocument {
     @Field(type = FieldType.Long)
     private long likeCount;
 
+    @Field(type = FieldType.Long)
+    private long commentCount;
+
     @Field(type = FieldType.Date, format = DateFormat.date_time)
     private Instant createdAt;
 
-}
\ No newline at end of file
+    @Field(type = FieldType.Date, format = DateFormat.date_time)
+    private Instant updatedAt;
+
+    @Field(type = FieldType.Object)
+    private AuthorDto author;
+
+    @Field(type = FieldType.Object)
+    private WeatherSummaryDto weather;
+
+    @Field(type = FieldType.Object, enabled = false)
+    private List<OotdDto> ootds;
+
+    /** 피드 카드 DTO (likedByMe 는 false, 이미지 URL 은 변환 전 key) */
+    public FeedDto toFeedDto() {
+        return new FeedDto(
+            feedId,
+            createdAt,
+            updatedAt != null ? updatedAt : createdAt,
+            author,
+            weather,
+            ootds != null ? ootds : List.of(),
+            content,
+            likeCount,
+            commentCount,
+            false
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.sprint.ootd5team.domain.feed.search;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+/**
+ * 피드 검색 인덱스 설정 / 매핑 정의
+ * <p>
+ * - 초기 인덱스 생성(ElasticsearchIndexInitializer)과 재색인(FeedReindexService)이 같은 정의를 사용
+ * - 애플리케이션은 spring.elasticsearch.indices.feed 별칭(alias)으로만 접근하고,
+ *   실제 인덱스는 {별칭}-v{버전} 이름으로 생성
+ */
+public final class FeedIndexDefinition {
+
+    public static final String REFRESH_INTERVAL = "1s";
+    public static final int NUMBER_OF_REPLICAS = 1;
+
+    private FeedIndexDefinition() {
+    }
+
+    /** 별칭이 없을 때 처음 생성(또는 연결)할 인덱스 이름 */
+    public static String initialIndexName(String alias) {
+        return alias + "-v1";
+    }
+
+    public static Map<String, Object> settings() {
+        return settings(REFRESH_INTERVAL, NUMBER_OF_REPLICAS);
+    }
+
+    /**
+     * 인덱스 설정
+     *
+     * @param refreshInterval  refresh 주기 (대량 적재 중에는 "-1")
+     * @param numberOfReplicas 레플리카 수 (대량 적재 중에는 0)
+     */
+    public static Map<String, Object> settings(String refreshInterval, int numberOfReplicas) {
+        return Map.of(
+            "index", Map.of(
+                "max_ngram_diff", 2,
+                "refresh_interval", refreshInterval,
+                "number_of_replicas", numberOfReplicas,
+                "translog", Map.of(
+                    "durability", "async"
+                )
+            ),
+            "analysis", Map.of(
+                "tokenizer", Map.of(
+                    "nori_tokenizer", Map.of(
+                        "type", "nori_tokenizer",
+                        "decompound_mode", "mixed"
+                    ),
+                    "ngram_tokenizer", Map.of(
+                        "type", "ngram",
+                        "min_gram", 1,
+                        "max_gram", 3
+                    )
+                ),
+                "analyzer", Map.of(
+                    "korean_nori_custom", Map.of(
+                        "type", "custom",
+                        "tokenizer", "nori_tokenizer",
+                        "filter", List.of("nori_readingform", "lowercase")
+                    ),
+                    "ngram_analyzer", Map.of(
+                        "type", "custom",
+                        "tokenizer", "ngram_tokenizer",
+                        "filter", List.of("lowercase")
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * 문서 매핑
+     * - 피드 카드 정보는 _source 로 보관하고, 필터에 쓰는 필드만 keyword 로 색인 (dynamic: false)
+     */
+    public static Document mapping() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("feedId", Map.of("type", "keyword"));
+        properties.put("content", Map.of(
+            "type", "text",
+            "analyzer", "korean_nori_custom",
+            "search_analyzer", "ngram_analyzer",
+            "fields", Map.of(
+                "ngram", Map.of(
+                    "type", "text",
+                    "analyzer", "ngram_analyzer"
+                )
+            )
+        ));
+        properties.put("likeCount", Map.of("type", "long"));
+        properties.put("commentCount", Map.of("type", "long", "index", false));
+        properties.put("createdAt", Map.of(
+            "type", "date",
+            "format", "strict_date_optional_time||epoch_millis"
+        ));
+        properties.put("updatedAt", Map.of(
+            "type", "date",
+            "format", "strict_date_optional_time||epoch_millis",
+            "index", false
+        ));
+        properties.put("author", Map.of(
+            "type", "object",
+            "dynamic", false,
+            "properties", Map.of(
+                "userId", Map.of("type", "keyword")
+            )
+        ));
+        properties.put("weather", Map.of(
+            "type", "object",
+            "dynamic", false,
+            "properties", Map.of(
+                "skyStatus", Map.of("type", "keyword"),
+                "precipitation", Map.of(
+                    "type", "object",
+                    "dynamic", false,
+                    "properties", Map.of(
+                        "type", Map.of("type", "keyword")
+                    )
+                )
+            )
+        ));
+        properties.put("ootds", Map.of(
+            "type", "object",
+            "enabled", false
+        ));
+
+        return Document.create().append("properties", properties);
+    }
+}
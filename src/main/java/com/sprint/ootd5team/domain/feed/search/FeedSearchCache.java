@@ -0,0 +1,195 @@
+package com.sprint.ootd5team.domain.feed.search;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedSearchResult;
+import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch.Change;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 키워드 검색 결과 캐시 (정규화 키워드 + 필터 + 정렬 + 커서 → 검색 결과 + DTO)
+ * <p>
+ * - 진행 중인 검색도 future로 등록되어 같은 키의 동시 요청이 ES / DB 조회 1회를 공유
+ * - 값에는 사용자와 무관한 DTO까지 담아 warm 검색은 ES / DB 조회 없이 likedByMe만 반영
+ * - 무효화: 피드 인덱스 이벤트(FeedSearchCacheInvalidator)
+ *   - 생성 / 내용 수정: 어떤 키워드에도 새로 매칭될 수 있으므로 전체
+ *   - 삭제 / 좋아요 수: 해당 피드를 담은 항목만 (정렬 순위 변화는 짧은 TTL로 보정)
+ * - 실패한 검색은 캐시하지 않음
+ * <p>
+ * 메트릭: feed.search.cache.requests (result=hit|shared|miss)
+ */
+@Slf4j
+@Component
+public class FeedSearchCache {
+
+    private static final String METRIC = "feed.search.cache.requests";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final AsyncCache<Key, FeedSearchResult> cache;
+    private final Counter hit;
+    private final Counter shared;
+    private final Counter miss;
+
+    public FeedSearchCache(
+        @Value("${ootd.feed.search-cache.enabled:true}") boolean enabled,
+        @Value("${ootd.feed.search-cache.ttl:30s}") Duration ttl,
+        @Value("${ootd.feed.search-cache.max-size:2000}") long maxSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .buildAsync();
+        this.hit = counter(meterRegistry, "hit");
+        this.shared = counter(meterRegistry, "shared");
+        this.miss = counter(meterRegistry, "miss");
+
+        log.info("[FeedSearchCache] enabled={}, ttl={}, maxSize={}", enabled, ttl, maxSize);
+    }
+
+    /** 캐시 없이 항상 조회 (단위 테스트용) */
+    public static FeedSearchCache disabled() {
+        return new FeedSearchCache(false, Duration.ZERO, 0, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 캐시된 검색 결과 반환, 없으면 loader 로 조회 후 저장
+     * - 같은 키를 조회 중인 요청이 있으면 그 결과를 기다림
+     */
+    public FeedSearchResult get(FeedListRequest request, Function<FeedListRequest, FeedSearchResult> loader) {
+        if (!enabled) {
+            return loader.apply(request);
+        }
+
+        Key key = Key.of(request);
+        CompletableFuture<FeedSearchResult> created = new CompletableFuture<>();
+        CompletableFuture<FeedSearchResult> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            (existing.isDone() ? hit : shared).increment();
+            log.debug("[FeedSearchCache] 캐시/진행 중 검색 재사용: {}", key);
+            return await(existing);
+        }
+
+        miss.increment();
+        try {
+            FeedSearchResult result = loader.apply(request);
+            created.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            cache.asMap().remove(key, created);
+            throw e;
+        }
+    }
+
+    /** 피드 인덱스 변경 반영 */
+    public void invalidate(FeedIndexBatch batch) {
+        if (!enabled || batch.isEmpty()) {
+            return;
+        }
+
+        boolean matchesMayChange = batch.changes().stream()
+            .anyMatch(change -> change.isCreated() || change.getContent() != null);
+        if (matchesMayChange) {
+            invalidateAll();
+            return;
+        }
+
+        Set<UUID> changed = batch.changes().stream()
+            .map(Change::getFeedId)
+            .collect(Collectors.toSet());
+        cache.asMap().values().removeIf(future -> contains(future, changed));
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        log.debug("[FeedSearchCache] 전체 무효화");
+    }
+
+    /** 진행 중인 검색은 변경 이전 결과일 수 있으므로 함께 제거 (기다리던 요청은 그대로 결과를 받음) */
+    private boolean contains(CompletableFuture<FeedSearchResult> future, Set<UUID> changed) {
+        if (!future.isDone()) {
+            return true;
+        }
+        if (future.isCompletedExceptionally()) {
+            return false;
+        }
+        return future.join().feedIds().stream().anyMatch(changed::contains);
+    }
+
+    private FeedSearchResult await(CompletableFuture<FeedSearchResult> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 검색 캐시 키
+     * - 키워드는 앞뒤 공백 제거, 소문자, 연속 공백 1칸으로 정규화 (분석기 결과가 같은 입력을 하나로 모음)
+     */
+    record Key(
+        String keyword,
+        SkyStatus skyStatus,
+        PrecipitationType precipitationType,
+        UUID authorId,
+        String sortBy,
+        SortDirection sortDirection,
+        int limit,
+        String cursor,
+        UUID idAfter
+    ) {
+
+        static Key of(FeedListRequest request) {
+            return new Key(
+                normalize(request.keywordLike()),
+                request.skyStatusEqual(),
+                request.precipitationTypeEqual(),
+                request.authorIdEqual(),
+                request.sortBy(),
+                request.sortDirection(),
+                request.limit(),
+                request.cursor(),
+                request.idAfter()
+            );
+        }
+
+        static String normalize(String keyword) {
+            if (keyword == null) {
+                return "";
+            }
+            return WHITESPACE.matcher(keyword.strip().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        }
+    }
+}
@@ -1,33 +1,48 @@
 package com.sprint.ootd5team.domain.feed.search;
 
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import com.sprint.ootd5team.base.exception.feed.InvalidSortOptionException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedSearchResult;
+import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
 
 /**
  * Elasticsearch에서 피드 콘텐츠를 키워드로 검색하는 서비스.
  *
- * <p>검색어를 기준으로 ngram 필드와 원문 필드를 함께 조회하며,
- * 커서 기반 페이지네이션(search_after)을 지원한다.</p>
+ * <p>검색어를 기준으로 ngram 필드와 원문 필드를 함께 조회하고 날씨 / 작성자 조건은 filter 로 적용하며,
+ * 커서 기반 페이지네이션(search_after)을 지원한다.
+ * 문서에 피드 카드 정보가 담겨 있어 결과 DTO 를 DB 조회 없이 만든다.
+ * 재색인 시 교체되는 별칭(spring.elasticsearch.indices.feed)을 대상으로 조회한다.</p>
  */
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class FeedSearchService {
 
     private final ElasticsearchOperations operations;
+    private final IndexCoordinates index;
+
+    public FeedSearchService(
+        ElasticsearchOperations operations,
+        @Value("${spring.elasticsearch.indices.feed}") String alias
+    ) {
+        this.operations = operations;
+        this.index = IndexCoordinates.of(alias);
+    }
 
     /**
      * 키워드 기반 피드 검색을 수행한다.
@@ -36,12 +51,13 @@ public class FeedSearchService {
         log.info("[FeedSearchService] ES 피드 검색 시작 - keyword: {}", request.keywordLike());
 
         var query = buildQuery(request);
-        var hits = operations.search(query, FeedDocument.class);
+        var hits = operations.search(query, FeedDocument.class, index);
 
-        var feedIds = hits.getSearchHits().stream()
+        var feeds = hits.getSearchHits().stream()
             .limit(request.limit())
-            .map(hit -> hit.getContent().getFeedId())
+            .map(hit -> hit.getContent().toFeedDto())
             .toList();
+        var feedIds = feeds.stream().map(FeedDto::id).toList();
 
         var total = hits.getTotalHits();
         var hasNext = hits.getSearchHits().size() > request.limit();
@@ -58,7 +74,8 @@ public class FeedSearchService {
             nextCursorInfo != null ? nextCursorInfo.cursor() : null,
             nextCursorInfo != null ? nextCursorInfo.idAfter() : null,
             hasNext,
-            total
+            total,
+            feeds
         );
     }
 
@@ -66,13 +83,16 @@ public class FeedSearchService {
      * Feed 검색용 Elasticsearch 쿼리를 구성한다.
      */
     private NativeQuery buildQuery(FeedListRequest request) {
+        Direction direction = request.sortDirection() == SortDirection.ASCENDING
+            ? Direction.ASC
+            : Direction.DESC;
         Sort sort = Sort.by(
-            Sort.Order.desc(request.sortBy()),
-            Sort.Order.desc("feedId")
+            new Sort.Order(direction, request.sortBy()),
+            Sort.Order.asc("feedId")
         );
 
         NativeQueryBuilder builder = new NativeQueryBuilder()
-            .withQuery(q -> q.bool(b -> b.should(s -> s
+            .withQuery(q -> q.bool(b -> filter(b, request).minimumShouldMatch("1").should(s -> s
                     .match(m -> m
                         .field("content")
                         .query(request.keywordLike())
@@ -100,6 +120,28 @@ public class FeedSearchService {
         return builder.build();
     }
 
+    /**
+     * 날씨 / 작성자 조건을 점수에 영향 없는 filter 절로 추가한다. (null 조건은 무시)
+     */
+    private BoolQuery.Builder filter(BoolQuery.Builder bool, FeedListRequest request) {
+        if (request.skyStatusEqual() != null) {
+            bool.filter(f -> f.term(t -> t
+                .field("weather.skyStatus")
+                .value(request.skyStatusEqual().name())));
+        }
+        if (request.precipitationTypeEqual() != null) {
+            bool.filter(f -> f.term(t -> t
+                .field("weather.precipitation.type")
+                .value(request.precipitationTypeEqual().name())));
+        }
+        if (request.authorIdEqual() != null) {
+            bool.filter(f -> f.term(t -> t
+                .field("author.userId")
+                .value(request.authorIdEqual().toString())));
+        }
+        return bool;
+    }
+
     /**
      * 다음 페이지 요청에 사용할 커서 정보를 추출한다.
      */
@@ -0,0 +1,190 @@
+package com.sprint.ootd5team.domain.feed.search.reindex;
+
+import com.sprint.ootd5team.base.exception.feed.FeedReindexFailedException;
+import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재색인 중 발생한 피드 인덱스 이벤트 재생기
+ * <p>
+ * - 재색인 시작 시점의 토픽 끝 오프셋을 기록해 두고, 대량 적재가 끝나면 그 오프셋부터 현재 끝까지 다시 읽어 새 인덱스에 반영
+ * - 실시간 인덱서(ootd.feed-indexer 그룹)와 별개로 assign/seek 만 사용하며 오프셋은 커밋하지 않음
+ * - 이벤트 값은 모두 절대값(내용 / 좋아요 수 / 삭제)이므로 스냅샷과 겹쳐 다시 반영해도 결과가 같음
+ * - 단, 별칭 교체 전(새 인덱스에 실시간 반영이 없을 때)에만 재생하고, 교체 후에는 변경된 feedId 만 수집
+ */
+@Slf4j
+@Component
+public class FeedEventReplayer {
+
+    private static final String GROUP_ID = "ootd.feed-reindex";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final FeedIndexEventParser parser;
+    private final ElasticsearchFeedIndexer indexer;
+    private final int maxPollRecords;
+    private final Duration timeout;
+
+    public FeedEventReplayer(
+        ConsumerFactory<String, String> consumerFactory,
+        FeedIndexEventParser parser,
+        ElasticsearchFeedIndexer indexer,
+        @Value("${ootd.feed.indexer.max-batch-size:500}") int maxPollRecords,
+        @Value("${ootd.feed.reindex.replay-timeout:5m}") Duration timeout
+    ) {
+        this.consumerFactory = consumerFactory;
+        this.parser = parser;
+        this.indexer = indexer;
+        this.maxPollRecords = maxPollRecords;
+        this.timeout = timeout;
+    }
+
+    /** 피드 인덱스 토픽 전체 파티션의 현재 끝 오프셋 */
+    public Map<TopicPartition, Long> endOffsets() {
+        try (Consumer<String, String> consumer = createConsumer()) {
+            return new HashMap<>(consumer.endOffsets(partitions(consumer)));
+        }
+    }
+
+    /**
+     * from 오프셋부터 호출 시점의 끝 오프셋 직전까지 이벤트를 재생해 대상 인덱스에 반영합니다.
+     *
+     * @param from        파티션별 시작 오프셋 (기록에 없는 파티션은 처음부터)
+     * @param targetIndex 반영할 인덱스
+     * @return 다음 재생 시작 오프셋과 재생한 이벤트 수
+     */
+    public Replay replay(Map<TopicPartition, Long> from, String targetIndex) {
+        Replay replay = read(from, batch -> {
+            Set<UUID> rejected = indexer.bulk(batch, targetIndex);
+            if (!rejected.isEmpty()) {
+                log.warn("[FeedEventReplayer] 재생 중 반영 거부 - feedIds:{}", rejected);
+            }
+        });
+        log.info("[FeedEventReplayer] 이벤트 재생 완료 - index:{}, events:{}", targetIndex, replay.events());
+        return replay;
+    }
+
+    /**
+     * from 오프셋부터 호출 시점의 끝 오프셋 직전까지 이벤트의 대상 feedId 만 모읍니다. (인덱스에 반영하지 않음)
+     * <p>
+     * 별칭 교체 후에는 실시간 인덱서가 새 인덱스에 더 최신 이벤트를 이미 반영했을 수 있어
+     * 이벤트 값을 다시 쓰면 문서가 과거로 돌아갈 수 있으므로, 대상 피드만 찾아 DB 에서 다시 읽을 때 사용
+     *
+     * @param from 파티션별 시작 오프셋
+     * @return 변경된 feedId
+     */
+    public Set<UUID> changedFeedIds(Map<TopicPartition, Long> from) {
+        Set<UUID> feedIds = new HashSet<>();
+        read(from, batch -> batch.changes().forEach(change -> feedIds.add(change.getFeedId())));
+        return feedIds;
+    }
+
+    /** from 부터 호출 시점의 끝 오프셋 직전까지 poll 단위로 배치를 만들어 전달 */
+    private Replay read(Map<TopicPartition, Long> from, java.util.function.Consumer<FeedIndexBatch> sink) {
+        try (Consumer<String, String> consumer = createConsumer()) {
+            Map<TopicPartition, Long> end = new HashMap<>(consumer.endOffsets(partitions(consumer)));
+
+            List<TopicPartition> pending = new ArrayList<>();
+            end.forEach((partition, endOffset) -> {
+                if (from.getOrDefault(partition, 0L) < endOffset) {
+                    pending.add(partition);
+                }
+            });
+            if (pending.isEmpty()) {
+                return new Replay(end, 0);
+            }
+
+            consumer.assign(pending);
+            pending.forEach(partition -> consumer.seek(partition, from.getOrDefault(partition, 0L)));
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            long replayed = 0;
+            List<TopicPartition> reading = new ArrayList<>(pending);
+
+            while (!reading.isEmpty()) {
+                if (System.nanoTime() > deadline) {
+                    throw FeedReindexFailedException.withReason("이벤트 재생 시간 초과: " + reading);
+                }
+
+                ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+                FeedIndexBatch batch = new FeedIndexBatch();
+                for (ConsumerRecord<String, String> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (record.offset() >= end.get(partition)) {
+                        continue;
+                    }
+                    try {
+                        parser.accumulate(batch, record.topic(), record.value());
+                        replayed++;
+                    } catch (Exception e) {
+                        // 파싱 불가 메시지는 실시간 소비 쪽에서 DLT로 처리되므로 재생에서는 건너뜀
+                        log.warn("[FeedEventReplayer] 재생 불가 메시지 건너뜀 - topic:{}, offset:{}",
+                            record.topic(), record.offset());
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    sink.accept(batch);
+                }
+
+                List<TopicPartition> done = reading.stream()
+                    .filter(partition -> consumer.position(partition) >= end.get(partition))
+                    .toList();
+                if (!done.isEmpty()) {
+                    consumer.pause(done);
+                    reading.removeAll(done);
+                }
+            }
+
+            return new Replay(end, replayed);
+        }
+    }
+
+    private List<TopicPartition> partitions(Consumer<String, String> consumer) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : FeedIndexEventParser.TOPICS) {
+            List<PartitionInfo> infos = consumer.partitionsFor(topic);
+            if (infos == null) {
+                continue;
+            }
+            infos.forEach(info -> partitions.add(new TopicPartition(info.topic(), info.partition())));
+        }
+        return partitions;
+    }
+
+    private Consumer<String, String> createConsumer() {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+        return consumerFactory.createConsumer(GROUP_ID, null, "-replay", properties);
+    }
+
+    /**
+     * 재생 결과
+     *
+     * @param nextOffsets 다음 재생 시작 오프셋 (이번 재생의 끝 오프셋)
+     * @param events      재생한 이벤트 수
+     */
+    public record Replay(Map<TopicPartition, Long> nextOffsets, long events) {
+
+    }
+}
@@ -0,0 +1,394 @@
+package com.sprint.ootd5team.domain.feed.search.reindex;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ExistsAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
+import co.elastic.clients.elasticsearch.indices.PutIndicesSettingsRequest;
+import co.elastic.clients.elasticsearch.indices.RefreshRequest;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import com.sprint.ootd5team.base.exception.feed.FeedReindexFailedException;
+import com.sprint.ootd5team.base.exception.feed.FeedReindexInProgressException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.enums.FeedReindexState;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedReindexStatusResponse;
+import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.feed.search.FeedIndexDefinition;
+import com.sprint.ootd5team.domain.feed.search.reindex.FeedEventReplayer.Replay;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDtoAssembler;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+/**
+ * 무중단 피드 검색 재색인
+ * <p>
+ * 1. 피드 인덱스 토픽의 현재 끝 오프셋 기록 → 새 버전 인덱스 생성 (refresh 끔, 레플리카 0)
+ * 2. 피드 카드(작성자, 날씨, OOTD 포함)를 id 키셋 페이지로 읽어 병렬 워커가 _bulk 적재 (초당 문서 수 제한)
+ * 3. 설정 복구 후 1에서 기록한 오프셋부터 이벤트 재생 (적재 중 변경 반영), 새 이벤트가 없을 때까지 반복
+ * 4. 별칭을 새 인덱스로 원자적 교체 → 마지막 재생 이후 이전 인덱스에만 반영된 피드를 DB 에서 다시 읽어 반영
+ *    (교체 후에는 실시간 인덱서가 새 인덱스에 더 최신 값을 쓰고 있으므로 이벤트 값을 재생하지 않음)
+ * <p>
+ * - 검색 / 실시간 인덱서는 별칭만 바라보므로 교체 전까지 이전 인덱스로 계속 서비스
+ * - 이전 인덱스는 롤백용으로 남겨 둠 (수동 삭제)
+ * - 실행 여부는 인스턴스 단위로만 보장하므로 하나의 인스턴스에서 호출
+ */
+@Slf4j
+@Service
+public class FeedReindexService {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final DateTimeFormatter VERSION_FORMAT =
+        DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+    private static final String BULK_REFRESH_INTERVAL = "-1";
+    private static final int PROGRESS_LOG_PAGES = 20;
+    private static final int MAX_CATCH_UP_ROUNDS = 5;
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final FeedRepository feedRepository;
+    private final FeedDtoAssembler feedDtoAssembler;
+    private final ElasticsearchFeedIndexer indexer;
+    private final FeedEventReplayer replayer;
+    private final String alias;
+    private final int pageSize;
+    private final int workers;
+    private final int maxDocsPerSecond;
+    private final ExecutorService coordinator;
+
+    private final AtomicReference<Run> current = new AtomicReference<>();
+
+    public FeedReindexService(
+        ElasticsearchOperations operations,
+        ElasticsearchClient client,
+        FeedRepository feedRepository,
+        FeedDtoAssembler feedDtoAssembler,
+        ElasticsearchFeedIndexer indexer,
+        FeedEventReplayer replayer,
+        @Value("${spring.elasticsearch.indices.feed}") String alias,
+        @Value("${ootd.feed.reindex.page-size:500}") int pageSize,
+        @Value("${ootd.feed.reindex.workers:4}") int workers,
+        @Value("${ootd.feed.reindex.max-docs-per-second:0}") int maxDocsPerSecond
+    ) {
+        this.operations = operations;
+        this.client = client;
+        this.feedRepository = feedRepository;
+        this.feedDtoAssembler = feedDtoAssembler;
+        this.indexer = indexer;
+        this.replayer = replayer;
+        this.alias = alias;
+        this.pageSize = pageSize;
+        this.workers = Math.max(1, workers);
+        this.maxDocsPerSecond = maxDocsPerSecond;
+        this.coordinator = Executors.newSingleThreadExecutor(namedThreads("feed-reindex"));
+    }
+
+    /**
+     * 재색인을 백그라운드로 시작하고 시작 시점의 상태를 반환합니다.
+     *
+     * @throws FeedReindexInProgressException 이미 진행 중인 재색인이 있는 경우
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public FeedReindexStatusResponse start() {
+        Run run = new Run(alias + "-v" + VERSION_FORMAT.format(Instant.now()));
+        Run previous = current.get();
+        if ((previous != null && !previous.isFinished()) || !current.compareAndSet(previous, run)) {
+            throw FeedReindexInProgressException.withTargetIndex(
+                previous != null ? previous.targetIndex : run.targetIndex);
+        }
+
+        log.info("[FeedReindexService] 재색인 시작 - alias:{}, target:{}", alias, run.targetIndex);
+        coordinator.execute(() -> execute(run));
+        return run.toResponse(alias);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public FeedReindexStatusResponse status() {
+        Run run = current.get();
+        return run != null ? run.toResponse(alias) : FeedReindexStatusResponse.idle(alias);
+    }
+
+    void execute(Run run) {
+        boolean swapped = false;
+        try {
+            run.previousIndex = currentIndex();
+            Map<TopicPartition, Long> replayFrom = replayer.endOffsets();
+
+            operations.indexOps(IndexCoordinates.of(run.targetIndex)).create(
+                FeedIndexDefinition.settings(BULK_REFRESH_INTERVAL, 0), FeedIndexDefinition.mapping());
+            run.totalFeeds = feedRepository.count();
+
+            run.state = FeedReindexState.BULK_LOADING;
+            bulkLoad(run);
+            restoreSettings(run.targetIndex);
+
+            run.state = FeedReindexState.REPLAYING;
+            Map<TopicPartition, Long> caughtUp = catchUp(run, replayFrom);
+
+            run.state = FeedReindexState.SWAPPING;
+            swapAlias(run.previousIndex, run.targetIndex);
+            swapped = true;
+            refreshChangedFeeds(run, caughtUp);
+
+            run.finish(FeedReindexState.COMPLETED, null);
+            log.info("[FeedReindexService] 재색인 완료 - alias:{}, {} → {}, indexed:{}, failed:{}, replayed:{}, docs/s:{}",
+                alias, run.previousIndex, run.targetIndex, run.indexedFeeds.get(), run.failedFeeds.get(),
+                run.replayedEvents.get(), String.format("%.1f", run.docsPerSecond()));
+        } catch (Exception e) {
+            log.error("[FeedReindexService] 재색인 실패 - target:{}, state:{}", run.targetIndex, run.state, e);
+            run.finish(FeedReindexState.FAILED, e.getMessage());
+            if (!swapped) {
+                deleteQuietly(run.targetIndex);
+            }
+        }
+    }
+
+    /** 키셋 페이지를 순서대로 읽고, 페이지 단위 _bulk 는 워커에서 병렬 실행 (동시 요청 수 = workers) */
+    private void bulkLoad(Run run) throws InterruptedException {
+        ExecutorService workerPool = Executors.newFixedThreadPool(workers, namedThreads("feed-reindex-worker"));
+        Semaphore inFlight = new Semaphore(workers);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        run.loadStartedNanos = System.nanoTime();
+
+        try {
+            UUID afterId = MIN_ID;
+            long submitted = 0;
+            int pages = 0;
+
+            while (failure.get() == null) {
+                List<FeedDto> rows = feedRepository.findFeedDtosAfterId(afterId, pageSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).id();
+
+                inFlight.acquire();
+                workerPool.execute(() -> {
+                    try {
+                        index(run, rows);
+                    } catch (Throwable t) {
+                        failure.compareAndSet(null, t);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+
+                submitted += rows.size();
+                if (++pages % PROGRESS_LOG_PAGES == 0) {
+                    log.info("[FeedReindexService] 적재 진행 - indexed:{}/{}, docs/s:{}",
+                        run.indexedFeeds.get(), run.totalFeeds, String.format("%.1f", run.docsPerSecond()));
+                }
+                throttle(submitted, run.loadStartedNanos);
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+
+            // 남은 페이지 완료 대기
+            inFlight.acquire(workers);
+        } finally {
+            workerPool.shutdownNow();
+            run.loadFinishedNanos = System.nanoTime();
+        }
+
+        if (failure.get() != null) {
+            throw new FeedReindexFailedException(failure.get());
+        }
+    }
+
+    private void index(Run run, List<FeedDto> rows) {
+        FeedIndexBatch batch = new FeedIndexBatch();
+        feedDtoAssembler.attachOotds(rows).forEach(batch::snapshot);
+
+        Set<UUID> rejected = indexer.bulk(batch, run.targetIndex);
+        run.indexedFeeds.addAndGet(rows.size() - rejected.size());
+        run.failedFeeds.addAndGet(rejected.size());
+    }
+
+    /**
+     * 별칭 교체 전 이벤트 재생 (새 인덱스에는 아직 실시간 반영이 없으므로 이벤트 값을 그대로 써도 됨)
+     * - 재생 중 들어온 이벤트를 다시 재생하며, 새 이벤트가 없거나 최대 횟수에 도달하면 종료
+     *
+     * @return 마지막 재생의 끝 오프셋
+     */
+    private Map<TopicPartition, Long> catchUp(Run run, Map<TopicPartition, Long> from) {
+        Map<TopicPartition, Long> offsets = from;
+        for (int round = 0; round < MAX_CATCH_UP_ROUNDS; round++) {
+            Replay replay = replayer.replay(offsets, run.targetIndex);
+            run.replayedEvents.addAndGet(replay.events());
+            offsets = replay.nextOffsets();
+            if (replay.events() == 0) {
+                break;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * 별칭 교체 후: 마지막 재생 이후 이벤트의 대상 피드를 DB 에서 다시 읽어 전체 문서로 반영 (없는 피드는 삭제)
+     * - DB 값은 실시간 인덱서가 이미 반영한 이벤트보다 과거일 수 없으므로 문서가 되돌아가지 않음
+     */
+    private void refreshChangedFeeds(Run run, Map<TopicPartition, Long> from) {
+        List<UUID> feedIds = List.copyOf(replayer.changedFeedIds(from));
+        for (int i = 0; i < feedIds.size(); i += pageSize) {
+            FeedIndexBatch batch = new FeedIndexBatch();
+            List<FeedDto> rows = new ArrayList<>();
+            for (UUID feedId : feedIds.subList(i, Math.min(i + pageSize, feedIds.size()))) {
+                FeedDto row = feedRepository.findFeedDtoById(feedId);
+                if (row != null) {
+                    rows.add(row);
+                } else {
+                    batch.deleted(new FeedDeletedEvent(feedId));
+                }
+            }
+            if (!rows.isEmpty()) {
+                feedDtoAssembler.attachOotds(rows).forEach(batch::snapshot);
+            }
+
+            Set<UUID> rejected = indexer.bulk(batch, run.targetIndex);
+            if (!rejected.isEmpty()) {
+                log.warn("[FeedReindexService] 교체 후 피드 재반영 거부 - feedIds:{}", rejected);
+            }
+        }
+        run.replayedEvents.addAndGet(feedIds.size());
+        log.info("[FeedReindexService] 교체 후 변경 피드 재반영 - alias:{}, feeds:{}", alias, feedIds.size());
+    }
+
+    /** 제출한 문서 수가 초당 제한을 앞서면 그만큼 대기 (0 이하면 제한 없음) */
+    private void throttle(long submittedDocs, long startedNanos) throws InterruptedException {
+        if (maxDocsPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = TimeUnit.SECONDS.toNanos(submittedDocs) / maxDocsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private String currentIndex() throws IOException {
+        if (!client.indices().existsAlias(ExistsAliasRequest.of(e -> e.name(alias))).value()) {
+            return null;
+        }
+        return client.indices().getAlias(GetAliasRequest.of(g -> g.name(alias))).result().keySet().stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    private void restoreSettings(String index) throws IOException {
+        client.indices().putSettings(PutIndicesSettingsRequest.of(p -> p
+            .index(index)
+            .settings(s -> s
+                .refreshInterval(t -> t.time(FeedIndexDefinition.REFRESH_INTERVAL))
+                .numberOfReplicas(String.valueOf(FeedIndexDefinition.NUMBER_OF_REPLICAS)))));
+        client.indices().refresh(RefreshRequest.of(r -> r.index(index)));
+    }
+
+    /** 이전 인덱스 제거와 새 인덱스 추가를 한 요청으로 처리 (원자적) */
+    private void swapAlias(String previousIndex, String targetIndex) throws IOException {
+        client.indices().updateAliases(UpdateAliasesRequest.of(u -> {
+            if (previousIndex != null) {
+                u.actions(a -> a.remove(r -> r.index(previousIndex).alias(alias)));
+            }
+            return u.actions(a -> a.add(add -> add.index(targetIndex).alias(alias)));
+        }));
+        log.info("[FeedReindexService] 별칭 교체 - alias:{}, {} → {}", alias, previousIndex, targetIndex);
+    }
+
+    private void deleteQuietly(String index) {
+        try {
+            client.indices().delete(DeleteIndexRequest.of(d -> d.index(index).ignoreUnavailable(true)));
+        } catch (Exception e) {
+            log.warn("[FeedReindexService] 실패한 재색인 인덱스 삭제 실패 - index:{}", index, e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * 재색인 1회 실행 상태
+     */
+    static final class Run {
+
+        private final String targetIndex;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong indexedFeeds = new AtomicLong();
+        private final AtomicLong failedFeeds = new AtomicLong();
+        private final AtomicLong replayedEvents = new AtomicLong();
+
+        private volatile FeedReindexState state = FeedReindexState.PREPARING;
+        private volatile String previousIndex;
+        private volatile long totalFeeds;
+        private volatile long loadStartedNanos;
+        private volatile long loadFinishedNanos;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Run(String targetIndex) {
+            this.targetIndex = targetIndex;
+        }
+
+        boolean isFinished() {
+            return state == FeedReindexState.COMPLETED || state == FeedReindexState.FAILED;
+        }
+
+        void finish(FeedReindexState state, String error) {
+            this.error = error;
+            this.finishedAt = Instant.now();
+            this.state = state;
+        }
+
+        /** 대량 적재 구간 처리량 (적재 완료 후에는 고정) */
+        double docsPerSecond() {
+            if (loadStartedNanos == 0) {
+                return 0;
+            }
+            long end = loadFinishedNanos != 0 ? loadFinishedNanos : System.nanoTime();
+            double seconds = (end - loadStartedNanos) / 1_000_000_000.0;
+            return seconds > 0 ? indexedFeeds.get() / seconds : 0;
+        }
+
+        FeedReindexStatusResponse toResponse(String alias) {
+            return new FeedReindexStatusResponse(state, alias, targetIndex, previousIndex,
+                totalFeeds, indexedFeeds.get(), failedFeeds.get(), replayedEvents.get(),
+                docsPerSecond(), startedAt, finishedAt, error);
+        }
+    }
+}
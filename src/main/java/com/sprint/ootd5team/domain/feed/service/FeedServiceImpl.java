@@ -13,11 +13,17 @@ import com.sprint.ootd5team.domain.feed.entity.Feed;
 import com.sprint.ootd5team.domain.feed.entity.FeedClothes;
 import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
 import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCountChangedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
 import com.sprint.ootd5team.domain.feed.repository.feedClothes.FeedClothesRepository;
+import com.sprint.ootd5team.domain.feed.search.FeedSearchCache;
 import com.sprint.ootd5team.domain.feed.search.FeedSearchService;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDetailCache;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedTotalCounter;
 import com.sprint.ootd5team.domain.feed.service.internal.FeedValidator;
 import com.sprint.ootd5team.domain.follow.repository.FollowRepository;
 import com.sprint.ootd5team.domain.notification.event.type.multi.FeedCreatedEvent;
@@ -46,8 +52,11 @@ public class FeedServiceImpl implements FeedService {
     private final FeedClothesRepository feedClothesRepository;
     private final FeedDtoAssembler feedDtoAssembler;
     private final FeedSearchService feedSearchService;
+    private final FeedSearchCache feedSearchCache;
+    private final FeedDetailCache feedDetailCache;
     private final FeedValidator feedValidator;
     private final FeedEventProducer feedEventProducer;
+    private final FeedTotalCounter feedTotalCounter;
 
     private final ApplicationEventPublisher eventPublisher;
     private final FollowRepository followRepository;
@@ -58,7 +67,7 @@ public class FeedServiceImpl implements FeedService {
      * <p>
      * - 작성자, 날씨, 옷 ID의 유효성을 검증한다.<br>
      * - Feed 및 FeedClothes 엔티티를 저장한다.<br>
-     * - 피드 생성 알림 이벤트와 인덱싱 이벤트를 발행한다.
+     * - 피드 생성 알림 / 팔로워 타임라인 이벤트와 인덱싱 이벤트를 발행한다.
      * </p>
      *
      * @param request       피드 생성 요청
@@ -80,14 +89,14 @@ public class FeedServiceImpl implements FeedService {
         Feed feed = saveFeed(authorId, weatherId, request.content());
         saveFeedClothes(feed, clothesList);
 
-        FeedDto dto = feedRepository.findFeedDtoById(feed.getId(), currentUserId);
+        FeedDto dto = feedDtoAssembler.attachOotds(List.of(feedRepository.findFeedDtoById(feed.getId()))).get(0);
         publishFeedCreatedEvent(dto);
+        eventPublisher.publishEvent(new FeedCountChangedEvent(authorId, weatherId, 1L));
 
-        feedEventProducer.publishFeedIndexCreatedEvent(
-            new FeedIndexCreatedEvent(feed.getId(), feed.getContent(), feed.getCreatedAt())
-        );
+        feedEventProducer.publishFeedIndexCreatedEvent(FeedIndexCreatedEvent.from(dto));
 
-        return feedDtoAssembler.enrich(List.of(dto)).get(0);
+        List<FeedDto> resolved = feedDtoAssembler.resolveImageUrls(List.of(dto));
+        return feedDtoAssembler.applyLikedByMe(resolved, currentUserId).get(0);
     }
 
     /**
@@ -114,6 +123,7 @@ public class FeedServiceImpl implements FeedService {
 
     /**
      * 단일 피드를 조회한다.
+     * 사용자와 무관한 DTO는 FeedDetailCache(로컬 → Redis → DB)에서 공유하고, 이미지 URL과 likedByMe만 매 요청 반영한다.
      *
      * @param feedId        조회할 피드 ID
      * @param currentUserId 현재 로그인 사용자 ID
@@ -123,10 +133,15 @@ public class FeedServiceImpl implements FeedService {
     public FeedDto getFeed(UUID feedId, UUID currentUserId) {
         log.info("[FeedService] 피드 조회 - feedId:{}, currentUserId:{}", feedId, currentUserId);
 
-        feedValidator.getFeedOrThrow(feedId);
-        FeedDto dto = feedRepository.findFeedDtoById(feedId, currentUserId);
+        FeedDto dto = feedDetailCache.get(feedId, this::loadFeedDetail);
 
-        return feedDtoAssembler.enrich(List.of(dto)).get(0);
+        List<FeedDto> resolved = feedDtoAssembler.resolveImageUrls(List.of(dto));
+        return feedDtoAssembler.applyLikedByMe(resolved, currentUserId).get(0);
+    }
+
+    private FeedDto loadFeedDetail(UUID feedId) {
+        feedValidator.getFeedOrThrow(feedId);
+        return feedDtoAssembler.attachOotds(List.of(feedRepository.findFeedDtoById(feedId))).get(0);
     }
 
     /**
@@ -149,14 +164,17 @@ public class FeedServiceImpl implements FeedService {
 
         log.debug("[FeedService] 피드 수정 완료 - feedId:{}, newContent:{}", feedId, newContent);
 
-        feedEventProducer.publishFeedContentUpdatedEvent(new FeedContentUpdatedEvent(feedId, newContent));
+        FeedDto updated = feedRepository.findFeedDtoById(feedId);
+        feedDetailCache.evictAfterCommit(feedId);
+        feedEventProducer.publishFeedContentUpdatedEvent(
+            new FeedContentUpdatedEvent(feedId, newContent, updated.updatedAt())
+        );
 
-        FeedDto updated = feedRepository.findFeedDtoById(feedId, currentUserId);
-        return feedDtoAssembler.enrich(List.of(updated)).get(0);
+        return feedDtoAssembler.enrich(List.of(updated), currentUserId).get(0);
     }
 
     /**
-     * 주어진 피드를 삭제하고 Elasticsearch 인덱스 삭제 이벤트를 발행한다.
+     * 주어진 피드를 삭제하고 Elasticsearch 인덱스 삭제 / 타임라인 정리 이벤트를 발행한다.
      *
      * <p>연관된 댓글, 좋아요, OOTD 매핑은 DB FK 제약조건
      * (ON DELETE CASCADE)에 의해 자동 삭제된다.</p>
@@ -171,36 +189,30 @@ public class FeedServiceImpl implements FeedService {
         Feed feed = feedValidator.getFeedOrThrow(feedId);
 
         feedRepository.delete(feed);
+        feedDetailCache.evictAfterCommit(feedId);
 
         feedEventProducer.publishFeedDeletedEvent(new FeedDeletedEvent(feedId));
+        eventPublisher.publishEvent(new TimelineFeedDeletedEvent(feedId, feed.getAuthorId()));
+        eventPublisher.publishEvent(new FeedCountChangedEvent(feed.getAuthorId(), feed.getWeatherId(), -1L));
     }
 
     /**
      * 키워드가 포함된 피드를 Elasticsearch 기반으로 검색한다.
+     * 검색 결과와 DTO는 FeedSearchCache 에서 공유하고, 사용자별 likedByMe만 매 요청 반영한다.
      *
      * @param request       조회 조건
      * @param currentUserId 로그인 사용자 ID
      * @return 검색 결과를 포함한 커서 페이지 응답
      */
     private FeedDtoCursorResponse getFeedsWithKeyword(FeedListRequest request, UUID currentUserId) {
-        FeedSearchResult result = feedSearchService.searchByKeyword(request);
+        FeedSearchResult result = feedSearchCache.get(request, this::searchWithFeeds);
 
         if (result.feedIds().isEmpty()) {
             log.debug("[FeedService] keyword와 매칭된 피드가 없음");
             return FeedDtoCursorResponse.empty(request.sortBy(), request.sortDirection().name());
         }
 
-        List<FeedDto> feedDtos = feedRepository.findFeedDtosByIds(request, result.feedIds(), currentUserId);
-
-        Map<UUID, FeedDto> dtoMap = feedDtos.stream()
-            .collect(Collectors.toMap(FeedDto::id, dto -> dto));
-
-        List<FeedDto> ordered = result.feedIds().stream()
-            .map(dtoMap::get)
-            .filter(Objects::nonNull)
-            .toList();
-
-        List<FeedDto> enriched = feedDtoAssembler.enrich(ordered);
+        List<FeedDto> enriched = feedDtoAssembler.applyLikedByMe(result.feeds(), currentUserId);
 
         return new FeedDtoCursorResponse(
             enriched,
@@ -213,6 +225,44 @@ public class FeedServiceImpl implements FeedService {
         );
     }
 
+    /**
+     * Elasticsearch 검색 결과 문서로 피드 DTO를 만들어 검색 결과에 담는다. (검색 캐시 loader)
+     * 필터 / 정렬 / 페이지는 Elasticsearch 에서 처리하고 DB 는 조회하지 않는다.
+     */
+    private FeedSearchResult searchWithFeeds(FeedListRequest request) {
+        FeedSearchResult result = feedSearchService.searchByKeyword(request);
+        if (result.feedIds().isEmpty()) {
+            return result;
+        }
+
+        List<UUID> legacyIds = result.feeds().stream()
+            .filter(feed -> feed.author() == null)
+            .map(FeedDto::id)
+            .toList();
+        List<FeedDto> feeds = legacyIds.isEmpty()
+            ? result.feeds()
+            : fillLegacyFeeds(request, result.feeds(), legacyIds);
+
+        return result.withFeeds(feedDtoAssembler.resolveImageUrls(feeds));
+    }
+
+    /**
+     * 피드 카드 정보가 없는 문서(재색인 전 색인된 문서)만 DB 에서 보충한다.
+     */
+    private List<FeedDto> fillLegacyFeeds(FeedListRequest request, List<FeedDto> feeds, List<UUID> legacyIds) {
+        log.info("[FeedService] 카드 정보 없는 검색 문서 DB 보충 - count:{}", legacyIds.size());
+
+        Map<UUID, FeedDto> dtoMap = feedDtoAssembler
+            .attachOotds(feedRepository.findFeedDtosByIds(request, legacyIds))
+            .stream()
+            .collect(Collectors.toMap(FeedDto::id, dto -> dto));
+
+        return feeds.stream()
+            .map(feed -> feed.author() != null ? feed : dtoMap.get(feed.id()))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     /**
      * Elasticsearch를 사용하지 않는 일반 조건 기반의 피드 목록을 조회한다.
      *
@@ -221,15 +271,16 @@ public class FeedServiceImpl implements FeedService {
      * @return 커서 페이지 응답
      */
     private FeedDtoCursorResponse getFeedsWithoutKeyword(FeedListRequest request, UUID currentUserId) {
-        List<FeedDto> feedDtos = feedRepository.findFeedDtos(request, currentUserId);
+        List<FeedDto> feedDtos = feedRepository.findFeedDtos(request);
         log.info("[FeedService] 조회된 피드의 개수: {}", feedDtos.size());
 
-        return buildCursorResponse(feedDtos, request, false);
+        return buildCursorResponse(feedDtos, request, currentUserId, false);
     }
 
     private FeedDtoCursorResponse buildCursorResponse(
         List<FeedDto> feedDtos,
         FeedListRequest request,
+        UUID currentUserId,
         boolean isFromElasticsearch
     ) {
         boolean hasNext = feedDtos.size() > request.limit();
@@ -249,16 +300,11 @@ public class FeedServiceImpl implements FeedService {
             }
         }
 
-        List<FeedDto> enriched = feedDtoAssembler.enrich(feedDtos);
+        List<FeedDto> enriched = feedDtoAssembler.enrich(feedDtos, currentUserId);
 
         long totalCount = isFromElasticsearch
             ? feedDtos.size()
-            : feedRepository.countFeeds(
-                request.keywordLike(),
-                request.skyStatusEqual(),
-                request.precipitationTypeEqual(),
-                request.authorIdEqual()
-            );
+            : feedTotalCounter.count(request);
 
         return new FeedDtoCursorResponse(
             enriched,
@@ -287,6 +333,12 @@ public class FeedServiceImpl implements FeedService {
             dto.content(),
             followerIds
         ));
+        eventPublisher.publishEvent(new TimelineFeedCreatedEvent(
+            dto.id(),
+            dto.author().userId(),
+            dto.createdAt(),
+            followerIds
+        ));
     }
 
     private Feed saveFeed(UUID authorId, UUID weatherId, String content) {
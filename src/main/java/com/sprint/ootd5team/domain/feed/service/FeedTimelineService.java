@@ -0,0 +1,19 @@
+package com.sprint.ootd5team.domain.feed.service;
+
+import com.sprint.ootd5team.domain.feed.dto.request.FeedTimelineRequest;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFollowChangedEvent;
+import java.util.UUID;
+
+public interface FeedTimelineService {
+
+    FeedDtoCursorResponse getTimeline(FeedTimelineRequest request, UUID currentUserId);
+
+    void fanOut(TimelineFeedCreatedEvent event);
+
+    void removeFeed(TimelineFeedDeletedEvent event);
+
+    void onFollowChanged(TimelineFollowChangedEvent event);
+}
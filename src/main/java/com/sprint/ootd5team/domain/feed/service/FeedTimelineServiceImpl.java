@@ -0,0 +1,248 @@
+package com.sprint.ootd5team.domain.feed.service;
+
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedTimelineRequest;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFollowChangedEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.feed.repository.timeline.TimelineRepository;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDtoAssembler;
+import com.sprint.ootd5team.domain.follow.repository.FollowRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팔로잉 타임라인 서비스
+ *
+ * <p>
+ * - 피드 생성 시 팔로워 타임라인에 피드 ID를 미리 넣어두고(fan-out-on-write) 조회 시 ID 순서대로 DTO를 채운다.<br>
+ * - 팔로워 수가 fan-out-threshold 이상인 작성자는 pull 작성자로 등록하고, 조회 시 DB에서 해당 작성자 피드를 병합한다.<br>
+ * - 팔로워 수가 임계값 미만으로 줄면 pull 작성자에서 해제하고 최근 피드를 팔로워 타임라인에 다시 채운다.<br>
+ * - 팔로우 시 최근 피드 백필, 언팔로우 / 피드 삭제 시 타임라인에서 제거한다.
+ *   pull 작성자로 바뀌기 전에 들어간 항목이 남아 있을 수 있으므로 제거는 pull 여부와 무관하게 수행한다.
+ * </p>
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class FeedTimelineServiceImpl implements FeedTimelineService {
+
+    private static final String SORT_BY = "createdAt";
+    private static final SortDirection SORT_DIRECTION = SortDirection.DESCENDING;
+    private static final int FAN_OUT_BATCH_SIZE = 1000;
+
+    private final TimelineRepository timelineRepository;
+    private final FeedRepository feedRepository;
+    private final FollowRepository followRepository;
+    private final FeedDtoAssembler feedDtoAssembler;
+    private final int fanOutThreshold;
+    private final int backfillSize;
+    private final int maxSize;
+
+    public FeedTimelineServiceImpl(
+        TimelineRepository timelineRepository,
+        FeedRepository feedRepository,
+        FollowRepository followRepository,
+        FeedDtoAssembler feedDtoAssembler,
+        @Value("${ootd.feed.timeline.fan-out-threshold:5000}") int fanOutThreshold,
+        @Value("${ootd.feed.timeline.backfill-size:20}") int backfillSize,
+        @Value("${ootd.feed.timeline.max-size:800}") int maxSize
+    ) {
+        this.timelineRepository = timelineRepository;
+        this.feedRepository = feedRepository;
+        this.followRepository = followRepository;
+        this.feedDtoAssembler = feedDtoAssembler;
+        this.fanOutThreshold = fanOutThreshold;
+        this.backfillSize = backfillSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 팔로잉 타임라인을 커서 기반 페이지네이션으로 조회한다.
+     *
+     * <p>커서 형식과 정렬(createdAt DESC, id ASC)은 피드 목록 조회의 createdAt 정렬과 동일하다.
+     * 타임라인에 남아 있지만 이미 삭제된 피드는 결과에서 제외된다.</p>
+     *
+     * <p>totalCount 는 저장된(push) 타임라인 항목 수이며, 조회 시 병합하는 pull 작성자 피드는 포함하지 않는다.</p>
+     *
+     * @param request       커서 및 페이지 크기
+     * @param currentUserId 현재 로그인 사용자 ID
+     * @return 커서 기반 페이지네이션 응답 DTO
+     */
+    @Override
+    public FeedDtoCursorResponse getTimeline(FeedTimelineRequest request, UUID currentUserId) {
+        log.info("[FeedTimelineService] 타임라인 조회 시작 - userId:{}", currentUserId);
+
+        int limit = request.limit();
+        Instant cursor = request.cursor() != null ? Instant.parse(request.cursor()) : null;
+        UUID idAfter = request.idAfter();
+
+        List<TimelineEntry> entries = mergeWithPullAuthors(
+            currentUserId,
+            timelineRepository.find(currentUserId, cursor, idAfter, limit + 1),
+            cursor, idAfter, limit + 1
+        );
+
+        if (entries.isEmpty()) {
+            return FeedDtoCursorResponse.empty(SORT_BY, SORT_DIRECTION.name());
+        }
+
+        boolean hasNext = entries.size() > limit;
+        if (hasNext) entries = entries.subList(0, limit);
+
+        TimelineEntry last = entries.get(entries.size() - 1);
+        List<FeedDto> enriched = feedDtoAssembler.enrich(loadInOrder(entries), currentUserId);
+
+        log.debug("[FeedTimelineService] 타임라인 조회 완료 - entries:{}, feeds:{}", entries.size(), enriched.size());
+
+        return new FeedDtoCursorResponse(
+            enriched,
+            hasNext ? last.createdAt().toString() : null,
+            hasNext ? last.feedId() : null,
+            hasNext,
+            timelineRepository.count(currentUserId),
+            SORT_BY,
+            SORT_DIRECTION.name()
+        );
+    }
+
+    /**
+     * 새 피드를 팔로워 타임라인에 추가한다.
+     * 팔로워 수가 임계값 이상이면 fan-out 하지 않고 pull 작성자로 등록하고,
+     * pull 작성자였지만 임계값 미만으로 줄었으면 등록을 해제하고 최근 피드를 함께 채운다.
+     */
+    @Override
+    public void fanOut(TimelineFeedCreatedEvent event) {
+        List<UUID> followerIds = event.followerIds();
+        if (followerIds.size() >= fanOutThreshold) {
+            log.info("[FeedTimelineService] 팔로워 수 임계값 이상 → pull 작성자 등록 - authorId:{}, followers:{}",
+                event.authorId(), followerIds.size());
+            timelineRepository.markPullAuthor(event.authorId());
+            return;
+        }
+
+        if (timelineRepository.findPullAuthors().contains(event.authorId())) {
+            timelineRepository.unmarkPullAuthor(event.authorId());
+            List<TimelineEntry> recent = feedRepository.findTimelineEntriesByAuthorIds(
+                List.of(event.authorId()), null, null, backfillSize);
+            recent.forEach(entry -> pushToFollowers(entry, followerIds));
+            log.info("[FeedTimelineService] 팔로워 수 임계값 미만 → pull 작성자 해제 - authorId:{}, followers:{}, backfill:{}",
+                event.authorId(), followerIds.size(), recent.size());
+        }
+
+        pushToFollowers(new TimelineEntry(event.feedId(), event.createdAt()), followerIds);
+        log.debug("[FeedTimelineService] fan-out 완료 - feedId:{}, followers:{}", event.feedId(), followerIds.size());
+    }
+
+    /**
+     * 삭제된 피드를 팔로워 타임라인에서 제거한다.
+     * pull 작성자도 등록 이전에 fan-out 된 항목이 남아 있을 수 있으므로 항상 제거한다.
+     */
+    @Override
+    public void removeFeed(TimelineFeedDeletedEvent event) {
+        List<UUID> followerIds = followRepository.findFollowerIds(event.authorId());
+        for (int from = 0; from < followerIds.size(); from += FAN_OUT_BATCH_SIZE) {
+            int to = Math.min(from + FAN_OUT_BATCH_SIZE, followerIds.size());
+            timelineRepository.remove(event.feedId(), followerIds.subList(from, to));
+        }
+        log.debug("[FeedTimelineService] 삭제 피드 타임라인 정리 - feedId:{}, followers:{}",
+            event.feedId(), followerIds.size());
+    }
+
+    /**
+     * 팔로우 시 상대의 최근 피드를 백필하고, 언팔로우 시 상대의 피드를 타임라인에서 제거한다.
+     * pull 작성자는 조회 시 병합하므로 백필하지 않지만, 언팔로우 시 제거는 항상 수행한다.
+     */
+    @Override
+    public void onFollowChanged(TimelineFollowChangedEvent event) {
+        List<UUID> followee = List.of(event.followeeId());
+        if (event.followed()) {
+            if (timelineRepository.findPullAuthors().contains(event.followeeId())) {
+                return;
+            }
+            List<TimelineEntry> recent =
+                feedRepository.findTimelineEntriesByAuthorIds(followee, null, null, backfillSize);
+            timelineRepository.pushAll(event.followerId(), recent);
+            log.debug("[FeedTimelineService] 팔로우 백필 - followerId:{}, followeeId:{}, feeds:{}",
+                event.followerId(), event.followeeId(), recent.size());
+            return;
+        }
+
+        List<UUID> feedIds = feedRepository.findTimelineEntriesByAuthorIds(followee, null, null, maxSize)
+            .stream()
+            .map(TimelineEntry::feedId)
+            .toList();
+        timelineRepository.removeAll(event.followerId(), feedIds);
+        log.debug("[FeedTimelineService] 언팔로우 정리 - followerId:{}, followeeId:{}, feeds:{}",
+            event.followerId(), event.followeeId(), feedIds.size());
+    }
+
+    private void pushToFollowers(TimelineEntry entry, List<UUID> followerIds) {
+        for (int from = 0; from < followerIds.size(); from += FAN_OUT_BATCH_SIZE) {
+            int to = Math.min(from + FAN_OUT_BATCH_SIZE, followerIds.size());
+            timelineRepository.push(entry, followerIds.subList(from, to));
+        }
+    }
+
+    /**
+     * 사용자가 팔로우하는 pull 작성자의 피드를 DB에서 가져와 타임라인 항목과 병합 (fan-out-on-read)
+     */
+    private List<TimelineEntry> mergeWithPullAuthors(
+        UUID userId, List<TimelineEntry> pushed, Instant cursor, UUID idAfter, int limit
+    ) {
+        Set<UUID> pullAuthors = timelineRepository.findPullAuthors();
+        if (pullAuthors.isEmpty()) {
+            return pushed;
+        }
+        List<UUID> followedPullAuthors = followRepository.findFolloweeIdsIn(userId, pullAuthors);
+        if (followedPullAuthors.isEmpty()) {
+            return pushed;
+        }
+
+        List<TimelineEntry> pulled =
+            feedRepository.findTimelineEntriesByAuthorIds(followedPullAuthors, cursor, idAfter, limit);
+
+        List<TimelineEntry> merged = new ArrayList<>(pushed.size() + pulled.size());
+        merged.addAll(pushed);
+        merged.addAll(pulled);
+        return merged.stream()
+            .collect(Collectors.toMap(TimelineEntry::feedId, Function.identity(), (a, b) -> a, LinkedHashMap::new))
+            .values().stream()
+            .sorted(TimelineEntry.NEWEST_FIRST)
+            .limit(limit)
+            .toList();
+    }
+
+    private List<FeedDto> loadInOrder(List<TimelineEntry> entries) {
+        List<UUID> feedIds = entries.stream().map(TimelineEntry::feedId).toList();
+        FeedListRequest request = new FeedListRequest(
+            null, null, feedIds.size(), SORT_BY, SORT_DIRECTION, null, null, null, null, null
+        );
+
+        Map<UUID, FeedDto> dtoMap = feedRepository.findFeedDtosByIds(request, feedIds)
+            .stream()
+            .collect(Collectors.toMap(FeedDto::id, dto -> dto));
+
+        return feedIds.stream()
+            .map(dtoMap::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
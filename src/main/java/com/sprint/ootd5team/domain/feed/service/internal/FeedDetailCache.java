@@ -0,0 +1,248 @@
+package com.sprint.ootd5team.domain.feed.service.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch.Change;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 단일 피드 상세 캐시 (feedId → 사용자와 무관한 FeedDto)
+ * <p>
+ * - L1: 인스턴스 로컬 Caffeine (짧은 TTL, 같은 키의 동시 조회는 1회로 병합)
+ * - L2: Redis (CacheManager 의 feedDetail 캐시, RedisCacheConfiguration 의 prefix 사용, TTL 은 remote-ttl)
+ * - 값은 OOTD 까지 붙인 DB 조회 결과 (이미지 URL 은 key, likedByMe 는 false) → 조회 시 URL 변환 / likedByMe 반영
+ * - L2 는 보조 계층이므로 Redis 오류는 경고 후 DB 조회로 대체
+ * - 무효화: 내용 수정 / 삭제 / 좋아요 수 / 댓글 수 이벤트(FeedDetailCacheInvalidator), 작성자 프로필 변경은 TTL 로 보정
+ * - 조회 중에 무효화된 피드는 L2 에 저장하지 않음 (변경 이전에 읽은 값이 제거 뒤에 다시 저장되는 것 방지)
+ * <p>
+ * 메트릭: feed.detail.cache.requests (result=local|remote|miss)
+ */
+@Slf4j
+@Component
+public class FeedDetailCache {
+
+    public static final String CACHE_NAME = "feedDetail";
+    private static final String METRIC = "feed.detail.cache.requests";
+    /** 무효화 기록 보관 시간 (이보다 오래 걸린 조회는 무효화 여부를 알 수 없어 L2 에 저장하지 않음) */
+    private static final Duration EVICTION_WINDOW = Duration.ofMinutes(1);
+
+    private final boolean enabled;
+    private final Cache<UUID, FeedDto> local;
+    /** 피드별 마지막 무효화 순번 */
+    private final Cache<UUID, Long> evictedAt;
+    private final AtomicLong evictionSequence = new AtomicLong();
+    /** 로컬 전체 무효화 순번 (어떤 피드가 바뀌었는지 모를 때) */
+    private volatile long allEvictedAt;
+    private final org.springframework.cache.Cache remote;
+    private final ObjectMapper objectMapper;
+    private final Counter localHit;
+    private final Counter remoteHit;
+    private final Counter miss;
+
+    @Autowired
+    public FeedDetailCache(
+        @Value("${ootd.feed.detail-cache.enabled:true}") boolean enabled,
+        @Value("${ootd.feed.detail-cache.local-ttl:30s}") Duration localTtl,
+        @Value("${ootd.feed.detail-cache.local-max-size:10000}") long localMaxSize,
+        ObjectProvider<CacheManager> cacheManager,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this(enabled, localTtl, localMaxSize, remoteCache(cacheManager.getIfAvailable()), objectMapper, meterRegistry);
+    }
+
+    FeedDetailCache(
+        boolean enabled,
+        Duration localTtl,
+        long localMaxSize,
+        org.springframework.cache.Cache remote,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .build();
+        this.evictedAt = Caffeine.newBuilder()
+            .expireAfterWrite(EVICTION_WINDOW)
+            .build();
+        this.remote = remote;
+        this.objectMapper = objectMapper;
+        this.localHit = counter(meterRegistry, "local");
+        this.remoteHit = counter(meterRegistry, "remote");
+        this.miss = counter(meterRegistry, "miss");
+
+        log.info("[FeedDetailCache] enabled={}, localTtl={}, localMaxSize={}, remote={}",
+            enabled, localTtl, localMaxSize, remote != null);
+    }
+
+    /** 캐시 없이 항상 조회 (단위 테스트용) */
+    public static FeedDetailCache disabled() {
+        return new FeedDetailCache(false, Duration.ZERO, 0, null, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    /**
+     * L1 → L2 → loader 순으로 조회, 찾은 계층보다 위의 계층에 저장
+     * - loader 예외(피드 없음 등)는 캐시하지 않고 그대로 전파
+     */
+    public FeedDto get(UUID feedId, Function<UUID, FeedDto> loader) {
+        if (!enabled) {
+            return loader.apply(feedId);
+        }
+
+        FeedDto cached = local.getIfPresent(feedId);
+        if (cached != null) {
+            localHit.increment();
+            return cached;
+        }
+
+        return local.get(feedId, id -> {
+            FeedDto fromRemote = getRemote(id);
+            if (fromRemote != null) {
+                remoteHit.increment();
+                return fromRemote;
+            }
+
+            miss.increment();
+            long loadStartedAt = evictionSequence.get();
+            long startedNanos = System.nanoTime();
+            FeedDto loaded = loader.apply(id);
+            if (System.nanoTime() - startedNanos < EVICTION_WINDOW.toNanos()) {
+                putRemoteIfNotEvicted(id, loaded, loadStartedAt);
+            }
+            return loaded;
+        });
+    }
+
+    /** 피드 인덱스 이벤트 반영 (변경된 피드만 제거) */
+    public void invalidate(FeedIndexBatch batch) {
+        if (!enabled || batch.isEmpty()) {
+            return;
+        }
+        evict(batch.changes().stream().map(Change::getFeedId).toList());
+    }
+
+    /**
+     * 지금 제거하고, 커밋 전에 다른 요청이 이전 데이터로 다시 채울 수 있으므로 커밋 후 한 번 더 제거
+     * - 작성자 본인의 수정 / 삭제 직후 조회가 이벤트 전달을 기다리지 않도록 서비스에서 직접 호출
+     */
+    public void evictAfterCommit(UUID feedId) {
+        if (!enabled) {
+            return;
+        }
+        evict(List.of(feedId));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(List.of(feedId));
+                }
+            });
+        }
+    }
+
+    /** 로컬 계층 전체 제거 (L2 는 TTL 로 정리) */
+    public void invalidateLocal() {
+        allEvictedAt = evictionSequence.incrementAndGet();
+        local.invalidateAll();
+        log.debug("[FeedDetailCache] 로컬 전체 무효화");
+    }
+
+    /**
+     * L1 이 L2 의 이전 값으로 다시 채워지지 않도록 L2 먼저 제거
+     * - 진행 중인 조회가 알 수 있도록 제거 전에 무효화 순번 기록
+     * - 로컬 제거는 같은 키를 조회 중이면 조회가 끝날 때까지 기다렸다가 제거
+     */
+    private void evict(Collection<UUID> feedIds) {
+        long sequence = evictionSequence.incrementAndGet();
+        for (UUID feedId : feedIds) {
+            evictedAt.put(feedId, sequence);
+        }
+        if (remote != null) {
+            for (UUID feedId : feedIds) {
+                try {
+                    remote.evict(feedId.toString());
+                } catch (Exception e) {
+                    log.warn("[FeedDetailCache] Redis 캐시 제거 실패 - feedId:{}", feedId, e);
+                }
+            }
+        }
+        local.invalidateAll(feedIds);
+        log.debug("[FeedDetailCache] 무효화 - {}건", feedIds.size());
+    }
+
+    /** 기본 타입 정보를 붙이는 Redis 직렬화기 대신 JSON 문자열로 저장해 불변 컬렉션도 그대로 복원 */
+    private FeedDto getRemote(UUID feedId) {
+        if (remote == null) {
+            return null;
+        }
+        try {
+            String json = remote.get(feedId.toString(), String.class);
+            return json != null ? objectMapper.readValue(json, FeedDto.class) : null;
+        } catch (Exception e) {
+            log.warn("[FeedDetailCache] Redis 캐시 조회 실패 → DB 조회 - feedId:{}", feedId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 조회 시작 이후 무효화되지 않은 경우에만 L2 저장
+     * - 확인과 저장 사이에 무효화가 끼어들 수 있으므로 저장 후 다시 확인해 무효화됐으면 직접 제거
+     */
+    private void putRemoteIfNotEvicted(UUID feedId, FeedDto feedDto, long loadStartedAt) {
+        if (remote == null || feedDto == null) {
+            return;
+        }
+        if (evictedSince(feedId, loadStartedAt)) {
+            log.debug("[FeedDetailCache] 조회 중 무효화 → Redis 저장 생략 - feedId:{}", feedId);
+            return;
+        }
+        try {
+            remote.put(feedId.toString(), objectMapper.writeValueAsString(feedDto));
+            if (evictedSince(feedId, loadStartedAt)) {
+                remote.evict(feedId.toString());
+            }
+        } catch (Exception e) {
+            log.warn("[FeedDetailCache] Redis 캐시 저장 실패 - feedId:{}", feedId, e);
+        }
+    }
+
+    private boolean evictedSince(UUID feedId, long loadStartedAt) {
+        if (allEvictedAt > loadStartedAt) {
+            return true;
+        }
+        Long sequence = evictedAt.getIfPresent(feedId);
+        return sequence != null && sequence > loadStartedAt;
+    }
+
+    private static org.springframework.cache.Cache remoteCache(CacheManager cacheManager) {
+        return cacheManager != null ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -4,8 +4,10 @@ import com.sprint.ootd5team.base.storage.FileStorage;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
 import com.sprint.ootd5team.domain.feed.repository.feedClothes.FeedClothesRepository;
+import com.sprint.ootd5team.domain.like.service.LikedFeedResolver;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Component;
  * FeedDto 후처리를 담당하는 조립기
  * <p>
  * - OOTD 목록 매핑
+ * - likedByMe 일괄 판단 (페이지 단위 1회)
  * - 프로필 이미지 S3 URL 변환
  */
 @Component
@@ -21,17 +24,32 @@ import org.springframework.stereotype.Component;
 public class FeedDtoAssembler {
 
     private final FeedClothesRepository feedClothesRepository;
+    private final LikedFeedResolver likedFeedResolver;
     private final FileStorage fileStorage;
 
-    public List<FeedDto> enrich(List<FeedDto> feedDtos) {
-        Map<UUID, List<OotdDto>> ootdsMap =
-            feedClothesRepository.findOotdsByFeedIds(feedDtos.stream().map(FeedDto::id).toList());
+    public List<FeedDto> enrich(List<FeedDto> feedDtos, UUID currentUserId) {
+        return applyLikedByMe(resolveImageUrls(attachOotds(feedDtos)), currentUserId);
+    }
+
+    /** OOTD 목록 매핑 (페이지 단위 1회 조회, 이미지 URL은 변환 전 key) */
+    public List<FeedDto> attachOotds(List<FeedDto> feedDtos) {
+        List<UUID> feedIds = feedDtos.stream().map(FeedDto::id).toList();
+        Map<UUID, List<OotdDto>> ootdsMap = feedClothesRepository.findOotdsByFeedIds(feedIds);
+
+        return feedDtos.stream()
+            .map(feedDto -> feedDto.withOotds(ootdsMap.getOrDefault(feedDto.id(), List.of())))
+            .toList();
+    }
 
+    /**
+     * OOTD / 프로필 이미지 key 를 URL 로 변환 (DB 조회 없음)
+     * - 결과는 여러 사용자가 공유할 수 있음 (검색 결과 캐시 payload)
+     */
+    public List<FeedDto> resolveImageUrls(List<FeedDto> feedDtos) {
         return feedDtos.stream()
             .map(feedDto -> feedDto
                 .withOotds(
-                    ootdsMap.getOrDefault(feedDto.id(), List.of())
-                        .stream()
+                    feedDto.ootds().stream()
                         .map(ootdDto -> ootdDto.withResolvedImageUrl(
                             fileStorage.resolveUrl(ootdDto.imageUrl())
                         ))
@@ -40,4 +58,14 @@ public class FeedDtoAssembler {
                 .withResolvedProfileImageUrl(fileStorage.resolveUrl(feedDto.author().profileImageUrl()))
             ).toList();
     }
-}
\ No newline at end of file
+
+    /** 현재 사용자 기준 likedByMe 반영 (페이지 단위 1회 조회) */
+    public List<FeedDto> applyLikedByMe(List<FeedDto> feedDtos, UUID currentUserId) {
+        List<UUID> feedIds = feedDtos.stream().map(FeedDto::id).toList();
+        Set<UUID> likedFeedIds = likedFeedResolver.resolve(currentUserId, feedIds);
+
+        return feedDtos.stream()
+            .map(feedDto -> feedDto.withLikedByMe(likedFeedIds.contains(feedDto.id())))
+            .toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.sprint.ootd5team.domain.feed.service.internal;
+
+import com.sprint.ootd5team.domain.feed.dto.enums.TotalCountMode;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCountChangedEvent;
+import com.sprint.ootd5team.domain.feed.repository.count.FeedCountRepository;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import com.sprint.ootd5team.domain.weather.repository.WeatherRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 목록 totalCount 계산
+ *
+ * <p>
+ * - ESTIMATED(기본): 필터 차원(전체 / 작성자 / 하늘 상태 / 강수 유형)별 카운터를 사용한다.
+ *   필터가 하나면 카운터 값 그대로, 여러 개면 차원 간 독립을 가정한 추정값을 반환한다.<br>
+ * - EXACT: 기존과 같이 매 요청 COUNT 쿼리를 실행한다.<br>
+ * - NONE: 계산을 생략하고 -1을 반환한다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTotalCounter {
+
+    /** totalCount 계산 생략 시 응답 값 */
+    public static final long UNCOUNTED = -1L;
+
+    private static final String ALL = "all";
+
+    private final FeedRepository feedRepository;
+    private final FeedCountRepository feedCountRepository;
+    private final WeatherRepository weatherRepository;
+
+    public long count(FeedListRequest request) {
+        TotalCountMode mode = request.totalCountMode() != null
+            ? request.totalCountMode()
+            : TotalCountMode.ESTIMATED;
+
+        return switch (mode) {
+            case NONE -> UNCOUNTED;
+            case EXACT -> exact(request);
+            case ESTIMATED -> estimate(request);
+        };
+    }
+
+    /**
+     * 피드 생성 / 삭제 시 해당 피드가 속한 차원의 카운터를 증감한다.
+     * 초기화되지 않은(또는 만료된) 카운터는 다음 조회 시 COUNT 로 초기화되므로 건너뛴다.
+     */
+    public void apply(FeedCountChangedEvent event) {
+        List<String> keys = new ArrayList<>(4);
+        keys.add(ALL);
+        keys.add(authorKey(event.authorId()));
+        weatherRepository.findById(event.weatherId()).ifPresent(weather -> {
+            keys.add(skyKey(weather.getSkyStatus()));
+            keys.add(precipitationKey(weather.getPrecipitationType()));
+        });
+
+        feedCountRepository.incrementIfPresent(keys, event.delta());
+        log.debug("[FeedTotalCounter] 카운터 증감 - keys:{}, delta:{}", keys, event.delta());
+    }
+
+    private long exact(FeedListRequest request) {
+        return feedRepository.countFeeds(
+            request.keywordLike(),
+            request.skyStatusEqual(),
+            request.precipitationTypeEqual(),
+            request.authorIdEqual()
+        );
+    }
+
+    private long estimate(FeedListRequest request) {
+        // 키워드 조건은 카운터로 표현할 수 없으므로 COUNT 쿼리 사용
+        if (StringUtils.hasText(request.keywordLike())) {
+            return exact(request);
+        }
+
+        UUID authorId = request.authorIdEqual();
+        SkyStatus skyStatus = request.skyStatusEqual();
+        PrecipitationType precipitationType = request.precipitationTypeEqual();
+
+        List<Long> dimensions = new ArrayList<>(3);
+        if (authorId != null) {
+            dimensions.add(counter(authorKey(authorId),
+                () -> feedRepository.countFeeds(null, null, null, authorId)));
+        }
+        if (skyStatus != null) {
+            dimensions.add(counter(skyKey(skyStatus),
+                () -> feedRepository.countFeeds(null, skyStatus, null, null)));
+        }
+        if (precipitationType != null) {
+            dimensions.add(counter(precipitationKey(precipitationType),
+                () -> feedRepository.countFeeds(null, null, precipitationType, null)));
+        }
+
+        if (dimensions.size() == 1) {
+            return dimensions.get(0);
+        }
+
+        long total = counter(ALL, () -> feedRepository.countFeeds(null, null, null, null));
+        if (dimensions.isEmpty() || total == 0) {
+            return total;
+        }
+
+        // 차원 간 독립 가정: total * Π(count_i / total), 가장 작은 차원 값을 넘지 않음
+        double estimated = total;
+        long min = Long.MAX_VALUE;
+        for (long count : dimensions) {
+            estimated *= (double) count / total;
+            min = Math.min(min, count);
+        }
+        return Math.min(Math.round(estimated), min);
+    }
+
+    private long counter(String key, LongSupplier loader) {
+        OptionalLong cached = feedCountRepository.get(key);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+
+        long count = loader.getAsLong();
+        feedCountRepository.initialize(key, count);
+        log.debug("[FeedTotalCounter] 카운터 초기화 - key:{}, count:{}", key, count);
+        return count;
+    }
+
+    private static String authorKey(UUID authorId) {
+        return "author:" + authorId;
+    }
+
+    private static String skyKey(SkyStatus skyStatus) {
+        return "sky:" + skyStatus.name();
+    }
+
+    private static String precipitationKey(PrecipitationType precipitationType) {
+        return "precipitation:" + precipitationType.name();
+    }
+}
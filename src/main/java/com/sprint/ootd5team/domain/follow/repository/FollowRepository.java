@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.follow.repository;
 
 import com.sprint.ootd5team.domain.follow.entity.Follow;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,4 +17,15 @@ public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowRep
       AND f.followerId <> :followeeId
 """)
     List<UUID> findFollowerIds(@Param("followeeId") UUID followeeId);
+
+    @Query("""
+    SELECT f.followeeId
+    FROM Follow f
+    WHERE f.followerId = :followerId
+      AND f.followeeId IN :followeeIds
+""")
+    List<UUID> findFolloweeIdsIn(
+        @Param("followerId") UUID followerId,
+        @Param("followeeIds") Collection<UUID> followeeIds
+    );
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.sprint.ootd5team.base.exception.follow.FollowAlreadyDeletedException;
 import com.sprint.ootd5team.base.exception.follow.FollowNotFoundException;
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFollowChangedEvent;
 import com.sprint.ootd5team.domain.follow.dto.data.FollowDto;
 import com.sprint.ootd5team.domain.follow.dto.data.FollowProjectionDto;
 import com.sprint.ootd5team.domain.follow.dto.data.FollowSummaryDto;
@@ -62,6 +63,7 @@ public class FollowServiceImpl implements FollowService {
         );
 
         eventPublisher.publishEvent(new FollowCreatedEvent(followDto));
+        eventPublisher.publishEvent(new TimelineFollowChangedEvent(followerId, followeeId, true));
 
         return followDto;
     }
@@ -119,6 +121,10 @@ public class FollowServiceImpl implements FollowService {
             log.warn("[FollowService] 이미 제거된 팔로우입니다. followId: {}", followId);
             throw FollowAlreadyDeletedException.withId(followId);
         }
+
+        eventPublisher.publishEvent(
+            new TimelineFollowChangedEvent(follow.getFollowerId(), follow.getFolloweeId(), false)
+        );
     }
 
     private <T extends FollowListBaseRequest> FollowListResponse getFollowListCommon(
@@ -0,0 +1,84 @@
+package com.sprint.ootd5team.domain.like.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리(Caffeine) 기반 최근 좋아요 캐시
+ * - 단일 인스턴스 / 테스트 환경용
+ * - overflow 사용자는 전용 센티널 집합(OVERFLOW, 동일성 비교)으로 표시
+ * - 세대 비교와 저장을 함께 처리하도록 쓰기는 동기화
+ */
+@Component
+@ConditionalOnProperty(name = "ootd.feed.like.recent-cache.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRecentLikeCache implements RecentLikeCache {
+
+    private static final Set<UUID> OVERFLOW = Collections.unmodifiableSet(new HashSet<>());
+
+    private final Cache<UUID, Set<UUID>> likes;
+    private final Cache<UUID, Long> generations;
+
+    public InMemoryRecentLikeCache(@Value("${ootd.feed.like.recent-cache.ttl:10m}") Duration ttl) {
+        this.likes = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(ttl)
+            .build();
+        this.generations = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public RecentLikeLookup lookup(UUID userId, Collection<UUID> feedIds) {
+        Set<UUID> liked = likes.getIfPresent(userId);
+        if (liked == null) {
+            return RecentLikeLookup.miss();
+        }
+        if (liked == OVERFLOW) {
+            return RecentLikeLookup.overflow();
+        }
+        Set<UUID> result = new HashSet<>();
+        for (UUID feedId : feedIds) {
+            if (liked.contains(feedId)) {
+                result.add(feedId);
+            }
+        }
+        return RecentLikeLookup.hit(result);
+    }
+
+    @Override
+    public long generation(UUID userId) {
+        Long generation = generations.getIfPresent(userId);
+        return generation != null ? generation : 0L;
+    }
+
+    @Override
+    public synchronized void load(UUID userId, Collection<UUID> likedFeedIds, long generation) {
+        if (generation(userId) == generation) {
+            likes.put(userId, Set.copyOf(likedFeedIds));
+        }
+    }
+
+    @Override
+    public synchronized void markOverflow(UUID userId, long generation) {
+        if (generation(userId) == generation) {
+            likes.put(userId, OVERFLOW);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(UUID userId) {
+        generations.put(userId, generation(userId) + 1);
+        likes.invalidate(userId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.sprint.ootd5team.domain.like.cache;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 사용자별 최근 좋아요 캐시
+ * <p>
+ * - 좋아요 수가 max-size 이하인 사용자는 좋아요한 피드 ID 전체를 보관 → 피드 목록의 likedByMe 를 DB 조회 없이 판단
+ * - max-size 를 넘는 사용자는 overflow 로 표시하고 매번 DB 일괄 조회 (캐시 크기 상한 유지)
+ * - 좋아요 / 취소 시에는 값을 고치지 않고 무효화 (다음 조회 시 DB 에서 다시 적재)
+ * - 무효화할 때마다 사용자별 세대(generation)가 증가하며, 적재는 DB 조회 전에 읽은 세대가 그대로일 때만 반영
+ *   → 적재 도중 커밋된 좋아요가 있으면 DB 조회 결과가 낡았으므로 저장하지 않음
+ */
+public interface RecentLikeCache {
+
+    /**
+     * 주어진 피드 중 좋아요한 피드 조회
+     *
+     * @param userId  사용자 ID
+     * @param feedIds 페이지의 피드 ID
+     * @return 적재된 경우 HIT + 좋아요한 피드 ID, 아니면 MISS / OVERFLOW
+     */
+    RecentLikeLookup lookup(UUID userId, Collection<UUID> feedIds);
+
+    /**
+     * 사용자의 현재 세대 (DB 조회 전에 읽어 load / markOverflow 에 전달)
+     */
+    long generation(UUID userId);
+
+    /**
+     * 사용자의 좋아요 피드 ID 전체 적재 (max-size 이하일 때만 호출, 세대가 바뀌었으면 무시)
+     */
+    void load(UUID userId, Collection<UUID> likedFeedIds, long generation);
+
+    /**
+     * 좋아요 수가 max-size 를 넘는 사용자 표시 (세대가 바뀌었으면 무시)
+     */
+    void markOverflow(UUID userId, long generation);
+
+    /**
+     * 사용자 캐시 삭제 및 세대 증가 (좋아요 / 취소 시)
+     */
+    void invalidate(UUID userId);
+}
@@ -0,0 +1,32 @@
+package com.sprint.ootd5team.domain.like.cache;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 최근 좋아요 캐시 조회 결과
+ *
+ * @param status      HIT: 캐시로 판단 완료 / MISS: 미적재 / OVERFLOW: 캐시 대상 아님
+ * @param likedFeedIds HIT 일 때 좋아요한 피드 ID (그 외에는 빈 집합)
+ */
+public record RecentLikeLookup(Status status, Set<UUID> likedFeedIds) {
+
+    public enum Status {
+        HIT, MISS, OVERFLOW
+    }
+
+    private static final RecentLikeLookup MISS = new RecentLikeLookup(Status.MISS, Set.of());
+    private static final RecentLikeLookup OVERFLOW = new RecentLikeLookup(Status.OVERFLOW, Set.of());
+
+    public static RecentLikeLookup hit(Set<UUID> likedFeedIds) {
+        return new RecentLikeLookup(Status.HIT, likedFeedIds);
+    }
+
+    public static RecentLikeLookup miss() {
+        return MISS;
+    }
+
+    public static RecentLikeLookup overflow() {
+        return OVERFLOW;
+    }
+}
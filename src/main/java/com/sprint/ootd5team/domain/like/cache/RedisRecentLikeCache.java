@@ -0,0 +1,130 @@
+package com.sprint.ootd5team.domain.like.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 최근 좋아요 캐시
+ * <p>
+ * - 사용자별 Set: feed:like:user:{userId} → { feedId..., __loaded__ } 또는 { __overflow__ }
+ * - 사용자별 세대: feed:like:user:{userId}:gen (무효화 시 INCR, 없으면 0)
+ * - 조회는 SMISMEMBER 1회 (센티널 2개 + 페이지 피드 ID) 로 적재 여부와 좋아요 여부를 함께 판단
+ * - 적재는 Lua 스크립트로 세대 비교 후 교체, 무효화는 세대 증가 + 삭제를 원자 처리
+ */
+@Component
+@ConditionalOnProperty(name = "ootd.feed.like.recent-cache.repository", havingValue = "redis")
+public class RedisRecentLikeCache implements RecentLikeCache {
+
+    private static final String KEY_PREFIX = "feed:like:user:";
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final String LOADED = "__loaded__";
+    private static final String OVERFLOW = "__overflow__";
+
+    /**
+     * KEYS[1]=key, KEYS[2]=세대 키, ARGV[1]=적재 시작 시 세대, ARGV[2]=ttl(ms), ARGV[3..]=members
+     * → 세대가 같을 때만 기존 값 교체
+     */
+    private static final RedisScript<Long> REPLACE_IF_CURRENT = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+          return 0
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        return 1
+        """, Long.class);
+
+    /** KEYS[1]=key, KEYS[2]=세대 키, ARGV[1]=ttl(ms) → 세대 증가 후 캐시 삭제 */
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+        local generation = redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[1])
+        redis.call('DEL', KEYS[1])
+        return generation
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisRecentLikeCache(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.feed.like.recent-cache.ttl:10m}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public RecentLikeLookup lookup(UUID userId, Collection<UUID> feedIds) {
+        Object[] members = new Object[feedIds.size() + 2];
+        members[0] = OVERFLOW;
+        members[1] = LOADED;
+        int i = 2;
+        for (UUID feedId : feedIds) {
+            members[i++] = feedId.toString();
+        }
+
+        Map<Object, Boolean> result = redisTemplate.opsForSet().isMember(key(userId), members);
+        if (result != null && Boolean.TRUE.equals(result.get(OVERFLOW))) {
+            return RecentLikeLookup.overflow();
+        }
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED))) {
+            return RecentLikeLookup.miss();
+        }
+
+        Set<UUID> liked = new HashSet<>();
+        for (UUID feedId : feedIds) {
+            if (Boolean.TRUE.equals(result.get(feedId.toString()))) {
+                liked.add(feedId);
+            }
+        }
+        return RecentLikeLookup.hit(liked);
+    }
+
+    @Override
+    public long generation(UUID userId) {
+        String value = redisTemplate.opsForValue().get(generationKey(userId));
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+
+    @Override
+    public void load(UUID userId, Collection<UUID> likedFeedIds, long generation) {
+        List<String> args = new ArrayList<>(likedFeedIds.size() + 3);
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(LOADED);
+        likedFeedIds.forEach(feedId -> args.add(feedId.toString()));
+        redisTemplate.execute(REPLACE_IF_CURRENT, List.of(key(userId), generationKey(userId)), args.toArray());
+    }
+
+    @Override
+    public void markOverflow(UUID userId, long generation) {
+        redisTemplate.execute(REPLACE_IF_CURRENT, List.of(key(userId), generationKey(userId)),
+            String.valueOf(generation), String.valueOf(ttl.toMillis()), OVERFLOW);
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        redisTemplate.execute(INVALIDATE, List.of(key(userId), generationKey(userId)),
+            String.valueOf(ttl.toMillis()));
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private String generationKey(UUID userId) {
+        return KEY_PREFIX + userId + GENERATION_SUFFIX;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 기반 좋아요 수 버퍼
+ * - ConcurrentHashMap 버킷 단위 잠금으로 피드별 증감을 분산 누적
+ * - 단일 인스턴스 / 테스트 환경용 (인스턴스 종료 시 미반영 증감 유실)
+ */
+@Component
+@ConditionalOnProperty(name = "ootd.feed.like.buffer", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLikeCountBuffer implements LikeCountBuffer {
+
+    private final ConcurrentHashMap<UUID, Long> deltas = new ConcurrentHashMap<>();
+
+    // drain 후 acknowledge 전까지 반영 대기 중인 증감 (flush 는 한 스레드에서만 실행)
+    private final Map<UUID, Long> staged = new HashMap<>();
+
+    @Override
+    public void add(UUID feedId, long delta) {
+        deltas.merge(feedId, delta, Long::sum);
+    }
+
+    @Override
+    public synchronized Map<UUID, Long> drain() {
+        if (staged.isEmpty()) {
+            for (UUID feedId : deltas.keySet()) {
+                Long delta = deltas.remove(feedId);
+                if (delta != null && delta != 0) {
+                    staged.put(feedId, delta);
+                }
+            }
+        }
+        return new HashMap<>(staged);
+    }
+
+    @Override
+    public synchronized void acknowledge() {
+        staged.clear();
+    }
+}
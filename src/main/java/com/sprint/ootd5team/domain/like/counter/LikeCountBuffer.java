@@ -0,0 +1,26 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 피드 좋아요 수 증감 버퍼 (write-behind)
+ * <p>
+ * - 좋아요 / 취소 커밋 시 피드별 증감만 누적하고, {@link LikeCountFlusher}가 주기적으로 꺼내 DB에 반영
+ * - drain 은 누적값을 반영 대기 영역으로 옮길 뿐 지우지 않음 (꺼낸 뒤 들어온 증감은 다음 주기에 반영)
+ * - DB 커밋 후 acknowledge 해야 반영 대기 영역이 비워짐. 그 전에 실패(롤백, 노드 종료)하면
+ *   다음 drain 이 같은 증감을 다시 반환하므로 유실되지 않음
+ */
+public interface LikeCountBuffer {
+
+    void add(UUID feedId, long delta);
+
+    /**
+     * 누적된 피드별 증감을 반영 대기 영역으로 옮겨 반환 (0 인 항목 제외)
+     * - 이전 drain 결과가 아직 acknowledge 되지 않았으면 새로 꺼내지 않고 그 증감을 다시 반환
+     */
+    Map<UUID, Long> drain();
+
+    /** 마지막 drain 결과가 DB 에 커밋되었으므로 반영 대기 영역을 비움 */
+    void acknowledge();
+}
@@ -0,0 +1,72 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 좋아요 수 버퍼 주기적 반영
+ * <p>
+ * - flush 주기마다 피드별 누적 증감을 꺼내 tbl_feeds.like_count 에 한 번씩 UPDATE
+ * - 커밋 후 버퍼의 반영 대기 영역을 비우고(acknowledge), 피드별 최신 likeCount 로
+ *   FeedLikeCountUpdateEvent 를 1건씩 발행 (클릭마다 발행하지 않음)
+ * - 반영 실패, 커밋 실패, 노드 종료 시에는 반영 대기 영역이 남아 다음 주기에 같은 증감을 다시 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlusher {
+
+    private final LikeCountBuffer likeCountBuffer;
+    private final FeedRepository feedRepository;
+    private final FeedEventProducer feedEventProducer;
+
+    @Scheduled(fixedDelayString = "${ootd.feed.like.flush-interval-ms:1000}")
+    @Transactional
+    public void flush() {
+        Map<UUID, Long> deltas = likeCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<FeedLikeCountUpdateEvent> events;
+        try {
+            deltas.forEach(feedRepository::addLikeCount);
+            events = feedRepository.findLikeCountEvents(deltas.keySet());
+        } catch (RuntimeException e) {
+            log.error("[LikeCountFlusher] 좋아요 수 반영 실패, 다음 주기에 재시도 - feeds:{}", deltas.size(), e);
+            throw e;
+        }
+        log.debug("[LikeCountFlusher] 좋아요 수 반영 - feeds:{}", deltas.size());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    complete(events);
+                }
+            });
+        } else {
+            complete(events);
+        }
+    }
+
+    private void complete(List<FeedLikeCountUpdateEvent> events) {
+        try {
+            likeCountBuffer.acknowledge();
+        } catch (RuntimeException e) {
+            log.error("[LikeCountFlusher] 반영 대기 영역 정리 실패 - feeds:{}", events.size(), e);
+        }
+        events.forEach(feedEventProducer::publishLikeCountUpdatedEvent);
+    }
+}
@@ -0,0 +1,102 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 좋아요 수 버퍼
+ * <p>
+ * - 누적: Hash feed:like:pending → { feedId: delta } (HINCRBY)
+ * - drain: Lua 스크립트로 pending 을 feed:like:staged 로 RENAME 하고 내용을 반환 (acknowledge 전까지 보존)
+ * - 반영 대기 영역은 한 인스턴스만 소유 (feed:like:staged:owner, staging-lease 동안 유지)
+ *   → 여러 인스턴스가 동시에 flush 해도 중복 반영 없음, 소유 인스턴스가 죽으면 lease 만료 후 다른 인스턴스가 이어받음
+ * - acknowledge: 소유자일 때만 staged 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ootd.feed.like.buffer", havingValue = "redis")
+public class RedisLikeCountBuffer implements LikeCountBuffer {
+
+    private static final String PENDING_KEY = "feed:like:pending";
+    private static final String STAGED_KEY = "feed:like:staged";
+    private static final String OWNER_KEY = "feed:like:staged:owner";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN = new DefaultRedisScript<>("""
+        local owner = redis.call('GET', KEYS[3])
+        if owner and owner ~= ARGV[1] then
+          return {}
+        end
+        if redis.call('EXISTS', KEYS[2]) == 0 then
+          if redis.call('EXISTS', KEYS[1]) == 0 then
+            return {}
+          end
+          redis.call('RENAME', KEYS[1], KEYS[2])
+        end
+        redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[2])
+        return redis.call('HGETALL', KEYS[2])
+        """, List.class);
+
+    private static final RedisScript<Long> ACKNOWLEDGE = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[2]) == ARGV[1] then
+          redis.call('DEL', KEYS[1], KEYS[2])
+          return 1
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration stagingLease;
+
+    // 반영 대기 영역 소유자 식별자 (인스턴스별)
+    private final String ownerId = UUID.randomUUID().toString();
+
+    public RedisLikeCountBuffer(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.feed.like.staging-lease:1m}") Duration stagingLease
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.stagingLease = stagingLease;
+    }
+
+    @Override
+    public void add(UUID feedId, long delta) {
+        redisTemplate.opsForHash().increment(PENDING_KEY, feedId.toString(), delta);
+    }
+
+    @Override
+    public Map<UUID, Long> drain() {
+        List<?> entries = redisTemplate.execute(DRAIN, List.of(PENDING_KEY, STAGED_KEY, OWNER_KEY),
+            ownerId, String.valueOf(stagingLease.toMillis()));
+        Map<UUID, Long> drained = new HashMap<>();
+        if (entries == null) {
+            return drained;
+        }
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            long delta = Long.parseLong(entries.get(i + 1).toString());
+            if (delta != 0) {
+                drained.put(UUID.fromString(entries.get(i).toString()), delta);
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public void acknowledge() {
+        Long released = redisTemplate.execute(ACKNOWLEDGE, List.of(STAGED_KEY, OWNER_KEY), ownerId);
+        if (released == null || released == 0) {
+            // lease 가 만료되어 다른 인스턴스가 이어받았으면 같은 증감이 한 번 더 반영될 수 있음
+            log.warn("[RedisLikeCountBuffer] 반영 대기 영역 소유권 상실 - ownerId:{}", ownerId);
+        }
+    }
+}
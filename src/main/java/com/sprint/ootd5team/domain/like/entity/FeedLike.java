@@ -23,7 +23,7 @@ import lombok.ToString;
     },
     indexes = {
         @Index(name = "idx_feed_likes_feed_id", columnList = "feed_id"),
-        @Index(name = "idx_feed_likes_user_id", columnList = "user_id")
+        @Index(name = "idx_feed_likes_user_feed", columnList = "user_id, feed_id")
     }
 )
 @Entity
@@ -1,12 +1,32 @@
 package com.sprint.ootd5team.domain.like.repository;
 
 import com.sprint.ootd5team.domain.like.entity.FeedLike;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
 
     boolean existsByFeedIdAndUserId(UUID feedId, UUID userId);
 
-    void deleteByFeedIdAndUserId(UUID feedId, UUID userId);
+    @Modifying
+    @Query("delete from FeedLike fl where fl.feedId = :feedId and fl.userId = :userId")
+    int deleteByFeedIdAndUserId(@Param("feedId") UUID feedId, @Param("userId") UUID userId);
+
+    /**
+     * 주어진 피드 중 사용자가 좋아요한 피드 ID (페이지 단위 likedByMe 일괄 조회)
+     */
+    @Query("select fl.feedId from FeedLike fl where fl.userId = :userId and fl.feedId in :feedIds")
+    List<UUID> findLikedFeedIds(@Param("userId") UUID userId, @Param("feedIds") Collection<UUID> feedIds);
+
+    /**
+     * 사용자가 좋아요한 피드 ID (최근 좋아요 캐시 적재용, limit 으로 상한 확인)
+     */
+    @Query("select fl.feedId from FeedLike fl where fl.userId = :userId")
+    List<UUID> findFeedIdsByUserId(@Param("userId") UUID userId, Limit limit);
 }
@@ -2,31 +2,47 @@ package com.sprint.ootd5team.domain.like.service;
 
 import com.sprint.ootd5team.base.exception.feed.AlreadyLikedException;
 import com.sprint.ootd5team.base.exception.feed.FeedNotFoundException;
-import com.sprint.ootd5team.base.exception.feed.LikeCountUnderflowException;
 import com.sprint.ootd5team.base.exception.feed.LikeNotFoundException;
 import com.sprint.ootd5team.domain.feed.entity.Feed;
-import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
-import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.like.cache.RecentLikeCache;
+import com.sprint.ootd5team.domain.like.counter.LikeCountBuffer;
+import com.sprint.ootd5team.domain.like.counter.LikeCountFlusher;
 import com.sprint.ootd5team.domain.like.entity.FeedLike;
 import com.sprint.ootd5team.domain.like.repository.FeedLikeRepository;
 import com.sprint.ootd5team.domain.notification.event.type.single.FeedLikedEvent;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 피드 좋아요 서비스
+ *
+ * <p>좋아요 중복 / 미존재 여부는 tbl_feed_likes 유니크 제약과 삭제 행 수로 판단하고,
+ * 좋아요 수는 커밋 후 {@link LikeCountBuffer}에 누적해 {@link LikeCountFlusher}가 주기적으로 반영한다.
+ * 사용자별 최근 좋아요 캐시({@link RecentLikeCache})는 커밋 직전 / 직후에 무효화한다.</p>
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class FeedLikeServiceImpl implements FeedLikeService {
 
+    private static final String UNIQUE_CONSTRAINT = "uq_feed_like";
+    private static final String FEED_FOREIGN_KEY = "fk_feed_likes_feed";
+
     private final FeedLikeRepository feedLikeRepository;
     private final FeedRepository feedRepository;
-    private final FeedEventProducer feedEventProducer;
+    private final LikeCountBuffer likeCountBuffer;
+    private final RecentLikeCache recentLikeCache;
 
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
@@ -37,15 +53,24 @@ public class FeedLikeServiceImpl implements FeedLikeService {
             currentUserId);
 
         Feed feed = validateFeed(feedId);
-        validateNotLiked(feedId, currentUserId);
 
         FeedLike feedLike = new FeedLike(feedId, currentUserId);
-        feedLikeRepository.save(feedLike);
+        try {
+            feedLikeRepository.saveAndFlush(feedLike);
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, UNIQUE_CONSTRAINT)) {
+                log.warn("[FeedLikeService] 이미 좋아요 처리 된 피드입니다.");
+                throw AlreadyLikedException.withIds(feedId, currentUserId);
+            }
+            if (violates(e, FEED_FOREIGN_KEY)) {
+                log.warn("[FeedLikeService] 좋아요 처리 중 피드가 삭제되었습니다.");
+                throw FeedNotFoundException.withId(feedId);
+            }
+            throw e;
+        }
         log.debug("[FeedLikeService] 저장된 FeedLike: {}", feedLike);
 
-        feedRepository.incrementLikeCount(feedId);
-
-        publishLikeCountUpdatedEvent(feedId);
+        applyAfterCommit(feedId, currentUserId, true);
 
         // 알림 전송
         // 좋아요 누른 사람 이름 가져오기
@@ -61,25 +86,58 @@ public class FeedLikeServiceImpl implements FeedLikeService {
             currentUserId);
 
         validateFeed(feedId);
-        validateLiked(feedId, currentUserId);
-
-        feedLikeRepository.deleteByFeedIdAndUserId(feedId, currentUserId);
 
-        int updatedRows = feedRepository.decrementLikeCount(feedId);
-        if (updatedRows == 0) {
-            log.error("[FeedLikeService] 좋아요 수 감소 실패");
-            throw LikeCountUnderflowException.withFeedId(feedId);
+        int deleted = feedLikeRepository.deleteByFeedIdAndUserId(feedId, currentUserId);
+        if (deleted == 0) {
+            log.warn("[FeedLikeService] 존재하지 않는 좋아요입니다.");
+            throw LikeNotFoundException.withIds(feedId, currentUserId);
         }
 
-        publishLikeCountUpdatedEvent(feedId);
+        applyAfterCommit(feedId, currentUserId, false);
     }
 
-    private void publishLikeCountUpdatedEvent(UUID feedId) {
-        long updatedLikeCount = feedRepository.findLikeCountByFeedId(feedId);
+    /**
+     * 좋아요 저장 / 삭제가 커밋된 경우에만 버퍼에 반영 (롤백 시 불일치 방지)
+     * <p>
+     * 최근 좋아요 캐시는 값을 고치지 않고 무효화한다.
+     * - 커밋 직전: 무효화 실패 시 예외로 트랜잭션을 롤백 → 캐시가 DB 보다 낡은 채로 남지 않음
+     * - 커밋 직후: 커밋 전에 DB 를 읽고 적재하던 조회를 한 번 더 무효화 (세대 증가로 적재도 거부)
+     */
+    private void applyAfterCommit(UUID feedId, UUID userId, boolean liked) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentLikeCache.invalidate(userId);
+            likeCountBuffer.add(feedId, liked ? 1L : -1L);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                recentLikeCache.invalidate(userId);
+            }
+
+            @Override
+            public void afterCommit() {
+                likeCountBuffer.add(feedId, liked ? 1L : -1L);
+                try {
+                    recentLikeCache.invalidate(userId);
+                } catch (Exception e) {
+                    log.error("[FeedLikeService] 최근 좋아요 캐시 무효화 실패 - feedId:{}, userId:{}", feedId, userId, e);
+                }
+            }
+        });
+    }
 
-        feedEventProducer.publishLikeCountUpdatedEvent(
-            new FeedLikeCountUpdateEvent(feedId, updatedLikeCount)
-        );
+    /**
+     * 제약 조건 이름으로 위반 원인 판단 (Hibernate 가 이름을 추출하지 못하면 DB 오류 메시지로 판단)
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint);
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraint);
     }
 
     private Feed validateFeed(UUID feedId) {
@@ -89,19 +147,4 @@ public class FeedLikeServiceImpl implements FeedLikeService {
                 return FeedNotFoundException.withId(feedId);
             });
     }
-
-    private void validateNotLiked(UUID feedId, UUID currentUserId) {
-        boolean exists = feedLikeRepository.existsByFeedIdAndUserId(feedId, currentUserId);
-        if (exists) {
-            log.warn("[FeedLikeService] 이미 좋아요 처리 된 피드입니다.");
-            throw AlreadyLikedException.withIds(feedId, currentUserId);
-        }
-    }
-
-    private void validateLiked(UUID feedId, UUID currentUserId) {
-        if (!feedLikeRepository.existsByFeedIdAndUserId(feedId, currentUserId)) {
-            log.warn("[FeedLikeService] 존재하지 않는 좋아요입니다.");
-            throw LikeNotFoundException.withIds(feedId, currentUserId);
-        }
-    }
-}
\ No newline at end of file
+}
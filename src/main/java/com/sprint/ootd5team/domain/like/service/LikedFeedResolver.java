@@ -0,0 +1,111 @@
+package com.sprint.ootd5team.domain.like.service;
+
+import com.sprint.ootd5team.domain.like.cache.RecentLikeCache;
+import com.sprint.ootd5team.domain.like.cache.RecentLikeLookup;
+import com.sprint.ootd5team.domain.like.repository.FeedLikeRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 목록의 likedByMe 일괄 판단
+ * <p>
+ * - 행마다 EXISTS 서브쿼리를 두지 않고 페이지의 피드 ID 로 1회 조회
+ * - 최근 좋아요 캐시(ootd.feed.like.recent-cache.enabled)가 켜져 있으면
+ *   좋아요 수가 적은 사용자는 DB 조회 없이 캐시로 판단
+ */
+@Slf4j
+@Component
+public class LikedFeedResolver {
+
+    private final FeedLikeRepository feedLikeRepository;
+    private final RecentLikeCache recentLikeCache;
+    private final boolean cacheEnabled;
+    private final int cacheMaxSize;
+
+    public LikedFeedResolver(
+        FeedLikeRepository feedLikeRepository,
+        RecentLikeCache recentLikeCache,
+        @Value("${ootd.feed.like.recent-cache.enabled:true}") boolean cacheEnabled,
+        @Value("${ootd.feed.like.recent-cache.max-size:500}") int cacheMaxSize
+    ) {
+        this.feedLikeRepository = feedLikeRepository;
+        this.recentLikeCache = recentLikeCache;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheMaxSize = cacheMaxSize;
+    }
+
+    /**
+     * 주어진 피드 중 사용자가 좋아요한 피드 ID
+     *
+     * @param userId  현재 사용자 ID (null 이면 빈 집합)
+     * @param feedIds 페이지의 피드 ID
+     */
+    public Set<UUID> resolve(UUID userId, Collection<UUID> feedIds) {
+        if (userId == null || feedIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!cacheEnabled) {
+            return findLiked(userId, feedIds);
+        }
+
+        RecentLikeLookup lookup;
+        try {
+            lookup = recentLikeCache.lookup(userId, feedIds);
+        } catch (RuntimeException e) {
+            log.warn("[LikedFeedResolver] 최근 좋아요 캐시 조회 실패 → DB 조회 - userId:{}", userId, e);
+            return findLiked(userId, feedIds);
+        }
+        return switch (lookup.status()) {
+            case HIT -> lookup.likedFeedIds();
+            case OVERFLOW -> findLiked(userId, feedIds);
+            case MISS -> loadAndResolve(userId, feedIds);
+        };
+    }
+
+    /**
+     * 캐시 미적재 사용자: 좋아요 목록을 max-size + 1 개까지 읽어
+     * 상한 이하면 전체 적재, 초과하면 overflow 표시 후 페이지 단위 조회
+     * - 세대를 DB 조회 전에 읽어 두고 적재 시 비교 → 그 사이 좋아요 / 취소가 커밋됐으면 낡은 목록을 저장하지 않음
+     * - 캐시 오류는 적재만 건너뛰고 DB 결과로 판단
+     */
+    private Set<UUID> loadAndResolve(UUID userId, Collection<UUID> feedIds) {
+        long generation;
+        try {
+            generation = recentLikeCache.generation(userId);
+        } catch (RuntimeException e) {
+            log.warn("[LikedFeedResolver] 최근 좋아요 캐시 세대 조회 실패 → DB 조회 - userId:{}", userId, e);
+            return findLiked(userId, feedIds);
+        }
+
+        List<UUID> likedFeedIds = feedLikeRepository.findFeedIdsByUserId(userId, Limit.of(cacheMaxSize + 1));
+        if (likedFeedIds.size() > cacheMaxSize) {
+            log.debug("[LikedFeedResolver] 좋아요 수 상한 초과 → 캐시 제외 - userId:{}", userId);
+            try {
+                recentLikeCache.markOverflow(userId, generation);
+            } catch (RuntimeException e) {
+                log.warn("[LikedFeedResolver] 최근 좋아요 캐시 overflow 표시 실패 - userId:{}", userId, e);
+            }
+            return findLiked(userId, feedIds);
+        }
+
+        try {
+            recentLikeCache.load(userId, likedFeedIds, generation);
+        } catch (RuntimeException e) {
+            log.warn("[LikedFeedResolver] 최근 좋아요 캐시 적재 실패 → DB 결과 사용 - userId:{}", userId, e);
+        }
+        Set<UUID> liked = new HashSet<>(likedFeedIds);
+        liked.retainAll(new HashSet<>(feedIds));
+        return liked;
+    }
+
+    private Set<UUID> findLiked(UUID userId, Collection<UUID> feedIds) {
+        return new HashSet<>(feedLikeRepository.findLikedFeedIds(userId, feedIds));
+    }
+}
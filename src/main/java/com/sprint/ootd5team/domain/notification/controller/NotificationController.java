@@ -3,6 +3,7 @@ package com.sprint.ootd5team.domain.notification.controller;
 import com.sprint.ootd5team.base.security.service.AuthService;
 import com.sprint.ootd5team.domain.notification.controller.api.NotificationApi;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDtoCursorResponse;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
 import com.sprint.ootd5team.domain.notification.service.NotificationService;
 import java.time.Instant;
 import java.util.UUID;
@@ -51,6 +52,19 @@ public class NotificationController implements NotificationApi {
             .body(response);
     }
 
+    @Override
+    public ResponseEntity<UnreadCountDto> getUnreadCount() {
+        UUID receiverId = authService.getCurrentUserId();
+
+        UnreadCountDto response = notificationService.countUnread(receiverId);
+
+        log.debug("[NotificationController] 안 읽은 알림 수 응답: receiverId={}, count={}",
+            receiverId, response.count());
+        return ResponseEntity
+            .status(HttpStatus.OK)
+            .body(response);
+    }
+
     @Override
     public ResponseEntity<Void> delete(UUID notificationId) {
         UUID currentUserId = authService.getCurrentUserId();
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.notification.controller.api;
 
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDtoCursorResponse;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,6 +46,22 @@ public interface NotificationApi {
         @Parameter(description = "정렬 방향", example = "DESC") @RequestParam(name = "sortDirection", defaultValue = "DESC") Sort.Direction sortDirection
     );
 
+    @Operation(
+        summary = "안 읽은 알림 수 조회",
+        description = "배지에 표시할 안 읽은 알림 수를 조회합니다. 이후 변경은 SSE unread-count 이벤트로 전송됩니다.",
+        security = @SecurityRequirement(name = "CustomHeaderAuth")
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "안 읽은 알림 수 조회 성공",
+            content = @Content(mediaType = "*/*",
+                schema = @Schema(implementation = UnreadCountDto.class))),
+        @ApiResponse(responseCode = "400", description = "안 읽은 알림 수 조회 실패",
+            content = @Content(mediaType = "*/*",
+                schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/unread-count")
+    ResponseEntity<UnreadCountDto> getUnreadCount();
+
     @Operation(
         summary = "알림 읽음 처리",
         description = "특정 알림을 읽음 처리(삭제)합니다.",
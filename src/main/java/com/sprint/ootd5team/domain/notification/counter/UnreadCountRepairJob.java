@@ -0,0 +1,63 @@
+package com.sprint.ootd5team.domain.notification.counter;
+
+import com.sprint.ootd5team.domain.notification.repository.unread.UnreadCountRepository;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 안 읽은 알림 수 카운터 주기적 보정
+ * <p>
+ * - 보정 주기마다 존재하는 카운터 중 일부(repair-batch-size)를 골라 DB 의 알림 수와 비교해 다르면 덮어씀
+ * - 커밋 후 이벤트 유실, 초기화와 증감의 경합으로 생긴 오차를 바로잡음 (나머지는 다음 주기 / TTL 만료로 보정)
+ * - 실행권(lease = 보정 주기)을 얻은 인스턴스만 실행 → 인스턴스 수와 관계없이 주기당 1회
+ */
+@Slf4j
+@Component
+public class UnreadCountRepairJob {
+
+    private final UnreadCountRepository unreadCountRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final Duration lease;
+    private final int batchSize;
+
+    public UnreadCountRepairJob(
+        UnreadCountRepository unreadCountRepository,
+        UnreadNotificationCounter unreadNotificationCounter,
+        @Value("${ootd.notification.unread.repair-interval-ms:600000}") long repairIntervalMs,
+        @Value("${ootd.notification.unread.repair-batch-size:1000}") int batchSize
+    ) {
+        this.unreadCountRepository = unreadCountRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.lease = Duration.ofMillis(repairIntervalMs);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${ootd.notification.unread.repair-interval-ms:600000}")
+    public void repair() {
+        if (!unreadCountRepository.tryAcquireRepairLease(lease)) {
+            log.debug("[UnreadCountRepairJob] 다른 인스턴스가 보정 중이거나 이번 주기에 이미 보정함");
+            return;
+        }
+        Set<UUID> userIds = unreadCountRepository.sampleUserIds(batchSize);
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        int repaired = 0;
+        for (UUID userId : userIds) {
+            try {
+                if (unreadNotificationCounter.repair(userId)) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("[UnreadCountRepairJob] 카운터 보정 실패 - userId:{}", userId, e);
+            }
+        }
+        log.debug("[UnreadCountRepairJob] 카운터 보정 완료 - checked:{}, repaired:{}", userIds.size(), repaired);
+    }
+}
@@ -0,0 +1,105 @@
+package com.sprint.ootd5team.domain.notification.counter;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
+import com.sprint.ootd5team.domain.notification.event.type.UnreadCountChangedEvent;
+import com.sprint.ootd5team.domain.notification.repository.NotificationRepository;
+import com.sprint.ootd5team.domain.notification.repository.unread.UnreadCountRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 안 읽은 알림 수(배지)
+ * <p>
+ * - 알림에는 읽음 상태가 따로 없고 읽음 처리 = 삭제이므로, 안 읽은 알림 수 = 볼 수 있는 알림 수
+ *   (개인 알림 + 가입 이후 생성되어 숨기지 않은 전체 알림)<br>
+ * - 최초 조회 시 COUNT 쿼리로 초기화하고, 이후에는 생성/삭제 이벤트로 증감한 값을 SSE(unread-count)로 전송<br>
+ * - 전체 알림은 모든 사용자에게 영향을 주므로 카운터를 비우기만 하고 전송하지 않음
+ *   (클라이언트는 notifications 이벤트를 받고 배지를 다시 조회)
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    public static final String EVENT_NAME = "unread-count";
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCountRepository unreadCountRepository;
+    private final SseService sseService;
+
+    public long get(UUID userId) {
+        OptionalLong cached = unreadCountRepository.get(userId);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+
+        long count = notificationRepository.countVisibleByReceiverId(userId);
+        unreadCountRepository.initialize(userId, count);
+        log.debug("[UnreadNotificationCounter] 카운터 초기화 - userId:{}, count:{}", userId, count);
+        return count;
+    }
+
+    /**
+     * 알림 생성 / 삭제 시 수신자의 카운터를 증감하고 새 값을 전송한다.
+     * 초기화되지 않은(또는 만료된) 카운터는 다음 조회 시 COUNT 로 초기화되므로 건너뛴다.
+     */
+    public void apply(UnreadCountChangedEvent event) {
+        if (event.broadcast()) {
+            unreadCountRepository.evictAll();
+            log.debug("[UnreadNotificationCounter] 전체 알림 생성으로 카운터 초기화");
+            return;
+        }
+
+        Map<UUID, Long> counts = unreadCountRepository.incrementIfPresent(event.userIds(), event.delta());
+        log.debug("[UnreadNotificationCounter] 카운터 증감 - users:{}, present:{}, delta:{}",
+            event.userIds().size(), counts.size(), event.delta());
+        push(counts);
+    }
+
+    /**
+     * 카운터를 DB 의 알림 수와 비교해 다르면 바로잡고 새 값을 전송한다.
+     * COUNT 중에 카운터가 증감되었으면 덮어쓰지 않고 다음 보정 주기로 넘긴다.
+     *
+     * @return 보정했으면 true
+     */
+    public boolean repair(UUID userId) {
+        OptionalLong cached = unreadCountRepository.get(userId);
+        if (cached.isEmpty()) {
+            return false;
+        }
+
+        long actual = notificationRepository.countVisibleByReceiverId(userId);
+        if (cached.getAsLong() == actual) {
+            return false;
+        }
+
+        if (!unreadCountRepository.compareAndSet(userId, cached.getAsLong(), actual)) {
+            log.debug("[UnreadNotificationCounter] 보정 중 카운터 변경 → 보정 생략 - userId:{}", userId);
+            return false;
+        }
+        log.info("[UnreadNotificationCounter] 카운터 보정 - userId:{}, cached:{}, actual:{}",
+            userId, cached.getAsLong(), actual);
+        push(Map.of(userId, actual));
+        return true;
+    }
+
+    private void push(Map<UUID, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        Map<UUID, UnreadCountDto> data = new LinkedHashMap<>();
+        counts.forEach((userId, count) -> data.put(userId, new UnreadCountDto(count)));
+        try {
+            sseService.sendEach(EVENT_NAME, data);
+        } catch (Exception e) {
+            log.warn("[UnreadNotificationCounter] unread-count 전송 실패 - users:{}", data.size(), e);
+        }
+    }
+}
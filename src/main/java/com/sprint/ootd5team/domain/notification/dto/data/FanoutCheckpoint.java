@@ -0,0 +1,23 @@
+package com.sprint.ootd5team.domain.notification.dto.data;
+
+import java.util.UUID;
+
+/**
+ * 알림 fan-out 진행 상태
+ *
+ * @param lastReceiverId 마지막으로 처리를 마친 청크의 마지막 수신자 id (keyset 커서)
+ * @param completed      모든 청크 처리 완료 여부
+ */
+public record FanoutCheckpoint(
+    UUID lastReceiverId,
+    boolean completed
+) {
+
+    public static FanoutCheckpoint progress(UUID lastReceiverId) {
+        return new FanoutCheckpoint(lastReceiverId, false);
+    }
+
+    public static FanoutCheckpoint done() {
+        return new FanoutCheckpoint(null, true);
+    }
+}
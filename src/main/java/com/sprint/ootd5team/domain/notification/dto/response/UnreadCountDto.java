@@ -0,0 +1,10 @@
+package com.sprint.ootd5team.domain.notification.dto.response;
+
+/**
+ * 안 읽은 알림 수 (배지 조회 응답 / SSE unread-count 이벤트 본문)
+ */
+public record UnreadCountDto(
+    long count
+) {
+
+}
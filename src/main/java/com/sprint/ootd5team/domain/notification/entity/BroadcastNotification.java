@@ -0,0 +1,45 @@
+package com.sprint.ootd5team.domain.notification.entity;
+
+import com.sprint.ootd5team.base.entity.BaseEntity;
+import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 사용자 대상 알림 (공지 1건당 1행)
+ * <p>
+ * 사용자별 행을 만들지 않고, 알림 목록 조회 시 개인 알림과 합쳐 보여줌
+ * - 가입 이후에 생성된 공지만 보임 (사용자별 행을 만들던 방식과 동일)
+ * - 사용자가 삭제하면 BroadcastNotificationDismissal 로 숨김
+ */
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "tbl_broadcast_notifications",
+    indexes = @Index(name = "idx_broadcast_notifications_created", columnList = "created_at")
+)
+public class BroadcastNotification extends BaseEntity {
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationLevel level;
+
+}
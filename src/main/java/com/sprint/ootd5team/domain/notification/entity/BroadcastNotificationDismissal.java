@@ -0,0 +1,35 @@
+package com.sprint.ootd5team.domain.notification.entity;
+
+import com.sprint.ootd5team.base.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자가 삭제한 전체 알림 표시 (삭제할 때만 생성)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(
+    name = "tbl_broadcast_notification_dismissals",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_broadcast_dismissal", columnNames = {"broadcast_id", "user_id"})
+    }
+)
+public class BroadcastNotificationDismissal extends BaseEntity {
+
+    @Column(name = "broadcast_id", nullable = false)
+    private UUID broadcastId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+}
@@ -2,77 +2,60 @@ package com.sprint.ootd5team.domain.notification.event.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
-import com.sprint.ootd5team.base.sse.service.SseService;
-import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
 import com.sprint.ootd5team.domain.notification.event.type.base.DomainEvent;
-import com.sprint.ootd5team.domain.notification.service.NotificationService;
-import com.sprint.ootd5team.domain.user.repository.UserRepository;
-import java.util.List;
+import com.sprint.ootd5team.domain.notification.service.NotificationFanoutService;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * 알림 이벤트 소비 → NotificationFanoutService 로 수신자별 알림 생성 및 SSE 전송
+ * <p>
+ * - 파싱할 수 없는 메시지는 기록 후 건너뜀
+ * - fan-out 실패는 그대로 던져 KafkaErrorHandlerConfig 의 재시도에 맡기고,
+ *   재시도(또는 중단 후 재소비) 시 메시지 본문에서 만든 같은 fanoutId 의 체크포인트부터 이어서 처리
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventConsumer {
 
-    private final NotificationService notificationService;
-    private final UserRepository userRepository;
-    private final SseService sseService;
+    private final NotificationFanoutService notificationFanoutService;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(topics = "ootd.Notifications", groupId = "ootd.notification")
     public void consume(String message) {
+        DomainEvent<?> event;
         try {
-            DomainEvent<?> event;
-            try {
-                // 1차: 정상(JSON 오브젝트)으로 파싱
-                event = objectMapper.readValue(message, DomainEvent.class);
-            } catch (MismatchedInputException e) {
-                // double-encoded 가능성: 한 번 벗겨서 재시도
-                if (looksLikeDoubleEncoded(message)) {
-                    String unwrapped = objectMapper.readValue(message, String.class);
-                    log.warn("[Kafka] Detected double-encoded JSON. Unwrapped once.");
-                    event = objectMapper.readValue(unwrapped, DomainEvent.class);
-                } else {
-                    throw e;
-                }
-            }
-
-            log.info("[Kafka] Consumed event: type={}", event.getClass().getSimpleName());
-            log.debug("[Kafka] Full message: {}", message);
-
-            List<UUID> receiverIds = event.getReceiverIds();
-            if (receiverIds == null || receiverIds.isEmpty()) {
-                // 전체 전송
-                receiverIds = userRepository.findAllUserIds();
-            }
-
-            for (UUID userId : receiverIds) {
-                try {
-                    createAndSendNotification(userId, event);
-                } catch (Exception e) {
-                    log.error("[Kafka] Failed to send notification to userId={}", userId, e);
-                }
-            }
-
+            event = parse(message);
         } catch (Exception ex) {
             log.error("Failed to consume notification message: {}", message, ex);
+            return;
         }
+
+        log.info("[Kafka] Consumed event: type={}", event.getClass().getSimpleName());
+        log.debug("[Kafka] Full message: {}", message);
+
+        UUID fanoutId = UUID.nameUUIDFromBytes(message.getBytes(StandardCharsets.UTF_8));
+        notificationFanoutService.fanout(fanoutId, event);
     }
 
-    private void createAndSendNotification(UUID receiverId, DomainEvent<?> event) {
-        NotificationDto dto = notificationService.createNotification(
-            receiverId, event.getTemplateType(), event.getLevel(), event.getArgs()
-        );
-        sseService.send(List.of(receiverId), "notifications", dto);
-        log.info("[Kafka] Sent notification: id={}, receiverId={}, type={}",
-            dto.id(), receiverId, event.getTemplateType()
-        );
-        log.debug("[Kafka] Full dto={}", dto);
+    private DomainEvent<?> parse(String message) throws Exception {
+        try {
+            // 1차: 정상(JSON 오브젝트)으로 파싱
+            return objectMapper.readValue(message, DomainEvent.class);
+        } catch (MismatchedInputException e) {
+            // double-encoded 가능성: 한 번 벗겨서 재시도
+            if (looksLikeDoubleEncoded(message)) {
+                String unwrapped = objectMapper.readValue(message, String.class);
+                log.warn("[Kafka] Detected double-encoded JSON. Unwrapped once.");
+                return objectMapper.readValue(unwrapped, DomainEvent.class);
+            }
+            throw e;
+        }
     }
 
     private boolean looksLikeDoubleEncoded(String s) {
@@ -0,0 +1,22 @@
+package com.sprint.ootd5team.domain.notification.event.type;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 안 읽은 알림 수 카운터 증감 이벤트 (알림 생성 +1 / 삭제 -1, 커밋 이후 처리)
+ * - userIds 가 null 이면 전체 알림 생성 (모든 사용자 카운터 무효화)
+ */
+public record UnreadCountChangedEvent(
+    Collection<UUID> userIds,
+    long delta
+) {
+
+    public static UnreadCountChangedEvent all() {
+        return new UnreadCountChangedEvent(null, 1);
+    }
+
+    public boolean broadcast() {
+        return userIds == null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.notification.mapper;
 
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotification;
 import com.sprint.ootd5team.domain.notification.entity.Notification;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -11,4 +12,7 @@ public interface NotificationMapper {
     @Mapping(target = "receiverId", expression = "java(entity.getReceiver() != null ? entity.getReceiver().getId() : null)")
     NotificationDto toDto(Notification entity);
 
+    @Mapping(target = "receiverId", ignore = true)
+    NotificationDto toDto(BroadcastNotification entity);
+
 }
@@ -0,0 +1,12 @@
+package com.sprint.ootd5team.domain.notification.repository;
+
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotificationDismissal;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BroadcastNotificationDismissalRepository extends
+    JpaRepository<BroadcastNotificationDismissal, UUID> {
+
+    boolean existsByBroadcastIdAndUserId(UUID broadcastId, UUID userId);
+
+}
@@ -0,0 +1,19 @@
+package com.sprint.ootd5team.domain.notification.repository;
+
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotification;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, UUID>,
+    BroadcastNotificationRepositoryCustom {
+
+    /** 사용자가 볼 수 있는 전체 알림인지 (가입 이후 생성) */
+    @Query("""
+        select count(b) > 0
+        from BroadcastNotification b, User u
+        where b.id = :broadcastId and u.id = :userId and b.createdAt >= u.createdAt
+        """)
+    boolean existsVisibleTo(@Param("broadcastId") UUID broadcastId, @Param("userId") UUID userId);
+}
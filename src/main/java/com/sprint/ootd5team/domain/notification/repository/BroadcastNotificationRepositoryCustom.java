@@ -0,0 +1,13 @@
+package com.sprint.ootd5team.domain.notification.repository;
+
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+
+public interface BroadcastNotificationRepositoryCustom {
+
+    /**
+     * 전체 알림 1건 저장 (이미 있는 id 면 건너뜀)
+     *
+     * @return 새로 저장되었으면 true
+     */
+    boolean insertIfAbsent(NotificationDto broadcast);
+}
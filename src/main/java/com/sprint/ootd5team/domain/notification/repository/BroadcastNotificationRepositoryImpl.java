@@ -0,0 +1,33 @@
+package com.sprint.ootd5team.domain.notification.repository;
+
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import java.sql.Timestamp;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BroadcastNotificationRepositoryImpl implements BroadcastNotificationRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO tbl_broadcast_notifications (id, title, content, level, created_at)
+        VALUES (?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * fan-out 재처리(체크포인트 기록 전 중단) 시 같은 id 로 다시 호출되므로 ON CONFLICT 로 중복 저장 방지
+     */
+    @Override
+    public boolean insertIfAbsent(NotificationDto broadcast) {
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL,
+            broadcast.id(),
+            broadcast.title(),
+            broadcast.content(),
+            broadcast.level().name(),
+            Timestamp.from(broadcast.createdAt())) > 0;
+    }
+}
@@ -1,6 +1,6 @@
 package com.sprint.ootd5team.domain.notification.repository;
 
-import com.sprint.ootd5team.domain.notification.entity.Notification;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -8,10 +8,25 @@ import org.springframework.data.domain.Sort;
 
 public interface NotificationRepositoryCustom {
 
-    List<Notification> findByUserWithCursor(
+    /**
+     * 개인 알림과 볼 수 있는 전체 알림을 합쳐 커서 기반으로 조회 (size + 1 건)
+     */
+    List<NotificationDto> findByUserWithCursor(
         UUID userId,
         Instant cursor,
         UUID idAfter,
         int size,
         Sort.Direction direction);
+
+    /**
+     * 개인 알림 + 볼 수 있는 전체 알림 수
+     */
+    long countVisibleByReceiverId(UUID userId);
+
+    /**
+     * JDBC 배치로 알림 일괄 저장 (이미 있는 id, 존재하지 않는 수신자는 건너뜀)
+     *
+     * @return 실제로 저장된 알림
+     */
+    List<NotificationDto> bulkInsert(List<NotificationDto> notifications);
 }
@@ -1,16 +1,20 @@
 package com.sprint.ootd5team.domain.notification.repository;
 
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sprint.ootd5team.domain.notification.entity.Notification;
-import com.sprint.ootd5team.domain.notification.entity.QNotification;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,44 +22,123 @@ import org.springframework.stereotype.Repository;
 @Slf4j
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
 
-    private final JPAQueryFactory queryFactory;
+    /** 그 사이 탈퇴한 수신자는 FK 위반으로 배치 전체가 실패하지 않도록 행을 만들지 않음 */
+    private static final String BULK_INSERT_SQL = """
+        INSERT INTO tbl_notifications (id, receiver_id, title, content, level, created_at)
+        SELECT ?, ?, ?, ?, ?, ?
+        WHERE EXISTS (SELECT 1 FROM tbl_users u WHERE u.id = ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    /**
+     * 사용자가 볼 수 있는 알림 (파라미터: userId, userId)
+     * - 개인 알림
+     * - 가입 이후 생성되었고 삭제(dismiss)하지 않은 전체 알림
+     */
+    private static final String VISIBLE_NOTIFICATIONS = """
+        SELECT n.id, n.receiver_id, n.title, n.content, n.level, n.created_at
+        FROM tbl_notifications n
+        WHERE n.receiver_id = ?
+        UNION ALL
+        SELECT b.id, u.id, b.title, b.content, b.level, b.created_at
+        FROM tbl_broadcast_notifications b
+        JOIN tbl_users u ON u.id = ? AND b.created_at >= u.created_at
+        WHERE NOT EXISTS (
+            SELECT 1 FROM tbl_broadcast_notification_dismissals d
+            WHERE d.broadcast_id = b.id AND d.user_id = u.id
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
-    public List<Notification> findByUserWithCursor(
+    public List<NotificationDto> findByUserWithCursor(
         UUID userId,
         Instant cursor,
         UUID idAfter,
         int size,
         Direction direction
     ) {
-        QNotification n = QNotification.notification;
-        BooleanBuilder where = new BooleanBuilder()
-            .and(n.receiver.id.eq(userId));
+        boolean desc = direction == Sort.Direction.DESC;
+        String op = desc ? "<" : ">";
+        String order = desc ? "DESC" : "ASC";
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM (").append(VISIBLE_NOTIFICATIONS).append(") v");
+        List<Object> params = new ArrayList<>(List.of(userId, userId));
 
         if (cursor != null) {
-            BooleanBuilder cursorCond = new BooleanBuilder();
-            if (direction == Sort.Direction.DESC) {
-                cursorCond.or(n.createdAt.lt(cursor));
-                if (idAfter != null) {
-                    cursorCond.or(n.createdAt.eq(cursor).and(n.id.lt(idAfter)));
-                }
+            Timestamp cursorAt = Timestamp.from(cursor);
+            if (idAfter != null) {
+                sql.append(" WHERE (v.created_at ").append(op).append(" ?")
+                    .append(" OR (v.created_at = ? AND v.id ").append(op).append(" ?))");
+                params.addAll(List.of(cursorAt, cursorAt, idAfter));
             } else {
-                cursorCond.or(n.createdAt.gt(cursor));
-                if (idAfter != null) {
-                    cursorCond.or(n.createdAt.eq(cursor).and(n.id.gt(idAfter)));
-                }
+                sql.append(" WHERE v.created_at ").append(op).append(" ?");
+                params.add(cursorAt);
             }
-            where.and(cursorCond);
         }
 
-        return queryFactory.selectFrom(n)
-            .where(where)
-            .orderBy(
-                direction == Sort.Direction.DESC ? n.createdAt.desc() : n.createdAt.asc(),
-                direction == Sort.Direction.DESC ? n.id.desc() : n.id.asc()
-            )
-            .limit(size + 1) // hasNext 판단용
-            .fetch();
+        sql.append(" ORDER BY v.created_at ").append(order).append(", v.id ").append(order)
+            .append(" LIMIT ?"); // hasNext 판단용 +1
+        params.add(size + 1);
+
+        return jdbcTemplate.query(sql.toString(), this::mapRow, params.toArray());
+    }
+
+    @Override
+    public long countVisibleByReceiverId(UUID userId) {
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (" + VISIBLE_NOTIFICATIONS + ") v", Long.class, userId, userId);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 알림 fan-out 청크를 JDBC 배치 INSERT 로 저장
+     * - 재처리(중단 후 재개) 시 같은 id 는 ON CONFLICT 로 건너뜀
+     * - 존재하지 않는 수신자(탈퇴)는 건너뜀
+     * - 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 간주
+     *
+     * @return 실제로 저장된 알림
+     */
+    @Override
+    public List<NotificationDto> bulkInsert(List<NotificationDto> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(BULK_INSERT_SQL, notifications, notifications.size(),
+            (ps, notification) -> {
+                ps.setObject(1, notification.id());
+                ps.setObject(2, notification.receiverId());
+                ps.setString(3, notification.title());
+                ps.setString(4, notification.content());
+                ps.setString(5, notification.level().name());
+                ps.setTimestamp(6, Timestamp.from(notification.createdAt()));
+                ps.setObject(7, notification.receiverId());
+            });
+
+        List<NotificationDto> inserted = new ArrayList<>(notifications.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    inserted.add(notifications.get(index));
+                }
+                index++;
+            }
+        }
+        log.debug("[NotificationRepository] 알림 일괄 저장: requested={}, inserted={}",
+            notifications.size(), inserted.size());
+        return inserted;
     }
 
+    private NotificationDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new NotificationDto(
+            rs.getObject("id", UUID.class),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getObject("receiver_id", UUID.class),
+            rs.getString("title"),
+            rs.getString("content"),
+            NotificationLevel.valueOf(rs.getString("level"))
+        );
+    }
 }
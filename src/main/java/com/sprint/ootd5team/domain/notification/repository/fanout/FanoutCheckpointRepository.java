@@ -0,0 +1,18 @@
+package com.sprint.ootd5team.domain.notification.repository.fanout;
+
+import com.sprint.ootd5team.domain.notification.dto.data.FanoutCheckpoint;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 알림 fan-out 진행 상태 저장소
+ * <p>
+ * - 청크 처리를 마칠 때마다 커서를 기록해, 처리 중 중단된 이벤트가 다시 소비되면 이어서 진행
+ * - 완료된 fan-out 은 ttl 동안 완료 상태로 남아 재전달 시 건너뜀
+ */
+public interface FanoutCheckpointRepository {
+
+    Optional<FanoutCheckpoint> find(UUID fanoutId);
+
+    void save(UUID fanoutId, FanoutCheckpoint checkpoint);
+}
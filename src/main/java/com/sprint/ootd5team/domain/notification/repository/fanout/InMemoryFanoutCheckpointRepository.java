@@ -0,0 +1,40 @@
+package com.sprint.ootd5team.domain.notification.repository.fanout;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sprint.ootd5team.domain.notification.dto.data.FanoutCheckpoint;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메모리 기반 fan-out 진행 상태 저장소
+ * - 단일 인스턴스 / 테스트 환경용 (재시작하면 처음부터 다시 진행)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.notification.fanout.checkpoint", havingValue = "memory", matchIfMissing = true)
+public class InMemoryFanoutCheckpointRepository implements FanoutCheckpointRepository {
+
+    private final Cache<UUID, FanoutCheckpoint> checkpoints;
+
+    public InMemoryFanoutCheckpointRepository(
+        @Value("${ootd.notification.fanout.checkpoint-ttl:1d}") Duration ttl
+    ) {
+        this.checkpoints = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public Optional<FanoutCheckpoint> find(UUID fanoutId) {
+        return Optional.ofNullable(checkpoints.getIfPresent(fanoutId));
+    }
+
+    @Override
+    public void save(UUID fanoutId, FanoutCheckpoint checkpoint) {
+        checkpoints.put(fanoutId, checkpoint);
+    }
+}
@@ -0,0 +1,56 @@
+package com.sprint.ootd5team.domain.notification.repository.fanout;
+
+import com.sprint.ootd5team.domain.notification.dto.data.FanoutCheckpoint;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 fan-out 진행 상태 저장소
+ * <p>
+ * - notification:fanout:{fanoutId} → 마지막 수신자 id 또는 "done"
+ * - 기록할 때마다 ttl 갱신, 다른 노드가 이어받아도 같은 커서에서 재개
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.notification.fanout.checkpoint", havingValue = "redis")
+public class RedisFanoutCheckpointRepository implements FanoutCheckpointRepository {
+
+    private static final String KEY_PREFIX = "notification:fanout:";
+    private static final String DONE = "done";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisFanoutCheckpointRepository(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.notification.fanout.checkpoint-ttl:1d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Optional<FanoutCheckpoint> find(UUID fanoutId) {
+        String value = redisTemplate.opsForValue().get(key(fanoutId));
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(DONE.equals(value)
+            ? FanoutCheckpoint.done()
+            : FanoutCheckpoint.progress(UUID.fromString(value)));
+    }
+
+    @Override
+    public void save(UUID fanoutId, FanoutCheckpoint checkpoint) {
+        String value = checkpoint.completed() ? DONE : checkpoint.lastReceiverId().toString();
+        redisTemplate.opsForValue().set(key(fanoutId), value, ttl);
+    }
+
+    private String key(UUID fanoutId) {
+        return KEY_PREFIX + fanoutId;
+    }
+}
@@ -0,0 +1,86 @@
+package com.sprint.ootd5team.domain.notification.repository.unread;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메모리(Caffeine) 기반 안 읽은 알림 수 카운터 저장소
+ * - 단일 인스턴스 / 테스트 환경용
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.notification.unread.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUnreadCountRepository implements UnreadCountRepository {
+
+    private final Cache<UUID, Long> counters;
+    private final AtomicLong repairLeaseUntil = new AtomicLong();
+
+    public InMemoryUnreadCountRepository(@Value("${ootd.notification.unread.ttl:1d}") Duration ttl) {
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public OptionalLong get(UUID userId) {
+        Long count = counters.getIfPresent(userId);
+        return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+    }
+
+    @Override
+    public void initialize(UUID userId, long count) {
+        counters.asMap().putIfAbsent(userId, count);
+    }
+
+    @Override
+    public boolean compareAndSet(UUID userId, long expected, long count) {
+        return counters.asMap().replace(userId, expected, Math.max(0L, count));
+    }
+
+    @Override
+    public Map<UUID, Long> incrementIfPresent(Collection<UUID> userIds, long delta) {
+        Map<UUID, Long> result = new LinkedHashMap<>();
+        for (UUID userId : userIds) {
+            Long count = counters.asMap()
+                .computeIfPresent(userId, (k, current) -> Math.max(0L, current + delta));
+            if (count != null) {
+                result.put(userId, count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void evictAll() {
+        counters.invalidateAll();
+    }
+
+    @Override
+    public Set<UUID> sampleUserIds(int limit) {
+        List<UUID> userIds = new ArrayList<>(counters.asMap().keySet());
+        Collections.shuffle(userIds);
+        return new HashSet<>(userIds.subList(0, Math.min(limit, userIds.size())));
+    }
+
+    @Override
+    public boolean tryAcquireRepairLease(Duration lease) {
+        long now = System.currentTimeMillis();
+        long until = repairLeaseUntil.get();
+        return now >= until && repairLeaseUntil.compareAndSet(until, now + lease.toMillis());
+    }
+}
@@ -0,0 +1,170 @@
+package com.sprint.ootd5team.domain.notification.repository.unread;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 안 읽은 알림 수 카운터 저장소
+ * <p>
+ * - 사용자별 String 키: notification:unread:{userId}
+ * - 초기화는 SET NX + TTL, 증감은 Lua 스크립트로 존재하는 키만 INCRBY 후 새 값 반환 (TTL 유지, 0 미만 보정)
+ * - 보정은 Lua 스크립트로 현재 값이 읽은 값과 같을 때만 SET
+ * - 전체 삭제 / 사용자 표본은 SCAN 으로 순회 (전체 알림 생성, 보정 작업 때만 사용)
+ * - 보정 작업 실행권: notification:unread-repair:lease (SET NX PX, 카운터 SCAN 패턴과 겹치지 않는 키)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.notification.unread.repository", havingValue = "redis")
+public class RedisUnreadCountRepository implements UnreadCountRepository {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String REPAIR_LEASE_KEY = "notification:unread-repair:lease";
+    private static final int SCAN_COUNT = 1000;
+
+    /** 키 순서대로 증감 후 값, 키가 없으면 -1 */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREMENT_IF_PRESENT = new DefaultRedisScript<>("""
+        local result = {}
+        for i, key in ipairs(KEYS) do
+          if redis.call('EXISTS', key) == 1 then
+            local count = redis.call('INCRBY', key, ARGV[1])
+            if count < 0 then
+              redis.call('SET', key, 0, 'KEEPTTL')
+              count = 0
+            end
+            result[i] = count
+          else
+            result[i] = -1
+          end
+        end
+        return result
+        """, List.class);
+
+    /** 현재 값이 ARGV[1] 이면 ARGV[2] 로 덮어쓰고 TTL(ms) ARGV[3] 갱신 */
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+          redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+          return 1
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadCountRepository(
+        StringRedisTemplate redisTemplate,
+        @Value("${ootd.notification.unread.ttl:1d}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public OptionalLong get(UUID userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value != null ? OptionalLong.of(Math.max(0L, Long.parseLong(value))) : OptionalLong.empty();
+    }
+
+    @Override
+    public void initialize(UUID userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), ttl);
+    }
+
+    @Override
+    public boolean compareAndSet(UUID userId, long expected, long count) {
+        Long updated = redisTemplate.execute(COMPARE_AND_SET, List.of(key(userId)),
+            String.valueOf(expected), String.valueOf(Math.max(0L, count)), String.valueOf(ttl.toMillis()));
+        return updated != null && updated == 1L;
+    }
+
+    @Override
+    public Map<UUID, Long> incrementIfPresent(Collection<UUID> userIds, long delta) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> ids = List.copyOf(userIds);
+        List<String> keys = ids.stream().map(this::key).toList();
+
+        List<?> counts = redisTemplate.execute(INCREMENT_IF_PRESENT, keys, String.valueOf(delta));
+        Map<UUID, Long> result = new LinkedHashMap<>();
+        if (counts == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size() && i < counts.size(); i++) {
+            long count = ((Number) counts.get(i)).longValue();
+            if (count >= 0) {
+                result.put(ids.get(i), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void evictAll() {
+        List<String> batch = new ArrayList<>(SCAN_COUNT);
+        try (Cursor<String> cursor = scan()) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= SCAN_COUNT) {
+                    redisTemplate.unlink(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.unlink(batch);
+        }
+    }
+
+    /** SCAN 으로 순회하며 저수지 표본 추출 (메모리는 limit 만큼만 사용) */
+    @Override
+    public Set<UUID> sampleUserIds(int limit) {
+        List<UUID> sample = new ArrayList<>(limit);
+        long seen = 0;
+        try (Cursor<String> cursor = scan()) {
+            while (cursor.hasNext()) {
+                UUID userId = UUID.fromString(cursor.next().substring(KEY_PREFIX.length()));
+                if (sample.size() < limit) {
+                    sample.add(userId);
+                } else {
+                    long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                    if (slot < limit) {
+                        sample.set((int) slot, userId);
+                    }
+                }
+                seen++;
+            }
+        }
+        return new HashSet<>(sample);
+    }
+
+    @Override
+    public boolean tryAcquireRepairLease(Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REPAIR_LEASE_KEY, "1", lease));
+    }
+
+    private Cursor<String> scan() {
+        return redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build());
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sprint.ootd5team.domain.notification.repository.unread;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 안 읽은 알림 수(배지) 카운터 저장소
+ * <p>
+ * - 최초 조회 시 COUNT 쿼리 결과로 초기화, 이후 알림 생성/삭제 시 증감
+ * - 전체 알림 생성 시에는 모든 카운터를 비워 다음 조회 때 다시 초기화
+ * - 누락된 증감은 주기적인 보정 작업과 TTL 만료로 바로잡힘
+ */
+public interface UnreadCountRepository {
+
+    OptionalLong get(UUID userId);
+
+    /** 카운터 초기화 (이미 존재하면 유지) */
+    void initialize(UUID userId, long count);
+
+    /**
+     * 현재 값이 expected 일 때만 카운터 값 덮어쓰기 (보정 작업용)
+     * - 보정 중에 반영된 증감을 덮어쓰지 않도록 읽은 값과 비교
+     *
+     * @return 덮어썼으면 true
+     */
+    boolean compareAndSet(UUID userId, long expected, long count);
+
+    /**
+     * 존재하는(초기화된) 카운터만 증감 (0 미만으로 내려가지 않음)
+     *
+     * @return 증감된 사용자별 카운터 값 (카운터가 없던 사용자는 제외)
+     */
+    Map<UUID, Long> incrementIfPresent(Collection<UUID> userIds, long delta);
+
+    /** 모든 카운터 삭제 */
+    void evictAll();
+
+    /**
+     * 카운터가 존재하는 사용자 중 최대 limit 명을 무작위로 선택 (보정 작업용)
+     */
+    Set<UUID> sampleUserIds(int limit);
+
+    /**
+     * 보정 작업 실행권 획득 (여러 인스턴스 중 lease 동안 한 곳만 실행)
+     *
+     * @return 획득했으면 true
+     */
+    boolean tryAcquireRepairLease(Duration lease);
+}
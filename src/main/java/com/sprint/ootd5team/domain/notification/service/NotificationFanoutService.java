@@ -0,0 +1,126 @@
+package com.sprint.ootd5team.domain.notification.service;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.notification.dto.data.FanoutCheckpoint;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.event.type.base.DomainEvent;
+import com.sprint.ootd5team.domain.notification.repository.fanout.FanoutCheckpointRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 fan-out (한 이벤트 → 다수 수신자)
+ * <p>
+ * - 수신자가 비어 있으면(전체 전송) 전체 알림 1건만 저장하고 SSE 브로드캐스트 (사용자별 행을 만들지 않음)
+ *   전체 알림 id 는 fanoutId 이므로 체크포인트 기록 전에 중단되어 다시 처리해도 중복 저장되지 않음
+ * - 그 외에는 수신자를 id 오름차순 청크로 나눠 처리
+ * - 청크마다 JDBC 배치 INSERT 트랜잭션 1회 + SSE 일괄 전송 1회
+ * - 청크를 마칠 때마다 마지막 수신자 id 를 체크포인트로 기록, 같은 이벤트가 다시 소비되면 그 다음 수신자부터 재개
+ * - 알림 id 는 fanoutId + receiverId 로 결정되므로 체크포인트 직전 청크를 다시 처리해도 중복 저장되지 않음
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    public static final String EVENT_NAME = "notifications";
+
+    private final NotificationService notificationService;
+    private final SseService sseService;
+    private final FanoutCheckpointRepository checkpointRepository;
+    private final int chunkSize;
+
+    public NotificationFanoutService(
+        NotificationService notificationService,
+        SseService sseService,
+        FanoutCheckpointRepository checkpointRepository,
+        @Value("${ootd.notification.fanout.chunk-size:500}") int chunkSize
+    ) {
+        this.notificationService = notificationService;
+        this.sseService = sseService;
+        this.checkpointRepository = checkpointRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 이벤트의 수신자(비어 있으면 전체 사용자)에게 알림 생성 및 SSE 전송
+     *
+     * @param fanoutId 이벤트 식별자 (같은 메시지를 다시 소비하면 같은 값이어야 함)
+     * @param event    알림 이벤트
+     */
+    public void fanout(UUID fanoutId, DomainEvent<?> event) {
+        Optional<FanoutCheckpoint> checkpoint = checkpointRepository.find(fanoutId);
+        if (checkpoint.map(FanoutCheckpoint::completed).orElse(false)) {
+            log.info("[NotificationFanout] 이미 완료된 fan-out 건너뜀: fanoutId={}", fanoutId);
+            return;
+        }
+        UUID cursor = checkpoint.map(FanoutCheckpoint::lastReceiverId).orElse(null);
+        if (cursor != null) {
+            log.info("[NotificationFanout] 중단된 fan-out 재개: fanoutId={}, after={}", fanoutId, cursor);
+        }
+
+        List<UUID> receiverIds = event.getReceiverIds();
+        int count = receiverIds == null || receiverIds.isEmpty()
+            ? broadcast(fanoutId, event)
+            : fanoutToReceivers(fanoutId, event, receiverIds, cursor);
+
+        checkpointRepository.save(fanoutId, FanoutCheckpoint.done());
+        log.info("[NotificationFanout] fan-out 완료: fanoutId={}, type={}, notifications={}",
+            fanoutId, event.getTemplateType(), count);
+    }
+
+    private int broadcast(UUID fanoutId, DomainEvent<?> event) {
+        NotificationDto notification = notificationService.createBroadcastNotification(
+            fanoutId, event.getTemplateType(), event.getLevel(), event.getArgs());
+        try {
+            sseService.broadcast(EVENT_NAME, notification);
+        } catch (Exception e) {
+            log.error("[NotificationFanout] SSE 브로드캐스트 실패: notificationId={}", notification.id(), e);
+        }
+        return 1;
+    }
+
+    private int fanoutToReceivers(UUID fanoutId, DomainEvent<?> event, List<UUID> receiverIds,
+        UUID cursor) {
+        List<UUID> remaining = receiverIds.stream()
+            .distinct()
+            .sorted()
+            .filter(id -> cursor == null || id.compareTo(cursor) > 0)
+            .toList();
+
+        for (int from = 0; from < remaining.size(); from += chunkSize) {
+            processChunk(fanoutId, event,
+                remaining.subList(from, Math.min(from + chunkSize, remaining.size())));
+        }
+        return remaining.size();
+    }
+
+    /**
+     * 한 청크 처리: 일괄 저장 → SSE 일괄 전송 → 체크포인트 기록
+     * - 저장 실패는 그대로 던져 Kafka 재시도에 맡김 (체크포인트 이후부터 재개)
+     * - SSE 전송 실패는 알림이 이미 저장되었으므로 기록만 하고 진행 (재연결/목록 조회로 확인 가능)
+     */
+    private void processChunk(UUID fanoutId, DomainEvent<?> event, List<UUID> receiverIds) {
+        List<NotificationDto> notifications = notificationService.createNotifications(
+            fanoutId, receiverIds, event.getTemplateType(), event.getLevel(), event.getArgs());
+
+        Map<UUID, NotificationDto> byReceiver = new LinkedHashMap<>();
+        notifications.forEach(notification -> byReceiver.put(notification.receiverId(), notification));
+        try {
+            sseService.sendEach(EVENT_NAME, byReceiver);
+        } catch (Exception e) {
+            log.error("[NotificationFanout] SSE 전송 실패: fanoutId={}, receivers={}",
+                fanoutId, receiverIds.size(), e);
+        }
+
+        checkpointRepository.save(fanoutId,
+            FanoutCheckpoint.progress(receiverIds.get(receiverIds.size() - 1)));
+        log.debug("[NotificationFanout] 청크 처리 완료: fanoutId={}, receivers={}",
+            fanoutId, receiverIds.size());
+    }
+}
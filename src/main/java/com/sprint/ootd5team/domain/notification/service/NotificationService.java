@@ -2,9 +2,11 @@ package com.sprint.ootd5team.domain.notification.service;
 
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDtoCursorResponse;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
 import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
 import com.sprint.ootd5team.domain.notification.enums.NotificationTemplateType;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Sort;
 
@@ -25,7 +27,24 @@ public interface NotificationService {
         Object... args
     );
 
+    List<NotificationDto> createNotifications(
+        UUID fanoutId,
+        List<UUID> receiverIds,
+        NotificationTemplateType type,
+        NotificationLevel level,
+        Object... args
+    );
+
+    NotificationDto createBroadcastNotification(
+        UUID broadcastId,
+        NotificationTemplateType type,
+        NotificationLevel level,
+        Object... args
+    );
+
     void delete(UUID receiverId, UUID notificationId);
 
     void createWeatherNotification(UUID profileId, String content);
+
+    UnreadCountDto countUnread(UUID userId);
 }
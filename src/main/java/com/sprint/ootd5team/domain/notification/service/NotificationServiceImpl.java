@@ -3,23 +3,31 @@ package com.sprint.ootd5team.domain.notification.service;
 import com.sprint.ootd5team.base.exception.notification.NotificationNotFoundException;
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
+import com.sprint.ootd5team.domain.notification.counter.UnreadNotificationCounter;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDtoCursorResponse;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotificationDismissal;
 import com.sprint.ootd5team.domain.notification.entity.Notification;
 import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
 import com.sprint.ootd5team.domain.notification.enums.NotificationTemplateType;
+import com.sprint.ootd5team.domain.notification.event.type.UnreadCountChangedEvent;
 import com.sprint.ootd5team.domain.notification.mapper.NotificationMapper;
+import com.sprint.ootd5team.domain.notification.repository.BroadcastNotificationDismissalRepository;
+import com.sprint.ootd5team.domain.notification.repository.BroadcastNotificationRepository;
 import com.sprint.ootd5team.domain.notification.repository.NotificationRepository;
 import com.sprint.ootd5team.domain.profile.entity.Profile;
 import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
 import com.sprint.ootd5team.domain.user.entity.User;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
 import jakarta.persistence.EntityManager;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -35,9 +43,13 @@ public class NotificationServiceImpl implements NotificationService {
     private final EntityManager entityManager;
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final BroadcastNotificationDismissalRepository dismissalRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 현재 로그인한 사용자의 알림을 커서 기반 페이지네이션 방식으로 조회
+     * 현재 로그인한 사용자의 알림(개인 알림 + 전체 알림)을 커서 기반 페이지네이션 방식으로 조회
      *
      * @param currentUserId 현재 사용자 UUID
      * @param cursor        조회 기준 시각 (null 가능)
@@ -50,7 +62,7 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public NotificationDtoCursorResponse findAll(UUID currentUserId, Instant cursor,
         UUID idAfter, int limit, Direction direction) {
-        List<Notification> notifications = notificationRepository.findByUserWithCursor(
+        List<NotificationDto> notifications = notificationRepository.findByUserWithCursor(
             currentUserId, cursor, idAfter, limit, direction);
 
         boolean hasNext = notifications.size() > limit;
@@ -59,20 +71,20 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         String nextCursor =
-            hasNext ? notifications.get(notifications.size() - 1).getCreatedAt().toString() : null;
+            hasNext ? notifications.get(notifications.size() - 1).createdAt().toString() : null;
         String nextIdAfter =
-            hasNext ? notifications.get(notifications.size() - 1).getId().toString() : null;
+            hasNext ? notifications.get(notifications.size() - 1).id().toString() : null;
 
         log.debug(
             "[NotificationService] 알림 조회: userId={}, fetched={}, hasNext={}, cursor={}, idAfter={}",
             currentUserId, notifications.size(), hasNext, cursor, idAfter);
 
         return new NotificationDtoCursorResponse(
-            notifications.stream().map(notificationMapper::toDto).toList(),
+            notifications,
             nextCursor,
             nextIdAfter,
             hasNext,
-            notificationRepository.countByReceiverId(currentUserId),
+            unreadNotificationCounter.get(currentUserId),
             "createdAt",
             direction.name()
         );
@@ -104,6 +116,7 @@ public class NotificationServiceImpl implements NotificationService {
             .build();
 
         Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(List.of(receiverId), 1));
         log.info(
             "[NotificationService] 알림 생성 완료: receiverId={}, type={}, level={}, notificationId={}",
             receiverId, type, level, saved.getId());
@@ -112,7 +125,78 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * 특정 사용자의 알림을 삭제
+     * 여러 사용자에게 같은 알림을 일괄 생성 (fan-out 청크 단위)
+     * <p>
+     * 알림 id 는 fanoutId + receiverId 로 결정되므로, 중단 후 같은 청크를 다시 처리해도 중복 저장되지 않음
+     * 그 사이 탈퇴한 수신자는 건너뛰므로 청크 전체가 실패하지 않음
+     *
+     * @param fanoutId    fan-out 식별자 (같은 이벤트면 재처리 시에도 동일)
+     * @param receiverIds 알림 수신자 UUID 목록
+     * @param type        알림 타입
+     * @param level       알림 중요도 레벨
+     * @param args        알림 메시지 포맷에 사용될 인자
+     * @return 실제로 저장된 알림 DTO 목록 (탈퇴한 수신자 제외)
+     */
+    @Transactional
+    @Override
+    public List<NotificationDto> createNotifications(UUID fanoutId, List<UUID> receiverIds,
+        NotificationTemplateType type, NotificationLevel level, Object... args
+    ) {
+        String title = type.formatTitle(args);
+        String content = type.formatContent(args);
+        Instant createdAt = Instant.now();
+
+        List<NotificationDto> notifications = receiverIds.stream()
+            .map(receiverId -> new NotificationDto(
+                notificationId(fanoutId, receiverId), createdAt, receiverId, title, content, level))
+            .toList();
+
+        List<NotificationDto> inserted = notificationRepository.bulkInsert(notifications);
+        if (!inserted.isEmpty()) {
+            // 재처리로 건너뛴 알림(ON CONFLICT)과 탈퇴한 수신자는 카운터를 올리지 않음
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(
+                inserted.stream().map(NotificationDto::receiverId).toList(), 1));
+        }
+        log.info("[NotificationService] 알림 일괄 생성 완료: fanoutId={}, type={}, level={}, requested={}, inserted={}",
+            fanoutId, type, level, notifications.size(), inserted.size());
+
+        return inserted;
+    }
+
+    /**
+     * 전체 사용자 대상 알림을 1건만 생성 (사용자별 행을 만들지 않음)
+     * <p>
+     * fan-out 재처리 시 같은 broadcastId 로 다시 호출되므로, 이미 있으면 새로 만들지 않고 기존 알림을 반환
+     *
+     * @param broadcastId 전체 알림 id (fan-out 식별자)
+     * @param type        알림 타입
+     * @param level       알림 중요도 레벨
+     * @param args        알림 메시지 포맷에 사용될 인자
+     * @return 생성된(또는 이미 있던) 알림 DTO (receiverId 없음)
+     */
+    @Transactional
+    @Override
+    public NotificationDto createBroadcastNotification(UUID broadcastId, NotificationTemplateType type,
+        NotificationLevel level, Object... args
+    ) {
+        NotificationDto broadcast = new NotificationDto(broadcastId, Instant.now(), null,
+            type.formatTitle(args), type.formatContent(args), level);
+        if (!broadcastNotificationRepository.insertIfAbsent(broadcast)) {
+            log.info("[NotificationService] 이미 생성된 전체 알림: notificationId={}", broadcastId);
+            return broadcastNotificationRepository.findById(broadcastId)
+                .map(notificationMapper::toDto)
+                .orElse(broadcast);
+        }
+
+        eventPublisher.publishEvent(UnreadCountChangedEvent.all());
+        log.info("[NotificationService] 전체 알림 생성 완료: type={}, level={}, notificationId={}",
+            type, level, broadcastId);
+
+        return broadcast;
+    }
+
+    /**
+     * 특정 사용자의 알림을 삭제 (전체 알림이면 그 사용자에게서만 숨김)
      *
      * @param receiverId     알림 수신자 UUID
      * @param notificationId 삭제할 알림 UUID
@@ -122,8 +206,11 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     @Override
     public void delete(UUID receiverId, UUID notificationId) {
-        Notification notification = notificationRepository.findById(notificationId)
-            .orElseThrow(() -> NotificationNotFoundException.withId(notificationId));
+        Notification notification = notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null) {
+            dismissBroadcast(receiverId, notificationId);
+            return;
+        }
 
         if (!notification.getReceiver().getId().equals(receiverId)) {
             log.warn("[NotificationService] 알림 삭제 거부: receiverId={}, notificationId={}", receiverId,
@@ -132,9 +219,26 @@ public class NotificationServiceImpl implements NotificationService {
         }
 
         notificationRepository.delete(notification);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(List.of(receiverId), -1));
         log.info("[NotificationService] 알림 삭제 성공");
     }
 
+    /**
+     * 전체 알림은 행을 지우지 않고 이 사용자에게서만 숨김
+     * - 가입 전 전체 알림은 목록 / 카운터에 없으므로 없는 알림으로 처리
+     */
+    private void dismissBroadcast(UUID receiverId, UUID notificationId) {
+        if (!broadcastNotificationRepository.existsVisibleTo(notificationId, receiverId)) {
+            throw NotificationNotFoundException.withId(notificationId);
+        }
+        if (!dismissalRepository.existsByBroadcastIdAndUserId(notificationId, receiverId)) {
+            dismissalRepository.save(new BroadcastNotificationDismissal(notificationId, receiverId));
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(List.of(receiverId), -1));
+        }
+        log.info("[NotificationService] 전체 알림 숨김: receiverId={}, notificationId={}", receiverId,
+            notificationId);
+    }
+
     @Transactional
     @Override
     public void createWeatherNotification(UUID profileId, String content) {
@@ -152,5 +256,23 @@ public class NotificationServiceImpl implements NotificationService {
             .build();
 
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(List.of(user.getId()), 1));
+    }
+
+    /**
+     * 안 읽은 알림 수 (배지) 조회
+     * - 카운터가 있으면 COUNT 쿼리 없이 반환
+     *
+     * @param userId 사용자 UUID
+     * @return 안 읽은 알림 수 DTO
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public UnreadCountDto countUnread(UUID userId) {
+        return new UnreadCountDto(unreadNotificationCounter.get(userId));
+    }
+
+    private UUID notificationId(UUID fanoutId, UUID receiverId) {
+        return UUID.nameUUIDFromBytes((fanoutId + ":" + receiverId).getBytes(StandardCharsets.UTF_8));
     }
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
@@ -17,4 +18,7 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 
     @EntityGraph(attributePaths = "location")
     List<Profile> findAllByLocationIsNotNull();
+
+    @Query("select p.user.id from Profile p where p.location is not null")
+    List<UUID> findUserIdsByLocationIsNotNull();
 }
\ No newline at end of file
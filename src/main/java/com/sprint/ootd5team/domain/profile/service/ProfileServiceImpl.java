@@ -4,6 +4,7 @@ import com.sprint.ootd5team.base.exception.file.FileSaveFailedException;
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
 import com.sprint.ootd5team.base.storage.FileStorage;
+import com.sprint.ootd5team.domain.feed.event.type.FeedAuthorUpdatedEvent;
 import com.sprint.ootd5team.domain.location.entity.Location;
 import com.sprint.ootd5team.domain.location.exception.LocationNotFoundException;
 import com.sprint.ootd5team.domain.location.repository.LocationRepository;
@@ -14,11 +15,13 @@ import com.sprint.ootd5team.domain.profile.mapper.ProfileMapper;
 import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,6 +35,7 @@ public class ProfileServiceImpl implements ProfileService{
     private final ProfileMapper profileMapper;
     private final FileStorage fileStorage;
     private final LocationRepository locationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ootd.storage.s3.prefix.profiles}")
     private String profilesPrefix;
@@ -69,6 +73,8 @@ public class ProfileServiceImpl implements ProfileService{
         // 해당 userId의 프로필이 존재하는지 확인
         Profile profile = profileRepository.findByUserId(userId)
             .orElseThrow(ProfileNotFoundException::new);
+        String previousName = profile.getName();
+        String previousProfileImageUrl = profile.getProfileImageUrl();
 
         profileImage.ifPresent(image -> {
             String previousImageUrl = profile.getProfileImageUrl();
@@ -99,6 +105,13 @@ public class ProfileServiceImpl implements ProfileService{
         // 프로필 업데이트
         profile.update(request.name(), request.gender(), request.birthDate(),location, request.temperatureSensitivity());
 
+        // 피드 검색 문서의 작성자 정보 갱신 (커밋 이후)
+        if (!Objects.equals(previousName, profile.getName())
+            || !Objects.equals(previousProfileImageUrl, profile.getProfileImageUrl())) {
+            eventPublisher.publishEvent(
+                new FeedAuthorUpdatedEvent(userId, profile.getName(), profile.getProfileImageUrl()));
+        }
+
         log.info("[Profile] 프로필 업데이트 성공 profileId:{}, userId:{}", profile.getId(), userId);
         return profileMapper.toDto(profileRepository.save(profile));
 
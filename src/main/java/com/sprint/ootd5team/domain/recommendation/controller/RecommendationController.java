@@ -27,13 +27,15 @@ public class RecommendationController implements RecommendationApi {
     @Override
     public ResponseEntity<RecommendationDto> getRecommendation(
         @RequestParam UUID weatherId,
-        @RequestParam(required = false, defaultValue = "false") boolean useAi
+        @RequestParam(required = false, defaultValue = "false") boolean useAi,
+        @RequestParam(required = false, defaultValue = "false") boolean async
     ) {
-        log.info("[RecommendationController] 추천 조회 수신: weatherId={} ", weatherId);
+        log.info("[RecommendationController] 추천 조회 수신: weatherId={}, useAi={}, async={}",
+            weatherId, useAi, async);
         UUID userId = authService.getCurrentUserId();
 
         RecommendationDto recommendationDto = recommendationService.getRecommendation(weatherId,
-            userId, useAi);
+            userId, useAi, async);
 
         return ResponseEntity
             .status(HttpStatus.OK)
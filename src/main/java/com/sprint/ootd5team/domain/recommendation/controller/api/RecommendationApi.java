@@ -26,6 +26,8 @@ public interface RecommendationApi {
             <ul>
               <li><b>useAi=true</b> → LLM 기반 추천 (AI 조합)</li>
               <li><b>useAi=false</b> → 내부 알고리즘 기반 추천</li>
+              <li><b>useAi=true&amp;async=true</b> → 알고리즘 결과와 jobId를 즉시 반환,
+                LLM 결과는 SSE <code>recommendations</code> 이벤트로 전달</li>
             </ul>
             """,
         security = @SecurityRequirement(name = "CustomHeaderAuth")
@@ -56,5 +58,12 @@ public interface RecommendationApi {
             description = "AI 기반 추천 여부 (기본값: false)",
             example = "true"
         )
-        @RequestParam(required = false, defaultValue = "false") boolean useAi);
+        @RequestParam(required = false, defaultValue = "false") boolean useAi,
+
+        @Parameter(
+            in = ParameterIn.QUERY,
+            description = "AI 추천 비동기 처리 여부 (기본값: false, useAi=true 일 때만 적용)",
+            example = "true"
+        )
+        @RequestParam(required = false, defaultValue = "false") boolean async);
 }
@@ -0,0 +1,24 @@
+package com.sprint.ootd5team.domain.recommendation.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 배치로 미리 계산한 추천 결과 (사용자 + 날씨 단위)
+ *
+ * @param profileInfo 계산 당시 프로필 정보 (달라지면 사용하지 않음)
+ * @param outfits     점수순 상위 코디 (코디별 의상 ID 목록)
+ */
+public record PrecomputedRecommendation(
+    UUID userId,
+    UUID weatherId,
+    ProfileInfoDto profileInfo,
+    List<List<UUID>> outfits,
+    Instant computedAt
+) {
+
+    public PrecomputedRecommendation {
+        outfits = outfits == null ? List.of() : outfits.stream().map(List::copyOf).toList();
+    }
+}
@@ -4,11 +4,15 @@ import java.util.List;
 import java.util.UUID;
 import lombok.Builder;
 
+/**
+ * @param jobId 비동기 LLM 추천 작업 ID (async 모드에서만 존재, 결과는 SSE "recommendations" 이벤트로 전달)
+ */
 @Builder
 public record RecommendationDto(
     UUID weatherId,
     UUID userId,
-    List<RecommendationClothesDto> clothes
+    List<RecommendationClothesDto> clothes,
+    UUID jobId
 ) {
 
 }
@@ -0,0 +1,108 @@
+package com.sprint.ootd5team.domain.recommendation.engine;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
+import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
+import com.sprint.ootd5team.domain.recommendation.enums.Color;
+import com.sprint.ootd5team.domain.recommendation.enums.Material;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OptionalItemSubType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OuterType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.ShoesType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
+import com.sprint.ootd5team.domain.recommendation.enums.util.EnumParser;
+import com.sprint.ootd5team.domain.recommendation.enums.util.SeasonMask;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 의상 엔티티 → 추천용 특징값(ClothesFeature) 추출기
+ * <p>
+ * - 속성값(색상/소재/스타일/세부 타입)과 의상 이름을 EnumParser로 파싱
+ * - 계절 속성값을 Season 집합으로 변환
+ * - 추출 규칙이 바뀌면 FEATURE_VERSION을 올려 저장된 값을 재계산하도록 함
+ */
+@Slf4j
+@Component
+public class ClothesFeatureExtractor {
+
+    /** 추출 로직 버전 (규칙 변경 시 증가) */
+    public static final int FEATURE_VERSION = 1;
+
+    public ClothesFeature extract(Clothes entity) {
+        String name = entity.getName();
+        ClothesType type = entity.getType();
+
+        // 속성명 → 속성값 (한 번만 순회)
+        Map<String, String> attrs = toAttributeMap(entity);
+
+        // 색상 → 톤 자동 연계
+        Color color = EnumParser.parseFromAttrAndName(Color.class, attr(attrs, "색상"), name, Color.OTHER);
+
+        // 속성명 또는 의상 이름에서 세부 타입 분류하기
+        TopType topType = type == ClothesType.TOP
+            ? EnumParser.parseFromAttrAndName(TopType.class, attr(attrs, "상의 종류"), name, TopType.OTHER)
+            : TopType.OTHER;
+
+        BottomType bottomType = type == ClothesType.BOTTOM
+            ? EnumParser.parseFromAttrAndName(BottomType.class, attr(attrs, "하의 종류"), name, BottomType.OTHER)
+            : BottomType.COTTON_PANTS;
+
+        OuterType outerType = type == ClothesType.OUTER
+            ? EnumParser.parseFromAttrAndName(OuterType.class, attr(attrs, "아우터 종류"), name, OuterType.OTHER)
+            : OuterType.OTHER;
+
+        ShoesType shoesType = type == ClothesType.SHOES
+            ? EnumParser.parseFromAttrAndName(ShoesType.class, attr(attrs, "신발타입"), name, ShoesType.OTHER)
+            : ShoesType.SNEAKERS;
+
+        OptionalItemSubType optionalSubType = type == ClothesType.ETC
+            ? EnumParser.parseFromAttrAndName(OptionalItemSubType.class, attr(attrs, "아이템 종류"), name, OptionalItemSubType.NONE)
+            : OptionalItemSubType.NONE;
+
+        ClothesFeature feature = ClothesFeature.builder()
+            .clothesId(entity.getId())
+            .featureVersion(FEATURE_VERSION)
+            .color(color)
+            .colorTone(color.tone())
+            .material(EnumParser.parseFromAttrAndName(Material.class, attr(attrs, "소재"), name, Material.OTHER))
+            .style(EnumParser.parseFromAttrAndName(ClothesStyle.class, attr(attrs, "스타일"), name, ClothesStyle.OTHER))
+            .topType(topType)
+            .bottomType(bottomType)
+            .outerType(outerType)
+            .shoesType(shoesType)
+            .optionalSubType(optionalSubType)
+            .seasons(ClothesFeature.joinSeasons(parseSeasons(attr(attrs, SeasonMask.SEASON_ATTRIBUTE))))
+            .build();
+
+        log.trace("[ClothesFeatureExtractor] 특징값 추출: name={}, type={}, color={}, material={}, style={}, seasons={}",
+            name, type, feature.getColor(), feature.getMaterial(), feature.getStyle(), feature.getSeasons());
+        return feature;
+    }
+
+    /** 계절 속성값("봄/가을", "사계절" 등) → Season 집합 */
+    public Set<Season> parseSeasons(String value) {
+        return SeasonMask.parseSeasons(value);
+    }
+
+    // === 의상 속성값 헬퍼 ===
+    private Map<String, String> toAttributeMap(Clothes entity) {
+        Map<String, String> attrs = new HashMap<>();
+        for (ClothesAttributeValue value : entity.getClothesAttributeValues()) {
+            // 기존 getAttr 동작과 동일하게 먼저 나온 값 우선
+            attrs.putIfAbsent(value.getAttribute().getName().toLowerCase(Locale.ROOT), value.getDefValue());
+        }
+        return attrs;
+    }
+
+    private String attr(Map<String, String> attrs, String key) {
+        return attrs.getOrDefault(key.toLowerCase(Locale.ROOT), "");
+    }
+}
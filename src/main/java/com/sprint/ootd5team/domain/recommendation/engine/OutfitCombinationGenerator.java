@@ -1,6 +1,7 @@
 package com.sprint.ootd5team.domain.recommendation.engine;
 
 import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.recommendation.engine.RecommendationParallelExecutor.Stage;
 import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
 import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
 import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
@@ -9,16 +10,25 @@ import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 후보 의상으로 코디 조합 생성 (빔 탐색)
+ * <p>
+ * - 상의x하의 / 원피스 기본 조합에서 시작해 타입 순서대로 아이템을 하나씩 추가
+ * - 탐색 중에는 후보 풀 인덱스 배열 + 누적 점수만 가진 경량 상태(Beam)를 사용하고,
+ *   후보 점수는 새 조합을 만들지 않고 증분(delta)으로 계산
+ * - 상위 K개는 고정 크기 힙으로 유지, 유사 코디 그룹은 이름 해시로 구분
+ * - 최종 결과만 OutfitScore로 변환
+ * - 상의x하의 / 원피스 빔은 독립적이므로 후보가 많으면 병렬 실행 (RecommendationParallelExecutor)
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -29,129 +39,153 @@ public class OutfitCombinationGenerator {
 
     private static final double DUPLICATE_TIE_DELTA = 1;   // 점수 차이 임계값 ( n 이내면 랜덤 선택)
 
-    public List<OutfitScore> generateWithScoring(List<ClothesScore> candidates) {
-        // 1. 타입별 그룹 지정
-        Map<ClothesType, List<ClothesScore>> grouped = candidates.stream()
-            .collect(Collectors.groupingBy(c -> c.item().type()));
-
-        // 2. 기본 조합 outfitScore에 추가 후 상위 n개 반환
-        List<OutfitScore> topBottomBase = buildBaseCombinations(
-            grouped.getOrDefault(ClothesType.TOP, List.of()),
-            Optional.of(grouped.getOrDefault(ClothesType.BOTTOM, List.of()))
-        );
-        List<OutfitScore> dressBase = List.of();
-        List<ClothesScore> dresses = grouped.getOrDefault(ClothesType.DRESS, List.of());
-        if (!dresses.isEmpty()) {
-            dressBase = buildBaseCombinations(dresses, Optional.empty());
-        }
-
-        // 3. 기존 outfitScore 리스트에 나머지 타입 아이템 순차적 추가
-        // 3_1) 확장할 타입 순서 고정(아우터 -> 신발 -> ..)
-        List<ClothesType> orderedTypes = Arrays.stream(ClothesType.values())
-            .filter(t -> !isSkippableType(t))
-            .sorted(Comparator.comparingInt(ClothesType::order))
-            .toList();
-
-        // 3_1) 기존 코디에서 타입 순서대로 확장
-        for (ClothesType type : orderedTypes) {
-            List<ClothesScore> items = grouped.getOrDefault(type, List.of());
-            if (items.isEmpty()) {
-                continue;
-            }
+    /** 확장할 타입 순서 고정(아우터 -> 신발 -> ..) */
+    private static final List<ClothesType> EXPANSION_ORDER = Arrays.stream(ClothesType.values())
+        .filter(t -> !isSkippableType(t))
+        .sorted(Comparator.comparingInt(ClothesType::order))
+        .toList();
 
-            // 상의·하의 조합 확장
-            topBottomBase = buildOptionalCombinations(topBottomBase, items, MAX_TOP_BOTTOM_BASE_SIZE, type);
+    /** 타입 이름 알파벳 순위 (유사 코디 그룹 키의 아이템 순서) */
+    private static final int[] TYPE_NAME_RANK = typeNameRanks();
 
-            // 원피스 조합 확장(있으면)
-            if (!dressBase.isEmpty()) {
-                dressBase = buildOptionalCombinations(dressBase, items, MAX_DRESS_BASE_SIZE, type);
-            }
+    private final RecommendationParallelExecutor parallelExecutor;
+
+    public List<OutfitScore> generateWithScoring(List<ClothesScore> candidates) {
+        ClothesScore[] pool = candidates.toArray(new ClothesScore[0]);
+
+        // 1. 타입별 그룹 지정 (후보 풀 인덱스)
+        int[][] grouped = groupByType(pool);
+
+        // 2~3. 상의x하의 / 원피스 빔은 서로 독립 → 기본 조합 생성 후 타입 순서대로 확장
+        List<Supplier<List<Beam>>> beams = new ArrayList<>(2);
+        beams.add(() -> expand(pool, grouped,
+            buildBaseCombinations(pool, grouped[ClothesType.TOP.ordinal()], grouped[ClothesType.BOTTOM.ordinal()]),
+            MAX_TOP_BOTTOM_BASE_SIZE));
+        int[] dresses = grouped[ClothesType.DRESS.ordinal()];
+        if (dresses.length > 0) {
+            beams.add(() -> expand(pool, grouped,
+                buildBaseCombinations(pool, dresses, null),
+                MAX_DRESS_BASE_SIZE));
         }
 
+        List<List<Beam>> results = parallelExecutor.invokeAll(Stage.OUTFIT, pool.length, beams);
+        List<Beam> topBottomBase = results.get(0);
+        List<Beam> dressBase = results.size() > 1 ? results.get(1) : List.of();
+
         // 4. 상의/하의와 원피스 리스트 병합
         List<OutfitScore> merged = new ArrayList<>(topBottomBase.size() + dressBase.size());
-        merged.addAll(topBottomBase);
-        merged.addAll(dressBase);
+        for (Beam beam : topBottomBase) {
+            merged.add(beam.toOutfitScore(pool));
+        }
+        for (Beam beam : dressBase) {
+            merged.add(beam.toOutfitScore(pool));
+        }
 
         logStepResult("최종 결과 리스트", merged);
         return merged;
     }
 
+    /** 기존 코디에서 타입 순서대로 확장 */
+    private List<Beam> expand(ClothesScore[] pool, int[][] grouped, List<Beam> base, int maxSize) {
+        List<Beam> current = base;
+        for (ClothesType type : EXPANSION_ORDER) {
+            int[] items = grouped[type.ordinal()];
+            if (items.length == 0 || current.isEmpty()) {
+                continue;
+            }
+            current = buildOptionalCombinations(pool, current, items, maxSize, type);
+        }
+        return current;
+    }
+
     /**
      * Outfit 조합 생성 시 건너뛸 의상 타입인지 확인
      */
-    private boolean isSkippableType(ClothesType type) {
+    private static boolean isSkippableType(ClothesType type) {
         return switch (type) {
             case TOP, BOTTOM, DRESS, UNDERWEAR -> true;
             default -> false;
         };
     }
 
+    /** 타입별 후보 풀 인덱스 (입력 순서 유지) */
+    private int[][] groupByType(ClothesScore[] pool) {
+        int[] counts = new int[ClothesType.values().length];
+        for (ClothesScore c : pool) {
+            counts[c.item().type().ordinal()]++;
+        }
+        int[][] grouped = new int[counts.length][];
+        for (int t = 0; t < counts.length; t++) {
+            grouped[t] = new int[counts[t]];
+            counts[t] = 0;
+        }
+        for (int i = 0; i < pool.length; i++) {
+            int t = pool[i].item().type().ordinal();
+            grouped[t][counts[t]++] = i;
+        }
+        return grouped;
+    }
+
     /**
      * 기본 Outfit 조합 생성
+     * - second가 비어 있으면 first 단독 조합 (원피스)
      */
-    private List<OutfitScore> buildBaseCombinations(
-        List<ClothesScore> base1,
-        Optional<List<ClothesScore>> base2
-    ) {
-        boolean hasSecond = base2.isPresent() && !base2.get().isEmpty();
+    private List<Beam> buildBaseCombinations(ClothesScore[] pool, int[] first, int[] second) {
+        boolean hasSecond = second != null && second.length > 0;
         String baseType = hasSecond ? "[TOPxBOTTOM]" : "[DRESS]";
         int maxSize = hasSecond ? MAX_TOP_BOTTOM_BASE_SIZE : MAX_DRESS_BASE_SIZE;
 
-        List<OutfitScore> baseCombos = new ArrayList<>();
+        // 점수 상위 maxSize개만 유지
+        TopK topK = new TopK(maxSize);
+        for (int f : first) {
+            Beam single = Beam.EMPTY.plus(pool, f, 0.0);
+            if (!hasSecond) {
+                // 원피스 단독 추가
+                topK.offer(single);
+                continue;
+            }
 
-        if (hasSecond) {
             // 상의 + 하의 조합
-            for (ClothesScore top : base1) {
-                for (ClothesScore bottom : base2.get()) {
-                    baseCombos.add(new OutfitScore().add(top).add(bottom));
+            for (int s : second) {
+                ClothesScore bottom = pool[s];
+                double delta = single.deltaFor(pool, bottom);
+                if (topK.accepts(single.scoreWith(bottom, delta))) {
+                    topK.offer(single.plus(pool, s, delta));
                 }
             }
-        } else {
-            // 원피스 단독 추가
-            for (ClothesScore dress : base1) {
-                baseCombos.add(new OutfitScore().add(dress));
-            }
         }
 
-        // 점수순 정렬
-        List<OutfitScore> limitedBaseOutfit = buildRankLimited(baseCombos, maxSize);
-        logStepResult(baseType + "기본 조합 생성 완료", limitedBaseOutfit);
+        List<Beam> limitedBaseOutfit = topK.toList();
+        logStepResult(baseType + "기본 조합 생성 완료", limitedBaseOutfit, pool);
         return limitedBaseOutfit;
     }
 
-    /**
-     * 점수 순 정렬 및 최대 크기만큼만 반환
-     */
-    private List<OutfitScore> buildRankLimited(List<OutfitScore> outfit, int maxSize) {
-        return outfit.stream()
-            .sorted(Comparator.comparingDouble(OutfitScore::normalizedScore).reversed())
-            .limit(maxSize)
-            .toList();
-    }
-
     /**
      * 현재 코디에 특정 타입의 의상 추가
      * 각 기존 Outfit (baseCombo)에 대해 주어진 후보 아이템들을 추가하며,
-     * 점수 향상이 일정 수준(IMPROVEMENT_DELTA) 이상인 코디 선택
      * 중복 유사 Outfit은 검출하여 하나로 통합하며, 최종적으로 상위 maxSize개 코디 유지
+     * - 후보 조합은 (베이스 번호, 추가 아이템, 증분 점수)만 기록하고 선택된 조합만 생성
      */
-    private List<OutfitScore> buildOptionalCombinations(
-        List<OutfitScore> current,
-        List<ClothesScore> candidates,
+    private List<Beam> buildOptionalCombinations(
+        ClothesScore[] pool,
+        List<Beam> current,
+        int[] candidates,
         int maxSize,
         ClothesType addingType
     ) {
         // 후보 없으면 현재 코디 유지
-        if (candidates.isEmpty() || current.isEmpty()) {
+        if (candidates.length == 0 || current.isEmpty()) {
             return current;
         }
 
-        List<OutfitScore> generated = new ArrayList<>();
+        Expansion expansion = new Expansion(current.size() * (candidates.length + 1));
+        boolean probabilistic = isProbabilisticOptional(addingType);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
 
-        for (OutfitScore base : current) {
-            for (ClothesScore item : candidates) {
-                ClothesType type = item.item().type();
+        for (int b = 0; b < current.size(); b++) {
+            Beam base = current.get(b);
+            for (int idx : candidates) {
+                ClothesScore item = pool[idx];
 
                 // 어울리지 않는 타입 스킵
                 if (isMismatch(base, item)) {
@@ -159,21 +193,20 @@ public class OutfitCombinationGenerator {
                 }
 
                 // 코디 다양성을 위해 세부 아이템 확률적으로 스킵
-                if (isProbabilisticOptional(type) && ThreadLocalRandom.current().nextDouble() > 0.6) {
+                if (probabilistic && random.nextDouble() > 0.6) {
                     continue;
                 }
 
-                // 새 조합 점수 계산
-                OutfitScore newCombo = new OutfitScore(base).add(item);
-                    generated.add(newCombo);
+                // 새 조합 점수 계산 (조합 생성 없이 증분만)
+                double delta = base.deltaFor(pool, item);
+                expansion.add(b, idx, delta, base.scoreWith(item, delta));
             }
 
             // 베이스도 후보에 포함
-            generated.add(base);
+            expansion.add(b, Expansion.BASE_ONLY, 0.0, base.normalized);
         }
 
-        List<OutfitScore> merged = mergeSimilarOutfits(generated, addingType);
-        return limitByScore(merged, maxSize);
+        return mergeSimilarOutfits(pool, current, expansion, addingType, maxSize);
     }
 
     private boolean isProbabilisticOptional(ClothesType type) {
@@ -185,78 +218,85 @@ public class OutfitCombinationGenerator {
 
     /**
      * 기존 코디 리스트에서 새로운 코디 조합과 유사한 기존 조합이 있는지 확인
-     * 두 Outfit의 구성 아이템 중 80% 이상 겹치면 같은 코디로 판단
-     * 유사도가 0.5 이상인 경우 동일한 조합으로 간주
+     * 추가 타입을 제외한 구성 아이템(이름)이 같으면 같은 코디로 판단
      * 동일 조합 발견시,
-     * 1. 두 조합의 점수 차이가 중복 허용 범위 미만이면 랜덤하게 1개만 유지
-     * 2. 새 조합의 점수가 기존보다 높으면 더 높은 쪽을 유지
+     * 1. 두 조합의 점수 차이가 중복 허용 범위 이내면 랜덤하게 1개만 유지
+     * 2. 그 외에는 점수가 가장 높은 쪽을 유지
+     * 그룹별 선택 결과 중 점수 상위 maxSize개 반환
      */
-    private List<OutfitScore> mergeSimilarOutfits(List<OutfitScore> outfits, ClothesType addingType) {
-        log.trace("\n[OutfitCombinationGenerator] [{}] 타입 추가 단계 시작 → 총 {}개 후보", addingType, outfits.size());
-
-        // base 기준 그룹화
-        Map<String, List<OutfitScore>> groupedByBase = outfits.stream()
-            .collect(Collectors.groupingBy(
-                outfit -> outfit.getItems().stream()
-                    .filter(i -> i.item().type() != addingType)
-                    .sorted(Comparator.comparing(i -> i.item().type().name()))
-                    .map(i -> i.item().name())
-                    .collect(Collectors.joining(", ")),
-                LinkedHashMap::new,
-                Collectors.toList()
-            ));
-
-        List<OutfitScore> merged = new ArrayList<>();
-        int baseIndex = 0;
+    private List<Beam> mergeSimilarOutfits(
+        ClothesScore[] pool,
+        List<Beam> bases,
+        Expansion expansion,
+        ClothesType addingType,
+        int maxSize
+    ) {
+        log.trace("\n[OutfitCombinationGenerator] [{}] 타입 추가 단계 시작 → 총 {}개 후보", addingType, expansion.size);
+
+        // base 기준 그룹화 (추가 타입은 아직 베이스에 없으므로 베이스 구성 = 그룹 키)
+        int[] groupOfBase = new int[bases.size()];
+        int[] groupRepresentative = new int[bases.size()];
+        int groupCount = 0;
+        for (int b = 0; b < bases.size(); b++) {
+            Beam base = bases.get(b);
+            int group = -1;
+            for (int g = 0; g < groupCount && group < 0; g++) {
+                if (base.sameKey(pool, bases.get(groupRepresentative[g]))) {
+                    group = g;
+                }
+            }
+            if (group < 0) {
+                group = groupCount++;
+                groupRepresentative[group] = b;
+            }
+            groupOfBase[b] = group;
+        }
+
+        TopK topK = new TopK(maxSize);
+        int[] members = new int[expansion.size];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
 
         // 각 그룹 순회
-        for (Map.Entry<String, List<OutfitScore>> entry : groupedByBase.entrySet()) {
-            baseIndex++;
-            String baseKey = entry.getKey();
-            List<OutfitScore> candidates = entry.getValue();
+        for (int g = 0; g < groupCount; g++) {
+            int count = 0;
+            for (int e = 0; e < expansion.size; e++) {
+                if (groupOfBase[expansion.base[e]] == g) {
+                    members[count++] = e;
+                }
+            }
 
-            // 후보 점수 정렬 (내림차순)
-            candidates.sort(Comparator.comparingDouble(OutfitScore::normalizedScore).reversed());
-            double topScore = candidates.get(0).normalizedScore();
+            // 후보 점수 정렬 (내림차순, 동점은 생성 순서 유지)
+            expansion.sortByScoreDesc(members, count);
+            double topScore = expansion.score[members[0]];
 
-            List<OutfitScore> closeCandidates = candidates.stream()
-                .filter(c -> (topScore - c.normalizedScore()) <= DUPLICATE_TIE_DELTA)
-                .toList();
+            int closeCount = 0;
+            while (closeCount < count
+                && (topScore - expansion.score[members[closeCount]]) <= DUPLICATE_TIE_DELTA) {
+                closeCount++;
+            }
 
             // 점수차 미미하면 랜덤 선택
-            OutfitScore selected = closeCandidates.get(
-                ThreadLocalRandom.current().nextInt(closeCandidates.size())
-            );
-
-            // 기본 조합 (추가 아이템 없는 경우 체크)
-            OutfitScore baseCandidate = candidates.stream()
-                .filter(c -> c.getItems().stream().noneMatch(i -> i.item().type() == addingType))
-                .findFirst()
-                .orElse(null);
-
-            boolean isBaseSelected = baseCandidate != null && selected == baseCandidate;
-
-            merged.add(selected);
+            int selected = members[random.nextInt(closeCount)];
+            Beam base = bases.get(expansion.base[selected]);
+            Beam chosen = expansion.item[selected] == Expansion.BASE_ONLY
+                ? base
+                : base.plus(pool, expansion.item[selected], expansion.delta[selected]);
+            topK.offer(chosen);
 
             // 로그 출력
-            logExpandResult(baseIndex, addingType, baseKey, candidates, closeCandidates, selected, isBaseSelected);
+            if (log.isTraceEnabled()) {
+                logExpandResult(g + 1, addingType, pool, bases, expansion, members, count, closeCount, selected);
+            }
         }
 
-        log.trace("[OutfitCombinationGenerator]\n[MergeDone] [{}] 타입 병합 완료 → 최종 {}개 코디 남음", addingType, merged.size());
-
-        return merged;
-    }
+        log.trace("[OutfitCombinationGenerator]\n[MergeDone] [{}] 타입 병합 완료 → 최종 {}개 코디 남음", addingType, groupCount);
 
-    /** 점수순 상위 maxSize 제한 */
-    private List<OutfitScore> limitByScore(List<OutfitScore> list, int maxSize) {
-        return list.stream()
-            .sorted(Comparator.comparingDouble(OutfitScore::normalizedScore).reversed())
-            .limit(maxSize)
-            .toList();
+        // 점수순 상위 maxSize 제한
+        return topK.toList();
     }
 
     // 스타일 규칙: 코디의 스타일/구성에 기반하여 필터링
-    private boolean isMismatch(OutfitScore combo, ClothesScore add) {
+    private boolean isMismatch(Beam combo, ClothesScore add) {
         ClothesType addType = add.type();
 
         if (combo.hasType(ClothesType.DRESS) && addType == ClothesType.HAT) {
@@ -264,8 +304,7 @@ public class OutfitCombinationGenerator {
         }
 
         // 후드 티 -> 후드 집업 제외
-        boolean hasHoodieTop = combo.getItems().stream()
-            .anyMatch(i -> i.topType() == TopType.HOODIE);
+        boolean hasHoodieTop = combo.hoodieTop;
         boolean isHoodedOuter = addType == ClothesType.OUTER
             && add.outerType() == OuterType.HOOD_ZIPUP || add.outerType() == OuterType.CARDIGAN;
         if (hasHoodieTop && isHoodedOuter) {
@@ -293,7 +332,17 @@ public class OutfitCombinationGenerator {
         return false;
     }
 
+    private void logStepResult(String step, List<Beam> combos, ClothesScore[] pool) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        logStepResult(step, combos.stream().map(c -> c.toOutfitScore(pool)).toList());
+    }
+
     private void logStepResult(String step, List<OutfitScore> combos) {
+        if (!log.isDebugEnabled()) {
+            return;
+        }
         String summary = combos.stream()
             .map(c -> String.format("%.1f점 → %s",
                 c.normalizedScore(),
@@ -315,35 +364,368 @@ public class OutfitCombinationGenerator {
     private void logExpandResult(
         int baseIndex,
         ClothesType addingType,
-        String baseKey,
-        List<OutfitScore> candidates,
-        List<OutfitScore> bestCandidates,
-        OutfitScore selected,
-        boolean isBaseSelected
+        ClothesScore[] pool,
+        List<Beam> bases,
+        Expansion expansion,
+        int[] members,
+        int count,
+        int closeCount,
+        int selected
     ) {
+        Beam selectedBase = bases.get(expansion.base[selected]);
+        OutfitScore selectedOutfit = expansion.toOutfitScore(pool, bases, selected);
+        boolean isBaseSelected = expansion.item[selected] == Expansion.BASE_ONLY;
+
         StringBuilder sb = new StringBuilder();
         sb.append("\n[Expand] base#").append(baseIndex)
             .append(" [").append(addingType).append("]\n")
-            .append("├ 기존 코디 구성: ").append(baseKey).append("\n");
+            .append("├ 기존 코디 구성: ").append(selectedBase.toOutfitScore(pool)).append("\n");
 
-        for (OutfitScore c : candidates) {
-            sb.append("│  ├ 후보: ").append(c.toString())
-                .append(" (점수 ").append(String.format("%.3f", c.normalizedScore())).append(")\n");
+        for (int i = 0; i < count; i++) {
+            int e = members[i];
+            sb.append("│  ├ 후보: ").append(expansion.toOutfitScore(pool, bases, e))
+                .append(" (점수 ").append(String.format("%.3f", expansion.score[e])).append(")\n");
         }
 
-        if (bestCandidates.size() > 1) {
-            sb.append("│  ├ 점수 차이 미미 ").append(bestCandidates.size()).append("개 중 랜덤 선택됨\n");
+        if (closeCount > 1) {
+            sb.append("│  ├ 점수 차이 미미 ").append(closeCount).append("개 중 랜덤 선택됨\n");
         } else {
             sb.append("│  ├ 최고점 후보 선택\n");
         }
 
         if (isBaseSelected) {
-            sb.append("│  └ [결과] 기존 조합 유지: ").append(selected.toString());
+            sb.append("│  └ [결과] 기존 조합 유지: ").append(selectedOutfit);
         } else {
-            sb.append("│  └ [결과] 최종 선택: ").append(selected.toString())
-                .append(" (점수 ").append(String.format("%.3f", selected.normalizedScore())).append(")\n");
+            sb.append("│  └ [결과] 최종 선택: ").append(selectedOutfit)
+                .append(" (점수 ").append(String.format("%.3f", expansion.score[selected])).append(")\n");
         }
 
         log.trace(sb.toString());
     }
-}
\ No newline at end of file
+
+    private static int[] typeNameRanks() {
+        ClothesType[] types = ClothesType.values();
+        ClothesType[] byName = types.clone();
+        Arrays.sort(byName, Comparator.comparing(ClothesType::name));
+        int[] ranks = new int[types.length];
+        for (int r = 0; r < byName.length; r++) {
+            ranks[byName[r].ordinal()] = r;
+        }
+        return ranks;
+    }
+
+    /**
+     * 빔 탐색용 경량 코디 상태
+     * - 후보 풀 인덱스(추가 순서)와 OutfitScore 점수 계산에 필요한 누적값만 보관
+     * - 불변 객체, 아이템 추가 시 새 Beam 생성
+     */
+    private static final class Beam {
+
+        static final Beam EMPTY = new Beam(new int[0], new int[0], 0.0, 0.0, 0, null, true, 0, 0, false, false, false);
+
+        final int[] items;
+        /** 그룹 키 순서 (타입 이름순 인덱스) */
+        final int[] keyOrder;
+        final double harmony;
+        final double scoreSum;
+        final int styledCount;
+        final ClothesStyle firstStyle;
+        final boolean uniformStyle;
+        final int typeMask;
+        final int styleMask;
+        final boolean hoodieTop;
+        final boolean hasSocks;
+        final boolean hasEtc;
+        final double normalized;
+
+        private Beam(
+            int[] items, int[] keyOrder, double harmony, double scoreSum,
+            int styledCount, ClothesStyle firstStyle, boolean uniformStyle,
+            int typeMask, int styleMask, boolean hoodieTop, boolean hasSocks, boolean hasEtc
+        ) {
+            this.items = items;
+            this.keyOrder = keyOrder;
+            this.harmony = harmony;
+            this.scoreSum = scoreSum;
+            this.styledCount = styledCount;
+            this.firstStyle = firstStyle;
+            this.uniformStyle = uniformStyle;
+            this.typeMask = typeMask;
+            this.styleMask = styleMask;
+            this.hoodieTop = hoodieTop;
+            this.hasSocks = hasSocks;
+            this.hasEtc = hasEtc;
+            this.normalized = OutfitScore.normalize(
+                items.length, scoreSum, harmony, styledCount, uniformStyle, hasSocks, hasEtc);
+        }
+
+        boolean hasType(ClothesType type) {
+            return (typeMask & (1 << type.ordinal())) != 0;
+        }
+
+        boolean hasStyle(ClothesStyle style) {
+            return (styleMask & (1 << style.ordinal())) != 0;
+        }
+
+        /** OutfitScore.add와 동일한 증분 점수 (조합 생성 없이 계산) */
+        double deltaFor(ClothesScore[] pool, ClothesScore added) {
+            if (items.length == 0 || added.item().type() == ClothesType.ETC) {
+                return 0.0;
+            }
+            double delta = 0.0;
+            for (int idx : items) {
+                delta = OutfitScore.accumulateHarmony(delta, added, pool[idx]);
+            }
+            return OutfitScore.weightByType(added, delta);
+        }
+
+        /** 아이템을 추가했을 때의 정규화 점수 (OutfitScore.normalizedScore와 동일) */
+        double scoreWith(ClothesScore added, double delta) {
+            ClothesStyle style = added.item().style();
+            ClothesType type = added.item().type();
+            int nextStyled = styledCount;
+            boolean nextUniform = uniformStyle;
+            if (style != null) {
+                nextUniform = uniformStyle && (styledCount == 0 || style == firstStyle);
+                nextStyled++;
+            }
+            return OutfitScore.normalize(
+                items.length + 1,
+                scoreSum + added.score(),
+                harmony + delta,
+                nextStyled,
+                nextUniform,
+                hasSocks || type == ClothesType.SOCKS,
+                hasEtc || type == ClothesType.ETC || type == ClothesType.SOCKS
+            );
+        }
+
+        Beam plus(ClothesScore[] pool, int idx, double delta) {
+            ClothesScore added = pool[idx];
+            ClothesType type = added.item().type();
+            ClothesStyle style = added.item().style();
+
+            int[] nextItems = Arrays.copyOf(items, items.length + 1);
+            nextItems[items.length] = idx;
+
+            // 타입 이름순 위치에 삽입
+            int rank = TYPE_NAME_RANK[type.ordinal()];
+            int[] nextKey = new int[keyOrder.length + 1];
+            int pos = 0;
+            while (pos < keyOrder.length && TYPE_NAME_RANK[pool[keyOrder[pos]].item().type().ordinal()] <= rank) {
+                nextKey[pos] = keyOrder[pos];
+                pos++;
+            }
+            nextKey[pos] = idx;
+            System.arraycopy(keyOrder, pos, nextKey, pos + 1, keyOrder.length - pos);
+
+            boolean nextUniform = uniformStyle;
+            int nextStyled = styledCount;
+            ClothesStyle nextFirst = firstStyle;
+            if (style != null) {
+                if (styledCount == 0) {
+                    nextFirst = style;
+                } else if (style != firstStyle) {
+                    nextUniform = false;
+                }
+                nextStyled++;
+            }
+
+            return new Beam(
+                nextItems,
+                nextKey,
+                harmony + delta,
+                scoreSum + added.score(),
+                nextStyled,
+                nextFirst,
+                nextUniform,
+                typeMask | (1 << type.ordinal()),
+                style != null ? styleMask | (1 << style.ordinal()) : styleMask,
+                hoodieTop || added.topType() == TopType.HOODIE,
+                hasSocks || type == ClothesType.SOCKS,
+                hasEtc || type == ClothesType.ETC || type == ClothesType.SOCKS
+            );
+        }
+
+        /** 그룹 키 비교: 타입 이름순 아이템 이름이 모두 같으면 같은 코디 */
+        boolean sameKey(ClothesScore[] pool, Beam other) {
+            if (this == other) {
+                return true;
+            }
+            if (keyOrder.length != other.keyOrder.length || keyHash(pool) != other.keyHash(pool)) {
+                return false;
+            }
+            for (int i = 0; i < keyOrder.length; i++) {
+                if (!Objects.equals(pool[keyOrder[i]].item().name(), pool[other.keyOrder[i]].item().name())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long keyHash = 0L;
+        private boolean keyHashed = false;
+
+        private long keyHash(ClothesScore[] pool) {
+            if (!keyHashed) {
+                long h = 1L;
+                for (int idx : keyOrder) {
+                    h = 31L * h + Objects.hashCode(pool[idx].item().name());
+                }
+                keyHash = h;
+                keyHashed = true;
+            }
+            return keyHash;
+        }
+
+        OutfitScore toOutfitScore(ClothesScore[] pool) {
+            List<ClothesScore> outfitItems = new ArrayList<>(items.length);
+            for (int idx : items) {
+                outfitItems.add(pool[idx]);
+            }
+            return new OutfitScore(outfitItems, harmony);
+        }
+    }
+
+    /**
+     * 확장 단계 후보 목록 (베이스 번호 / 추가 아이템 / 증분 점수 / 정규화 점수)
+     * - 조합 객체 대신 병렬 배열로 보관
+     */
+    private static final class Expansion {
+
+        static final int BASE_ONLY = -1;
+
+        final int[] base;
+        final int[] item;
+        final double[] delta;
+        final double[] score;
+        int size;
+
+        Expansion(int capacity) {
+            this.base = new int[capacity];
+            this.item = new int[capacity];
+            this.delta = new double[capacity];
+            this.score = new double[capacity];
+        }
+
+        void add(int baseIndex, int itemIndex, double itemDelta, double normalizedScore) {
+            base[size] = baseIndex;
+            item[size] = itemIndex;
+            delta[size] = itemDelta;
+            score[size] = normalizedScore;
+            size++;
+        }
+
+        /** 점수 내림차순 안정 정렬 (그룹 크기가 작아 삽입 정렬) */
+        void sortByScoreDesc(int[] members, int count) {
+            for (int i = 1; i < count; i++) {
+                int e = members[i];
+                int j = i - 1;
+                while (j >= 0 && Double.compare(score[members[j]], score[e]) < 0) {
+                    members[j + 1] = members[j];
+                    j--;
+                }
+                members[j + 1] = e;
+            }
+        }
+
+        OutfitScore toOutfitScore(ClothesScore[] pool, List<Beam> bases, int e) {
+            OutfitScore outfit = bases.get(base[e]).toOutfitScore(pool);
+            return item[e] == BASE_ONLY ? outfit : outfit.add(pool[item[e]]);
+        }
+    }
+
+    /**
+     * 점수 상위 K개 유지용 최소 힙
+     * - 동점이면 먼저 들어온 쪽 우선 (안정 정렬 후 limit 과 동일한 결과)
+     */
+    private static final class TopK {
+
+        private final Beam[] heap;
+        private final long[] seqs;
+        private int size;
+        private long nextSeq;
+
+        TopK(int k) {
+            this.heap = new Beam[k];
+            this.seqs = new long[k];
+        }
+
+        /** 해당 점수의 조합이 현재 상위 K개에 들어갈 수 있는지 */
+        boolean accepts(double score) {
+            return size < heap.length || Double.compare(score, heap[0].normalized) > 0;
+        }
+
+        void offer(Beam beam) {
+            long seq = nextSeq++;
+            if (size < heap.length) {
+                heap[size] = beam;
+                seqs[size] = seq;
+                siftUp(size++);
+            } else if (Double.compare(beam.normalized, heap[0].normalized) > 0) {
+                heap[0] = beam;
+                seqs[0] = seq;
+                siftDown(0);
+            }
+        }
+
+        /** 점수 내림차순 (동점은 먼저 들어온 순) */
+        List<Beam> toList() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> worse(a, b) ? 1 : worse(b, a) ? -1 : 0);
+            List<Beam> result = new ArrayList<>(size);
+            for (int i : order) {
+                result.add(heap[i]);
+            }
+            return result;
+        }
+
+        /** i가 j보다 순위가 낮은지 (점수가 낮거나, 동점이면 나중에 들어옴) */
+        private boolean worse(int i, int j) {
+            int c = Double.compare(heap[i].normalized, heap[j].normalized);
+            return c < 0 || (c == 0 && seqs[i] > seqs[j]);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (!worse(i, parent)) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int worst = left;
+                int right = left + 1;
+                if (right < size && worse(right, left)) {
+                    worst = right;
+                }
+                if (!worse(worst, i)) {
+                    break;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            Beam beam = heap[a];
+            heap[a] = heap[b];
+            heap[b] = beam;
+            long seq = seqs[a];
+            seqs[a] = seqs[b];
+            seqs[b] = seq;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.sprint.ootd5team.domain.recommendation.engine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천 엔진 병렬 실행기 (옵트인)
+ * <p>
+ * - ootd.recommendation.parallel.enabled=true 이고 작업 크기가 단계별 임계값 이상일 때만
+ *   전용 ForkJoinPool(병렬도 제한)에서 독립 작업을 동시에 실행
+ * - 그 외에는 호출 스레드에서 순차 실행 (작은 옷장은 단일 스레드 유지)
+ * - 단품 점수 후보는 계절 필터에서 타입별 최대 10개(12타입 → 최대 120개)로 제한되므로
+ *   scoring-threshold 는 그 범위 안에서 설정해야 병렬 경로가 쓰임
+ * <p>
+ * 메트릭
+ * - recommendation.engine.execution (stage, path): 단계별 실행 시간 / 경로별 실행 횟수
+ * - recommendation.engine.parallel.saved (stage): 병렬 실행 시 작업별 소요 시간 합 - 실제 경과 시간
+ */
+@Slf4j
+@Component
+public class RecommendationParallelExecutor {
+
+    /** 병렬화 대상 단계 */
+    public enum Stage {
+        SCORING("scoring"),   // 타입별 단품 점수 계산
+        OUTFIT("outfit");     // 상의x하의 / 원피스 빔 확장
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final String EXECUTION_METRIC = "recommendation.engine.execution";
+    private static final String SAVED_METRIC = "recommendation.engine.parallel.saved";
+
+    private final boolean enabled;
+    private final int scoringThreshold;
+    private final int outfitThreshold;
+    private final ForkJoinPool pool;
+    private final MeterRegistry meterRegistry;
+
+    public RecommendationParallelExecutor(
+        @Value("${ootd.recommendation.parallel.enabled:false}") boolean enabled,
+        @Value("${ootd.recommendation.parallel.parallelism:4}") int parallelism,
+        @Value("${ootd.recommendation.parallel.scoring-threshold:60}") int scoringThreshold,
+        @Value("${ootd.recommendation.parallel.outfit-threshold:40}") int outfitThreshold,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled && parallelism > 1;
+        this.scoringThreshold = scoringThreshold;
+        this.outfitThreshold = outfitThreshold;
+        this.pool = this.enabled
+            ? new ForkJoinPool(parallelism, RecommendationParallelExecutor::newWorker, null, false)
+            : null;
+        this.meterRegistry = meterRegistry;
+
+        log.info("[RecommendationParallelExecutor] enabled={}, parallelism={}, scoringThreshold={}, outfitThreshold={}",
+            this.enabled, parallelism, scoringThreshold, outfitThreshold);
+    }
+
+    /** 항상 순차 실행 (단위 테스트 / 벤치마크용) */
+    public static RecommendationParallelExecutor sequential() {
+        return new RecommendationParallelExecutor(false, 1, Integer.MAX_VALUE, Integer.MAX_VALUE,
+            new SimpleMeterRegistry());
+    }
+
+    /**
+     * 독립 작업 목록 실행 (결과는 작업 순서대로 반환)
+     *
+     * @param stage    단계 (임계값 / 메트릭 태그)
+     * @param workSize 임계값과 비교할 작업 크기 (후보 의상 수 등)
+     * @param tasks    서로 독립적인 작업
+     */
+    public <T> List<T> invokeAll(Stage stage, int workSize, List<Supplier<T>> tasks) {
+        boolean parallel = isParallel(stage, workSize, tasks.size());
+        long start = System.nanoTime();
+
+        List<T> results = parallel ? runParallel(stage, tasks) : runSequential(tasks);
+
+        timer(stage, parallel).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return results;
+    }
+
+    boolean isParallel(Stage stage, int workSize, int taskCount) {
+        if (!enabled || taskCount < 2) {
+            return false;
+        }
+        int threshold = stage == Stage.SCORING ? scoringThreshold : outfitThreshold;
+        return workSize >= threshold;
+    }
+
+    private <T> List<T> runSequential(List<Supplier<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            results.add(task.get());
+        }
+        return results;
+    }
+
+    private <T> List<T> runParallel(Stage stage, List<Supplier<T>> tasks) {
+        long start = System.nanoTime();
+        AtomicLong busyNanos = new AtomicLong();
+
+        List<CompletableFuture<T>> futures = new ArrayList<>(tasks.size());
+        for (Supplier<T> task : tasks) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                long taskStart = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    busyNanos.addAndGet(System.nanoTime() - taskStart);
+                }
+            }, pool));
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        long saved = busyNanos.get() - (System.nanoTime() - start);
+        if (saved > 0) {
+            Timer.builder(SAVED_METRIC)
+                .tag("stage", stage.tag)
+                .register(meterRegistry)
+                .record(saved, TimeUnit.NANOSECONDS);
+        }
+        log.debug("[RecommendationParallelExecutor] {} 병렬 실행: tasks={}, saved={}us",
+            stage, tasks.size(), Math.max(0, saved) / 1_000);
+        return results;
+    }
+
+    private Timer timer(Stage stage, boolean parallel) {
+        return Timer.builder(EXECUTION_METRIC)
+            .tag("stage", stage.tag)
+            .tag("path", parallel ? "parallel" : "sequential")
+            .register(meterRegistry);
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("recommendation-engine-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
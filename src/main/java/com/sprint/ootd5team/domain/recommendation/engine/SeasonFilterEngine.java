@@ -1,5 +1,6 @@
 package com.sprint.ootd5team.domain.recommendation.engine;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.sprint.ootd5team.domain.clothes.entity.Clothes;
 import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
 import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
@@ -7,11 +8,16 @@ import com.sprint.ootd5team.domain.recommendation.dto.ApparentTemperatureDto;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
 import com.sprint.ootd5team.domain.recommendation.dto.WeatherInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.model.CandidatePoolKey;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
 import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import com.sprint.ootd5team.domain.recommendation.enums.util.SeasonMask;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import com.sprint.ootd5team.domain.recommendation.service.ClothesFeatureService;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -25,30 +31,25 @@ import org.springframework.transaction.annotation.Transactional;
 public class SeasonFilterEngine {
     private final ClothesRepository clothesRepository;
     private final RecommendationMapper recommendationMapper;
+    private final ClothesFeatureService clothesFeatureService;
+    private final Cache<CandidatePoolKey, List<ClothesFilteredDto>> recommendationCandidateCache;
 
     /**
      * 사용자/날씨 기반으로 의상을 사전 필터링
      * - 현재는 '계절' 속성 기준으로 필터링
+     * - (사용자, 허용 계절) 단위 후보 풀은 캐시, 날씨 의존 ETC 필터는 요청마다 적용
      */
     @Transactional(readOnly = true)
     public List<ClothesFilteredDto> getFilteredClothes(UUID userId, RecommendationInfoDto info) {
         // 민감도 기반 허용 계절 계산
         EnumSet<Season> allowedSeasons = resolveAllowedSeasons(info);
 
-        // 허용 토큰(한글 displayName + aliases) 생성
-        String[] allowedTokens = buildAllowedTokens(allowedSeasons);
-        boolean includeAllSeason = true; // 사계절/기타 포함 여부
-
-        // DB에서 계절 속성 매칭 의상만 조회
-        List<UUID> ids = clothesRepository.findClothesIdsBySeasonFilter(userId, allowedTokens, includeAllSeason);
+        List<ClothesFilteredDto> candidates = recommendationCandidateCache.get(
+            CandidatePoolKey.of(userId, allowedSeasons),
+            key -> loadCandidatePool(userId, allowedSeasons)
+        );
 
-        List<Clothes> clothesList = ids.isEmpty()
-            ? List.of()
-            : clothesRepository.findAllWithAttributesByIds(ids);
-        log.debug("[SeasonFilterEngine] [Filter] DB필터 결과 {}개", clothesList.size());
-
-        return clothesList.stream()
-            .map(recommendationMapper::toFilteredDto)
+        return candidates.stream()
             .filter(dto -> {
                 boolean include = dto.type() != ClothesType.ETC
                     || dto.optionalSubType() == null
@@ -63,6 +64,32 @@ public class SeasonFilterEngine {
             .toList();
     }
 
+    /** 계절 속성 매칭 의상 조회 + 추천용 DTO 변환 (캐시 미스 시에만 호출) */
+    private List<ClothesFilteredDto> loadCandidatePool(UUID userId, EnumSet<Season> allowedSeasons) {
+        boolean includeAllSeason = true; // 사계절/기타 포함 여부
+
+        // 허용 계절과 겹치는 비트마스크 값 (백필 전 의상은 허용 토큰(한글 displayName + aliases)으로 매칭)
+        List<Integer> seasonMasks = SeasonMask.matchingMasks(allowedSeasons, includeAllSeason);
+        String[] allowedTokens = buildAllowedTokens(allowedSeasons);
+
+        // DB에서 계절 속성 매칭 의상만 조회
+        List<UUID> ids = clothesRepository.findClothesIdsBySeasonFilter(
+            userId, seasonMasks, allowedTokens, includeAllSeason);
+
+        List<Clothes> clothesList = ids.isEmpty()
+            ? List.of()
+            : clothesRepository.findAllWithAttributesByIds(ids);
+        log.debug("[SeasonFilterEngine] [Filter] DB필터 결과 {}개", clothesList.size());
+
+        // 저장된 특징값 일괄 조회 (없거나 버전이 다르면 매퍼에서 즉시 계산)
+        Map<UUID, ClothesFeature> features = clothesFeatureService.findCurrentByClothesIds(ids);
+        log.debug("[SeasonFilterEngine] [Filter] 저장된 특징값 사용 {}/{}개", features.size(), clothesList.size());
+
+        return clothesList.stream()
+            .map(c -> recommendationMapper.toFilteredDto(c, features.get(c.getId())))
+            .toList();
+    }
+
     // 허용 가능 계절 목록 값
     private String[] buildAllowedTokens(EnumSet<Season> seasons) {
         return seasons.stream()
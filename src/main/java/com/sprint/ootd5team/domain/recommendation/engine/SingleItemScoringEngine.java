@@ -3,10 +3,12 @@ package com.sprint.ootd5team.domain.recommendation.engine;
 import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.RecommendationParallelExecutor.Stage;
 import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,17 +25,20 @@ public class SingleItemScoringEngine {
 
     private static final int MAX_ITEMS_PER_TYPE = 5;       // 타입별 의상 후보 개수
 
+    private final RecommendationParallelExecutor parallelExecutor;
+
     /**
      * 타입별 상위 N개 반환
+     * - 타입별 점수 계산은 서로 독립적이므로 후보가 많으면 병렬 실행 (RecommendationParallelExecutor)
      */
     public List<ClothesScore> getTopItemsByType(
         RecommendationInfoDto info,
         List<ClothesFilteredDto> candidates
     ) {
-        return candidates.stream()
+        List<Supplier<List<ClothesScore>>> tasks = candidates.stream()
             .collect(Collectors.groupingBy(ClothesFilteredDto::type))
             .entrySet().stream()
-            .flatMap(entry -> {
+            .<Supplier<List<ClothesScore>>>map(entry -> () -> {
                 ClothesType type = entry.getKey();
                 List<ClothesFilteredDto> group = entry.getValue();
 
@@ -41,9 +46,13 @@ public class SingleItemScoringEngine {
 
                 log.debug("[SingleItemScoringEngine] 타입 {} → 상위 {}개 선정 (총 {}개 중)",
                     type, top.size(), group.size());
-                return top.stream();
+                return top;
             })
             .toList();
+
+        return parallelExecutor.invokeAll(Stage.SCORING, candidates.size(), tasks).stream()
+            .flatMap(List::stream)
+            .toList();
     }
 
     private List<ClothesScore> getTopN(
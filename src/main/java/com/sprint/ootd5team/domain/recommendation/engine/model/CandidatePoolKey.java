@@ -0,0 +1,18 @@
+package com.sprint.ootd5team.domain.recommendation.engine.model;
+
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 추천 후보 풀 캐시 키 (사용자 + 허용 계절 집합)
+ */
+public record CandidatePoolKey(
+    UUID ownerId,
+    Set<Season> allowedSeasons
+) {
+
+    public static CandidatePoolKey of(UUID ownerId, Set<Season> allowedSeasons) {
+        return new CandidatePoolKey(ownerId, Set.copyOf(allowedSeasons));
+    }
+}
@@ -60,44 +60,57 @@ public class OutfitScore {
             return 0.0;
         }
 
-        // 기존 조합
-        List<ClothesScore> prevItems = items.subList(0, items.size() - 1).stream()
-            .filter(p -> p.item().type() != ClothesType.ETC)
-            .toList();
-
-        for (ClothesScore prev : prevItems) {
-            // 상하의 색상 조화
-            if (added.type() == ClothesType.BOTTOM && added.color() != null) {
-                delta += added.color().getColorMatchBonus(prev.color());
-            }
+        // 기존 조합 (마지막에 추가된 자기 자신 제외)
+        for (int i = 0; i < items.size() - 1; i++) {
+            delta = accumulateHarmony(delta, added, items.get(i));
+        }
+        return weightByType(added, delta);
+    }
 
-            // 톤 조화
-            if (added.tone() != null && prev.tone() != null) {
-                delta += added.tone().getHarmonyScore(prev.tone());
-            }
+    /**
+     * 추가 아이템과 기존 아이템 1개 사이의 조화 점수를 delta에 누적
+     * - 기존 아이템이 ETC 타입이면 제외
+     * - OutfitCombinationGenerator의 빔 탐색도 같은 계산을 사용 (점수 일치)
+     */
+    public static double accumulateHarmony(double delta, ClothesScore added, ClothesScore prev) {
+        if (prev.item().type() == ClothesType.ETC) {
+            return delta;
+        }
 
-            // 소재 조화
-            if (added.material() != null && prev.material() != null) {
-                delta += added.material().getCompatibilityScore(prev.material());
-            }
+        // 상하의 색상 조화
+        if (added.type() == ClothesType.BOTTOM && added.color() != null) {
+            delta += added.color().getColorMatchBonus(prev.color());
+        }
 
-            // 스타일 조화
-            if (added.style() != null && prev.style() != null) {
-                delta += added.style().getHarmonyScore(prev.style());
-            }
+        // 톤 조화
+        if (added.tone() != null && prev.tone() != null) {
+            delta += added.tone().getHarmonyScore(prev.tone());
+        }
 
-            // 패널티
-            delta += OutfitPenalty.getPenalty(resolveSubType(added), resolveSubType(prev));
+        // 소재 조화
+        if (added.material() != null && prev.material() != null) {
+            delta += added.material().getCompatibilityScore(prev.material());
         }
 
+        // 스타일 조화
+        if (added.style() != null && prev.style() != null) {
+            delta += added.style().getHarmonyScore(prev.style());
+        }
+
+        // 패널티
+        delta += OutfitPenalty.getPenalty(resolveSubType(added), resolveSubType(prev));
+        return delta;
+    }
+
+    /** 소품류(악세사리/가방/모자/스카프/양말)는 조화 점수 절반만 반영 */
+    public static double weightByType(ClothesScore added, double delta) {
         if (added.type() == ClothesType.ACCESSORY
             || added.type() == ClothesType.BAG
             || added.type() == ClothesType.HAT
             || added.type() == ClothesType.SCARF
             || added.type() == ClothesType.SOCKS) {
-            delta *= 0.5;
+            return delta * 0.5;
         }
-
         return delta;
     }
 
@@ -105,39 +118,64 @@ public class OutfitScore {
      * 최종 정규화 점수 계산
      */
     public double normalizedScore() {
-        List<ClothesScore> validItems = new ArrayList<>(items);
+        double total = 0.0;
+        int styledCount = 0;
+        ClothesStyle firstStyle = null;
+        boolean uniformStyle = true;
+        boolean hasSocks = false;
+        boolean hasEtc = false;
+
+        for (ClothesScore i : items) {
+            total += i.score();
+
+            ClothesStyle style = i.item().style();
+            if (style != null) {
+                if (styledCount == 0) {
+                    firstStyle = style;
+                } else if (style != firstStyle) {
+                    uniformStyle = false;
+                }
+                styledCount++;
+            }
+
+            ClothesType type = i.item().type();
+            hasSocks |= type == ClothesType.SOCKS;
+            hasEtc |= type == ClothesType.ETC || type == ClothesType.SOCKS;
+        }
+
+        return normalize(items.size(), total, totalScore, styledCount, uniformStyle, hasSocks, hasEtc);
+    }
 
-        int n = Math.max(1, validItems.size());
-        double total = validItems.stream()
-            .mapToDouble(ClothesScore::score)
-            .sum();
+    /**
+     * 정규화 점수 공식
+     * - 평균 점수 (모든 의상 포함, 조화 점수 합산)
+     * - 스타일 일관성 가산, 양말 감산, ETC 가중치
+     */
+    public static double normalize(
+        int itemCount,
+        double itemScoreSum,
+        double harmonyScore,
+        int styledCount,
+        boolean uniformStyle,
+        boolean hasSocks,
+        boolean hasEtc
+    ) {
+        int n = Math.max(1, itemCount);
 
         // 평균 점수 (모든 의상 포함)
-        double avgScore = (total + totalScore) / n;
-        double score = avgScore;
+        double score = (itemScoreSum + harmonyScore) / n;
 
         // 스타일 일관성
-        List<ClothesStyle> styles = validItems.stream()
-            .map(i -> i.item().style())
-            .filter(Objects::nonNull)
-            .toList();
-
-        if (styles.size() > 1 && styles.stream().distinct().count() == 1) {
+        if (styledCount > 1 && uniformStyle) {
             score += 0.5;
         }
 
         // 양말 하중
-        boolean hasSocks = items.stream()
-            .anyMatch(i -> i.item().type() == ClothesType.SOCKS);
-
         if (hasSocks) {
             score *= 0.9; // 전체 점수 10% 감산
         }
 
         // ETC 가중치(우산, 손수건 등..)
-        boolean hasEtc = items.stream()
-            .anyMatch(i -> i.item().type() == ClothesType.ETC || i.item().type() == ClothesType.SOCKS);
-
         if (hasEtc) {
             score *= 1.1;
         }
@@ -166,7 +204,7 @@ public class OutfitScore {
         return OutfitPenalty.getPenalty(aSub, bSub);
     }
 
-    private Enum<?> resolveSubType(ClothesScore c) {
+    private static Enum<?> resolveSubType(ClothesScore c) {
         if (c.topType() != null) return c.topType();
         if (c.bottomType() != null) return c.bottomType();
         if (c.outerType() != null) return c.outerType();
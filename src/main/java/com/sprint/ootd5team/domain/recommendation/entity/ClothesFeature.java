@@ -0,0 +1,130 @@
+package com.sprint.ootd5team.domain.recommendation.entity;
+
+import com.sprint.ootd5team.base.entity.BaseUpdatableEntity;
+import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
+import com.sprint.ootd5team.domain.recommendation.enums.Color;
+import com.sprint.ootd5team.domain.recommendation.enums.ColorTone;
+import com.sprint.ootd5team.domain.recommendation.enums.Material;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OptionalItemSubType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OuterType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.ShoesType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 추천용 의상 특징값 엔티티
+ * <p>
+ * - 의상 생성/수정 시 속성값과 이름을 한 번만 파싱하여 저장
+ * - 추천 시에는 EnumParser 대신 저장된 값을 그대로 사용
+ * - featureVersion이 현재 추출 로직 버전과 다르면 재계산 대상
+ */
+@Builder
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+    name = "tbl_clothes_features",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_clothes_features_clothes", columnNames = {"clothes_id"})
+    }
+)
+@Entity
+public class ClothesFeature extends BaseUpdatableEntity {
+
+    @Column(name = "clothes_id", nullable = false)
+    private UUID clothesId;
+
+    @Column(name = "feature_version", nullable = false)
+    private int featureVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Color color;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "color_tone", length = 20)
+    private ColorTone colorTone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Material material;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ClothesStyle style;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "top_type", length = 20)
+    private TopType topType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bottom_type", length = 20)
+    private BottomType bottomType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outer_type", length = 20)
+    private OuterType outerType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "shoes_type", length = 20)
+    private ShoesType shoesType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "optional_sub_type", length = 20)
+    private OptionalItemSubType optionalSubType;
+
+    /** 계절 토큰 (Season name 콤마 구분, 예: "SPRING,AUTUMN") */
+    @Column(length = 50)
+    private String seasons;
+
+    /** 새로 계산된 특징값으로 갱신 */
+    public void update(ClothesFeature source) {
+        this.featureVersion = source.featureVersion;
+        this.color = source.color;
+        this.colorTone = source.colorTone;
+        this.material = source.material;
+        this.style = source.style;
+        this.topType = source.topType;
+        this.bottomType = source.bottomType;
+        this.outerType = source.outerType;
+        this.shoesType = source.shoesType;
+        this.optionalSubType = source.optionalSubType;
+        this.seasons = source.seasons;
+    }
+
+    public boolean isVersion(int version) {
+        return this.featureVersion == version;
+    }
+
+    public Set<Season> seasonSet() {
+        if (seasons == null || seasons.isBlank()) {
+            return EnumSet.noneOf(Season.class);
+        }
+        return Arrays.stream(seasons.split(","))
+            .map(Season::valueOf)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(Season.class)));
+    }
+
+    public static String joinSeasons(Set<Season> seasons) {
+        return seasons.stream()
+            .map(Season::name)
+            .collect(Collectors.joining(","));
+    }
+}
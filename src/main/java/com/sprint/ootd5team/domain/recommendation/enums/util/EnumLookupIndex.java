@@ -0,0 +1,264 @@
+package com.sprint.ootd5team.domain.recommendation.enums.util;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enum 조회용 사전 컴파일 인덱스
+ * <p>
+ * - Enum 클래스당 한 번만 생성 (ClassValue 캐시)
+ * - 리플렉션(displayName / aliases 필드 읽기)은 생성 시점에만 수행
+ * - 정확 일치: name → displayName → alias 순서의 해시 조회
+ * - 부분 일치: displayName / alias 패턴을 Aho-Corasick 오토마톤으로 한 번에 탐색,
+ *   매칭된 상수 중 "긴 문자열 우선" 순위가 가장 높은 상수 반환
+ */
+final class EnumLookupIndex<E extends Enum<E>> {
+
+    private static final ClassValue<EnumLookupIndex<?>> INDEXES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookupIndex<?> computeValue(Class<?> type) {
+            return new EnumLookupIndex(type);
+        }
+    };
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final Map<String, E> byName = new HashMap<>();
+    private final Map<String, E> byDisplayName = new HashMap<>();
+    private final Map<String, E> byAlias = new HashMap<>();
+
+    /** 부분 일치 우선순위 순으로 정렬된 상수 (rank = 배열 인덱스) */
+    private final E[] ranked;
+
+    /** 빈 패턴을 가진 상수의 최소 rank (모든 문자열에 매칭) */
+    private int emptyPatternRank = NO_MATCH;
+
+    // === Aho-Corasick 오토마톤 (상태별 정렬된 전이 문자 / 대상 상태) ===
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    private final int[] bestRank;
+
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> EnumLookupIndex<E> of(Class<E> enumClass) {
+        return (EnumLookupIndex<E>) INDEXES.get(enumClass);
+    }
+
+    private EnumLookupIndex(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        Field displayField = findField(enumClass, "displayName");
+        Field aliasField = findField(enumClass, "aliases");
+
+        Object[] displayNames = new Object[constants.length];
+        String[][] aliases = new String[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            displayNames[i] = readField(displayField, constants[i]);
+            aliases[i] = readField(aliasField, constants[i]) instanceof String[] a ? a : null;
+        }
+
+        // 정확 일치 맵 (선언 순서상 먼저 나온 상수 우선)
+        for (int i = 0; i < constants.length; i++) {
+            E constant = constants[i];
+            byName.putIfAbsent(constant.name().toLowerCase(), constant);
+            if (displayNames[i] != null) {
+                byDisplayName.putIfAbsent(displayNames[i].toString().toLowerCase(), constant);
+            }
+            if (aliases[i] != null) {
+                for (String alias : aliases[i]) {
+                    byAlias.putIfAbsent(alias.toLowerCase(), constant);
+                }
+            }
+        }
+
+        // 긴 문자열 우선 순위 (동일 길이는 선언 순서 유지)
+        // displayName / aliases 필드 중 하나라도 없으면 모든 상수의 길이를 0으로 취급
+        int[] priority = new int[constants.length];
+        if (displayField != null && aliasField != null) {
+            for (int i = 0; i < constants.length; i++) {
+                priority[i] = longestLength(displayNames[i], aliases[i]);
+            }
+        }
+        Integer[] order = new Integer[constants.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> priority[i]).reversed());
+
+        ranked = Arrays.copyOf(constants, constants.length);
+        List<Map<Character, Integer>> transitions = new ArrayList<>();
+        transitions.add(new HashMap<>());
+        List<Integer> outputs = new ArrayList<>();
+        outputs.add(NO_MATCH);
+
+        // displayName 필드가 없으면 부분 일치 불가 (기존 동작과 동일)
+        if (displayField != null) {
+            for (int rank = 0; rank < order.length; rank++) {
+                int i = order[rank];
+                ranked[rank] = constants[i];
+                if (displayNames[i] != null) {
+                    addPattern(transitions, outputs, normalize(displayNames[i].toString()), rank);
+                }
+                if (aliases[i] != null) {
+                    for (String alias : aliases[i]) {
+                        addPattern(transitions, outputs, normalize(alias), rank);
+                    }
+                }
+            }
+        }
+
+        int size = transitions.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            compileEdges(state, transitions.get(state));
+        }
+        failure = new int[size];
+        bestRank = new int[size];
+        buildFailureLinks(outputs);
+    }
+
+    /** 정확 일치 (입력은 trim + 소문자 처리된 값) */
+    E findExact(String normalized) {
+        E constant = byName.get(normalized);
+        if (constant == null) {
+            constant = byDisplayName.get(normalized);
+        }
+        if (constant == null) {
+            constant = byAlias.get(normalized);
+        }
+        return constant;
+    }
+
+    /** 부분 일치 (입력은 소문자 처리된 값), 없으면 null */
+    E findPartial(String normalized) {
+        int best = emptyPatternRank;
+        int state = 0;
+        for (int pos = 0; pos < normalized.length() && best > 0; pos++) {
+            char c = normalized.charAt(pos);
+            int next = next(state, c);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = next(state, c);
+            }
+            state = Math.max(next, 0);
+            best = Math.min(best, bestRank[state]);
+        }
+        return best == NO_MATCH ? null : ranked[best];
+    }
+
+    private int next(int state, char c) {
+        int idx = Arrays.binarySearch(edgeChars[state], c);
+        return idx >= 0 ? edgeTargets[state][idx] : -1;
+    }
+
+    private void addPattern(
+        List<Map<Character, Integer>> transitions,
+        List<Integer> outputs,
+        String pattern,
+        int rank
+    ) {
+        if (pattern.isEmpty()) {
+            emptyPatternRank = Math.min(emptyPatternRank, rank);
+            return;
+        }
+        int state = 0;
+        for (int pos = 0; pos < pattern.length(); pos++) {
+            Map<Character, Integer> edges = transitions.get(state);
+            Integer next = edges.get(pattern.charAt(pos));
+            if (next == null) {
+                next = transitions.size();
+                edges.put(pattern.charAt(pos), next);
+                transitions.add(new HashMap<>());
+                outputs.add(NO_MATCH);
+            }
+            state = next;
+        }
+        outputs.set(state, Math.min(outputs.get(state), rank));
+    }
+
+    /** 빌드용 전이 맵 → 정렬된 배열 (조회 시 박싱 없이 이진 탐색) */
+    private void compileEdges(int state, Map<Character, Integer> edges) {
+        char[] chars = new char[edges.size()];
+        int k = 0;
+        for (Character c : edges.keySet()) {
+            chars[k++] = c;
+        }
+        Arrays.sort(chars);
+        int[] targets = new int[chars.length];
+        for (int i = 0; i < chars.length; i++) {
+            targets[i] = edges.get(chars[i]);
+        }
+        edgeChars[state] = chars;
+        edgeTargets[state] = targets;
+    }
+
+    /** BFS로 실패 링크를 만들고, 접미사 상태의 최소 rank를 전파 */
+    private void buildFailureLinks(List<Integer> outputs) {
+        for (int s = 0; s < bestRank.length; s++) {
+            bestRank[s] = outputs.get(s);
+        }
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = 0; e < edgeChars[state].length; e++) {
+                char c = edgeChars[state][e];
+                int child = edgeTargets[state][e];
+                int fallback = failure[state];
+                int target = next(fallback, c);
+                while (target < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                    target = next(fallback, c);
+                }
+                failure[child] = Math.max(target, 0);
+                bestRank[child] = Math.min(bestRank[child], bestRank[failure[child]]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int longestLength(Object displayName, String[] aliases) {
+        int longest = displayName != null ? displayName.toString().length() : 0;
+        if (aliases != null) {
+            for (String alias : aliases) {
+                longest = Math.max(longest, alias.length());
+            }
+        }
+        return longest;
+    }
+
+    private static Field findField(Class<?> enumClass, String name) {
+        try {
+            Field field = enumClass.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException ignored) {
+            return null;
+        }
+    }
+
+    private static Object readField(Field field, Object constant) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return field.get(constant);
+        } catch (IllegalAccessException ignored) {
+            return null;
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase().replaceAll("\\s+", "");
+    }
+}
@@ -1,8 +1,12 @@
 package com.sprint.ootd5team.domain.recommendation.enums.util;
 
-import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 속성값 / 의상 이름 → Enum 변환 유틸
+ * <p>
+ * - 조회는 Enum 클래스별로 한 번 만들어 두는 EnumLookupIndex 사용 (호출마다 리플렉션 없음)
+ */
 @Slf4j
 public final class EnumParser {
 
@@ -25,42 +29,12 @@ public final class EnumParser {
         }
 
         String normalized = value.trim().toLowerCase();
+        EnumLookupIndex<E> index = EnumLookupIndex.of(enumClass);
 
-        // 정확 일치 (name)
-        for (E constant : enumClass.getEnumConstants()) {
-            if (constant.name().equalsIgnoreCase(normalized)) {
-                return constant;
-            }
-        }
-
-        // displayName 정확 일치
-        for (E constant : enumClass.getEnumConstants()) {
-            try {
-                var field = enumClass.getDeclaredField("displayName");
-                field.setAccessible(true);
-                Object displayName = field.get(constant);
-                if (displayName != null &&
-                    displayName.toString().equalsIgnoreCase(normalized)) {
-                    return constant;
-                }
-            } catch (NoSuchFieldException | IllegalAccessException ignored) {
-            }
-        }
-
-        // aliases 정확 일치
-        for (E constant : enumClass.getEnumConstants()) {
-            try {
-                var field = enumClass.getDeclaredField("aliases");
-                field.setAccessible(true);
-                Object aliasField = field.get(constant);
-                if (aliasField instanceof String[] aliases) {
-                    if (Arrays.stream(aliases)
-                        .anyMatch(a -> a.equalsIgnoreCase(normalized))) {
-                        return constant;
-                    }
-                }
-            } catch (NoSuchFieldException | IllegalAccessException ignored) {
-            }
+        // 정확 일치 (name → displayName → aliases)
+        E exact = index.findExact(normalized);
+        if (exact != null) {
+            return exact;
         }
 
         // 부분 포함 매칭 (displayName / alias)
@@ -112,69 +86,7 @@ public final class EnumParser {
         String normalized,
         E defaultValue
     ) {
-        // 후보를 (displayName + aliases) 기준으로 모두 수집
-        return Arrays.stream(enumClass.getEnumConstants())
-            .sorted((a, b) -> {
-                int lenA = longestAliasLength(enumClass, a);
-                int lenB = longestAliasLength(enumClass, b);
-                return Integer.compare(lenB, lenA); // 긴 문자열 우선
-            })
-            .filter(constant -> matchesPartially(enumClass, constant, normalized))
-            .findFirst()
-            .orElse(defaultValue);
-    }
-
-    private static <E extends Enum<E>> boolean matchesPartially(
-        Class<E> enumClass,
-        E constant,
-        String normalized
-    ) {
-        try {
-            // displayName 매칭
-            var displayField = enumClass.getDeclaredField("displayName");
-            displayField.setAccessible(true);
-            Object displayName = displayField.get(constant);
-            if (displayName != null &&
-                normalized.contains(normalize(displayName.toString()))) {
-                return true;
-            }
-
-            // alias 매칭
-            var aliasField = enumClass.getDeclaredField("aliases");
-            aliasField.setAccessible(true);
-            Object aliasValue = aliasField.get(constant);
-            if (aliasValue instanceof String[] aliases) {
-                return Arrays.stream(aliases)
-                    .anyMatch(a -> normalized.contains(normalize(a)));
-            }
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
-        }
-        return false;
-    }
-
-    private static <E extends Enum<E>> int longestAliasLength(Class<E> enumClass, E constant) {
-        try {
-            var displayField = enumClass.getDeclaredField("displayName");
-            displayField.setAccessible(true);
-            String displayName = (String) displayField.get(constant);
-
-            var aliasField = enumClass.getDeclaredField("aliases");
-            aliasField.setAccessible(true);
-            String[] aliases = (String[]) aliasField.get(constant);
-
-            return Math.max(
-                displayName != null ? displayName.length() : 0,
-                Arrays.stream(aliases != null ? aliases : new String[0])
-                    .mapToInt(String::length)
-                    .max()
-                    .orElse(0)
-            );
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {
-            return 0;
-        }
-    }
-
-    private static String normalize(String text) {
-        return text == null ? "" : text.toLowerCase().replaceAll("\\s+", "");
+        E matched = EnumLookupIndex.of(enumClass).findPartial(normalized);
+        return matched != null ? matched : defaultValue;
     }
 }
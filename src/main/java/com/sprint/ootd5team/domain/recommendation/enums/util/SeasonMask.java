@@ -0,0 +1,110 @@
+package com.sprint.ootd5team.domain.recommendation.enums.util;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 의상 계절 속성 ↔ 비트마스크 변환 유틸
+ * - Season ordinal 기준 1비트씩 사용 (OTHER = 사계절/기타)
+ * - tbl_clothes.season_mask 에 저장하여 추천 시 정규식 토큰화 없이 조회
+ */
+public final class SeasonMask {
+
+    /** 계절 속성 이름 */
+    public static final String SEASON_ATTRIBUTE = "계절";
+
+    /** 가능한 마스크 값 개수 (계절 5개 → 0 ~ 31) */
+    private static final int MASK_COUNT = 1 << Season.values().length;
+
+    private static final Pattern SEASON_DELIMITER = Pattern.compile("[/,\\s]+");
+
+    private SeasonMask() {
+    }
+
+    public static int bit(Season season) {
+        return 1 << season.ordinal();
+    }
+
+    public static int of(Collection<Season> seasons) {
+        int mask = 0;
+        for (Season season : seasons) {
+            mask |= bit(season);
+        }
+        return mask;
+    }
+
+    /** 계절 속성값("봄/가을", "사계절" 등) → Season 집합 */
+    public static EnumSet<Season> parseSeasons(String value) {
+        EnumSet<Season> seasons = EnumSet.noneOf(Season.class);
+        if (value == null || value.isBlank()) {
+            return seasons;
+        }
+
+        for (String token : SEASON_DELIMITER.split(value.toLowerCase(Locale.ROOT))) {
+            if (token.isBlank()) {
+                continue;
+            }
+            for (Season season : Season.values()) {
+                if (matchesSeason(season, token)) {
+                    seasons.add(season);
+                }
+            }
+        }
+        return seasons;
+    }
+
+    /**
+     * 의상의 계절 속성값 → 비트마스크
+     * - 계절 속성이 없으면 0 (계절 필터에서 항상 제외)
+     */
+    public static int fromClothes(Clothes clothes) {
+        for (ClothesAttributeValue value : clothes.getClothesAttributeValues()) {
+            if (value.getAttribute() != null
+                && SEASON_ATTRIBUTE.equalsIgnoreCase(value.getAttribute().getName())) {
+                return of(parseSeasons(value.getDefValue()));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 허용 계절과 겹치는 모든 마스크 값
+     * - 쿼리에서 season_mask IN (...) 형태로 인덱스 조회에 사용
+     *
+     * @param allowedSeasons   허용 계절
+     * @param includeAllSeason 사계절/기타(OTHER) 의상 포함 여부
+     */
+    public static List<Integer> matchingMasks(Collection<Season> allowedSeasons, boolean includeAllSeason) {
+        int allowed = of(allowedSeasons);
+        if (includeAllSeason) {
+            allowed |= bit(Season.OTHER);
+        }
+
+        List<Integer> masks = new ArrayList<>();
+        for (int mask = 1; mask < MASK_COUNT; mask++) {
+            if ((mask & allowed) != 0) {
+                masks.add(mask);
+            }
+        }
+        return masks;
+    }
+
+    private static boolean matchesSeason(Season season, String token) {
+        if (season.getDisplayName().toLowerCase(Locale.ROOT).equals(token)) {
+            return true;
+        }
+        for (String alias : season.getAliases()) {
+            if (alias.toLowerCase(Locale.ROOT).equals(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -2,23 +2,15 @@ package com.sprint.ootd5team.domain.recommendation.mapper;
 
 import com.sprint.ootd5team.base.storage.FileStorage;
 import com.sprint.ootd5team.domain.clothes.entity.Clothes;
-import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
 import com.sprint.ootd5team.domain.clothesattribute.mapper.ClothesAttributeMapper;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationClothesDto;
-import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
-import com.sprint.ootd5team.domain.recommendation.enums.Color;
-import com.sprint.ootd5team.domain.recommendation.enums.ColorTone;
-import com.sprint.ootd5team.domain.recommendation.enums.Material;
-import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
-import com.sprint.ootd5team.domain.recommendation.enums.type.OptionalItemSubType;
-import com.sprint.ootd5team.domain.recommendation.enums.type.OuterType;
-import com.sprint.ootd5team.domain.recommendation.enums.type.ShoesType;
-import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
-import com.sprint.ootd5team.domain.recommendation.enums.util.EnumParser;
+import com.sprint.ootd5team.domain.recommendation.engine.ClothesFeatureExtractor;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
 import lombok.extern.slf4j.Slf4j;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.BeanMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -32,18 +24,30 @@ public abstract class RecommendationMapper {
     @Autowired
     protected FileStorage fileStorage;
 
+    @Autowired
+    protected ClothesFeatureExtractor clothesFeatureExtractor;
+
     /** Clothes → RecommendationClothesDto (응답용) */
     @Mapping(source = "imageKey", target = "imageUrl", qualifiedByName = "resolveImageUrl")
     public abstract RecommendationClothesDto toDto(ClothesFilteredDto entity);
 
-    /** Clothes → ClothesFilteredDto (필터링용) */
+    /** Clothes → ClothesFilteredDto (필터링용) - 특징값은 즉시 계산 */
+    public ClothesFilteredDto toFilteredDto(Clothes entity) {
+        return toFilteredDto(entity, null);
+    }
+
+    /**
+     * Clothes → ClothesFilteredDto (필터링용)
+     * - 저장된 특징값(ClothesFeature)이 현재 버전이면 그대로 사용
+     * - 없거나 버전이 다르면 속성값/이름을 파싱하여 계산
+     */
     @Mapping(source = "id", target = "clothesId")
     @Mapping(source = "name", target = "name")
     @Mapping(source = "imageUrl", target = "imageKey")
     @Mapping(source = "type", target = "type")
     @Mapping(source = "clothesAttributeValues", target = "attributes")
     @BeanMapping(ignoreByDefault = true)
-    public abstract ClothesFilteredDto toFilteredDto(Clothes entity);
+    public abstract ClothesFilteredDto toFilteredDto(Clothes entity, @Context ClothesFeature feature);
 
     @Named("resolveImageUrl")
     protected String resolveImageUrl(String path) {
@@ -51,60 +55,28 @@ public abstract class RecommendationMapper {
     }
 
     @AfterMapping
-    protected void parseEnums(
+    protected void applyFeature(
         @MappingTarget ClothesFilteredDto.ClothesFilteredDtoBuilder dtoBuilder,
-        Clothes entity) {
-
-        String name = entity.getName();
-
-        // 해당 속성명에서 가져오기
-        String colorValue = getAttr(entity, "색상");
-        String materialValue = getAttr(entity, "소재");
-        String styleValue = getAttr(entity, "스타일");
-        String shoesTypeValue = getAttr(entity, "신발타입");
-        String topTypeValue = getAttr(entity, "상의 종류");
-        String bottomTypeValue = getAttr(entity, "하의 종류");
-        String outerTypeValue = getAttr(entity, "아우터 종류");
-        String optionalItemSubTypeValue = getAttr(entity, "아이템 종류");
-
-        // 색상 → 톤 자동 연계
-        Color color = EnumParser.parseFromAttrAndName(Color.class, colorValue, name, Color.OTHER);
-        ColorTone tone = color.tone();
+        Clothes entity,
+        @Context ClothesFeature feature) {
 
-        // 속성명 또는 의상 의름에서 세부 타입 분류하기
-        var topType = entity.getType() == ClothesType.TOP
-            ? EnumParser.parseFromAttrAndName(TopType.class, topTypeValue, name, TopType.OTHER)
-            : TopType.OTHER;
-
-        var bottomType = entity.getType() == ClothesType.BOTTOM
-            ? EnumParser.parseFromAttrAndName(BottomType.class, bottomTypeValue, name, BottomType.OTHER)
-            : BottomType.COTTON_PANTS;
-
-        var outerType = entity.getType() == ClothesType.OUTER
-            ? EnumParser.parseFromAttrAndName(OuterType.class, outerTypeValue, name, OuterType.OTHER)
-            : OuterType.OTHER;
-
-        var shoesType = entity.getType() == ClothesType.SHOES
-            ? EnumParser.parseFromAttrAndName(ShoesType.class, shoesTypeValue, name, ShoesType.OTHER)
-            : ShoesType.SNEAKERS;
-
-        var optionalSubType = entity.getType() == ClothesType.ETC
-            ? EnumParser.parseFromAttrAndName(OptionalItemSubType.class, optionalItemSubTypeValue, name, OptionalItemSubType.NONE)
-            : OptionalItemSubType.NONE;
+        ClothesFeature resolved = feature != null && feature.isVersion(ClothesFeatureExtractor.FEATURE_VERSION)
+            ? feature
+            : clothesFeatureExtractor.extract(entity);
 
         dtoBuilder
-            .color(color)
-            .colorTone(tone)
-            .material(EnumParser.parseFromAttrAndName(Material.class, materialValue, name, Material.OTHER))
-            .style(EnumParser.parseFromAttrAndName(ClothesStyle.class, styleValue, name, ClothesStyle.OTHER))
-            .topType(topType)
-            .bottomType(bottomType)
-            .outerType(outerType)
-            .shoesType(shoesType)
-            .optionalSubType(optionalSubType);
+            .color(resolved.getColor())
+            .colorTone(resolved.getColorTone())
+            .material(resolved.getMaterial())
+            .style(resolved.getStyle())
+            .topType(resolved.getTopType())
+            .bottomType(resolved.getBottomType())
+            .outerType(resolved.getOuterType())
+            .shoesType(resolved.getShoesType())
+            .optionalSubType(resolved.getOptionalSubType());
 
         log.trace("""
-        [RecommendationMapper] Parsed Enums for "{}"
+        [RecommendationMapper] Parsed Enums for "{}" (stored={})
         ├ Type: {}
         ├ Color: {} ({})
         ├ Material: {}
@@ -115,25 +87,17 @@ public abstract class RecommendationMapper {
         ├ ShoesType: {}
         └ OptionalSubType: {}
         """,
-            name,
+            entity.getName(),
+            resolved == feature,
             entity.getType(),
-            color, tone,
-            materialValue,
-            styleValue,
-            topType,
-            bottomType,
-            outerType,
-            shoesType,
-            optionalSubType
+            resolved.getColor(), resolved.getColorTone(),
+            resolved.getMaterial(),
+            resolved.getStyle(),
+            resolved.getTopType(),
+            resolved.getBottomType(),
+            resolved.getOuterType(),
+            resolved.getShoesType(),
+            resolved.getOptionalSubType()
         );
     }
-
-    // === 의상 속성값 찾기 헬퍼 ===
-    private String getAttr(Clothes entity, String key) {
-        return entity.getClothesAttributeValues().stream()
-            .filter(attr -> attr.getAttribute().getName().equalsIgnoreCase(key))
-            .findFirst()
-            .map(attr -> attr.getDefValue())
-            .orElse("");
-    }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.sprint.ootd5team.domain.recommendation.repository;
+
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ClothesFeatureRepository extends JpaRepository<ClothesFeature, UUID> {
+
+    Optional<ClothesFeature> findByClothesId(UUID clothesId);
+
+    List<ClothesFeature> findAllByClothesIdIn(Collection<UUID> clothesIds);
+
+    void deleteByClothesId(UUID clothesId);
+}
@@ -0,0 +1,50 @@
+package com.sprint.ootd5team.domain.recommendation.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 메모리(Caffeine) 기반 미리 계산한 추천 결과 저장소
+ * - 단일 인스턴스 / 테스트 환경용 (배치를 실행한 인스턴스에서만 조회 가능)
+ */
+@Repository
+@ConditionalOnProperty(name = "ootd.recommendation.precompute.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPrecomputedRecommendationRepository implements PrecomputedRecommendationRepository {
+
+    private record Key(UUID userId, UUID weatherId) {
+    }
+
+    private final Cache<Key, PrecomputedRecommendation> cache;
+
+    public InMemoryPrecomputedRecommendationRepository(
+        @Value("${ootd.recommendation.precompute.ttl:12h}") Duration ttl,
+        @Value("${ootd.recommendation.precompute.max-size:100000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public void save(PrecomputedRecommendation recommendation) {
+        cache.put(new Key(recommendation.userId(), recommendation.weatherId()), recommendation);
+    }
+
+    @Override
+    public Optional<PrecomputedRecommendation> find(UUID userId, UUID weatherId) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(userId, weatherId)));
+    }
+
+    @Override
+    public void deleteByUserId(UUID userId) {
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+}
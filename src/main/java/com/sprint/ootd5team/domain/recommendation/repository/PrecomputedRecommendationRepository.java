@@ -0,0 +1,19 @@
+package com.sprint.ootd5team.domain.recommendation.repository;
+
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 미리 계산한 추천 결과 저장소
+ * - ootd.recommendation.precompute.repository 값(redis / memory)에 따라 구현체 선택
+ */
+public interface PrecomputedRecommendationRepository {
+
+    void save(PrecomputedRecommendation recommendation);
+
+    Optional<PrecomputedRecommendation> find(UUID userId, UUID weatherId);
+
+    /** 사용자의 모든 날씨 결과 삭제 (옷장 변경 시) */
+    void deleteByUserId(UUID userId);
+}
@@ -0,0 +1,78 @@
+package com.sprint.ootd5team.domain.recommendation.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis 기반 미리 계산한 추천 결과 저장소
+ * <p>
+ * - 사용자별 Hash 1개: recommendation:precomputed:{userId} → { weatherId: JSON }
+ * - 저장 시 키 TTL 갱신, 옷장 변경 시 키 삭제로 사용자 결과 전체 무효화
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "ootd.recommendation.precompute.repository", havingValue = "redis")
+public class RedisPrecomputedRecommendationRepository implements PrecomputedRecommendationRepository {
+
+    private static final String KEY_PREFIX = "recommendation:precomputed:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public RedisPrecomputedRecommendationRepository(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${ootd.recommendation.precompute.ttl:12h}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void save(PrecomputedRecommendation recommendation) {
+        String key = key(recommendation.userId());
+        try {
+            String json = objectMapper.writeValueAsString(recommendation);
+            redisTemplate.opsForHash().put(key, recommendation.weatherId().toString(), json);
+            redisTemplate.expire(key, ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisPrecomputedRecommendationRepository] 직렬화 실패: userId={}, weatherId={}",
+                recommendation.userId(), recommendation.weatherId(), e);
+        }
+    }
+
+    @Override
+    public Optional<PrecomputedRecommendation> find(UUID userId, UUID weatherId) {
+        Object json = redisTemplate.opsForHash().get(key(userId), weatherId.toString());
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(json.toString(), PrecomputedRecommendation.class));
+        } catch (JsonProcessingException e) {
+            log.warn("[RedisPrecomputedRecommendationRepository] 역직렬화 실패: userId={}, weatherId={}",
+                userId, weatherId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void deleteByUserId(UUID userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
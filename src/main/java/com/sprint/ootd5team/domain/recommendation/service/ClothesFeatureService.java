@@ -0,0 +1,71 @@
+package com.sprint.ootd5team.domain.recommendation.service;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.recommendation.engine.ClothesFeatureExtractor;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
+import com.sprint.ootd5team.domain.recommendation.repository.ClothesFeatureRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 추천용 의상 특징값 관리 서비스
+ * <p>
+ * - 의상 생성/수정 시 특징값을 계산하여 저장(upsert)
+ * - 추천 시 의상 ID 목록으로 일괄 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClothesFeatureService {
+
+    private final ClothesFeatureRepository clothesFeatureRepository;
+    private final ClothesFeatureExtractor clothesFeatureExtractor;
+
+    /**
+     * 의상의 특징값을 다시 계산하여 저장
+     *
+     * @param clothes 저장(flush 전이라도 ID가 할당된) 의상 엔티티
+     */
+    @Transactional
+    public void refresh(Clothes clothes) {
+        if (clothes == null || clothes.getId() == null) {
+            return;
+        }
+
+        ClothesFeature computed = clothesFeatureExtractor.extract(clothes);
+        clothesFeatureRepository.findByClothesId(clothes.getId())
+            .ifPresentOrElse(
+                existing -> existing.update(computed),
+                () -> clothesFeatureRepository.save(computed)
+            );
+
+        log.debug("[ClothesFeatureService] 특징값 갱신 완료: clothesId={}, version={}",
+            clothes.getId(), ClothesFeatureExtractor.FEATURE_VERSION);
+    }
+
+    @Transactional
+    public void delete(UUID clothesId) {
+        clothesFeatureRepository.deleteByClothesId(clothesId);
+    }
+
+    /**
+     * 의상 ID 목록에 대한 특징값 일괄 조회
+     * - 현재 버전이 아닌 특징값은 제외 (호출 측에서 재계산)
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ClothesFeature> findCurrentByClothesIds(Collection<UUID> clothesIds) {
+        if (clothesIds == null || clothesIds.isEmpty()) {
+            return Map.of();
+        }
+        return clothesFeatureRepository.findAllByClothesIdIn(clothesIds).stream()
+            .filter(f -> f.isVersion(ClothesFeatureExtractor.FEATURE_VERSION))
+            .collect(Collectors.toMap(ClothesFeature::getClothesId, Function.identity(), (a, b) -> a));
+    }
+}
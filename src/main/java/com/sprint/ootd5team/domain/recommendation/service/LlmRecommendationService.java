@@ -2,38 +2,122 @@ package com.sprint.ootd5team.domain.recommendation.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.sprint.ootd5team.base.llm.LlmJsonClient;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.WeatherInfoDto;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * LLM 기반 코디 추천 서비스
  * <p>
  * - 필터링된 의상 목록을 기반으로 LLM이 코디 조합을 생성
+ * - (프로필, 구간화한 날씨, 후보 의상 ID) 지문이 같으면 캐시된 응답 재사용
+ * - 같은 지문의 동시 요청은 LLM을 한 번만 호출하고 결과를 공유 (single-flight)
+ * - 공유 결과는 인터럽트 가능하게 최대 shared-wait-timeout 동안만 기다림 (작업 취소 시 스레드 즉시 반환)
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LlmRecommendationService {
 
+    /** LLM에 넘길 최대 의상 수 */
+    private static final int MAX_SAMPLE_SIZE = 20;
+    /** 체감온도 구간 크기(℃) */
+    private static final double FEELS_TEMP_BUCKET = 2.0;
+    /** 강수확률 구간 크기(%, 0~100) */
+    private static final double PRECIPITATION_BUCKET = 10.0;
+
     private final LlmJsonClient llmJsonClient;
     private final ObjectMapper objectMapper;
+    private final AsyncCache<String, List<UUID>> llmRecommendationCache;
+    private final Duration sharedWaitTimeout;
+
+    public LlmRecommendationService(
+        LlmJsonClient llmJsonClient,
+        ObjectMapper objectMapper,
+        AsyncCache<String, List<UUID>> llmRecommendationCache,
+        @Value("${ootd.recommendation.llm.shared-wait-timeout:20s}") Duration sharedWaitTimeout
+    ) {
+        this.llmJsonClient = llmJsonClient;
+        this.objectMapper = objectMapper;
+        this.llmRecommendationCache = llmRecommendationCache;
+        this.sharedWaitTimeout = sharedWaitTimeout;
+    }
 
     public List<UUID> recommendOutfit(RecommendationInfoDto info,
         List<ClothesFilteredDto> clothes) {
-        String llmInput = buildLlmInput(info, clothes);
+        String fingerprint = fingerprint(info, clothes);
+
+        CompletableFuture<List<UUID>> created = new CompletableFuture<>();
+        CompletableFuture<List<UUID>> existing =
+            llmRecommendationCache.asMap().putIfAbsent(fingerprint, created);
+        if (existing != null) {
+            log.debug("[LlmRecommendationService] 캐시/진행 중 요청 재사용: fingerprint={}", fingerprint);
+            return await(existing);
+        }
+
+        List<UUID> result = List.of();
+        try {
+            result = callLlm(info, clothes, fingerprint);
+        } finally {
+            created.complete(result);
+            // 실패/빈 응답은 캐시하지 않음 (다음 요청에서 다시 호출)
+            if (result.isEmpty()) {
+                llmRecommendationCache.asMap().remove(fingerprint, created);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 공유 요청 결과 대기
+     * - join() 은 인터럽트를 무시하므로 get(timeout) 사용 → 취소된 작업의 스레드가 LLM 응답까지 묶이지 않음
+     */
+    private List<UUID> await(CompletableFuture<List<UUID>> future) {
+        try {
+            return future.get(sharedWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("[LlmRecommendationService] 공유 LLM 요청 대기 중 취소 → 빈 결과 반환");
+            return List.of();
+        } catch (TimeoutException e) {
+            log.warn("[LlmRecommendationService] 공유 LLM 요청 대기 시간 초과 → 빈 결과 반환");
+            return List.of();
+        } catch (ExecutionException e) {
+            log.warn("[LlmRecommendationService] 공유 LLM 요청 실패 → 빈 결과 반환", e);
+            return List.of();
+        }
+    }
+
+    private List<UUID> callLlm(RecommendationInfoDto info, List<ClothesFilteredDto> clothes,
+        String fingerprint) {
+        String llmInput = buildLlmInput(info, clothes, fingerprint);
         Prompt prompt = buildPrompt(llmInput);
 
         Map<String, Object> map;
@@ -72,15 +156,13 @@ public class LlmRecommendationService {
 
     /** LLM에 넘길 입력 데이터 */
     private String buildLlmInput(RecommendationInfoDto info,
-        List<ClothesFilteredDto> clothes) {
+        List<ClothesFilteredDto> clothes, String fingerprint) {
         try {
-            // 옷 목록 샘플링 (최대 20개)
-            List<ClothesFilteredDto> sampled = new ArrayList<>(clothes);
-            Collections.shuffle(sampled);
-            List<ClothesFilteredDto> limited = sampled.stream().limit(20).toList();
+            // 옷 목록 샘플링 (최대 20개, 같은 지문이면 같은 샘플)
+            List<ClothesFilteredDto> limited = sample(clothes, fingerprint);
 
             // JSON 통합 구조 생성
-            Map<String, Object> payload = new HashMap<>();
+            Map<String, Object> payload = new LinkedHashMap<>();
             payload.put("profile", info != null ? info.profileInfo() : null);
             payload.put("weather", info != null ? info.weatherInfo() : null);
             payload.put("clothes", limited);
@@ -94,6 +176,63 @@ public class LlmRecommendationService {
         }
     }
 
+    /**
+     * 결정적 후보 샘플링
+     * - ID 순 정렬 후 지문 기반 시드로 셔플 → 입력이 같으면 항상 같은 순서/샘플
+     */
+    static List<ClothesFilteredDto> sample(List<ClothesFilteredDto> clothes, String fingerprint) {
+        List<ClothesFilteredDto> sorted = new ArrayList<>(clothes);
+        sorted.sort(Comparator.comparing(ClothesFilteredDto::clothesId,
+            Comparator.nullsLast(Comparator.naturalOrder())));
+        if (sorted.size() > MAX_SAMPLE_SIZE) {
+            long seed = ByteBuffer.wrap(HexFormat.of().parseHex(fingerprint, 0, 16)).getLong();
+            Collections.shuffle(sorted, new Random(seed));
+        }
+        return sorted.stream().limit(MAX_SAMPLE_SIZE).toList();
+    }
+
+    /**
+     * 요청 지문 (SHA-256)
+     * - 프로필(성별/나이/민감도), 구간화한 날씨, 정렬한 후보 의상 ID
+     * - 체감온도는 2℃, 강수확률은 10% 단위로 구간화하여 비슷한 날씨는 같은 지문
+     */
+    static String fingerprint(RecommendationInfoDto info, List<ClothesFilteredDto> clothes) {
+        StringBuilder source = new StringBuilder();
+
+        ProfileInfoDto profile = info != null ? info.profileInfo() : null;
+        if (profile != null) {
+            source.append(profile.gender()).append('|')
+                .append(profile.age()).append('|')
+                .append(profile.temperatureSensitivity());
+        }
+        source.append('#');
+
+        WeatherInfoDto weather = info != null ? info.weatherInfo() : null;
+        if (weather != null) {
+            source.append(weather.precipitationType()).append('|')
+                .append((long) Math.floor(weather.precipitationProbability() / PRECIPITATION_BUCKET)).append('|')
+                .append(weather.windspeedLevel()).append('|')
+                .append(weather.skyStatus()).append('|')
+                .append((long) Math.floor(info.personalFeelsTemp() / FEELS_TEMP_BUCKET));
+        }
+        source.append('#');
+
+        source.append(clothes.stream()
+            .map(ClothesFilteredDto::clothesId)
+            .filter(Objects::nonNull)
+            .map(UUID::toString)
+            .sorted()
+            .collect(Collectors.joining(",")));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+
     /** LLM 프롬프트(지시문 + JSON 형식 + 분석 텍스트) 생성 */
     private Prompt buildPrompt(String llmInput) {
         return new Prompt(new UserMessage("""
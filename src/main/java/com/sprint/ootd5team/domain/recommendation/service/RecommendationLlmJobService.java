@@ -0,0 +1,148 @@
+package com.sprint.ootd5team.domain.recommendation.service;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationClothesDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비동기 LLM 추천 작업 관리 서비스
+ * <p>
+ * - 요청 스레드는 알고리즘 추천 결과와 작업 ID만 반환하고, LLM 호출은 llmTaskExecutor 에서 실행
+ * - 결과는 SSE "recommendations" 이벤트로 사용자에게 전달
+ * - 사용자당 진행 중 작업은 1개 (새 요청 시 이전 작업 취소), 제한 시간 초과 시 작업 취소
+ */
+@Slf4j
+@Service
+public class RecommendationLlmJobService {
+
+    public static final String EVENT_NAME = "recommendations";
+
+    private record InflightJob(UUID jobId, Future<?> future) {
+    }
+
+    private final LlmRecommendationService llmRecommendationService;
+    private final RecommendationMapper recommendationMapper;
+    private final SseService sseService;
+    private final TaskExecutor llmTaskExecutor;
+    private final Duration timeout;
+
+    private final Map<UUID, InflightJob> inflight = new ConcurrentHashMap<>();
+
+    public RecommendationLlmJobService(
+        LlmRecommendationService llmRecommendationService,
+        RecommendationMapper recommendationMapper,
+        SseService sseService,
+        @Qualifier("llmTaskExecutor") TaskExecutor llmTaskExecutor,
+        @Value("${ootd.recommendation.llm.async-timeout:20s}") Duration timeout
+    ) {
+        this.llmRecommendationService = llmRecommendationService;
+        this.recommendationMapper = recommendationMapper;
+        this.sseService = sseService;
+        this.llmTaskExecutor = llmTaskExecutor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * LLM 추천 작업 등록
+     *
+     * @param candidates 필터링된 후보 의상 (DB 조회가 끝난 값만 전달 → 작업 중 커넥션 미사용)
+     * @return 작업 ID (스레드풀 포화로 거부되면 empty)
+     */
+    public Optional<UUID> submit(UUID userId, UUID weatherId, RecommendationInfoDto info,
+        List<ClothesFilteredDto> candidates) {
+        UUID jobId = UUID.randomUUID();
+        List<ClothesFilteredDto> snapshot = List.copyOf(candidates);
+        FutureTask<Void> task = new FutureTask<>(
+            () -> refine(jobId, userId, weatherId, info, snapshot), null);
+        InflightJob job = new InflightJob(jobId, task);
+
+        InflightJob previous = inflight.put(userId, job);
+        if (previous != null && previous.future().cancel(true)) {
+            log.debug("[RecommendationLlmJobService] 이전 작업 취소: userId={}, jobId={}",
+                userId, previous.jobId());
+        }
+
+        try {
+            llmTaskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            inflight.remove(userId, job);
+            log.warn("[RecommendationLlmJobService] LLM 작업 큐 포화 → 비동기 추천 생략: userId={}", userId);
+            return Optional.empty();
+        }
+
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .execute(() -> {
+                if (task.cancel(true)) {
+                    inflight.remove(userId, job);
+                    log.warn("[RecommendationLlmJobService] LLM 작업 시간 초과로 취소: userId={}, jobId={}",
+                        userId, jobId);
+                }
+            });
+
+        log.debug("[RecommendationLlmJobService] LLM 작업 등록: userId={}, jobId={}", userId, jobId);
+        return Optional.of(jobId);
+    }
+
+    private void refine(UUID jobId, UUID userId, UUID weatherId, RecommendationInfoDto info,
+        List<ClothesFilteredDto> candidates) {
+        try {
+            List<UUID> ids = llmRecommendationService.recommendOutfit(info, candidates);
+
+            // 취소(시간 초과/새 요청)된 작업의 결과는 전송하지 않음
+            if (Thread.currentThread().isInterrupted() || !isCurrent(userId, jobId)) {
+                return;
+            }
+
+            Set<UUID> selectedIds = new HashSet<>(ids);
+            List<RecommendationClothesDto> clothes = candidates.stream()
+                .filter(c -> selectedIds.contains(c.clothesId()))
+                .sorted(Comparator.comparingInt(c -> c.type().order()))
+                .map(recommendationMapper::toDto)
+                .toList();
+            if (clothes.isEmpty()) {
+                log.warn("[RecommendationLlmJobService] LLM 추천 결과 없음 → 알고리즘 결과 유지: jobId={}", jobId);
+                return;
+            }
+
+            RecommendationDto result = RecommendationDto.builder()
+                .weatherId(weatherId)
+                .userId(userId)
+                .clothes(clothes)
+                .jobId(jobId)
+                .build();
+            sseService.send(List.of(userId), EVENT_NAME, result);
+            log.debug("[RecommendationLlmJobService] LLM 추천 결과 전송: userId={}, jobId={}", userId, jobId);
+        } catch (Exception e) {
+            log.warn("[RecommendationLlmJobService] LLM 작업 실패: userId={}, jobId={}", userId, jobId, e);
+        } finally {
+            inflight.computeIfPresent(userId, (key, job) -> job.jobId().equals(jobId) ? null : job);
+        }
+    }
+
+    private boolean isCurrent(UUID userId, UUID jobId) {
+        InflightJob job = inflight.get(userId);
+        return job != null && job.jobId().equals(jobId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sprint.ootd5team.domain.recommendation.service;
+
+import static com.sprint.ootd5team.base.util.DateTimeUtils.SEOUL_ZONE_ID;
+
+import com.sprint.ootd5team.domain.profile.entity.Profile;
+import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.WeatherInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.OutfitCombinationGenerator;
+import com.sprint.ootd5team.domain.recommendation.engine.SeasonFilterEngine;
+import com.sprint.ootd5team.domain.recommendation.engine.SingleItemScoringEngine;
+import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
+import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationInfoMapper;
+import com.sprint.ootd5team.domain.weather.entity.Weather;
+import com.sprint.ootd5team.domain.weather.service.WeatherService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 추천 결과 사전 계산 서비스 (야간 배치용)
+ * <p>
+ * - 날씨 배치 직후, 위치가 있는 사용자별로 다음날 예보 기준 내부 알고리즘 추천을 계산
+ * - 점수순 상위 N개 코디의 의상 ID만 저장 (이미지 URL 등은 조회 시점에 변환)
+ */
+@Slf4j
+@Service
+public class RecommendationPrecomputeService {
+
+    /** 23시 배치 기준 다음날 오전 예보를 대상으로 함 */
+    private static final long TARGET_OFFSET_HOURS = 12;
+
+    private final ProfileRepository profileRepository;
+    private final WeatherService weatherService;
+    private final RecommendationInfoMapper recommendationInfoMapper;
+    private final SeasonFilterEngine seasonFilterEngine;
+    private final SingleItemScoringEngine singleItemScoringEngine;
+    private final OutfitCombinationGenerator outfitCombinationGenerator;
+    private final int topN;
+
+    public RecommendationPrecomputeService(
+        ProfileRepository profileRepository,
+        WeatherService weatherService,
+        RecommendationInfoMapper recommendationInfoMapper,
+        SeasonFilterEngine seasonFilterEngine,
+        SingleItemScoringEngine singleItemScoringEngine,
+        OutfitCombinationGenerator outfitCombinationGenerator,
+        @Value("${ootd.recommendation.precompute.top-n:10}") int topN
+    ) {
+        this.profileRepository = profileRepository;
+        this.weatherService = weatherService;
+        this.recommendationInfoMapper = recommendationInfoMapper;
+        this.seasonFilterEngine = seasonFilterEngine;
+        this.singleItemScoringEngine = singleItemScoringEngine;
+        this.outfitCombinationGenerator = outfitCombinationGenerator;
+        this.topN = topN;
+    }
+
+    /** 사전 계산 대상 사용자 ID (위치가 설정된 프로필) */
+    @Transactional(readOnly = true)
+    public List<UUID> findTargetUserIds() {
+        return profileRepository.findUserIdsByLocationIsNotNull();
+    }
+
+    /**
+     * 사용자 1명의 추천 결과 계산
+     *
+     * @return 위치/예보/추천 결과가 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<PrecomputedRecommendation> precompute(UUID userId) {
+        Profile profile = profileRepository.findByUserId(userId).orElse(null);
+        if (profile == null || profile.getLocation() == null) {
+            return Optional.empty();
+        }
+
+        LocalDate targetDate = ZonedDateTime.now(SEOUL_ZONE_ID)
+            .plusHours(TARGET_OFFSET_HOURS)
+            .toLocalDate();
+        Weather weather = weatherService.getLatestWeatherForLocationAndDate(
+            profile.getLocation().getId(), targetDate);
+        if (weather == null) {
+            log.debug("[RecommendationPrecomputeService] 대상 예보 없음: userId={}, date={}",
+                userId, targetDate);
+            return Optional.empty();
+        }
+
+        ProfileInfoDto profileInfo = recommendationInfoMapper.toProfileInfoDto(profile);
+        WeatherInfoDto weatherInfo = recommendationInfoMapper.toWeatherInfoDto(weather);
+        RecommendationInfoDto info = recommendationInfoMapper.toDto(weatherInfo, profileInfo);
+
+        List<ClothesFilteredDto> filtered = seasonFilterEngine.getFilteredClothes(userId, info);
+        if (filtered.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<ClothesScore> items = singleItemScoringEngine.getTopItemsByType(info, filtered);
+        List<OutfitScore> ranked = outfitCombinationGenerator.generateWithScoring(items);
+        if (ranked.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<List<UUID>> outfits = ranked.stream()
+            .limit(topN)
+            .map(outfit -> outfit.getItems().stream()
+                .map(score -> score.item().clothesId())
+                .toList())
+            .toList();
+
+        return Optional.of(new PrecomputedRecommendation(
+            userId, weather.getId(), profileInfo, outfits, Instant.now()));
+    }
+}
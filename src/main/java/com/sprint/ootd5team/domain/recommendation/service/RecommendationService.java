@@ -2,9 +2,12 @@ package com.sprint.ootd5team.domain.recommendation.service;
 
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
 import com.sprint.ootd5team.domain.profile.entity.Profile;
 import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
 import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationClothesDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationDto;
@@ -15,14 +18,19 @@ import com.sprint.ootd5team.domain.recommendation.engine.SeasonFilterEngine;
 import com.sprint.ootd5team.domain.recommendation.engine.SingleItemScoringEngine;
 import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
 import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationInfoMapper;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import com.sprint.ootd5team.domain.recommendation.repository.PrecomputedRecommendationRepository;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
 import com.sprint.ootd5team.domain.weather.entity.Weather;
 import com.sprint.ootd5team.domain.weather.exception.WeatherNotFoundException;
 import com.sprint.ootd5team.domain.weather.repository.WeatherRepository;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +43,7 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>
  * 내부 알고리즘 + LLM 기반 추천 + 필터링 실패 시 랜덤 조합 추천
  * 사용자가 llm 추천 선택시 LLM 기반 추천
+ * async 모드에서는 알고리즘 결과를 즉시 반환하고 LLM 결과는 SSE로 전달
  */
 @Slf4j
 @Service
@@ -44,6 +53,8 @@ public class RecommendationService {
     private final UserRepository userRepository;
     private final WeatherRepository weatherRepository;
     private final ProfileRepository profileRepository;
+    private final ClothesRepository clothesRepository;
+    private final PrecomputedRecommendationRepository precomputedRecommendationRepository;
 
     private final RecommendationMapper recommendationMapper;
     private final RecommendationInfoMapper recommendationInfoMapper;
@@ -53,9 +64,22 @@ public class RecommendationService {
     private final LlmRecommendationService llmRecommendationService;
     private final RecommendationFallbackService recommendationFallbackService;
     private final SeasonFilterEngine seasonFilterEngine;
+    private final RecommendationLlmJobService recommendationLlmJobService;
+    private final ClothesFeatureService clothesFeatureService;
 
     @Transactional(readOnly = true)
     public RecommendationDto getRecommendation(UUID weatherId, UUID userId, boolean useAi) {
+        return getRecommendation(weatherId, userId, useAi, false);
+    }
+
+    /**
+     * @param async useAi=true 일 때만 의미 있음
+     *              - 알고리즘 결과 + 작업 ID를 즉시 반환
+     *              - LLM 결과는 SSE "recommendations" 이벤트로 전달
+     */
+    @Transactional(readOnly = true)
+    public RecommendationDto getRecommendation(UUID weatherId, UUID userId, boolean useAi,
+        boolean async) {
         assertUserExists(userId);
         Profile profile = getProfile(userId);
         Weather weather = resolveWeather(profile, weatherId);
@@ -64,6 +88,15 @@ public class RecommendationService {
         WeatherInfoDto weatherInfoDto = recommendationInfoMapper.toWeatherInfoDto(weather);
         RecommendationInfoDto info = recommendationInfoMapper.toDto(weatherInfoDto, profileInfoDto);
 
+        // 배치로 미리 계산한 결과 우선 사용 (내부 알고리즘 추천만)
+        if (!useAi) {
+            Optional<List<ClothesFilteredDto>> precomputed =
+                findPrecomputed(userId, weather.getId(), profileInfoDto);
+            if (precomputed.isPresent()) {
+                return buildResult(weatherId, userId, precomputed.get());
+            }
+        }
+
         // 의상 필터링
         List<ClothesFilteredDto> filtered = seasonFilterEngine.getFilteredClothes(userId, info);
 
@@ -74,6 +107,11 @@ public class RecommendationService {
                 recommendationFallbackService.getRandomOutfit(userId));
         }
 
+        // 비동기 LLM: 알고리즘 결과 먼저 반환, LLM 호출은 별도 스레드풀에서 실행
+        if (useAi && async) {
+            return recommendWithAsyncAi(weatherId, userId, info, filtered);
+        }
+
         // 추천 방식 선택
         List<ClothesFilteredDto> selected = (useAi
             ? recommendWithAi(info, filtered)
@@ -117,6 +155,27 @@ public class RecommendationService {
         return result;
     }
 
+    /**
+     * 비동기 LLM 추천
+     * - 즉시 응답은 내부 알고리즘 결과 (없으면 랜덤 조합)
+     * - 작업이 거부되면 jobId 없이 반환 (SSE 이벤트 없음)
+     */
+    private RecommendationDto recommendWithAsyncAi(
+        UUID weatherId,
+        UUID userId,
+        RecommendationInfoDto info,
+        List<ClothesFilteredDto> candidates
+    ) {
+        List<ClothesFilteredDto> selected = recommendWithAlgorithm(info, candidates);
+        if (selected.isEmpty()) {
+            selected = recommendationFallbackService.getRandomOutfit(userId);
+        }
+
+        UUID jobId = recommendationLlmJobService.submit(userId, weatherId, info, candidates)
+            .orElse(null);
+        return buildResult(weatherId, userId, selected, jobId);
+    }
+
     /**
      * 내부 알고리즘 호출
      * - 단품 Top-N 선별 → 조합/랭킹 → 상위 조합 중 무작위 1개 선택
@@ -141,6 +200,44 @@ public class RecommendationService {
             .toList();
     }
 
+    /**
+     * 미리 계산한 추천 결과 조회
+     * - 프로필 정보가 계산 당시와 다르거나, 코디의 의상이 삭제되었으면 사용하지 않음
+     * - 상위 코디 중 무작위 1개 선택 (실시간 계산과 동일한 다양성 유지)
+     */
+    private Optional<List<ClothesFilteredDto>> findPrecomputed(UUID userId, UUID weatherId,
+        ProfileInfoDto profileInfo) {
+        if (weatherId == null) {
+            return Optional.empty();
+        }
+
+        PrecomputedRecommendation precomputed = precomputedRecommendationRepository
+            .find(userId, weatherId)
+            .filter(p -> Objects.equals(profileInfo, p.profileInfo()) && !p.outfits().isEmpty())
+            .orElse(null);
+        if (precomputed == null) {
+            return Optional.empty();
+        }
+
+        List<UUID> ids = precomputed.outfits()
+            .get(ThreadLocalRandom.current().nextInt(precomputed.outfits().size()));
+        List<Clothes> clothes = clothesRepository.findAllWithAttributesByIds(ids);
+        if (clothes.size() != ids.size()
+            || clothes.stream().anyMatch(c -> !c.getOwner().getId().equals(userId))) {
+            log.debug("[RecommendationService] 사전 계산 결과의 의상 변경 감지 → 실시간 계산: userId={}",
+                userId);
+            return Optional.empty();
+        }
+
+        // 실시간 계산과 같이 저장된 특징값 사용 (없거나 버전이 다르면 매퍼에서 즉시 계산)
+        Map<UUID, ClothesFeature> features = clothesFeatureService.findCurrentByClothesIds(ids);
+        log.debug("[RecommendationService] 사전 계산 결과 사용: userId={}, weatherId={}, features={}/{}",
+            userId, weatherId, features.size(), clothes.size());
+        return Optional.of(clothes.stream()
+            .map(c -> recommendationMapper.toFilteredDto(c, features.get(c.getId())))
+            .toList());
+    }
+
     /* -------------------- 유틸 -------------------- */
     private void assertUserExists(UUID userId) {
         if (!userRepository.existsById(userId)) {
@@ -176,6 +273,11 @@ public class RecommendationService {
 
     private RecommendationDto buildResult(UUID weatherId, UUID userId,
         List<ClothesFilteredDto> clothes) {
+        return buildResult(weatherId, userId, clothes, null);
+    }
+
+    private RecommendationDto buildResult(UUID weatherId, UUID userId,
+        List<ClothesFilteredDto> clothes, UUID jobId) {
         List<RecommendationClothesDto> converted = clothes.stream()
             .sorted(Comparator.comparingInt(c -> c.type().order()))
             .map(recommendationMapper::toDto)
@@ -185,6 +287,7 @@ public class RecommendationService {
             .weatherId(weatherId)
             .userId(userId)
             .clothes(converted)
+            .jobId(jobId)
             .build();
     }
 }
\ No newline at end of file
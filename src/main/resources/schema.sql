@@ -76,6 +76,7 @@ CREATE TABLE IF NOT EXISTS tbl_clothes
     name                     VARCHAR(100)             NOT NULL,
     type                     VARCHAR(20)              NOT NULL,
     image_url                TEXT,
+    season_mask              INT,
     created_at               TIMESTAMP WITH TIME ZONE NOT NULL,
     updated_at               TIMESTAMP WITH TIME ZONE,
     -- constraints
@@ -120,6 +121,29 @@ CREATE TABLE IF NOT EXISTS tbl_clothes_attributes_values
     CONSTRAINT uk_cav_clothes_attribute UNIQUE (clothes_id, attribute_id)
 );
 
+-- 추천용 의상 특징값 테이블 (의상 생성/수정 시 계산)
+CREATE TABLE IF NOT EXISTS tbl_clothes_features
+(
+    id                        UUID                     PRIMARY KEY,
+    clothes_id                UUID                     NOT NULL,
+    feature_version           INT                      NOT NULL,
+    color                     VARCHAR(20),
+    color_tone                VARCHAR(20),
+    material                  VARCHAR(20),
+    style                     VARCHAR(20),
+    top_type                  VARCHAR(20),
+    bottom_type               VARCHAR(20),
+    outer_type                VARCHAR(20),
+    shoes_type                VARCHAR(20),
+    optional_sub_type         VARCHAR(20),
+    seasons                   VARCHAR(50),
+    created_at                TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at                TIMESTAMP WITH TIME ZONE,
+    -- constraints
+    CONSTRAINT fk_clothes_features_clothes FOREIGN KEY (clothes_id) REFERENCES tbl_clothes (id) ON DELETE CASCADE,
+    CONSTRAINT uq_clothes_features_clothes UNIQUE (clothes_id)
+);
+
 /****** 피드 ******/
 -- 피드 테이블
 CREATE TABLE IF NOT EXISTS tbl_feeds
@@ -255,6 +279,31 @@ CREATE TABLE IF NOT EXISTS tbl_notifications
     CONSTRAINT fk_user_notification FOREIGN KEY (receiver_id) REFERENCES tbl_users (id) ON DELETE CASCADE
 );
 
+-- 전체 알림 테이블 (공지 1건당 1행, 개인 알림과 합쳐 조회)
+CREATE TABLE IF NOT EXISTS tbl_broadcast_notifications
+(
+    id                        UUID                     PRIMARY KEY,
+    title                     VARCHAR                  NOT NULL,
+    content                   TEXT                     NOT NULL,
+    level                     VARCHAR(10)              NOT NULL,
+    created_at                TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    -- constraints
+    CONSTRAINT check_broadcast_level CHECK (level IN ('INFO', 'WARNING', 'ERROR'))
+);
+
+-- 사용자가 삭제한 전체 알림 (삭제할 때만 생성)
+CREATE TABLE IF NOT EXISTS tbl_broadcast_notification_dismissals
+(
+    id                        UUID                     PRIMARY KEY,
+    broadcast_id              UUID                     NOT NULL,
+    user_id                   UUID                     NOT NULL,
+    created_at                TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    -- constraints
+    CONSTRAINT uq_broadcast_dismissal UNIQUE (broadcast_id, user_id),
+    CONSTRAINT fk_broadcast_dismissal_broadcast FOREIGN KEY (broadcast_id) REFERENCES tbl_broadcast_notifications (id) ON DELETE CASCADE,
+    CONSTRAINT fk_broadcast_dismissal_user FOREIGN KEY (user_id) REFERENCES tbl_users (id) ON DELETE CASCADE
+);
+
 /* 배치 테이블 생성 */
 
 CREATE TABLE BATCH_JOB_INSTANCE  (
@@ -351,6 +400,11 @@ CREATE INDEX idx_tbl_locations_lat_lon
 CREATE INDEX idx_tbl_clothes_owner_id
     ON tbl_clothes (owner_id);
 
+-- 계절 필터 (season_mask 는 의상 생성/수정 시 계산, 기존 데이터는 clothesSeasonBackfillJob 으로 백필)
+ALTER TABLE tbl_clothes ADD COLUMN IF NOT EXISTS season_mask INT;
+CREATE INDEX IF NOT EXISTS idx_tbl_clothes_owner_season
+    ON tbl_clothes (owner_id, season_mask);
+
 -- DM 메세지 인덱스 (마지막 메세지부터 조회)
 CREATE INDEX IF NOT EXISTS idx_dm_messages_room_created
     ON tbl_dm_messages(room_id, created_at DESC);
@@ -383,6 +437,10 @@ CREATE INDEX IF NOT EXISTS idx_feed_comments_feed_id
 CREATE INDEX IF NOT EXISTS idx_feed_likes_feed_id
     ON tbl_feed_likes(feed_id);
 
+-- 페이지 단위 likedByMe 일괄 조회 / 사용자별 좋아요 목록 (index-only scan)
+CREATE INDEX IF NOT EXISTS idx_feed_likes_user_feed
+    ON tbl_feed_likes(user_id, feed_id);
+
 -- tbl_follows index
 CREATE INDEX IF NOT EXISTS idx_follows_followee_id
     ON tbl_follows(followee_id);
@@ -394,3 +452,7 @@ CREATE INDEX IF NOT EXISTS idx_follows_follower_id
 CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created
     ON tbl_notifications (receiver_id, created_at DESC);
 
+-- tbl_broadcast_notifications index
+CREATE INDEX IF NOT EXISTS idx_broadcast_notifications_created
+    ON tbl_broadcast_notifications (created_at);
+
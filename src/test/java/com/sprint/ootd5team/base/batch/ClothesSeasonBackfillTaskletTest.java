@@ -0,0 +1,74 @@
+package com.sprint.ootd5team.base.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import com.sprint.ootd5team.domain.recommendation.enums.util.SeasonMask;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClothesSeasonBackfillTasklet 단위 테스트")
+class ClothesSeasonBackfillTaskletTest {
+
+    @Mock
+    ClothesRepository clothesRepository;
+
+    @InjectMocks
+    ClothesSeasonBackfillTasklet tasklet;
+
+    @Test
+    void 대상_의상_비트마스크_계산_후_종료() {
+        // given
+        Clothes clothes = Clothes.builder()
+            .name("트렌치코트")
+            .type(ClothesType.OUTER)
+            .build();
+        clothes.addClothesAttributeValue(new ClothesAttributeValue(new ClothesAttribute("계절"), "봄/가을"));
+        List<UUID> ids = List.of(UUID.randomUUID());
+
+        given(clothesRepository.findIdsWithoutSeasonMask(any(Limit.class))).willReturn(ids);
+        given(clothesRepository.findAllWithAttributeValuesByIds(ids)).willReturn(List.of(clothes));
+
+        // when
+        RepeatStatus status = tasklet.execute(mock(StepContribution.class), null);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(clothes.getSeasonMask())
+            .isEqualTo(SeasonMask.of(EnumSet.of(Season.SPRING, Season.AUTUMN)));
+    }
+
+    @Test
+    void 대상이_없으면_바로_종료() {
+        // given
+        given(clothesRepository.findIdsWithoutSeasonMask(any(Limit.class))).willReturn(List.of());
+
+        // when
+        RepeatStatus status = tasklet.execute(mock(StepContribution.class), null);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(clothesRepository, never()).findAllWithAttributeValuesByIds(any());
+    }
+}
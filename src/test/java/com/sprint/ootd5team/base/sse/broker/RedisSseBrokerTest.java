@@ -0,0 +1,204 @@
+package com.sprint.ootd5team.base.sse.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
+import com.sprint.ootd5team.base.sse.service.SseLocalDelivery;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("RedisSseBroker 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class RedisSseBrokerTest {
+
+    private static final String NODE_ID = "node-a";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private SsePresenceRegistry presenceRegistry;
+
+    @Mock
+    private SseLocalDelivery sseLocalDelivery;
+
+    @Mock
+    private SseEmitterRepository sseEmitterRepository;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private RedisSseBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        broker = new RedisSseBroker(redisTemplate, mapper, presenceRegistry, sseLocalDelivery,
+            sseEmitterRepository, NODE_ID);
+    }
+
+    @Test
+    void publish_브로드캐스트는_공용채널로_발행() throws Exception {
+        // given
+        SseMessage message = new SseMessage("event", "data");
+
+        // when
+        broker.publish(message);
+
+        // then
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should().convertAndSend(eq(RedisSseBroker.BROADCAST_CHANNEL), json.capture());
+        assertThat(mapper.readValue(json.getValue(), SseMessage.class).getId()).isEqualTo(message.getId());
+        then(presenceRegistry).should(never()).findNodes(anyCollection());
+    }
+
+    @Test
+    void publish_개별전송은_연결된_노드별로_나눠_발행() throws Exception {
+        // given
+        UUID local = UUID.randomUUID();
+        UUID remote = UUID.randomUUID();
+        UUID offline = UUID.randomUUID();
+        SseMessage message = SseMessage.builder()
+            .eventName("notifications")
+            .data("data")
+            .targetUserIds(Set.of(local, remote, offline))
+            .build();
+        given(presenceRegistry.findNodes(message.getTargetUserIds()))
+            .willReturn(Map.of(NODE_ID, Set.of(local), "node-b", Set.of(remote)));
+
+        // when
+        broker.publish(message);
+
+        // then
+        ArgumentCaptor<SseMessage> delivered = ArgumentCaptor.forClass(SseMessage.class);
+        then(sseLocalDelivery).should().deliver(delivered.capture());
+        assertThat(delivered.getValue().getId()).isEqualTo(message.getId());
+        assertThat(delivered.getValue().getTargetUserIds()).containsExactly(local);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should().convertAndSend(eq("sse:node:node-b"), json.capture());
+        SseMessage forNodeB = mapper.readValue(json.getValue(), SseMessage.class);
+        assertThat(forNodeB.getId()).isEqualTo(message.getId());
+        assertThat(forNodeB.getTargetUserIds()).containsExactly(remote);
+    }
+
+    @Test
+    void publish_Redis오류시_이노드에만_전송() {
+        // given
+        SseMessage message = SseMessage.builder()
+            .eventName("notifications")
+            .data("data")
+            .targetUserIds(Set.of(UUID.randomUUID()))
+            .build();
+        given(presenceRegistry.findNodes(anyCollection()))
+            .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        broker.publish(message);
+
+        // then
+        then(sseLocalDelivery).should().deliver(message);
+        then(redisTemplate).should(never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void publishAll_접속노드를_한번에_조회하고_노드별로_한번만_발행() throws Exception {
+        // given
+        UUID local = UUID.randomUUID();
+        UUID remote1 = UUID.randomUUID();
+        UUID remote2 = UUID.randomUUID();
+        SseMessage toLocal = targeted(local);
+        SseMessage toRemote1 = targeted(remote1);
+        SseMessage toRemote2 = targeted(remote2);
+        given(presenceRegistry.findNodes(Set.of(local, remote1, remote2)))
+            .willReturn(Map.of(NODE_ID, Set.of(local), "node-b", Set.of(remote1, remote2)));
+
+        // when
+        broker.publishAll(List.of(toLocal, toRemote1, toRemote2));
+
+        // then
+        then(presenceRegistry).should().findNodes(anyCollection());
+        then(sseLocalDelivery).should().deliver(toLocal);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        then(redisTemplate).should().convertAndSend(eq("sse:node:node-b"), json.capture());
+        List<SseMessage> forNodeB = mapper.readValue(json.getValue(), new TypeReference<>() {
+        });
+        assertThat(forNodeB).extracting(SseMessage::getId)
+            .containsExactly(toRemote1.getId(), toRemote2.getId());
+    }
+
+    @Test
+    void onMessage_일괄전송_메시지배열을_각각_전송() throws Exception {
+        // given
+        SseMessage first = targeted(UUID.randomUUID());
+        SseMessage second = targeted(UUID.randomUUID());
+        byte[] body = mapper.writeValueAsBytes(List.of(first, second));
+
+        // when
+        broker.onMessage(new DefaultMessage(broker.nodeChannel().getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        then(sseLocalDelivery).should().deliver(first);
+        then(sseLocalDelivery).should().deliver(second);
+    }
+
+    @Test
+    void onMessage_수신한_메시지를_이노드의_emitter로_전송() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        SseMessage message = SseMessage.builder()
+            .eventName("notifications")
+            .data("data")
+            .targetUserIds(Set.of(userId))
+            .build();
+        byte[] body = mapper.writeValueAsBytes(message);
+
+        // when
+        broker.onMessage(new DefaultMessage(broker.nodeChannel().getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        then(sseLocalDelivery).should().deliver(message);
+    }
+
+    @Test
+    void heartbeat_연결된_사용자의_접속시각_갱신() {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(sseEmitterRepository.findAll()).willReturn(Map.of(userId, List.of(new SseEmitter())));
+
+        // when
+        broker.heartbeat();
+
+        // then
+        then(presenceRegistry).should().register(NODE_ID, Set.of(userId));
+    }
+
+    private SseMessage targeted(UUID userId) {
+        return SseMessage.builder()
+            .eventName("notifications")
+            .data("data")
+            .targetUserIds(Set.of(userId))
+            .build();
+    }
+}
@@ -3,79 +3,137 @@ package com.sprint.ootd5team.base.sse.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.base.sse.SseEventIds;
 import com.sprint.ootd5team.base.sse.SseMessage;
 import com.sprint.ootd5team.base.sse.repository.message.RedisSseMessageRepositoryImpl;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 
 @DisplayName("RedisSseMessageRepositoryImpl 슬라이스 테스트")
 @ExtendWith(MockitoExtension.class)
 class RedisSseMessageRepositoryImplTest {
 
-    @Mock
-    private StringRedisTemplate redisTemplate;
+    private static final String BROADCAST_STREAM = "sse:stream:broadcast";
 
     @Mock
-    private ZSetOperations<String, String> zsetOps;
+    private StringRedisTemplate redisTemplate;
 
     @Mock
-    private HashOperations<String, Object, Object> hashOps;
+    private StreamOperations<String, Object, Object> streamOps;
 
     private ObjectMapper mapper;
     private UUID userId;
+    private RedisSseMessageRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
         mapper = new ObjectMapper();
         userId = UUID.randomUUID();
+        repository = repository(mapper);
     }
 
     @Test
-    void save_성공() {
+    void save_브로드캐스트는_공용스트림에_한번만_저장() {
         // given
-        RedisSseMessageRepositoryImpl repository =
-            new RedisSseMessageRepositoryImpl(redisTemplate, mapper);
-        given(redisTemplate.opsForZSet()).willReturn(zsetOps);
-        given(redisTemplate.opsForHash()).willReturn(hashOps);
-        given(zsetOps.add(anyString(), anyString(), anyDouble())).willReturn(true);
-        given(redisTemplate.expire(anyString(), any(Duration.class))).willReturn(Boolean.TRUE);
-
         SseMessage msg = new SseMessage("test", "hello");
 
         // when
         repository.save(msg);
 
         // then
-        then(zsetOps).should().add(eq("sse:messages"), eq(msg.getId().toString()), anyDouble());
-        then(hashOps).should().put(eq("sse:payloads"), eq(msg.getId().toString()), anyString());
+        RedisOperations<String, String> operations = runPipeline();
+        ArgumentCaptor<MapRecord<String, Object, Object>> record = recordCaptor();
+        then(streamOps).should().add(record.capture());
+        assertThat(record.getValue().getStream()).isEqualTo(BROADCAST_STREAM);
+        assertThat(record.getValue().getValue()).containsEntry("id", msg.getId().toString());
+        then(streamOps).should().trim(BROADCAST_STREAM, 200, true);
+        then(operations).should().expire(BROADCAST_STREAM, Duration.ofHours(1));
+    }
+
+    @Test
+    void save_개별메시지는_수신자별_스트림에_저장() {
+        // given
+        UUID other = UUID.randomUUID();
+        SseMessage msg = SseMessage.builder()
+            .eventName("notifications")
+            .data("hello")
+            .targetUserIds(Set.of(userId, other))
+            .build();
+
+        // when
+        repository.save(msg);
+
+        // then
+        runPipeline();
+        ArgumentCaptor<MapRecord<String, Object, Object>> record = recordCaptor();
+        then(streamOps).should(times(2)).add(record.capture());
+        assertThat(record.getAllValues()).extracting(MapRecord::getStream)
+            .containsExactlyInAnyOrder("sse:stream:user:" + userId, "sse:stream:user:" + other);
+        then(streamOps).should(never()).trim(eq(BROADCAST_STREAM), anyLong(), anyBoolean());
+    }
+
+    @Test
+    void saveAll_여러메시지를_파이프라인_한번으로_저장() {
+        // given
+        SseMessage first = SseMessage.builder()
+            .eventName("notifications")
+            .data("first")
+            .targetUserIds(Set.of(userId))
+            .build();
+        SseMessage second = SseMessage.builder()
+            .eventName("notifications")
+            .data("second")
+            .targetUserIds(Set.of(userId))
+            .build();
+
+        // when
+        repository.saveAll(List.of(first, second));
+
+        // then
+        runPipeline();
+        String key = "sse:stream:user:" + userId;
+        ArgumentCaptor<MapRecord<String, Object, Object>> record = recordCaptor();
+        then(streamOps).should(times(2)).add(record.capture());
+        assertThat(record.getAllValues()).extracting(r -> r.getValue().get("id"))
+            .containsExactly(first.getId().toString(), second.getId().toString());
+        then(streamOps).should().trim(key, 200, true);
     }
 
     @Test
     void save_직렬화_실패() throws JsonProcessingException {
         // given
         ObjectMapper brokenMapper = mock(ObjectMapper.class);
-        RedisSseMessageRepositoryImpl repoWithBrokenMapper =
-            new RedisSseMessageRepositoryImpl(redisTemplate, brokenMapper);
+        RedisSseMessageRepositoryImpl repoWithBrokenMapper = repository(brokenMapper);
 
         SseMessage msg = new SseMessage("testEvent", "testData");
         given(brokenMapper.writeValueAsString(any(SseMessage.class)))
@@ -89,58 +147,84 @@ class RedisSseMessageRepositoryImplTest {
     }
 
     @Test
-    void findAfter_성공() throws Exception {
+    void findAfter_사용자스트림과_공용스트림에서_lastEventId_이후만_시각순으로_반환() throws Exception {
         // given
-        RedisSseMessageRepositoryImpl repository =
-            new RedisSseMessageRepositoryImpl(redisTemplate, mapper);
-        given(redisTemplate.opsForZSet()).willReturn(zsetOps);
-        given(redisTemplate.opsForHash()).willReturn(hashOps);
-
-        UUID id1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
-        UUID id2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
-
-        SseMessage msg1 = new SseMessage(id1, "event1", "data1");
-        SseMessage msg2 = new SseMessage(id2, "event2", "data2");
+        given(redisTemplate.opsForStream()).willReturn(streamOps);
 
-        String json1 = mapper.writeValueAsString(msg1);
-        String json2 = mapper.writeValueAsString(msg2);
+        SseMessage before = new SseMessage(v7(1_000, 1), "event", "before");
+        SseMessage last = new SseMessage(v7(2_000, 2), "event", "last");
+        SseMessage afterUser = new SseMessage(v7(4_000, 3), "event", "user");
+        SseMessage afterBroadcast = new SseMessage(v7(3_000, 4), "event", "broadcast");
 
-        // rank(id1) = 0 → 이후부터 조회
-        given(zsetOps.rank("sse:messages", id1.toString())).willReturn(0L);
+        given(streamOps.range(eq("sse:stream:user:" + userId), any(Range.class), any(Limit.class)))
+            .willReturn(List.of(record(before), record(last), record(afterUser)));
+        given(streamOps.range(eq(BROADCAST_STREAM), any(Range.class), any(Limit.class)))
+            .willReturn(List.of(record(afterBroadcast)));
 
-        // Set.of → LinkedHashSet으로 순서 보장
-        java.util.Set<String> ordered = new java.util.LinkedHashSet<>();
-        ordered.add(id2.toString());
-        given(zsetOps.range("sse:messages", 1, -1)).willReturn(ordered);
+        // when
+        List<SseMessage> result = repository.findAfter(userId, last.getId());
 
-        // payload 조회
-        given(hashOps.multiGet(eq("sse:payloads"), eq(List.of(id2.toString()))))
-            .willReturn(List.of(json2));
+        // then
+        assertThat(result).containsExactly(afterBroadcast, afterUser);
+    }
 
+    @Test
+    void findAfter_이전형식의_ID는_위치를_알수없어_빈결과() {
         // when
-        List<SseMessage> result = repository.findAfter(userId, id1);
+        List<SseMessage> result = repository.findAfter(userId, UUID.randomUUID());
 
         // then
-        assertThat(result).containsExactly(msg2);
+        assertThat(result).isEmpty();
+        then(redisTemplate).should(never()).opsForStream();
     }
 
     @Test
     void findAfter_역직렬화_실패() {
         // given
-        RedisSseMessageRepositoryImpl repository =
-            new RedisSseMessageRepositoryImpl(redisTemplate, mapper);
-        given(redisTemplate.opsForZSet()).willReturn(zsetOps);
-        given(redisTemplate.opsForHash()).willReturn(hashOps);
-
-        UUID lastEventId = UUID.randomUUID();
-        given(zsetOps.rank("sse:messages", lastEventId.toString())).willReturn(0L);
-        given(zsetOps.range("sse:messages", 1, -1)).willReturn(Set.of("some-id"));
-        given(hashOps.multiGet(eq("sse:payloads"), eq(List.of("some-id"))))
-            .willReturn(List.of("invalid-json"));
+        given(redisTemplate.opsForStream()).willReturn(streamOps);
+        UUID lastEventId = SseEventIds.next();
+        MapRecord<String, Object, Object> broken = StreamRecords.newRecord()
+            .in("sse:stream:user:" + userId)
+            .ofMap(Map.<Object, Object>of("id", UUID.randomUUID().toString(), "payload", "invalid-json"));
+        given(streamOps.range(anyString(), any(Range.class), any(Limit.class)))
+            .willReturn(List.of(broken));
 
         // when & then
         assertThatThrownBy(() -> repository.findAfter(userId, lastEventId))
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("SseMessage 역직렬화 실패");
     }
-}
\ No newline at end of file
+
+    private RedisSseMessageRepositoryImpl repository(ObjectMapper objectMapper) {
+        return new RedisSseMessageRepositoryImpl(redisTemplate, objectMapper, 200, Duration.ofHours(1),
+            Duration.ofSeconds(5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisOperations<String, String> runPipeline() {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        then(redisTemplate).should().executePipelined(callback.capture());
+
+        RedisOperations<String, String> operations = mock(RedisOperations.class);
+        given(operations.opsForStream()).willReturn((StreamOperations) streamOps);
+        callback.getValue().execute(operations);
+        return operations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<MapRecord<String, Object, Object>> recordCaptor() {
+        return ArgumentCaptor.forClass(MapRecord.class);
+    }
+
+    private MapRecord<String, Object, Object> record(SseMessage message) throws JsonProcessingException {
+        return StreamRecords.newRecord()
+            .in("stream")
+            .ofMap(Map.<Object, Object>of("id", message.getId().toString(),
+                "payload", mapper.writeValueAsString(message)));
+    }
+
+    /** 생성 시각을 지정한 v7 이벤트 ID */
+    private UUID v7(long millis, long sequence) {
+        return new UUID((millis << 16) | 0x7000L, 0x8000000000000000L | sequence);
+    }
+}
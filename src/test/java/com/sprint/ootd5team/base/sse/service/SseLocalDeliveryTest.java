@@ -0,0 +1,82 @@
+package com.sprint.ootd5team.base.sse.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseLocalDelivery 단위 테스트")
+class SseLocalDeliveryTest {
+
+    @Mock
+    private SseEmitterRepository emitterRepository;
+
+    @InjectMocks
+    private SseLocalDelivery sseLocalDelivery;
+
+    @Test
+    void deliver_브로드캐스트는_이노드의_모든_emitter로_전송() throws Exception {
+        // given
+        SseEmitter emitter = spy(new SseEmitter(1000L));
+        given(emitterRepository.findAll()).willReturn(Map.of(UUID.randomUUID(), List.of(emitter)));
+
+        // when
+        sseLocalDelivery.deliver(new SseMessage("event", "data"));
+
+        // then
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void deliver_개별전송은_대상_사용자의_emitter로만_전송() {
+        // given
+        UUID userId = UUID.randomUUID();
+        SseMessage message = SseMessage.builder()
+            .eventName("event")
+            .data("data")
+            .targetUserIds(Set.of(userId))
+            .build();
+        given(emitterRepository.get(userId)).willReturn(List.of(new SseEmitter(1000L)));
+
+        // when
+        sseLocalDelivery.deliver(message);
+
+        // then
+        then(emitterRepository).should().get(userId);
+        then(emitterRepository).should(never()).findAll();
+    }
+
+    @Test
+    void deliver_emitter전송실패시_completeWithError호출() throws Exception {
+        // given
+        SseEmitter brokenEmitter = spy(new SseEmitter(1000L));
+        doThrow(new IOException("fail"))
+            .when(brokenEmitter).send(any(SseEmitter.SseEventBuilder.class));
+        given(emitterRepository.findAll()).willReturn(Map.of(UUID.randomUUID(), List.of(brokenEmitter)));
+
+        // when
+        sseLocalDelivery.deliver(new SseMessage("event", "data"));
+
+        // then
+        verify(brokenEmitter).completeWithError(any(Exception.class));
+    }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.verify;
 
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
 import com.sprint.ootd5team.base.sse.SseMessage;
+import com.sprint.ootd5team.base.sse.broker.SseBroker;
 import com.sprint.ootd5team.base.sse.repository.emitter.SseEmitterRepository;
 import com.sprint.ootd5team.base.sse.repository.message.SseMessageRepository;
 import com.sprint.ootd5team.domain.user.entity.User;
@@ -20,6 +21,7 @@ import com.sprint.ootd5team.domain.user.repository.UserRepository;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -46,6 +49,12 @@ class SseServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SseBroker sseBroker;
+
+    @Mock
+    private SseLocalDelivery sseLocalDelivery;
+
     @InjectMocks
     private SseServiceImpl sseService;
 
@@ -77,6 +86,7 @@ class SseServiceImplTest {
         // then
         assertThat(emitter).isNotNull();
         then(emitterRepository).should().add(eq(userId), any(SseEmitter.class));
+        then(sseBroker).should().connected(userId);
     }
 
     @Test
@@ -84,8 +94,9 @@ class SseServiceImplTest {
         // given
         UUID lastEventId = UUID.randomUUID();
         given(userRepository.findById(userId)).willReturn(Optional.of(new User()));
+        SseMessage missed = new SseMessage("test", "data");
         given(messageRepository.findAfter(eq(userId), eq(lastEventId)))
-            .willReturn(List.of(new SseMessage("test", "data")));
+            .willReturn(List.of(missed));
 
         // when
         SseEmitter emitter = sseService.connect(userId, lastEventId);
@@ -93,6 +104,7 @@ class SseServiceImplTest {
         // then
         assertThat(emitter).isNotNull();
         then(messageRepository).should().findAfter(eq(userId), eq(lastEventId));
+        then(sseLocalDelivery).should().send(emitter, missed);
     }
 
     @Test
@@ -112,70 +124,66 @@ class SseServiceImplTest {
         // given
         willDoNothing().given(messageRepository).save(any(SseMessage.class));
 
-        Map<UUID, List<SseEmitter>> allEmitters = new HashMap<>();
-        allEmitters.put(userId, List.of(new SseEmitter(1000L)));
-        given(emitterRepository.findAll()).willReturn(allEmitters);
-
         // when
         sseService.broadcast("event", "data");
 
         // then
-        then(messageRepository).should().save(any(SseMessage.class));
-        then(emitterRepository).should().findAll();
+        ArgumentCaptor<SseMessage> captor = ArgumentCaptor.forClass(SseMessage.class);
+        then(messageRepository).should().save(captor.capture());
+        then(sseBroker).should().publish(captor.getValue());
+        assertThat(captor.getValue().getTargetUserIds()).isNull();
     }
 
     @Test
-    void broadcast_emitter전송실패시_completeWithError호출() throws Exception {
+    void send_성공() {
         // given
         willDoNothing().given(messageRepository).save(any(SseMessage.class));
-        SseEmitter brokenEmitter = spy(new SseEmitter(1000L));
-        doThrow(new IOException("fail"))
-            .when(brokenEmitter).send(any(SseEmitter.SseEventBuilder.class));
-
-        Map<UUID, List<SseEmitter>> allEmitters = new HashMap<>();
-        allEmitters.put(userId, List.of(brokenEmitter));
-        given(emitterRepository.findAll()).willReturn(allEmitters);
 
         // when
-        sseService.broadcast("event", "data");
+        sseService.send(List.of(userId), "event", "data");
 
         // then
-        then(messageRepository).should().save(any(SseMessage.class));
-        then(messageRepository).should().save(any(SseMessage.class));
-        verify(brokenEmitter).completeWithError(any(Exception.class));
+        verify(messageRepository).save(any(SseMessage.class));
+        verify(sseBroker).publish(any(SseMessage.class));
     }
 
     @Test
-    void send_성공() {
+    void send_여러수신자에게_전송성공() {
         // given
         willDoNothing().given(messageRepository).save(any(SseMessage.class));
-
-        List<SseEmitter> emitters = List.of(new SseEmitter(1000L));
-        given(emitterRepository.get(userId)).willReturn(emitters);
+        UUID userId2 = UUID.randomUUID();
 
         // when
-        sseService.send(List.of(userId), "event", "data");
+        sseService.send(List.of(userId, userId2), "event", "data");
 
         // then
-        verify(messageRepository).save(any(SseMessage.class));
+        ArgumentCaptor<SseMessage> captor = ArgumentCaptor.forClass(SseMessage.class);
+        then(messageRepository).should().save(any(SseMessage.class));
+        then(sseBroker).should().publish(captor.capture());
+        assertThat(captor.getValue().getTargetUserIds()).containsExactlyInAnyOrder(userId, userId2);
     }
 
     @Test
-    void send_여러수신자에게_전송성공() {
+    @SuppressWarnings("unchecked")
+    void sendEach_수신자별_메시지를_한번에_저장하고_발행() {
         // given
-        willDoNothing().given(messageRepository).save(any(SseMessage.class));
         UUID userId2 = UUID.randomUUID();
-
-        given(emitterRepository.get(userId)).willReturn(List.of(new SseEmitter(1000L)));
-        given(emitterRepository.get(userId2)).willReturn(List.of(new SseEmitter(1000L)));
+        Map<UUID, String> dataByReceiver = new LinkedHashMap<>();
+        dataByReceiver.put(userId, "data1");
+        dataByReceiver.put(userId2, "data2");
 
         // when
-        sseService.send(List.of(userId, userId2), "event", "data");
+        sseService.sendEach("event", dataByReceiver);
 
         // then
-        then(messageRepository).should().save(any(SseMessage.class));
-        then(emitterRepository).should().get(eq(userId));
-        then(emitterRepository).should().get(eq(userId2));
+        ArgumentCaptor<List<SseMessage>> captor = ArgumentCaptor.forClass(List.class);
+        then(messageRepository).should().saveAll(any());
+        then(sseBroker).should().publishAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(captor.getValue().get(0).getTargetUserIds()).containsExactly(userId);
+        assertThat(captor.getValue().get(0).getData()).isEqualTo("data1");
+        assertThat(captor.getValue().get(1).getTargetUserIds()).containsExactly(userId2);
+        assertThat(captor.getValue().get(1).getData()).isEqualTo("data2");
     }
 
     @Test
@@ -210,5 +218,6 @@ class SseServiceImplTest {
 
         // then
         then(emitterRepository).should().remove(eq(userId), eq(brokenEmitter));
+        then(sseBroker).should().disconnected(userId);
     }
 }
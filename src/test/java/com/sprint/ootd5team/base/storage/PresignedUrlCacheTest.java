@@ -0,0 +1,50 @@
+package com.sprint.ootd5team.base.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PresignedUrlCache 단위 테스트")
+class PresignedUrlCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 적중_미스_메트릭_기록() {
+        // given
+        PresignedUrlCache cache = new PresignedUrlCache(600, 300, 100, meterRegistry);
+
+        // when
+        cache.get("a.png", key -> "url-" + key);
+        cache.get("a.png", key -> "other");
+
+        // then
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void 만료시간이_최소_잔여시간_이하면_캐시하지_않음() {
+        // given
+        PresignedUrlCache cache = new PresignedUrlCache(300, 300, 100, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        cache.get("a.png", key -> "url-" + calls.incrementAndGet());
+        String second = cache.get("a.png", key -> "url-" + calls.incrementAndGet());
+
+        // then
+        assertThat(second).isEqualTo("url-2");
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", PresignedUrlCache.CACHE_NAME)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+}
@@ -10,12 +10,14 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.sprint.ootd5team.base.exception.file.FileDeleteFailedException;
 import com.sprint.ootd5team.base.exception.file.FilePermanentSaveFailedException;
 import com.sprint.ootd5team.base.exception.file.FileSaveFailedException;
 import com.sprint.ootd5team.base.exception.file.FileTooLargeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,7 +56,8 @@ class S3FileStorageTest {
 
     @BeforeEach
     void setUp() {
-        s3FileStorage = new S3FileStorage(s3Client, s3Presigner, DataSize.ofMegabytes(10));
+        s3FileStorage = new S3FileStorage(s3Client, s3Presigner,
+            new PresignedUrlCache(600, 300, 100, new SimpleMeterRegistry()), DataSize.ofMegabytes(10));
         ReflectionTestUtils.setField(s3FileStorage, "bucket", "test-bucket");
         ReflectionTestUtils.setField(s3FileStorage, "presignedUrlExpiration", 600);
     }
@@ -190,7 +193,7 @@ class S3FileStorageTest {
     void 업로드_실패_용량초과() {
         // given
         S3FileStorage smallLimitStorage = new S3FileStorage(s3Client, s3Presigner,
-            DataSize.ofBytes(1));
+            new PresignedUrlCache(600, 300, 100, new SimpleMeterRegistry()), DataSize.ofBytes(1));
         ReflectionTestUtils.setField(smallLimitStorage, "bucket", "test-bucket");
 
         InputStream inputStream = new ByteArrayInputStream("hello".getBytes());
@@ -232,4 +235,37 @@ class S3FileStorageTest {
         assertThat(captor.getValue().contentType()).isEqualTo("image/png");
     }
 
+    @Test
+    void resolveUrl_같은_key는_캐시된_URL_재사용() {
+        // given
+        String key = "prefix/test.jpg";
+        S3FileStorage spyStorage = spy(s3FileStorage);
+        doReturn("https://fake-url.com/1", "https://fake-url.com/2").when(spyStorage).download(key);
+
+        // when
+        String first = spyStorage.resolveUrl(key);
+        String second = spyStorage.resolveUrl(key);
+
+        // then
+        assertThat(first).isEqualTo("https://fake-url.com/1");
+        assertThat(second).isEqualTo(first);
+        verify(spyStorage, times(1)).download(key);
+    }
+
+    @Test
+    void 삭제시_캐시된_URL_무효화() {
+        // given
+        String key = "prefix/test.jpg";
+        S3FileStorage spyStorage = spy(s3FileStorage);
+        doReturn("https://fake-url.com/1", "https://fake-url.com/2").when(spyStorage).download(key);
+        spyStorage.resolveUrl(key);
+
+        // when
+        spyStorage.delete(key);
+        String afterDelete = spyStorage.resolveUrl(key);
+
+        // then
+        assertThat(afterDelete).isEqualTo("https://fake-url.com/2");
+        verify(spyStorage, times(2)).download(key);
+    }
 }
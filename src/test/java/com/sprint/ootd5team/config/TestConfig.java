@@ -1,18 +1,20 @@
 package com.sprint.ootd5team.config;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import static org.mockito.Mockito.mock;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import com.sprint.ootd5team.base.cache.CacheEvictHelper;
 import com.sprint.ootd5team.base.llm.LlmProvider;
-import com.sprint.ootd5team.domain.feed.search.FeedDocument;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -42,12 +44,17 @@ public class TestConfig {
         ElasticsearchOperations mock = Mockito.mock(ElasticsearchOperations.class);
         IndexOperations indexOps = Mockito.mock(IndexOperations.class);
 
-        when(mock.indexOps(FeedDocument.class)).thenReturn(indexOps);
+        when(mock.indexOps(any(IndexCoordinates.class))).thenReturn(indexOps);
         when(indexOps.exists()).thenReturn(true);
 
         return mock;
     }
 
+    @Bean
+    public ElasticsearchClient elasticsearchClient() {
+        return mock(ElasticsearchClient.class);
+    }
+
     @Bean
     @Primary
     public LlmProvider llmProvider() {
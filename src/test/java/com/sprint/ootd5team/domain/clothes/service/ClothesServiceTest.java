@@ -32,6 +32,7 @@ import com.sprint.ootd5team.domain.clothesattribute.dto.ClothesAttributeWithDefD
 import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
 import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
 import com.sprint.ootd5team.domain.clothesattribute.repository.ClothesAttributeRepository;
+import com.sprint.ootd5team.domain.recommendation.service.ClothesFeatureService;
 import com.sprint.ootd5team.domain.user.entity.User;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
 import java.io.IOException;
@@ -71,6 +72,8 @@ class ClothesServiceTest {
     private FileStorage fileStorage;
     @Mock
     private  CacheEvictHelper cacheEvictHelper;
+    @Mock
+    private ClothesFeatureService clothesFeatureService;
 
     @InjectMocks
     private ClothesServiceImpl clothesService;
@@ -387,6 +390,7 @@ class ClothesServiceTest {
         // then
         assertThat(result.name()).isEqualTo("새로운셔츠");
         assertThat(result.type()).isEqualTo(ClothesType.OUTER);
+        verify(clothesFeatureService).refresh(clothes);
         verify(cacheEvictHelper).evictClothesByOwner(eq(ownerId));
     }
 
@@ -538,6 +542,7 @@ class ClothesServiceTest {
         clothesService.delete(ownerId, clothesId);
 
         // then
+        verify(clothesFeatureService).delete(clothesId);
         verify(clothesRepository).deleteById(clothesId);
         verify(cacheEvictHelper).evictClothesByOwner(eq(ownerId));
     }
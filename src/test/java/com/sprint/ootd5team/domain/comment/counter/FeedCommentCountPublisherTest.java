@@ -0,0 +1,114 @@
+package com.sprint.ootd5team.domain.comment.counter;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedCommentCountPublisher 단위 테스트")
+class FeedCommentCountPublisherTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedEventProducer feedEventProducer;
+
+    private FeedCommentCountPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new FeedCommentCountPublisher(feedRepository, feedEventProducer);
+    }
+
+    @Test
+    @DisplayName("같은 피드의 여러 변경은 최신 댓글 수 이벤트 1건으로 발행")
+    void publish_coalescesPerFeed() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        publisher.changedAfterCommit(feedId);
+        publisher.changedAfterCommit(feedId);
+        FeedCommentCountUpdateEvent event = new FeedCommentCountUpdateEvent(feedId, 7L);
+        given(feedRepository.findCommentCountEvents(List.of(feedId))).willReturn(List.of(event));
+
+        // when
+        publisher.publish();
+        publisher.publish();
+
+        // then
+        then(feedEventProducer).should().publishCommentCountUpdatedEvent(event);
+        then(feedRepository).should().findCommentCountEvents(anyCollection());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중에는 커밋 후에만 발행 대상으로 표시 (롤백 시 발행 없음)")
+    void changedAfterCommit_waitsForCommit() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            publisher.changedAfterCommit(feedId);
+
+            // when: 롤백
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        publisher.publish();
+
+        // then
+        then(feedRepository).should(never()).findCommentCountEvents(anyCollection());
+        then(feedEventProducer).should(never()).publishCommentCountUpdatedEvent(any());
+    }
+
+    @Test
+    @DisplayName("조회 실패 시 다음 주기에 다시 발행")
+    void publish_failure_retriesNextRound() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        publisher.changedAfterCommit(feedId);
+        FeedCommentCountUpdateEvent event = new FeedCommentCountUpdateEvent(feedId, 3L);
+        given(feedRepository.findCommentCountEvents(List.of(feedId)))
+            .willThrow(new IllegalStateException("db down"))
+            .willReturn(List.of(event));
+
+        // when & then
+        assertThatThrownBy(() -> publisher.publish()).isInstanceOf(IllegalStateException.class);
+        publisher.publish();
+
+        then(feedEventProducer).should().publishCommentCountUpdatedEvent(event);
+    }
+
+    @Test
+    @DisplayName("그 사이 삭제된 피드는 조회 결과에 없으므로 발행하지 않음")
+    void publish_deletedFeed() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        publisher.changedAfterCommit(feedId);
+        given(feedRepository.findCommentCountEvents(List.of(feedId))).willReturn(List.of());
+
+        // when
+        publisher.publish();
+
+        // then
+        then(feedEventProducer).should(never()).publishCommentCountUpdatedEvent(any());
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.verify;
 
 import com.sprint.ootd5team.base.exception.feed.FeedNotFoundException;
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
+import com.sprint.ootd5team.domain.comment.counter.FeedCommentCountPublisher;
 import com.sprint.ootd5team.domain.comment.dto.data.CommentDto;
 import com.sprint.ootd5team.domain.comment.dto.request.CommentCreateRequest;
 import com.sprint.ootd5team.domain.comment.dto.request.CommentListRequest;
@@ -57,6 +58,9 @@ public class FeedCommentServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private FeedCommentCountPublisher feedCommentCountPublisher;
+
     @InjectMocks
     private FeedCommentServiceImpl feedCommentService;
 
@@ -180,6 +184,7 @@ public class FeedCommentServiceTest {
         // then
         assertThat(result).isEqualTo(commentDto);
         then(feedRepository).should().incrementCommentCount(feedId);
+        then(feedCommentCountPublisher).should().changedAfterCommit(feedId);
         verify(eventPublisher).publishEvent(any(CommentCreatedEvent.class));
     }
 
@@ -197,6 +202,7 @@ public class FeedCommentServiceTest {
         assertThatThrownBy(() -> feedCommentService.create(feedId, request))
             .isInstanceOf(FeedNotFoundException.class);
         then(feedRepository).should(never()).incrementCommentCount(any());
+        then(feedCommentCountPublisher).shouldHaveNoInteractions();
         then(feedCommentRepository).shouldHaveNoInteractions();
     }
 
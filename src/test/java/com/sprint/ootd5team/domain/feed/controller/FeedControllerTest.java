@@ -29,6 +29,7 @@ import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedUpdateRequest;
 import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
 import com.sprint.ootd5team.domain.feed.service.FeedService;
+import com.sprint.ootd5team.domain.feed.service.FeedTimelineService;
 import com.sprint.ootd5team.domain.user.dto.AuthorDto;
 import com.sprint.ootd5team.domain.user.dto.UserDto;
 import com.sprint.ootd5team.domain.user.entity.Role;
@@ -82,6 +83,9 @@ public class FeedControllerTest {
     @MockitoBean
     private FeedService feedService;
 
+    @MockitoBean
+    private FeedTimelineService feedTimelineService;
+
     @MockitoBean
     private AuthService authService;
 
@@ -18,6 +18,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -46,7 +47,7 @@ public class FailedEventRetrySchedulerTest {
     @BeforeEach
     void setUp() throws Exception {
         tempDir = Files.createTempDirectory("failed-events-test");
-        feedEvent = new FeedIndexCreatedEvent(feedId, "test", Instant.now());
+        feedEvent = new FeedIndexCreatedEvent(feedId, "test", Instant.now(), null, null, List.of());
         testFeedFailedEvent = new FeedFailedEvent(
             Instant.now(),
             "feed-topic",
@@ -1,6 +1,6 @@
 package com.sprint.ootd5team.domain.feed.event;
 
-import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -13,15 +13,21 @@ import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FeedEventConsumer 슬라이스 테스트")
@@ -33,156 +39,167 @@ public class FeedEventConsumerTest {
     @Mock
     private ElasticsearchFeedIndexer indexer;
 
-    @InjectMocks
     private FeedEventConsumer consumer;
 
+    private UUID feedId;
     private String payload;
 
     @BeforeEach
     void setUp() {
-        payload = "{\"feedId\":\"" + UUID.randomUUID() + "\"}";
+        consumer = new FeedEventConsumer(new FeedIndexEventParser(objectMapper), indexer);
+        feedId = UUID.randomUUID();
+        payload = "{\"feedId\":\"" + feedId + "\"}";
     }
 
     @Test
-    @DisplayName("FeedIndexCreatedEvent 수신 시 인덱서 호출")
-    void consumeFeedIndexCreatedEvent_success() throws Exception {
+    @DisplayName("여러 토픽의 이벤트를 feedId 별로 병합해 bulk 1회 호출")
+    void consume_coalescesEventsIntoSingleBulk() throws Exception {
         // given
-        FeedIndexCreatedEvent event =
-            new FeedIndexCreatedEvent(UUID.randomUUID(), "내용", Instant.now());
+        String created = "created";
+        String content = "content";
+        String like1 = "like1";
+        String like2 = "like2";
+
+        when(objectMapper.readValue(created, FeedIndexCreatedEvent.class))
+            .thenReturn(new FeedIndexCreatedEvent(feedId, "내용", Instant.now(), null, null, List.of()));
+        when(objectMapper.readValue(content, FeedContentUpdatedEvent.class))
+            .thenReturn(new FeedContentUpdatedEvent(feedId, "새로운 내용", Instant.now()));
+        when(objectMapper.readValue(like1, FeedLikeCountUpdateEvent.class))
+            .thenReturn(new FeedLikeCountUpdateEvent(feedId, 1));
+        when(objectMapper.readValue(like2, FeedLikeCountUpdateEvent.class))
+            .thenReturn(new FeedLikeCountUpdateEvent(feedId, 2));
+        when(indexer.bulk(any())).thenReturn(Set.of());
 
         // when
-        when(objectMapper.readValue(payload, FeedIndexCreatedEvent.class))
-            .thenReturn(event);
+        consumer.consume(List.of(
+            record("ootd.Feeds.Created", 0, created),
+            record("ootd.Feeds.ContentUpdated", 1, content),
+            record("ootd.Feeds.LikeUpdated", 2, like1),
+            record("ootd.Feeds.LikeUpdated", 3, like2)
+        ));
 
         // then
-        consumer.consumeFeedIndexCreatedEvent(payload);
-
-        verify(indexer).create(event);
-    }
-
-    @Test
-    @DisplayName("FeedContentUpdatedEvent 수신 시 ES update 호출")
-    void consumeFeedContentUpdatedEvent_success() throws Exception {
-        // given
-        FeedContentUpdatedEvent event =
-            new FeedContentUpdatedEvent(UUID.randomUUID(), "새로운 내용");
-
-        // when
-        when(objectMapper.readValue(payload, FeedContentUpdatedEvent.class))
-            .thenReturn(event);
-
-        // then
-        consumer.consumeFeedContentUpdatedEvent(payload);
-
-        verify(indexer).updateContent(event);
+        ArgumentCaptor<FeedIndexBatch> captor = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer, times(1)).bulk(captor.capture());
+
+        FeedIndexBatch batch = captor.getValue();
+        assertThat(batch.eventCount()).isEqualTo(4);
+        assertThat(batch.changes()).singleElement().satisfies(change -> {
+            assertThat(change.isCreated()).isTrue();
+            assertThat(change.getContent()).isEqualTo("새로운 내용");
+            assertThat(change.getLikeCount()).isEqualTo(2L);
+        });
     }
 
     @Test
-    @DisplayName("FeedLikeCountUpdateEvent 수신 시 ES update 호출")
-    void consumeFeedLikeCountUpdatedEvent_success() throws Exception {
+    @DisplayName("삭제 이벤트는 같은 배치의 다른 변경보다 우선")
+    void consume_deleteSupersedes() throws Exception {
         // given
-        FeedLikeCountUpdateEvent event =
-            new FeedLikeCountUpdateEvent(UUID.randomUUID(), 42);
+        when(objectMapper.readValue("like", FeedLikeCountUpdateEvent.class))
+            .thenReturn(new FeedLikeCountUpdateEvent(feedId, 5));
+        when(objectMapper.readValue(payload, FeedDeletedEvent.class))
+            .thenReturn(new FeedDeletedEvent(feedId));
+        when(indexer.bulk(any())).thenReturn(Set.of());
 
         // when
-        when(objectMapper.readValue(payload, FeedLikeCountUpdateEvent.class))
-            .thenReturn(event);
+        consumer.consume(List.of(
+            record("ootd.Feeds.LikeUpdated", 0, "like"),
+            record("ootd.Feeds.Deleted", 1, payload)
+        ));
 
         // then
-        consumer.consumeFeedLikeCountUpdatedEvent(payload);
-
-        verify(indexer).updateLikeCount(event);
+        ArgumentCaptor<FeedIndexBatch> captor = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer).bulk(captor.capture());
+        assertThat(captor.getValue().changes()).singleElement()
+            .satisfies(change -> assertThat(change.isDeleted()).isTrue());
     }
 
     @Test
-    @DisplayName("FeedDeletedEvent 수신 시 ES delete 호출")
-    void consumeFeedDeletedEvent_success() throws Exception {
+    @DisplayName("역직렬화 실패 시 이전 레코드까지만 반영하고 실패 레코드 위치로 예외 발생")
+    void consume_deserializationFailure_throwsBatchListenerFailed() throws Exception {
         // given
-        FeedDeletedEvent event = new FeedDeletedEvent(UUID.randomUUID());
-
-        // when
         when(objectMapper.readValue(payload, FeedDeletedEvent.class))
-            .thenReturn(event);
-
-        // then
-        consumer.consumeFeedDeletedEvent(payload);
-
-        verify(indexer).delete(event);
+            .thenReturn(new FeedDeletedEvent(feedId));
+        when(objectMapper.readValue("broken", FeedIndexCreatedEvent.class))
+            .thenThrow(new RuntimeException("역직렬화 실패"));
+        when(indexer.bulk(any())).thenReturn(Set.of());
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(List.of(
+            record("ootd.Feeds.Deleted", 0, payload),
+            record("ootd.Feeds.Created", 1, "broken"),
+            record("ootd.Feeds.Deleted", 2, payload)
+        )))
+            .isInstanceOf(BatchListenerFailedException.class)
+            .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
+
+        ArgumentCaptor<FeedIndexBatch> captor = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer).bulk(captor.capture());
+        assertThat(captor.getValue().eventCount()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("역직렬화 실패 시 RuntimeException 발생")
-    void handleEvent_deserializationFailure_throwsException() throws Exception {
-        // when
-        when(objectMapper.readValue(payload, FeedIndexCreatedEvent.class))
-            .thenThrow(new RuntimeException("역직렬화 실패"));
-
-        // then
-        assertThatThrownBy(() -> consumer.consumeFeedIndexCreatedEvent(payload))
-            .isInstanceOf(RuntimeException.class)
-            .hasMessageContaining("Kafka 메시지 처리 실패");
-
-        verify(indexer, never()).create(any());
+    @DisplayName("재시도 불가로 거부된 피드는 첫 레코드 위치로 예외 발생")
+    void consume_rejectedFeed_throwsBatchListenerFailed() throws Exception {
+        // given
+        UUID otherFeedId = UUID.randomUUID();
+        when(objectMapper.readValue("other", FeedContentUpdatedEvent.class))
+            .thenReturn(new FeedContentUpdatedEvent(otherFeedId, "내용", Instant.now()));
+        when(objectMapper.readValue("rejected", FeedContentUpdatedEvent.class))
+            .thenReturn(new FeedContentUpdatedEvent(feedId, "내용", Instant.now()));
+        when(indexer.bulk(any())).thenReturn(Set.of(feedId));
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(List.of(
+            record("ootd.Feeds.ContentUpdated", 0, "other"),
+            record("ootd.Feeds.ContentUpdated", 1, "rejected")
+        )))
+            .isInstanceOf(BatchListenerFailedException.class)
+            .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(1));
     }
 
     @Test
     @DisplayName("이중 직렬화 감지 시 unwrap 후 재역직렬화")
-    void handleEvent_doubleEncodedJson_unwrapAndProcess() throws Exception {
+    void consume_doubleEncodedJson_unwrapAndProcess() throws Exception {
         // given
-        String unwrapped = "{\"feedId\":\"" + UUID.randomUUID() + "\",\"content\":\"내용\",\"createdAt\":\"" + Instant.now() + "\"}";
+        String unwrapped = "{\"feedId\":\"" + feedId + "\",\"content\":\"내용\",\"createdAt\":\"" + Instant.now() + "\"}";
         String doubleEncoded = "\"" + unwrapped.replace("\"", "\\\"") + "\"";
 
-        FeedIndexCreatedEvent event =
-            new FeedIndexCreatedEvent(UUID.randomUUID(), "내용", Instant.now());
+        FeedIndexCreatedEvent event = new FeedIndexCreatedEvent(feedId, "내용", Instant.now(), null, null, List.of());
 
-        // when
         when(objectMapper.readValue(doubleEncoded, FeedIndexCreatedEvent.class))
             .thenThrow(mock(MismatchedInputException.class));
-
         when(objectMapper.readValue(doubleEncoded, String.class))
             .thenReturn(unwrapped);
-
         when(objectMapper.readValue(unwrapped, FeedIndexCreatedEvent.class))
             .thenReturn(event);
+        when(indexer.bulk(any())).thenReturn(Set.of());
 
-        // then
-        consumer.consumeFeedIndexCreatedEvent(doubleEncoded);
+        // when
+        consumer.consume(List.of(record("ootd.Feeds.Created", 0, doubleEncoded)));
 
-        verify(indexer).create(event);
+        // then
+        ArgumentCaptor<FeedIndexBatch> captor = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer).bulk(captor.capture());
+        assertThat(captor.getValue().changes()).singleElement()
+            .satisfies(change -> assertThat(change.getFeedId()).isEqualTo(feedId));
     }
 
     @Test
     @DisplayName("MismatchedInputException이지만 double-encoded가 아니면 실패 처리")
-    void handleEvent_mismatchedButNotDoubleEncoded_throwsException() throws Exception {
-        // when
+    void consume_mismatchedButNotDoubleEncoded_throwsException() throws Exception {
+        // given
         when(objectMapper.readValue(payload, FeedIndexCreatedEvent.class))
             .thenThrow(mock(MismatchedInputException.class));
+        when(indexer.bulk(any())).thenReturn(Set.of());
 
-        // then
-        assertThatThrownBy(() -> consumer.consumeFeedIndexCreatedEvent(payload))
-            .isInstanceOf(RuntimeException.class)
+        // when & then
+        assertThatThrownBy(() -> consumer.consume(List.of(record("ootd.Feeds.Created", 0, payload))))
+            .isInstanceOf(BatchListenerFailedException.class)
             .hasMessageContaining("Kafka 메시지 처리 실패");
-
-        verify(indexer, never()).create(any());
     }
 
-    @Test
-    @DisplayName("document missing 예외 시 예외를 삼키고 정상 종료")
-    void handleEvent_documentMissing_shouldReturnWithoutThrowing() throws Exception {
-        // given
-        FeedDeletedEvent event = new FeedDeletedEvent(UUID.randomUUID());
-
-        // when
-        when(objectMapper.readValue(payload, FeedDeletedEvent.class))
-            .thenReturn(event);
-
-        doThrow(new RuntimeException("document missing"))
-            .when(indexer).delete(event);
-
-        // then
-        assertThatCode(() -> consumer.consumeFeedDeletedEvent(payload))
-            .doesNotThrowAnyException();
-
-        verify(indexer).delete(event);
+    private ConsumerRecord<String, String> record(String topic, long offset, String value) {
+        return new ConsumerRecord<>(topic, 0, offset, feedId.toString(), value);
     }
 }
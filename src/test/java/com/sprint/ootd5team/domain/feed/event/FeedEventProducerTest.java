@@ -13,6 +13,7 @@ import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
@@ -42,7 +43,7 @@ public class FeedEventProducerTest {
     void publishFeedIndexCreatedEvent_success() throws Exception {
         // given
         UUID feedId = UUID.randomUUID();
-        FeedIndexCreatedEvent event = new FeedIndexCreatedEvent(feedId, "내용", Instant.now());
+        FeedIndexCreatedEvent event = new FeedIndexCreatedEvent(feedId, "내용", Instant.now(), null, null, List.of());
 
         // when
         when(kafkaTemplate.send(anyString(), anyString(), any()))
@@ -63,7 +64,7 @@ public class FeedEventProducerTest {
     void publishFeedContentUpdatedEvent_success() throws Exception {
         // given
         UUID feedId = UUID.randomUUID();
-        FeedContentUpdatedEvent event = new FeedContentUpdatedEvent(feedId, "새로운 내용");
+        FeedContentUpdatedEvent event = new FeedContentUpdatedEvent(feedId, "새로운 내용", Instant.now());
 
         // when
         when(kafkaTemplate.send(anyString(), anyString(), any()))
@@ -127,7 +128,7 @@ public class FeedEventProducerTest {
         // given
         UUID feedId = UUID.randomUUID();
         FeedIndexCreatedEvent event =
-            new FeedIndexCreatedEvent(feedId, "내용", Instant.now());
+            new FeedIndexCreatedEvent(feedId, "내용", Instant.now(), null, null, List.of());
 
         RuntimeException kafkaException = new RuntimeException("Kafka async error");
         CompletableFuture<SendResult<String, Object>> failedFuture = new CompletableFuture<>();
@@ -156,7 +157,7 @@ public class FeedEventProducerTest {
         // given
         UUID feedId = UUID.randomUUID();
         FeedIndexCreatedEvent event =
-            new FeedIndexCreatedEvent(feedId, "내용", Instant.now());
+            new FeedIndexCreatedEvent(feedId, "내용", Instant.now(), null, null, List.of());
 
         RuntimeException syncException = new RuntimeException("Kafka sync error");
 
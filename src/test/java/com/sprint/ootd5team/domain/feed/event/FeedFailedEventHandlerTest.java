@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,7 +62,7 @@ public class FeedFailedEventHandlerTest {
         ReflectionTestUtils.setField(handler, "maxMemoryQueueSize", 1000);
 
         topic = "ootd.Feeds.ContentUpdated";
-        testEvent = new FeedContentUpdatedEvent(UUID.randomUUID(), "테스트 내용");
+        testEvent = new FeedContentUpdatedEvent(UUID.randomUUID(), "테스트 내용", Instant.now());
         testError = new RuntimeException("Kafka 발행 실패");
 
         errContent = new ByteArrayOutputStream();
@@ -268,9 +269,9 @@ public class FeedFailedEventHandlerTest {
     @DisplayName("여러 이벤트 순차적으로 저장")
     void saveFailedEvent_savesMultipleEventsSequentially() throws IOException {
         // given
-        FeedContentUpdatedEvent event1 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용1");
-        FeedContentUpdatedEvent event2 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용2");
-        FeedContentUpdatedEvent event3 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용3");
+        FeedContentUpdatedEvent event1 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용1", Instant.now());
+        FeedContentUpdatedEvent event2 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용2", Instant.now());
+        FeedContentUpdatedEvent event3 = new FeedContentUpdatedEvent(UUID.randomUUID(), "내용3", Instant.now());
 
         // when
         handler.saveFailedEvent(topic, event1, testError);
@@ -1,189 +1,284 @@
 package com.sprint.ootd5team.domain.feed.indexer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import com.sprint.ootd5team.base.exception.feed.FeedIndexFailedException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCommentCountUpdateEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedDeletedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
 import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
-import com.sprint.ootd5team.domain.feed.search.FeedDocument;
+import com.sprint.ootd5team.domain.user.dto.AuthorDto;
+import com.sprint.ootd5team.domain.weather.dto.data.PrecipitationDto;
+import com.sprint.ootd5team.domain.weather.dto.data.TemperatureDto;
+import com.sprint.ootd5team.domain.weather.dto.data.WeatherSummaryDto;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.UpdateQuery;
-import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ElasticsearchFeedIndexer 단위 테스트")
-@ActiveProfiles("test")
 public class ElasticsearchFeedIndexerTest {
 
     @Mock
-    ElasticsearchOperations operations;
+    ElasticsearchClient client;
 
-    @InjectMocks
     ElasticsearchFeedIndexer indexer;
 
-    private String indexName;
+    private final String indexName = "feeds";
     private UUID testFeedId;
 
     @BeforeEach
     void setUp() {
-        indexName = "feeds";
+        indexer = new ElasticsearchFeedIndexer(client, indexName, 2, Duration.ZERO);
         testFeedId = UUID.randomUUID();
-        ReflectionTestUtils.setField(indexer, "indexName", indexName);
     }
 
     @Test
-    @DisplayName("피드 생성 이벤트를 받으면 Elasticsearch에 문서 저장")
-    void create_savesDocumentToElasticsearch() {
+    @DisplayName("생성 후 같은 배치의 내용 / 좋아요 수 변경은 전체 문서 색인 1건으로 병합")
+    void bulk_createdMergedIntoSingleIndexOperation() throws IOException {
         // given
-        String content = "오늘의 OOTD입니다";
-        Instant createdAt = Instant.now();
-        FeedIndexCreatedEvent event = new FeedIndexCreatedEvent(testFeedId, content, createdAt);
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        Instant updatedAt = Instant.parse("2025-01-01T00:10:00Z");
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.created(new FeedIndexCreatedEvent(testFeedId, "오늘의 OOTD입니다", createdAt, author(), weather(), List.of(ootd())));
+        batch.contentUpdated(new FeedContentUpdatedEvent(testFeedId, "수정된 OOTD 내용", updatedAt));
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(testFeedId, 3));
 
-        given(operations.save(any(FeedDocument.class)))
-            .willReturn(null);
+        given(client.bulk(any(BulkRequest.class))).willReturn(response(ok(OperationType.Index, testFeedId)));
 
         // when
-        indexer.create(event);
+        Set<UUID> rejected = indexer.bulk(batch);
 
         // then
-        ArgumentCaptor<FeedDocument> captor = ArgumentCaptor.forClass(FeedDocument.class);
-        verify(operations).save(captor.capture());
-
-        FeedDocument savedDoc = captor.getValue();
-        assertThat(savedDoc.getFeedId()).isEqualTo(testFeedId);
-        assertThat(savedDoc.getContent()).isEqualTo(content);
-        assertThat(savedDoc.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(rejected).isEmpty();
+        List<BulkOperation> operations = captureRequests(1).get(0).operations();
+        assertThat(operations).hasSize(1);
+        assertThat(operations.get(0).isIndex()).isTrue();
+        assertThat(operations.get(0).index().id()).isEqualTo(testFeedId.toString());
+        assertThat(operations.get(0).index().document()).isEqualTo(Map.of(
+            "feedId", testFeedId.toString(),
+            "content", "수정된 OOTD 내용",
+            "likeCount", 3L,
+            "commentCount", 0L,
+            "createdAt", "2025-01-01T00:00:00.000Z",
+            "updatedAt", "2025-01-01T00:10:00.000Z",
+            "author", author(),
+            "weather", weather(),
+            "ootds", List.of(ootd())
+        ));
     }
 
     @Test
-    @DisplayName("피드 내용 수정 이벤트를 받으면 content 필드 업데이트")
-    void updateContent_updatesContentField() {
+    @DisplayName("댓글 수 / 내용 변경은 변경된 필드만 부분 업데이트")
+    void bulk_partialUpdateWithCommentCount() throws IOException {
         // given
-        String newContent = "수정된 OOTD 내용";
-        FeedContentUpdatedEvent event = new FeedContentUpdatedEvent(testFeedId, newContent);
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.contentUpdated(new FeedContentUpdatedEvent(testFeedId, "수정", Instant.parse("2025-01-02T00:00:00Z")));
+        batch.commentCountUpdated(new FeedCommentCountUpdateEvent(testFeedId, 4));
+
+        given(client.bulk(any(BulkRequest.class))).willReturn(response(ok(OperationType.Update, testFeedId)));
 
         // when
-        indexer.updateContent(event);
+        indexer.bulk(batch);
 
         // then
-        ArgumentCaptor<UpdateQuery> queryCaptor = ArgumentCaptor.forClass(UpdateQuery.class);
-        ArgumentCaptor<IndexCoordinates> indexCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
+        BulkOperation operation = captureRequests(1).get(0).operations().get(0);
+        assertThat(operation.isUpdate()).isTrue();
+        assertThat(operation.update().action().doc()).isEqualTo(Map.of(
+            "content", "수정",
+            "updatedAt", "2025-01-02T00:00:00.000Z",
+            "commentCount", 4L
+        ));
+    }
+
+    @Test
+    @DisplayName("여러 피드의 변경은 _bulk 요청 1회로 전송, 삭제는 다른 변경보다 우선")
+    void bulk_multipleFeedsInOneRequest() throws IOException {
+        // given
+        UUID deletedFeedId = UUID.randomUUID();
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(testFeedId, 10));
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(testFeedId, 12));
+        batch.contentUpdated(new FeedContentUpdatedEvent(deletedFeedId, "삭제 전 수정", Instant.now()));
+        batch.deleted(new FeedDeletedEvent(deletedFeedId));
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(deletedFeedId, 1));
 
-        verify(operations).update(queryCaptor.capture(), indexCaptor.capture());
+        given(client.bulk(any(BulkRequest.class))).willReturn(response(
+            ok(OperationType.Update, testFeedId), ok(OperationType.Delete, deletedFeedId)));
 
-        UpdateQuery capturedQuery = queryCaptor.getValue();
-        assertThat(capturedQuery.getId()).isEqualTo(testFeedId.toString());
-        assertThat(capturedQuery.getDocument().get("content")).isEqualTo(newContent);
+        // when
+        indexer.bulk(batch);
 
-        IndexCoordinates capturedIndex = indexCaptor.getValue();
-        assertThat(capturedIndex.getIndexName()).isEqualTo(indexName);
+        // then
+        List<BulkOperation> operations = captureRequests(1).get(0).operations();
+        assertThat(operations).hasSize(2);
+        assertThat(operations.get(0).isUpdate()).isTrue();
+        assertThat(operations.get(0).update().id()).isEqualTo(testFeedId.toString());
+        assertThat(operations.get(1).isDelete()).isTrue();
+        assertThat(operations.get(1).delete().id()).isEqualTo(deletedFeedId.toString());
     }
 
     @Test
-    @DisplayName("좋아요 수 변경 이벤트를 받으면 likeCount 필드 업데이트")
-    void updateLikeCount_updatesLikeCountField() {
+    @DisplayName("재시도 가능 오류(429) 항목만 다시 요청")
+    void bulk_retriesOnlyRetryableItems() throws IOException {
         // given
-        long newLikeCount = 42;
-        FeedLikeCountUpdateEvent event = new FeedLikeCountUpdateEvent(testFeedId, newLikeCount);
+        UUID otherFeedId = UUID.randomUUID();
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(testFeedId, 1));
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(otherFeedId, 2));
+
+        given(client.bulk(any(BulkRequest.class)))
+            .willReturn(response(ok(OperationType.Update, testFeedId), failed(otherFeedId, 429)))
+            .willReturn(response(ok(OperationType.Update, otherFeedId)));
 
         // when
-        indexer.updateLikeCount(event);
+        Set<UUID> rejected = indexer.bulk(batch);
 
         // then
-        ArgumentCaptor<UpdateQuery> queryCaptor = ArgumentCaptor.forClass(UpdateQuery.class);
-        ArgumentCaptor<IndexCoordinates> indexCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
+        assertThat(rejected).isEmpty();
+        List<BulkRequest> requests = captureRequests(2);
+        assertThat(requests.get(1).operations()).hasSize(1);
+        assertThat(requests.get(1).operations().get(0).update().id()).isEqualTo(otherFeedId.toString());
+    }
 
-        verify(operations).update(queryCaptor.capture(), indexCaptor.capture());
+    @Test
+    @DisplayName("재시도 한도를 넘으면 예외 발생 (배치 재처리 대상)")
+    void bulk_retryExhausted_throwsException() throws IOException {
+        // given
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(testFeedId, 1));
 
-        UpdateQuery capturedQuery = queryCaptor.getValue();
-        assertThat(capturedQuery.getId()).isEqualTo(testFeedId.toString());
-        assertThat(capturedQuery.getDocument().get("likeCount")).isEqualTo(newLikeCount);
+        given(client.bulk(any(BulkRequest.class))).willReturn(response(failed(testFeedId, 503)));
 
-        IndexCoordinates capturedIndex = indexCaptor.getValue();
-        assertThat(capturedIndex.getIndexName()).isEqualTo(indexName);
+        // when & then
+        assertThatThrownBy(() -> indexer.bulk(batch))
+            .isInstanceOf(FeedIndexFailedException.class);
+        verify(client, times(3)).bulk(any(BulkRequest.class));
     }
 
     @Test
-    @DisplayName("피드 삭제 이벤트를 받으면 Elasticsearch에서 문서 삭제 실행")
-    void delete_removesDocumentFromElasticsearch() {
+    @DisplayName("문서 없음(404)은 건너뛰고, 재시도 불가 오류는 거부 목록으로 반환")
+    void bulk_missingSkipped_nonRetryableRejected() throws IOException {
         // given
-        FeedDeletedEvent event = new FeedDeletedEvent(testFeedId);
+        UUID missingFeedId = UUID.randomUUID();
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.contentUpdated(new FeedContentUpdatedEvent(missingFeedId, "내용", Instant.now()));
+        batch.contentUpdated(new FeedContentUpdatedEvent(testFeedId, "내용", Instant.now()));
+
+        given(client.bulk(any(BulkRequest.class)))
+            .willReturn(response(failed(missingFeedId, 404), failed(testFeedId, 400)));
 
         // when
-        indexer.delete(event);
+        Set<UUID> rejected = indexer.bulk(batch);
 
         // then
-        ArgumentCaptor<String> idCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<IndexCoordinates> indexCaptor = ArgumentCaptor.forClass(IndexCoordinates.class);
-
-        verify(operations).delete(idCaptor.capture(), indexCaptor.capture());
+        assertThat(rejected).containsExactly(testFeedId);
+        verify(client, times(1)).bulk(any(BulkRequest.class));
+    }
 
-        assertThat(idCaptor.getValue()).isEqualTo(testFeedId.toString());
+    @Test
+    @DisplayName("빈 배치는 요청하지 않음")
+    void bulk_emptyBatch() throws IOException {
+        assertThat(indexer.bulk(new FeedIndexBatch())).isEmpty();
 
-        IndexCoordinates capturedIndex = indexCaptor.getValue();
-        assertThat(capturedIndex.getIndexName()).isEqualTo(indexName);
+        verify(client, never()).bulk(any(BulkRequest.class));
     }
 
     @Test
-    @DisplayName("여러 피드를 연속으로 생성 시 각각 올바르게 인덱싱")
-    void create_indexesMultipleFeedsCorrectly() {
+    @DisplayName("재색인 스냅샷은 지정한 인덱스에 전체 문서로 색인")
+    void bulk_snapshotIntoTargetIndex() throws IOException {
         // given
-        UUID feedId1 = UUID.randomUUID();
-        UUID feedId2 = UUID.randomUUID();
-        Instant now = Instant.now();
-
-        FeedIndexCreatedEvent event1 = new FeedIndexCreatedEvent(feedId1, "첫 번째 피드", now);
-        FeedIndexCreatedEvent event2 = new FeedIndexCreatedEvent(feedId2, "두 번째 피드", now.plusSeconds(60));
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.snapshot(new FeedDto(testFeedId, createdAt, createdAt, author(), weather(), List.of(ootd()),
+            "재색인 대상", 7L, 2L, false));
 
-        given(operations.save(any(FeedDocument.class))).willReturn(null);
+        given(client.bulk(any(BulkRequest.class))).willReturn(response(ok(OperationType.Index, testFeedId)));
 
         // when
-        indexer.create(event1);
-        indexer.create(event2);
+        indexer.bulk(batch, "feeds-v20250101000000");
 
         // then
-        ArgumentCaptor<FeedDocument> captor = ArgumentCaptor.forClass(FeedDocument.class);
-        verify(operations, times(2)).save(captor.capture());
+        BulkRequest request = captureRequests(1).get(0);
+        assertThat(request.index()).isEqualTo("feeds-v20250101000000");
+        assertThat(request.operations().get(0).index().index()).isEqualTo("feeds-v20250101000000");
+        assertThat(request.operations().get(0).index().document()).isEqualTo(Map.of(
+            "feedId", testFeedId.toString(),
+            "content", "재색인 대상",
+            "likeCount", 7L,
+            "commentCount", 2L,
+            "createdAt", "2025-01-01T00:00:00.000Z",
+            "updatedAt", "2025-01-01T00:00:00.000Z",
+            "author", author(),
+            "weather", weather(),
+            "ootds", List.of(ootd())
+        ));
+    }
 
-        var savedDocs = captor.getAllValues();
-        assertThat(savedDocs).hasSize(2);
-        assertThat(savedDocs.get(0).getFeedId()).isEqualTo(feedId1);
-        assertThat(savedDocs.get(1).getFeedId()).isEqualTo(feedId2);
+    private AuthorDto author() {
+        return new AuthorDto(UUID.fromString("00000000-0000-0000-0000-000000000001"), "작성자", "profiles/a.png");
     }
 
-    @Test
-    @DisplayName("같은 피드의 내용과 좋아요수를 순차적으로 업데이트")
-    void update_updatesMultipleFieldsSequentially() {
-        // given
-        String newContent = "업데이트된 내용";
-        int newLikeCount = 100;
+    private WeatherSummaryDto weather() {
+        return new WeatherSummaryDto(
+            UUID.fromString("00000000-0000-0000-0000-000000000002"), SkyStatus.CLEAR,
+            new PrecipitationDto(PrecipitationType.NONE, 0.0, 0.0),
+            new TemperatureDto(25.0, 0.0, 20.0, 28.0)
+        );
+    }
+
+    private OotdDto ootd() {
+        return new OotdDto(UUID.fromString("00000000-0000-0000-0000-000000000003"), "반팔티", "clothes/t.png", "TOP", List.of());
+    }
 
-        FeedContentUpdatedEvent contentEvent = new FeedContentUpdatedEvent(testFeedId, newContent);
-        FeedLikeCountUpdateEvent likeEvent = new FeedLikeCountUpdateEvent(testFeedId, newLikeCount);
+    private List<BulkRequest> captureRequests(int times) throws IOException {
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(times)).bulk(captor.capture());
+        return captor.getAllValues();
+    }
 
-        // when
-        indexer.updateContent(contentEvent);
-        indexer.updateLikeCount(likeEvent);
+    private BulkResponse response(BulkResponseItem... items) {
+        boolean errors = Arrays.stream(items).anyMatch(item -> item.error() != null);
+        return BulkResponse.of(b -> b.errors(errors).took(1).items(List.of(items)));
+    }
 
-        // then
-        verify(operations, times(2))
-            .update(any(UpdateQuery.class), any(IndexCoordinates.class));
+    private BulkResponseItem ok(OperationType type, UUID feedId) {
+        return BulkResponseItem.of(i -> i
+            .operationType(type).index(indexName).id(feedId.toString()).status(200));
+    }
+
+    private BulkResponseItem failed(UUID feedId, int status) {
+        return BulkResponseItem.of(i -> i
+            .operationType(OperationType.Update).index(indexName).id(feedId.toString()).status(status)
+            .error(e -> e.type("bulk_item_error").reason("status " + status)));
     }
-}
\ No newline at end of file
+}
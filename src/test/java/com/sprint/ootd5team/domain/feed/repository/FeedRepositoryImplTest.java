@@ -125,7 +125,7 @@ public class FeedRepositoryImplTest {
         Feed feed = createFeed(user, weather, "테스트 피드");
         persistAndClear(user, profile, weather, feed);
 
-        FeedDto dto = feedRepository.findFeedDtoById(feed.getId(), user.getId());
+        FeedDto dto = feedRepository.findFeedDtoById(feed.getId());
 
         assertThat(dto).isNotNull();
         assertThat(dto.id()).isEqualTo(feed.getId());
@@ -137,7 +137,7 @@ public class FeedRepositoryImplTest {
     @DisplayName("존재하지 않는 FeedId로 FeedDto 조회 시 null 반환")
     void findFeedDtoById_notFound() {
         // when
-        FeedDto result = feedRepository.findFeedDtoById(UUID.randomUUID(), UUID.randomUUID());
+        FeedDto result = feedRepository.findFeedDtoById(UUID.randomUUID());
 
         // then
         assertThat(result).isNull();
@@ -156,11 +156,11 @@ public class FeedRepositoryImplTest {
 
         FeedListRequest request = new FeedListRequest(
             null, null, 10, "createdAt",
-            SortDirection.DESCENDING, "키워드", SkyStatus.CLEAR, PrecipitationType.NONE, user.getId()
+            SortDirection.DESCENDING, "키워드", SkyStatus.CLEAR, PrecipitationType.NONE, user.getId(), null
         );
 
         // when
-        List<FeedDto> result = feedRepository.findFeedDtos(request, user.getId());
+        List<FeedDto> result = feedRepository.findFeedDtos(request);
 
         // then
         assertThat(result).hasSize(1);
@@ -198,10 +198,10 @@ public class FeedRepositoryImplTest {
         FeedListRequest request = new FeedListRequest(
             null, null, 0,
             "invalidSort", SortDirection.DESCENDING,
-            null, null, null, null
+            null, null, null, null, null
         );
 
-        assertThatThrownBy(() -> feedRepository.findFeedDtos(request, UUID.randomUUID()))
+        assertThatThrownBy(() -> feedRepository.findFeedDtos(request))
             .isInstanceOf(InvalidSortOptionException.class);
     }
 
@@ -224,10 +224,10 @@ public class FeedRepositoryImplTest {
         FeedListRequest request = new FeedListRequest(
             cursor, idAfter, 10,
             "createdAt", SortDirection.ASCENDING,
-            null, null, null, null
+            null, null, null, null, null
         );
 
-        List<FeedDto> result = feedRepository.findFeedDtos(request, user.getId());
+        List<FeedDto> result = feedRepository.findFeedDtos(request);
 
         assertThat(result).isNotEmpty();
     }
@@ -251,10 +251,10 @@ public class FeedRepositoryImplTest {
         FeedListRequest request = new FeedListRequest(
             cursor, idAfter, 10,
             "createdAt", SortDirection.DESCENDING,
-            null, null, null, null
+            null, null, null, null, null
         );
 
-        List<FeedDto> result = feedRepository.findFeedDtos(request, user.getId());
+        List<FeedDto> result = feedRepository.findFeedDtos(request);
 
         assertThat(result).extracting(FeedDto::id).contains(older.getId());
     }
@@ -279,10 +279,10 @@ public class FeedRepositoryImplTest {
         FeedListRequest request = new FeedListRequest(
             cursor, idAfter, 10,
             "likeCount", SortDirection.ASCENDING,
-            null, null, null, null
+            null, null, null, null, null
         );
 
-        List<FeedDto> result = feedRepository.findFeedDtos(request, user.getId());
+        List<FeedDto> result = feedRepository.findFeedDtos(request);
 
         assertThat(result).extracting(FeedDto::id).contains(highLike.getId());
     }
@@ -307,10 +307,10 @@ public class FeedRepositoryImplTest {
         FeedListRequest request = new FeedListRequest(
             cursor, idAfter, 10,
             "likeCount", SortDirection.DESCENDING,
-            null, null, null, null
+            null, null, null, null, null
         );
 
-        List<FeedDto> result = feedRepository.findFeedDtos(request, user.getId());
+        List<FeedDto> result = feedRepository.findFeedDtos(request);
 
         assertThat(result).extracting(FeedDto::id).contains(lowLike.getId());
     }
@@ -0,0 +1,74 @@
+package com.sprint.ootd5team.domain.feed.repository.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryTimelineRepository 단위 테스트")
+class InMemoryTimelineRepositoryTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final InMemoryTimelineRepository repository = new InMemoryTimelineRepository(3);
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래된 항목부터 제거")
+    void pushAll_trimsOldest() {
+        // given
+        List<TimelineEntry> entries = List.of(entry(1), entry(2), entry(3), entry(4));
+
+        // when
+        repository.pushAll(userId, entries);
+
+        // then
+        assertThat(repository.find(userId, null, null, 10))
+            .containsExactly(entries.get(3), entries.get(2), entries.get(1));
+    }
+
+    @Test
+    @DisplayName("같은 시각 항목은 id 오름차순, 커서 이후 항목만 조회")
+    void find_afterCursorWithTies() {
+        // given
+        UUID smaller = new UUID(0, 1);
+        UUID larger = new UUID(0, 2);
+        TimelineEntry tieA = new TimelineEntry(smaller, BASE);
+        TimelineEntry tieB = new TimelineEntry(larger, BASE);
+        TimelineEntry older = entry(-1);
+        repository.pushAll(userId, List.of(older, tieB, tieA));
+
+        // when
+        List<TimelineEntry> page = repository.find(userId, BASE, smaller, 10);
+
+        // then
+        assertThat(repository.find(userId, null, null, 10)).containsExactly(tieA, tieB, older);
+        assertThat(page).containsExactly(tieB, older);
+    }
+
+    @Test
+    @DisplayName("피드 제거")
+    void remove() {
+        // given
+        TimelineEntry first = entry(1);
+        TimelineEntry second = entry(2);
+        repository.push(first, List.of(userId));
+        repository.push(second, List.of(userId));
+
+        // when
+        repository.remove(first.feedId(), List.of(userId));
+        repository.removeAll(userId, List.of(UUID.randomUUID()));
+
+        // then
+        assertThat(repository.find(userId, null, null, 10)).containsExactly(second);
+        assertThat(repository.count(UUID.randomUUID())).isZero();
+    }
+
+    private TimelineEntry entry(int minutes) {
+        return new TimelineEntry(UUID.randomUUID(), BASE.plusSeconds(minutes * 60L));
+    }
+}
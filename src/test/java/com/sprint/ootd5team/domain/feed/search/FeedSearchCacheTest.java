@@ -0,0 +1,160 @@
+package com.sprint.ootd5team.domain.feed.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.ootd5team.domain.feed.dto.data.FeedSearchResult;
+import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.event.type.FeedContentUpdatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FeedSearchCache 단위 테스트")
+class FeedSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FeedSearchCache cache = new FeedSearchCache(true, Duration.ofMinutes(1), 100, meterRegistry);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("공백 / 대소문자만 다른 키워드는 같은 캐시 항목 사용")
+    void get_normalizedKeywordHitsCache() {
+        // given
+        UUID feedId = UUID.randomUUID();
+
+        // when
+        FeedSearchResult first = cache.get(request(" OOTD  코디 "), r -> load(feedId));
+        FeedSearchResult second = cache.get(request("ootd 코디"), r -> load(UUID.randomUUID()));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 조회하면 조회 1회를 공유")
+    void get_concurrentRequestsShareSingleLoad() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UUID feedId = UUID.randomUUID();
+
+        CompletableFuture<FeedSearchResult> leader = CompletableFuture.supplyAsync(() ->
+            cache.get(request("코디"), r -> {
+                loading.countDown();
+                await(release);
+                return load(feedId);
+            }));
+        assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<FeedSearchResult> follower = CompletableFuture.supplyAsync(() ->
+            cache.get(request("코디"), r -> load(UUID.randomUUID())));
+        release.countDown();
+
+        // then
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isSameAs(leader.get(1, TimeUnit.SECONDS));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("실패한 조회는 캐시하지 않음")
+    void get_failureIsNotCached() {
+        // when
+        assertThatThrownBy(() -> cache.get(request("코디"), r -> {
+            throw new IllegalStateException("es down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        cache.get(request("코디"), r -> load(UUID.randomUUID()));
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(count("miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 변경은 해당 피드를 담은 항목만 무효화")
+    void invalidate_likeCountEvictsOnlyContainingEntries() {
+        // given
+        UUID liked = UUID.randomUUID();
+        cache.get(request("코디"), r -> load(liked));
+        cache.get(request("여름"), r -> load(UUID.randomUUID()));
+
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(liked, 3));
+
+        // when
+        cache.invalidate(batch);
+        cache.get(request("코디"), r -> load(liked));
+        cache.get(request("여름"), r -> load(UUID.randomUUID()));
+
+        // then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("내용 수정은 다른 키워드에 새로 매칭될 수 있으므로 전체 무효화")
+    void invalidate_contentUpdateEvictsAll() {
+        // given
+        cache.get(request("코디"), r -> load(UUID.randomUUID()));
+        cache.get(request("여름"), r -> load(UUID.randomUUID()));
+
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.contentUpdated(new FeedContentUpdatedEvent(UUID.randomUUID(), "여름 코디", Instant.now()));
+
+        // when
+        cache.invalidate(batch);
+        cache.get(request("코디"), r -> load(UUID.randomUUID()));
+        cache.get(request("여름"), r -> load(UUID.randomUUID()));
+
+        // then
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 항상 조회")
+    void disabled_alwaysLoads() {
+        FeedSearchCache disabled = FeedSearchCache.disabled();
+
+        disabled.get(request("코디"), r -> load(UUID.randomUUID()));
+        disabled.get(request("코디"), r -> load(UUID.randomUUID()));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private FeedSearchResult load(UUID feedId) {
+        loads.incrementAndGet();
+        return new FeedSearchResult(List.of(feedId), null, null, false, 1, List.of());
+    }
+
+    private FeedListRequest request(String keyword) {
+        return new FeedListRequest(null, null, 20, "createdAt", SortDirection.DESCENDING,
+            keyword, null, null, null, null);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("feed.search.cache.requests").tag("result", result).counter().count();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.sprint.ootd5team.domain.feed.search.reindex;
+
+import static com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser.CREATED_TOPIC;
+import static com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser.LIKE_UPDATED_TOPIC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch.Change;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexEventParser;
+import com.sprint.ootd5team.domain.feed.search.reindex.FeedEventReplayer.Replay;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedEventReplayer 단위 테스트")
+class FeedEventReplayerTest {
+
+    private static final String TARGET = "feeds-v20250101000000";
+
+    @Mock
+    ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    ObjectMapper objectMapper;
+
+    @Mock
+    ElasticsearchFeedIndexer indexer;
+
+    FeedEventReplayer replayer;
+    MockConsumer<String, String> consumer;
+
+    private final TopicPartition created = new TopicPartition(CREATED_TOPIC, 0);
+    private final TopicPartition liked = new TopicPartition(LIKE_UPDATED_TOPIC, 0);
+
+    @BeforeEach
+    void setUp() {
+        replayer = new FeedEventReplayer(consumerFactory, new FeedIndexEventParser(objectMapper), indexer,
+            500, Duration.ofSeconds(5));
+
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(CREATED_TOPIC, List.of(new PartitionInfo(CREATED_TOPIC, 0, null, null, null)));
+        consumer.updatePartitions(LIKE_UPDATED_TOPIC, List.of(new PartitionInfo(LIKE_UPDATED_TOPIC, 0, null, null, null)));
+        given(consumerFactory.createConsumer(anyString(), any(), anyString(), any(Properties.class)))
+            .willReturn(consumer);
+    }
+
+    @Test
+    @DisplayName("기록한 오프셋부터 호출 시점의 끝 오프셋 직전까지만 재생해 대상 인덱스에 반영")
+    void replay_fromRecordedOffsetsUntilEnd() throws Exception {
+        // given
+        UUID feedId = UUID.randomUUID();
+        consumer.updateEndOffsets(Map.of(created, 2L, liked, 3L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(new ConsumerRecord<>(CREATED_TOPIC, 0, 1L, null, "created"));
+            consumer.addRecord(new ConsumerRecord<>(LIKE_UPDATED_TOPIC, 0, 1L, null, "like1"));
+            consumer.addRecord(new ConsumerRecord<>(LIKE_UPDATED_TOPIC, 0, 2L, null, "like2"));
+            consumer.addRecord(new ConsumerRecord<>(LIKE_UPDATED_TOPIC, 0, 3L, null, "after-end"));
+        });
+
+        given(objectMapper.readValue("created", FeedIndexCreatedEvent.class))
+            .willReturn(new FeedIndexCreatedEvent(feedId, "내용", Instant.parse("2025-01-01T00:00:00Z"), null, null, List.of()));
+        given(objectMapper.readValue("like1", FeedLikeCountUpdateEvent.class))
+            .willReturn(new FeedLikeCountUpdateEvent(feedId, 1));
+        given(objectMapper.readValue("like2", FeedLikeCountUpdateEvent.class))
+            .willReturn(new FeedLikeCountUpdateEvent(feedId, 2));
+        given(indexer.bulk(any(FeedIndexBatch.class), eq(TARGET))).willReturn(Set.of());
+
+        // when
+        Replay replay = replayer.replay(Map.of(created, 1L, liked, 1L), TARGET);
+
+        // then
+        assertThat(replay.events()).isEqualTo(3);
+        assertThat(replay.nextOffsets()).isEqualTo(Map.of(created, 2L, liked, 3L));
+
+        ArgumentCaptor<FeedIndexBatch> captor = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer).bulk(captor.capture(), eq(TARGET));
+        Change change = captor.getValue().changes().iterator().next();
+        assertThat(change.isCreated()).isTrue();
+        assertThat(change.getLikeCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("새로 들어온 이벤트가 없으면 읽지 않고 끝 오프셋만 반환")
+    void replay_nothingPending() {
+        // given
+        consumer.updateEndOffsets(Map.of(created, 4L, liked, 7L));
+
+        // when
+        Replay replay = replayer.replay(Map.of(created, 4L, liked, 7L), TARGET);
+
+        // then
+        assertThat(replay.events()).isZero();
+        assertThat(replay.nextOffsets()).isEqualTo(Map.of(created, 4L, liked, 7L));
+        verify(indexer, never()).bulk(any(FeedIndexBatch.class), anyString());
+    }
+
+    @Test
+    @DisplayName("변경 피드 수집은 대상 feedId 만 모으고 인덱스에는 쓰지 않음")
+    void changedFeedIds_collectsWithoutIndexing() throws Exception {
+        // given
+        UUID feedId = UUID.randomUUID();
+        consumer.updateEndOffsets(Map.of(created, 0L, liked, 2L));
+        consumer.schedulePollTask(() ->
+            consumer.addRecord(new ConsumerRecord<>(LIKE_UPDATED_TOPIC, 0, 1L, null, "like1")));
+        given(objectMapper.readValue("like1", FeedLikeCountUpdateEvent.class))
+            .willReturn(new FeedLikeCountUpdateEvent(feedId, 1));
+
+        // when
+        Set<UUID> feedIds = replayer.changedFeedIds(Map.of(created, 0L, liked, 1L));
+
+        // then
+        assertThat(feedIds).containsExactly(feedId);
+        verify(indexer, never()).bulk(any(FeedIndexBatch.class), anyString());
+    }
+
+    @Test
+    @DisplayName("피드 인덱스 토픽 전체 파티션의 끝 오프셋 기록")
+    void endOffsets_allFeedIndexPartitions() {
+        // given
+        consumer.updateEndOffsets(Map.of(created, 4L, liked, 7L));
+
+        // when
+        Map<TopicPartition, Long> offsets = replayer.endOffsets();
+
+        // then
+        assertThat(offsets).isEqualTo(Map.of(created, 4L, liked, 7L));
+    }
+}
@@ -0,0 +1,242 @@
+package com.sprint.ootd5team.domain.feed.search.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.ElasticsearchIndicesClient;
+import co.elastic.clients.elasticsearch.indices.ExistsAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.get_alias.IndexAliases;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import com.sprint.ootd5team.base.exception.feed.FeedIndexFailedException;
+import com.sprint.ootd5team.base.exception.feed.FeedReindexInProgressException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.enums.FeedReindexState;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedReindexStatusResponse;
+import com.sprint.ootd5team.domain.feed.indexer.ElasticsearchFeedIndexer;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch.Change;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.feed.search.reindex.FeedEventReplayer.Replay;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDtoAssembler;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedReindexService 단위 테스트")
+class FeedReindexServiceTest {
+
+    private static final String ALIAS = "feeds";
+    private static final String TARGET = "feeds-v20250101000000";
+
+    @Mock
+    ElasticsearchOperations operations;
+
+    @Mock
+    IndexOperations indexOps;
+
+    @Mock
+    ElasticsearchClient client;
+
+    @Mock
+    ElasticsearchIndicesClient indices;
+
+    @Mock
+    FeedRepository feedRepository;
+
+    @Mock
+    FeedDtoAssembler feedDtoAssembler;
+
+    @Mock
+    ElasticsearchFeedIndexer indexer;
+
+    @Mock
+    FeedEventReplayer replayer;
+
+    FeedReindexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new FeedReindexService(operations, client, feedRepository, feedDtoAssembler, indexer, replayer, ALIAS, 2, 2, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 적재 → 새 이벤트가 없을 때까지 재생 → 별칭 교체 → 교체 직전 변경 피드를 DB 에서 재반영")
+    void execute_loadsReplaysAndSwapsAlias() throws IOException {
+        // given
+        givenCurrentIndex("feeds-v1");
+        Map<TopicPartition, Long> start = Map.of(new TopicPartition("ootd.Feeds.Created", 0), 10L);
+        Map<TopicPartition, Long> afterLoad = Map.of(new TopicPartition("ootd.Feeds.Created", 0), 15L);
+        given(replayer.endOffsets()).willReturn(start);
+        given(operations.indexOps(any(IndexCoordinates.class))).willReturn(indexOps);
+        given(feedRepository.count()).willReturn(3L);
+
+        List<FeedDto> firstPage = List.of(row(), row());
+        List<FeedDto> lastPage = List.of(row());
+        given(feedRepository.findFeedDtosAfterId(any(UUID.class), anyInt()))
+            .willReturn(firstPage, lastPage);
+        given(feedDtoAssembler.attachOotds(anyList())).will(returnsFirstArg());
+        given(indexer.bulk(any(FeedIndexBatch.class), eq(TARGET))).willReturn(Set.of());
+
+        given(replayer.replay(start, TARGET)).willReturn(new Replay(afterLoad, 5));
+        given(replayer.replay(afterLoad, TARGET)).willReturn(new Replay(afterLoad, 0));
+
+        FeedDto changed = row();
+        UUID deletedId = UUID.randomUUID();
+        given(replayer.changedFeedIds(afterLoad)).willReturn(Set.of(changed.id(), deletedId));
+        given(feedRepository.findFeedDtoById(changed.id())).willReturn(changed);
+        given(feedRepository.findFeedDtoById(deletedId)).willReturn(null);
+
+        FeedReindexService.Run run = new FeedReindexService.Run(TARGET);
+
+        // when
+        service.execute(run);
+
+        // then
+        FeedReindexStatusResponse status = run.toResponse(ALIAS);
+        assertThat(status.state()).isEqualTo(FeedReindexState.COMPLETED);
+        assertThat(status.previousIndex()).isEqualTo("feeds-v1");
+        assertThat(status.totalFeeds()).isEqualTo(3);
+        assertThat(status.indexedFeeds()).isEqualTo(3);
+        assertThat(status.replayedEvents()).isEqualTo(7);
+        assertThat(status.finishedAt()).isNotNull();
+
+        verify(indexOps).create(anyMap(), any(Document.class));
+        verify(feedRepository).findFeedDtosAfterId(new UUID(0L, 0L), 2);
+        verify(feedRepository).findFeedDtosAfterId(firstPage.get(1).id(), 2);
+        verify(feedDtoAssembler, times(3)).attachOotds(anyList());
+
+        // 교체 전에만 이벤트 값을 재생하고, 교체 후에는 변경 피드만 DB 에서 다시 읽음
+        ArgumentCaptor<UpdateAliasesRequest> captor = ArgumentCaptor.forClass(UpdateAliasesRequest.class);
+        InOrder order = inOrder(replayer, indices);
+        order.verify(replayer).replay(start, TARGET);
+        order.verify(replayer).replay(afterLoad, TARGET);
+        order.verify(indices).updateAliases(captor.capture());
+        order.verify(replayer).changedFeedIds(afterLoad);
+        verify(replayer, times(2)).replay(anyMap(), eq(TARGET));
+
+        ArgumentCaptor<FeedIndexBatch> batches = ArgumentCaptor.forClass(FeedIndexBatch.class);
+        verify(indexer, times(3)).bulk(batches.capture(), eq(TARGET));
+        FeedIndexBatch refreshed = batches.getAllValues().get(2);
+        assertThat(refreshed.changes()).extracting(Change::getFeedId)
+            .containsExactlyInAnyOrder(changed.id(), deletedId);
+        assertThat(refreshed.changes()).filteredOn(Change::isDeleted)
+            .extracting(Change::getFeedId).containsExactly(deletedId);
+
+        UpdateAliasesRequest swap = captor.getValue();
+        assertThat(swap.actions()).hasSize(2);
+        assertThat(swap.actions().get(0).remove().index()).isEqualTo("feeds-v1");
+        assertThat(swap.actions().get(1).add().index()).isEqualTo(TARGET);
+        assertThat(swap.actions().get(1).add().alias()).isEqualTo(ALIAS);
+    }
+
+    @Test
+    @DisplayName("적재 실패 시 별칭을 바꾸지 않고 새 인덱스 삭제")
+    void execute_failureKeepsAliasAndDeletesTarget() throws IOException {
+        // given
+        givenCurrentIndex("feeds-v1");
+        given(replayer.endOffsets()).willReturn(Map.of());
+        given(operations.indexOps(any(IndexCoordinates.class))).willReturn(indexOps);
+        given(feedRepository.findFeedDtosAfterId(any(UUID.class), anyInt())).willReturn(List.of(row()));
+        given(feedDtoAssembler.attachOotds(anyList())).will(returnsFirstArg());
+        given(indexer.bulk(any(FeedIndexBatch.class), eq(TARGET))).willThrow(new FeedIndexFailedException());
+
+        FeedReindexService.Run run = new FeedReindexService.Run(TARGET);
+
+        // when
+        service.execute(run);
+
+        // then
+        assertThat(run.toResponse(ALIAS).state()).isEqualTo(FeedReindexState.FAILED);
+        verify(indices, never()).updateAliases(any(UpdateAliasesRequest.class));
+        verify(indices).delete(any(DeleteIndexRequest.class));
+        verify(replayer, never()).replay(anyMap(), anyString());
+    }
+
+    @Test
+    @DisplayName("진행 중인 재색인이 있으면 새로 시작하지 않음")
+    void start_rejectsWhileRunning() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        given(client.indices()).willReturn(indices);
+        given(indices.existsAlias(any(ExistsAliasRequest.class))).willAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new BooleanResponse(false);
+        });
+
+        // when
+        FeedReindexStatusResponse first = service.start();
+        started.await();
+
+        // then
+        assertThat(first.state()).isEqualTo(FeedReindexState.PREPARING);
+        assertThat(first.targetIndex()).startsWith(ALIAS + "-v");
+        assertThatThrownBy(() -> service.start()).isInstanceOf(FeedReindexInProgressException.class);
+        assertThat(service.status().targetIndex()).isEqualTo(first.targetIndex());
+
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("실행 이력이 없으면 IDLE 상태")
+    void status_idleBeforeFirstRun() {
+        assertThat(service.status().state()).isEqualTo(FeedReindexState.IDLE);
+        assertThat(service.status().alias()).isEqualTo(ALIAS);
+    }
+
+    private void givenCurrentIndex(String index) throws IOException {
+        GetAliasResponse response = mock(GetAliasResponse.class);
+        given(response.result()).willReturn(Map.of(index, mock(IndexAliases.class)));
+        given(client.indices()).willReturn(indices);
+        given(indices.existsAlias(any(ExistsAliasRequest.class))).willReturn(new BooleanResponse(true));
+        given(indices.getAlias(any(GetAliasRequest.class))).willReturn(response);
+    }
+
+    private FeedDto row() {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        return new FeedDto(UUID.randomUUID(), createdAt, createdAt, null, null, List.of(), "피드 내용", 1L, 0L, false);
+    }
+}
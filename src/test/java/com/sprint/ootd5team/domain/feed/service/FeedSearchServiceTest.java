@@ -2,18 +2,23 @@ package com.sprint.ootd5team.domain.feed.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import com.sprint.ootd5team.base.exception.feed.InvalidSortOptionException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedSearchResult;
 import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
 import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
 import com.sprint.ootd5team.domain.feed.search.FeedDocument;
 import com.sprint.ootd5team.domain.feed.search.FeedSearchService;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -22,14 +27,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FeedSearchService 슬라이스 테스트")
@@ -38,16 +45,16 @@ public class FeedSearchServiceTest {
     @Mock
     private ElasticsearchOperations operations;
 
-    @InjectMocks
     private FeedSearchService service;
 
     private FeedListRequest request;
 
     @BeforeEach
     void setUp() {
+        service = new FeedSearchService(operations, "feeds");
         request = new FeedListRequest(
             null, null, 2, "createdAt",
-            SortDirection.DESCENDING, "피드", null, null, null
+            SortDirection.DESCENDING, "피드", null, null, null, null
         );
     }
 
@@ -87,7 +94,7 @@ public class FeedSearchServiceTest {
             null, null, List.of(hit1, hit2), null, null, null
         );
 
-        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class)))
+        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class)))
             .thenReturn(hits);
 
         // when
@@ -95,10 +102,12 @@ public class FeedSearchServiceTest {
 
         // then
         assertThat(result.feedIds()).containsExactly(id1, id2);
+        assertThat(result.feeds()).extracting(FeedDto::id, FeedDto::content)
+            .containsExactly(tuple(id1, "내용1"), tuple(id2, "내용2"));
         assertThat(result.hasNext()).isFalse();
         assertThat(result.totalCount()).isEqualTo(2L);
 
-        verify(operations).search(any(NativeQuery.class), eq(FeedDocument.class));
+        verify(operations).search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class));
     }
 
     @Test
@@ -107,7 +116,7 @@ public class FeedSearchServiceTest {
         // given
         FeedListRequest feedListRequest = new FeedListRequest(
             Instant.now().toString(), UUID.randomUUID(), 2, "createdAt",
-            SortDirection.DESCENDING, "패션", null, null, null
+            SortDirection.DESCENDING, "패션", null, null, null, null
         );
 
         UUID id1 = UUID.randomUUID();
@@ -129,7 +138,7 @@ public class FeedSearchServiceTest {
             null, null, List.of(hit), null, null, null
         );
 
-        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class)))
+        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class)))
             .thenReturn(hits);
 
         // when
@@ -146,7 +155,7 @@ public class FeedSearchServiceTest {
         // given
         FeedListRequest badRequest = new FeedListRequest(
             "cursor", UUID.randomUUID(), 10, "wrongField",
-            null, "피드", null, null, null
+            null, "피드", null, null, null, null
         );
 
         // when & then
@@ -160,7 +169,7 @@ public class FeedSearchServiceTest {
         // given
         FeedListRequest req = new FeedListRequest(
             null, null, 2, "createdAt",
-            SortDirection.DESCENDING, "피드", null, null, null
+            SortDirection.DESCENDING, "피드", null, null, null, null
         );
 
         SearchHit<FeedDocument> h1 = mock(SearchHit.class);
@@ -184,7 +193,7 @@ public class FeedSearchServiceTest {
         when(hits.getTotalHits())
             .thenReturn(3L);
 
-        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class)))
+        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class)))
             .thenReturn(hits);
 
         // when
@@ -203,7 +212,7 @@ public class FeedSearchServiceTest {
         // given
         FeedListRequest req = new FeedListRequest(
             "42", UUID.randomUUID(), 2, "likeCount",
-            SortDirection.DESCENDING, "피드", null, null, null
+            SortDirection.DESCENDING, "피드", null, null, null, null
         );
 
         SearchHit<FeedDocument> hit = mock(SearchHit.class);
@@ -218,7 +227,7 @@ public class FeedSearchServiceTest {
         when(hits.getTotalHits())
             .thenReturn(1L);
 
-        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class)))
+        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class)))
             .thenReturn(hits);
 
         // when
@@ -228,4 +237,38 @@ public class FeedSearchServiceTest {
         assertThat(result.feedIds()).containsExactly(id1);
         assertThat(result.hasNext()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("날씨 / 작성자 조건은 filter 절로, 정렬 방향은 요청 그대로 ES 쿼리에 반영")
+    void searchByKeyword_pushesFiltersAndDirection() {
+        // given
+        UUID authorId = UUID.randomUUID();
+        FeedListRequest req = new FeedListRequest(
+            null, null, 2, "likeCount", SortDirection.ASCENDING, "피드",
+            SkyStatus.CLEAR, PrecipitationType.RAIN, authorId, null
+        );
+
+        SearchHits<FeedDocument> hits = mock(SearchHits.class);
+        when(hits.getSearchHits()).thenReturn(List.of());
+        when(operations.search(any(NativeQuery.class), eq(FeedDocument.class), any(IndexCoordinates.class)))
+            .thenReturn(hits);
+
+        // when
+        service.searchByKeyword(req);
+
+        // then
+        ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+        verify(operations).search(captor.capture(), eq(FeedDocument.class), any(IndexCoordinates.class));
+        NativeQuery query = captor.getValue();
+
+        BoolQuery bool = query.getQuery().bool();
+        assertThat(bool.minimumShouldMatch()).isEqualTo("1");
+        assertThat(bool.filter()).extracting(filter -> filter.term().field())
+            .containsExactly("weather.skyStatus", "weather.precipitation.type", "author.userId");
+        assertThat(bool.filter()).extracting(filter -> filter.term().value().stringValue())
+            .containsExactly("CLEAR", "RAIN", authorId.toString());
+
+        assertThat(query.getSort().getOrderFor("likeCount").getDirection()).isEqualTo(Direction.ASC);
+        assertThat(query.getSort().getOrderFor("feedId").getDirection()).isEqualTo(Direction.ASC);
+    }
+}
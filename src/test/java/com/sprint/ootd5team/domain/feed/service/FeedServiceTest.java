@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -16,6 +15,7 @@ import com.sprint.ootd5team.base.exception.clothes.ClothesNotFoundException;
 import com.sprint.ootd5team.base.exception.feed.FeedNotFoundException;
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDetailCache;
 import com.sprint.ootd5team.domain.feed.service.internal.FeedDtoAssembler;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.FeedSearchResult;
@@ -26,9 +26,12 @@ import com.sprint.ootd5team.domain.feed.dto.request.FeedUpdateRequest;
 import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
 import com.sprint.ootd5team.domain.feed.entity.Feed;
 import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
+import com.sprint.ootd5team.domain.feed.event.type.FeedIndexCreatedEvent;
 import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
 import com.sprint.ootd5team.domain.feed.repository.feedClothes.FeedClothesRepository;
+import com.sprint.ootd5team.domain.feed.search.FeedSearchCache;
 import com.sprint.ootd5team.domain.feed.search.FeedSearchService;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedTotalCounter;
 import com.sprint.ootd5team.domain.feed.service.internal.FeedValidator;
 import com.sprint.ootd5team.domain.follow.repository.FollowRepository;
 import com.sprint.ootd5team.domain.notification.event.type.multi.FeedCreatedEvent;
@@ -46,6 +49,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
@@ -72,6 +76,9 @@ public class FeedServiceTest {
     @Mock
     private FeedEventProducer feedEventProducer;
 
+    @Mock
+    private FeedTotalCounter feedTotalCounter;
+
     @Mock
     private FeedSearchService feedSearchService;
 
@@ -93,7 +100,7 @@ public class FeedServiceTest {
 
         request = new FeedListRequest(
             null, null, 1, "createdAt",
-            SortDirection.ASCENDING, null, SkyStatus.CLOUDY, PrecipitationType.NONE, null
+            SortDirection.ASCENDING, null, SkyStatus.CLOUDY, PrecipitationType.NONE, null, null
         );
 
         author = new AuthorDto(UUID.randomUUID(), "nickname", "profileUrl");
@@ -109,8 +116,11 @@ public class FeedServiceTest {
             feedClothesRepository,
             feedDtoAssembler,
             feedSearchService,
+            FeedSearchCache.disabled(),
+            FeedDetailCache.disabled(),
             feedValidator,
             feedEventProducer,
+            feedTotalCounter,
             eventPublisher,
             followRepository
         );
@@ -124,11 +134,11 @@ public class FeedServiceTest {
 
         FeedDto raw = dummyFeedDto(feedId);
 
-        when(feedRepository.findFeedDtos(request, userId))
+        when(feedRepository.findFeedDtos(request))
             .thenReturn(List.of(raw));
-        when(feedRepository.countFeeds(any(), any(), any(), any()))
+        when(feedTotalCounter.count(request))
             .thenReturn(10L);
-        when(feedDtoAssembler.enrich(List.of(raw)))
+        when(feedDtoAssembler.enrich(List.of(raw), userId))
             .thenReturn(List.of(raw));
 
         // when
@@ -139,30 +149,63 @@ public class FeedServiceTest {
         assertThat(feedDtoCursorResponse.totalCount()).isEqualTo(10L);
         assertThat(feedDtoCursorResponse.hasNext()).isFalse();
 
-        verify(feedRepository).findFeedDtos(request, userId);
-        verify(feedDtoAssembler).enrich(List.of(raw));
+        verify(feedRepository).findFeedDtos(request);
+        verify(feedDtoAssembler).enrich(List.of(raw), userId);
     }
 
     @Test
-    @DisplayName("키워드 검색 요청 시 FeedSearchService가 호출됨")
+    @DisplayName("키워드 검색은 검색 문서의 피드 카드로 응답하고 DB 피드 조회는 하지 않음")
     void getFeeds_withKeyword_callsElasticsearch() {
         // given
         FeedListRequest feedListRequest = new FeedListRequest(
-            null, null, 5, "createdAt", SortDirection.DESCENDING, "코디", null, null, null
+            null, null, 5, "createdAt", SortDirection.DESCENDING, "코디", null, null, null, null
         );
+        UUID feedId = UUID.randomUUID();
+        FeedDto raw = dummyFeedDto(feedId);
         FeedSearchResult feedSearchResult = new FeedSearchResult(
-            List.of(UUID.randomUUID()), "cursor", UUID.randomUUID(), false, 10
+            List.of(feedId), "cursor", UUID.randomUUID(), false, 10, List.of(raw)
         );
 
         when(feedSearchService.searchByKeyword(feedListRequest)).thenReturn(feedSearchResult);
-        when(feedRepository.findFeedDtosByIds(eq(feedListRequest), anyList(), any())).thenReturn(List.of(mock(FeedDto.class)));
-        when(feedDtoAssembler.enrich(anyList())).thenReturn(List.of(mock(FeedDto.class)));
+        when(feedDtoAssembler.resolveImageUrls(List.of(raw))).thenReturn(List.of(raw));
+        when(feedDtoAssembler.applyLikedByMe(List.of(raw), userId)).thenReturn(List.of(raw));
 
         // when
-        feedService.getFeeds(feedListRequest, userId);
+        FeedDtoCursorResponse response = feedService.getFeeds(feedListRequest, userId);
 
         // then
+        assertThat(response.data()).containsExactly(raw);
+        assertThat(response.totalCount()).isEqualTo(10);
         verify(feedSearchService).searchByKeyword(feedListRequest);
+        verify(feedRepository, never()).findFeedDtosByIds(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("피드 카드 정보가 없는 검색 문서만 DB 에서 보충하고 검색 순서 유지")
+    void getFeeds_withKeyword_fillsLegacyDocuments() {
+        // given
+        FeedListRequest feedListRequest = new FeedListRequest(
+            null, null, 5, "createdAt", SortDirection.DESCENDING, "코디", null, null, null, null
+        );
+        FeedDto legacy = new FeedDto(UUID.randomUUID(), Instant.now(), Instant.now(),
+            null, null, List.of(), "legacy", 0, 0, false);
+        FeedDto card = dummyFeedDto(UUID.randomUUID());
+        FeedDto fromDb = dummyFeedDto(legacy.id());
+        FeedSearchResult feedSearchResult = new FeedSearchResult(
+            List.of(legacy.id(), card.id()), null, null, false, 2, List.of(legacy, card)
+        );
+
+        when(feedSearchService.searchByKeyword(feedListRequest)).thenReturn(feedSearchResult);
+        when(feedRepository.findFeedDtosByIds(feedListRequest, List.of(legacy.id()))).thenReturn(List.of(fromDb));
+        when(feedDtoAssembler.attachOotds(List.of(fromDb))).thenReturn(List.of(fromDb));
+        when(feedDtoAssembler.resolveImageUrls(List.of(fromDb, card))).thenReturn(List.of(fromDb, card));
+        when(feedDtoAssembler.applyLikedByMe(List.of(fromDb, card), userId)).thenReturn(List.of(fromDb, card));
+
+        // when
+        FeedDtoCursorResponse response = feedService.getFeeds(feedListRequest, userId);
+
+        // then
+        assertThat(response.data()).containsExactly(fromDb, card);
     }
 
     @Test
@@ -184,9 +227,9 @@ public class FeedServiceTest {
             "내용2", 2, 0, false
         );
 
-        when(feedRepository.findFeedDtos(request, userId))
+        when(feedRepository.findFeedDtos(request))
             .thenReturn(List.of(feed1, feed2));
-        when(feedRepository.countFeeds(any(), any(), any(), any()))
+        when(feedTotalCounter.count(request))
             .thenReturn(20L);
 
         // when
@@ -207,8 +250,10 @@ public class FeedServiceTest {
         FeedDto mockDto = mock(FeedDto.class);
 
         when(feedValidator.getFeedOrThrow(feedId)).thenReturn(feed);
-        when(feedRepository.findFeedDtoById(feedId, userId)).thenReturn(mockDto);
-        when(feedDtoAssembler.enrich(List.of(mockDto))).thenReturn(List.of(mockDto));
+        when(feedRepository.findFeedDtoById(feedId)).thenReturn(mockDto);
+        when(feedDtoAssembler.attachOotds(List.of(mockDto))).thenReturn(List.of(mockDto));
+        when(feedDtoAssembler.resolveImageUrls(List.of(mockDto))).thenReturn(List.of(mockDto));
+        when(feedDtoAssembler.applyLikedByMe(List.of(mockDto), userId)).thenReturn(List.of(mockDto));
 
         // when
         FeedDto result = feedService.getFeed(feedId, userId);
@@ -218,8 +263,8 @@ public class FeedServiceTest {
         assertThat(result).isEqualTo(mockDto);
 
         verify(feedValidator).getFeedOrThrow(feedId);
-        verify(feedRepository).findFeedDtoById(feedId, userId);
-        verify(feedDtoAssembler).enrich(List.of(mockDto));
+        verify(feedRepository).findFeedDtoById(feedId);
+        verify(feedDtoAssembler).applyLikedByMe(List.of(mockDto), userId);
     }
 
     @Test
@@ -236,7 +281,7 @@ public class FeedServiceTest {
             .isInstanceOf(FeedNotFoundException.class);
 
         verify(feedValidator).getFeedOrThrow(feedId);
-        verify(feedRepository, never()).findFeedDtoById(any(), any());
+        verify(feedRepository, never()).findFeedDtoById(any());
     }
 
     @Test
@@ -257,9 +302,13 @@ public class FeedServiceTest {
             .thenReturn(clothesList);
         when(feedRepository.save(any(Feed.class)))
             .thenReturn(feed);
-        when(feedRepository.findFeedDtoById(any(), any()))
+        when(feedRepository.findFeedDtoById(any()))
             .thenReturn(feedDto);
-        when(feedDtoAssembler.enrich(anyList()))
+        when(feedDtoAssembler.attachOotds(List.of(feedDto)))
+            .thenReturn(List.of(feedDto));
+        when(feedDtoAssembler.resolveImageUrls(List.of(feedDto)))
+            .thenReturn(List.of(feedDto));
+        when(feedDtoAssembler.applyLikedByMe(List.of(feedDto), authorId))
             .thenReturn(List.of(feedDto));
         when(followRepository.findFollowerIds(any()))
             .thenReturn(List.of(UUID.randomUUID()));
@@ -271,8 +320,12 @@ public class FeedServiceTest {
         assertThat(result).isNotNull();
         verify(feedRepository).save(any(Feed.class));
         verify(feedClothesRepository).saveAll(anyList());
-        verify(feedEventProducer).publishFeedIndexCreatedEvent(any());
         verify(eventPublisher).publishEvent(any(FeedCreatedEvent.class));
+
+        ArgumentCaptor<FeedIndexCreatedEvent> captor = ArgumentCaptor.forClass(FeedIndexCreatedEvent.class);
+        verify(feedEventProducer).publishFeedIndexCreatedEvent(captor.capture());
+        assertThat(captor.getValue().getAuthor()).isEqualTo(author);
+        assertThat(captor.getValue().getWeather()).isEqualTo(weather);
     }
 
     @Test
@@ -338,8 +391,8 @@ public class FeedServiceTest {
         Feed feed = createFeed(feedId);
 
         when(feedValidator.getFeedOrThrow(feedId)).thenReturn(feed);
-        when(feedRepository.findFeedDtoById(feedId, userId)).thenReturn(mock(FeedDto.class));
-        when(feedDtoAssembler.enrich(anyList())).thenReturn(List.of(mock(FeedDto.class)));
+        when(feedRepository.findFeedDtoById(feedId)).thenReturn(mock(FeedDto.class));
+        when(feedDtoAssembler.enrich(anyList(), any())).thenReturn(List.of(mock(FeedDto.class)));
 
         feedService.update(feedId, new FeedUpdateRequest("new content"), userId);
 
@@ -360,8 +413,8 @@ public class FeedServiceTest {
             .isInstanceOf(FeedNotFoundException.class);
 
         verify(feedValidator).getFeedOrThrow(feedId);
-        verify(feedRepository, never()).findFeedDtoById(any(), any());
-        verify(feedDtoAssembler, never()).enrich(anyList());
+        verify(feedRepository, never()).findFeedDtoById(any());
+        verify(feedDtoAssembler, never()).enrich(anyList(), any());
         verify(feedEventProducer, never()).publishFeedContentUpdatedEvent(any());
     }
 
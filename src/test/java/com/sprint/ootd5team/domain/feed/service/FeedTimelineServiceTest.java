@@ -0,0 +1,223 @@
+package com.sprint.ootd5team.domain.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.TimelineEntry;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedTimelineRequest;
+import com.sprint.ootd5team.domain.feed.dto.response.FeedDtoCursorResponse;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedCreatedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFeedDeletedEvent;
+import com.sprint.ootd5team.domain.feed.event.type.TimelineFollowChangedEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.feed.repository.timeline.InMemoryTimelineRepository;
+import com.sprint.ootd5team.domain.feed.service.internal.FeedDtoAssembler;
+import com.sprint.ootd5team.domain.follow.repository.FollowRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedTimelineService 단위 테스트")
+class FeedTimelineServiceTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FeedDtoAssembler feedDtoAssembler;
+
+    private InMemoryTimelineRepository timelineRepository;
+    private FeedTimelineServiceImpl timelineService;
+    private UUID userId;
+    private UUID authorId;
+
+    @BeforeEach
+    void setUp() {
+        timelineRepository = new InMemoryTimelineRepository(800);
+        timelineService = new FeedTimelineServiceImpl(
+            timelineRepository, feedRepository, followRepository, feedDtoAssembler, 3, 20, 800
+        );
+        userId = UUID.randomUUID();
+        authorId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("fan-out 된 피드를 최신순 커서 페이지로 조회")
+    void getTimeline_pagesFannedOutFeeds() {
+        // given
+        TimelineEntry oldest = entry(1);
+        TimelineEntry middle = entry(2);
+        TimelineEntry newest = entry(3);
+        for (TimelineEntry entry : List.of(oldest, middle, newest)) {
+            timelineService.fanOut(new TimelineFeedCreatedEvent(entry.feedId(), authorId, entry.createdAt(), List.of(userId)));
+        }
+        stubFeedLoading();
+
+        // when
+        FeedDtoCursorResponse first = timelineService.getTimeline(new FeedTimelineRequest(null, null, 2), userId);
+        FeedDtoCursorResponse second = timelineService.getTimeline(
+            new FeedTimelineRequest(first.nextCursor(), first.nextIdAfter(), 2), userId
+        );
+
+        // then
+        assertThat(first.data()).extracting(FeedDto::id).containsExactly(newest.feedId(), middle.feedId());
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo(middle.createdAt().toString());
+        assertThat(first.nextIdAfter()).isEqualTo(middle.feedId());
+        assertThat(first.totalCount()).isEqualTo(3);
+
+        assertThat(second.data()).extracting(FeedDto::id).containsExactly(oldest.feedId());
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 이상이면 fan-out 없이 조회 시 DB 피드와 병합")
+    void fanOut_overThreshold_mergedOnRead() {
+        // given
+        TimelineEntry pushed = entry(1);
+        TimelineEntry pulled = entry(2);
+        timelineService.fanOut(new TimelineFeedCreatedEvent(pushed.feedId(), UUID.randomUUID(), pushed.createdAt(), List.of(userId)));
+        timelineService.fanOut(new TimelineFeedCreatedEvent(
+            pulled.feedId(), authorId, pulled.createdAt(),
+            List.of(userId, UUID.randomUUID(), UUID.randomUUID())
+        ));
+
+        when(followRepository.findFolloweeIdsIn(userId, Set.of(authorId))).thenReturn(List.of(authorId));
+        when(feedRepository.findTimelineEntriesByAuthorIds(List.of(authorId), null, null, 11))
+            .thenReturn(List.of(pulled));
+        stubFeedLoading();
+
+        // when
+        FeedDtoCursorResponse response = timelineService.getTimeline(new FeedTimelineRequest(null, null, 10), userId);
+
+        // then
+        assertThat(timelineRepository.findPullAuthors()).containsExactly(authorId);
+        assertThat(timelineRepository.count(userId)).isEqualTo(1);
+        assertThat(response.data()).extracting(FeedDto::id).containsExactly(pulled.feedId(), pushed.feedId());
+    }
+
+    @Test
+    @DisplayName("삭제되어 DB에 없는 피드는 결과에서 제외")
+    void getTimeline_skipsDeletedFeeds() {
+        // given
+        TimelineEntry alive = entry(1);
+        TimelineEntry deleted = entry(2);
+        timelineRepository.pushAll(userId, List.of(alive, deleted));
+
+        when(feedRepository.findFeedDtosByIds(any(), anyList())).thenReturn(List.of(feedDto(alive)));
+        when(feedDtoAssembler.enrich(anyList(), eq(userId))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        FeedDtoCursorResponse response = timelineService.getTimeline(new FeedTimelineRequest(null, null, 10), userId);
+
+        // then
+        assertThat(response.data()).extracting(FeedDto::id).containsExactly(alive.feedId());
+    }
+
+    @Test
+    @DisplayName("팔로우 시 최근 피드 백필, 언팔로우 시 제거")
+    void onFollowChanged_backfillAndCleanup() {
+        // given
+        List<TimelineEntry> recent = List.of(entry(2), entry(1));
+        when(feedRepository.findTimelineEntriesByAuthorIds(List.of(authorId), null, null, 20)).thenReturn(recent);
+        when(feedRepository.findTimelineEntriesByAuthorIds(List.of(authorId), null, null, 800)).thenReturn(recent);
+
+        // when
+        timelineService.onFollowChanged(new TimelineFollowChangedEvent(userId, authorId, true));
+        long afterFollow = timelineRepository.count(userId);
+        timelineService.onFollowChanged(new TimelineFollowChangedEvent(userId, authorId, false));
+
+        // then
+        assertThat(afterFollow).isEqualTo(2);
+        assertThat(timelineRepository.count(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("피드 삭제 시 pull 작성자여도 등록 전에 들어간 항목을 팔로워 타임라인에서 제거")
+    void removeFeed_removesFromFollowers() {
+        // given
+        TimelineEntry entry = entry(1);
+        timelineRepository.push(entry, List.of(userId));
+        timelineRepository.markPullAuthor(authorId);
+        when(followRepository.findFollowerIds(authorId)).thenReturn(List.of(userId));
+
+        // when
+        timelineService.removeFeed(new TimelineFeedDeletedEvent(entry.feedId(), authorId));
+
+        // then
+        assertThat(timelineRepository.count(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("pull 작성자를 언팔로우해도 타임라인에 남은 항목 제거")
+    void onFollowChanged_unfollowPullAuthor_cleansUp() {
+        // given
+        TimelineEntry entry = entry(1);
+        timelineRepository.push(entry, List.of(userId));
+        timelineRepository.markPullAuthor(authorId);
+        when(feedRepository.findTimelineEntriesByAuthorIds(List.of(authorId), null, null, 800))
+            .thenReturn(List.of(entry));
+
+        // when
+        timelineService.onFollowChanged(new TimelineFollowChangedEvent(userId, authorId, false));
+
+        // then
+        assertThat(timelineRepository.count(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계값 미만으로 줄면 pull 작성자 해제 후 최근 피드와 함께 fan-out")
+    void fanOut_belowThreshold_unmarksPullAuthor() {
+        // given
+        TimelineEntry earlier = entry(1);
+        TimelineEntry created = entry(2);
+        timelineRepository.markPullAuthor(authorId);
+        when(feedRepository.findTimelineEntriesByAuthorIds(List.of(authorId), null, null, 20))
+            .thenReturn(List.of(earlier));
+
+        // when
+        timelineService.fanOut(new TimelineFeedCreatedEvent(created.feedId(), authorId, created.createdAt(), List.of(userId)));
+
+        // then
+        assertThat(timelineRepository.findPullAuthors()).isEmpty();
+        assertThat(timelineRepository.find(userId, null, null, 10)).containsExactly(created, earlier);
+    }
+
+    private void stubFeedLoading() {
+        when(feedRepository.findFeedDtosByIds(any(), anyList())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(1);
+            return ids.stream().map(id -> feedDto(new TimelineEntry(id, BASE))).toList();
+        });
+        when(feedDtoAssembler.enrich(anyList(), eq(userId))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private TimelineEntry entry(int minutes) {
+        return new TimelineEntry(UUID.randomUUID(), BASE.plusSeconds(minutes * 60L));
+    }
+
+    private FeedDto feedDto(TimelineEntry entry) {
+        return new FeedDto(
+            entry.feedId(), entry.createdAt(), entry.createdAt(),
+            null, null, List.of(),
+            "내용", 0, 0, false
+        );
+    }
+}
@@ -0,0 +1,197 @@
+package com.sprint.ootd5team.domain.feed.service.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.ootd5team.base.exception.feed.FeedNotFoundException;
+import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
+import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.indexer.FeedIndexBatch;
+import com.sprint.ootd5team.domain.user.dto.AuthorDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@DisplayName("FeedDetailCache 단위 테스트")
+class FeedDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCache remote = new ConcurrentMapCache(FeedDetailCache.CACHE_NAME);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("두 번째 조회는 로컬 캐시에서 반환")
+    void get_secondReadHitsLocal() {
+        // given
+        FeedDetailCache cache = cache(remote);
+        UUID feedId = UUID.randomUUID();
+
+        // when
+        FeedDto first = cache.get(feedId, this::load);
+        FeedDto second = cache.get(feedId, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(count("local")).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 채운 Redis 값을 DB 조회 없이 사용")
+    void get_otherInstanceReadsRemote() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        FeedDto loaded = cache(remote).get(feedId, this::load);
+
+        // when
+        FeedDto result = cache(remote).get(feedId, this::load);
+
+        // then
+        assertThat(result).isEqualTo(loaded);
+        assertThat(loads).hasValue(1);
+        assertThat(count("remote")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트는 해당 피드만 두 계층에서 제거")
+    void invalidate_evictsChangedFeedFromBothTiers() {
+        // given
+        FeedDetailCache cache = cache(remote);
+        UUID changed = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        cache.get(changed, this::load);
+        cache.get(untouched, this::load);
+
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(changed, 3));
+
+        // when
+        cache.invalidate(batch);
+        cache.get(changed, this::load);
+        cache.get(untouched, this::load);
+
+        // then
+        assertThat(loads).hasValue(3);
+        assertThat(count("remote")).isZero();
+    }
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 조회한 값을 Redis 에 저장하지 않음")
+    void get_evictedDuringLoadIsNotStoredRemotely() throws Exception {
+        // given
+        CountDownLatch remoteEvicted = new CountDownLatch(1);
+        ConcurrentMapCache observedRemote = new ConcurrentMapCache(FeedDetailCache.CACHE_NAME) {
+            @Override
+            public void evict(Object key) {
+                super.evict(key);
+                remoteEvicted.countDown();
+            }
+        };
+        FeedDetailCache cache = cache(observedRemote);
+        UUID feedId = UUID.randomUUID();
+        FeedIndexBatch batch = new FeedIndexBatch();
+        batch.likeCountUpdated(new FeedLikeCountUpdateEvent(feedId, 3));
+        Thread invalidator = new Thread(() -> cache.invalidate(batch));
+
+        // when: DB 조회 도중 변경 이벤트 도착
+        cache.get(feedId, id -> {
+            invalidator.start();
+            try {
+                assertThat(remoteEvicted.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(id);
+        });
+        invalidator.join(5_000);
+
+        // then
+        assertThat(observedRemote.get(feedId.toString())).isNull();
+        cache.get(feedId, this::load);
+        assertThat(loads).hasValue(2);
+        assertThat(count("remote")).isZero();
+    }
+
+    @Test
+    @DisplayName("로더 예외는 캐시하지 않음")
+    void get_failureIsNotCached() {
+        // given
+        FeedDetailCache cache = cache(remote);
+        UUID feedId = UUID.randomUUID();
+
+        // when
+        assertThatThrownBy(() -> cache.get(feedId, id -> {
+            throw FeedNotFoundException.withId(id);
+        })).isInstanceOf(FeedNotFoundException.class);
+
+        cache.get(feedId, this::load);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(remote.get(feedId.toString())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Redis 가 없어도 로컬 캐시로 동작")
+    void get_withoutRemote() {
+        // given
+        FeedDetailCache cache = cache(null);
+        UUID feedId = UUID.randomUUID();
+
+        // when
+        cache.get(feedId, this::load);
+        cache.get(feedId, this::load);
+
+        // then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 항상 조회")
+    void disabled_alwaysLoads() {
+        FeedDetailCache disabled = FeedDetailCache.disabled();
+        UUID feedId = UUID.randomUUID();
+
+        disabled.get(feedId, this::load);
+        disabled.get(feedId, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private FeedDetailCache cache(ConcurrentMapCache remoteCache) {
+        return new FeedDetailCache(true, Duration.ofMinutes(1), 100, remoteCache, objectMapper, meterRegistry);
+    }
+
+    private FeedDto load(UUID feedId) {
+        loads.incrementAndGet();
+        Instant createdAt = Instant.parse("2025-09-20T10:00:00Z");
+        return new FeedDto(
+            feedId,
+            createdAt,
+            createdAt,
+            new AuthorDto(UUID.randomUUID(), "작성자", "profiles/a.png"),
+            null,
+            List.of(new OotdDto(UUID.randomUUID(), "셔츠", "clothes/a.png", "TOP", List.of())),
+            "오늘의 코디",
+            3,
+            1,
+            false
+        );
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("feed.detail.cache.requests").tag("result", result).counter().count();
+    }
+}
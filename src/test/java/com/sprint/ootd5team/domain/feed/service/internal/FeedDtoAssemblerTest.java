@@ -9,6 +9,7 @@ import com.sprint.ootd5team.domain.clothesattribute.dto.ClothesAttributeWithDefD
 import com.sprint.ootd5team.domain.feed.dto.data.FeedDto;
 import com.sprint.ootd5team.domain.feed.dto.data.OotdDto;
 import com.sprint.ootd5team.domain.feed.repository.feedClothes.FeedClothesRepository;
+import com.sprint.ootd5team.domain.like.service.LikedFeedResolver;
 import com.sprint.ootd5team.domain.user.dto.AuthorDto;
 import com.sprint.ootd5team.domain.weather.dto.data.PrecipitationDto;
 import com.sprint.ootd5team.domain.weather.dto.data.TemperatureDto;
@@ -18,6 +19,7 @@ import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +36,9 @@ public class FeedDtoAssemblerTest {
     @Mock
     private FeedClothesRepository feedClothesRepository;
 
+    @Mock
+    private LikedFeedResolver likedFeedResolver;
+
     @Mock
     private FileStorage fileStorage;
 
@@ -41,12 +46,14 @@ public class FeedDtoAssemblerTest {
     private FeedDtoAssembler assembler;
 
     private UUID feedId;
+    private UUID userId;
     private FeedDto baseDto;
     private OotdDto ootdDto;
 
     @BeforeEach
     void setUp() {
         feedId = UUID.randomUUID();
+        userId = UUID.randomUUID();
 
         AuthorDto author = new AuthorDto(UUID.randomUUID(), "nickname", "author/profile.png");
         WeatherSummaryDto weather = new WeatherSummaryDto(
@@ -81,7 +88,7 @@ public class FeedDtoAssemblerTest {
             .willReturn("resolved/author/profile.png");
 
         // when
-        List<FeedDto> result = assembler.enrich(List.of(baseDto));
+        List<FeedDto> result = assembler.enrich(List.of(baseDto), userId);
 
         // then
         FeedDto enriched = result.get(0);
@@ -104,11 +111,28 @@ public class FeedDtoAssemblerTest {
             .willReturn("resolved/author/profile.png");
 
         // when
-        List<FeedDto> result = assembler.enrich(List.of(baseDto));
+        List<FeedDto> result = assembler.enrich(List.of(baseDto), userId);
 
         // then
         FeedDto enriched = result.get(0);
         assertThat(enriched.ootds()).isEmpty();
         assertThat(enriched.author().profileImageUrl()).isEqualTo("resolved/author/profile.png");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("likedByMe는 페이지 피드 ID로 한 번에 판단해 주입됨")
+    void enrich_likedByMe() {
+        // given
+        given(feedClothesRepository.findOotdsByFeedIds(List.of(feedId)))
+            .willReturn(Map.of());
+        given(likedFeedResolver.resolve(userId, List.of(feedId)))
+            .willReturn(Set.of(feedId));
+
+        // when
+        List<FeedDto> result = assembler.enrich(List.of(baseDto), userId);
+
+        // then
+        assertThat(result.get(0).likedByMe()).isTrue();
+        verify(likedFeedResolver).resolve(userId, List.of(feedId));
+    }
+}
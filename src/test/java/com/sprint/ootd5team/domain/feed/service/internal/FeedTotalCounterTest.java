@@ -0,0 +1,132 @@
+package com.sprint.ootd5team.domain.feed.service.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.ootd5team.domain.feed.dto.enums.SortDirection;
+import com.sprint.ootd5team.domain.feed.dto.enums.TotalCountMode;
+import com.sprint.ootd5team.domain.feed.dto.request.FeedListRequest;
+import com.sprint.ootd5team.domain.feed.event.type.FeedCountChangedEvent;
+import com.sprint.ootd5team.domain.feed.repository.count.InMemoryFeedCountRepository;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.weather.entity.Weather;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import com.sprint.ootd5team.domain.weather.repository.WeatherRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedTotalCounter 단위 테스트")
+class FeedTotalCounterTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private WeatherRepository weatherRepository;
+
+    private FeedTotalCounter feedTotalCounter;
+    private UUID authorId;
+
+    @BeforeEach
+    void setUp() {
+        feedTotalCounter = new FeedTotalCounter(
+            feedRepository, new InMemoryFeedCountRepository(Duration.ofHours(1)), weatherRepository
+        );
+        authorId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("단일 필터는 최초 1회만 COUNT 후 카운터 사용")
+    void count_singleDimension_cachesCounter() {
+        // given
+        given(feedRepository.countFeeds(null, null, null, authorId)).willReturn(7L);
+        FeedListRequest request = request(authorId, null, null, null);
+
+        // when
+        long first = feedTotalCounter.count(request);
+        long second = feedTotalCounter.count(request);
+
+        // then
+        assertThat(first).isEqualTo(7L);
+        assertThat(second).isEqualTo(7L);
+        verify(feedRepository, times(1)).countFeeds(null, null, null, authorId);
+    }
+
+    @Test
+    @DisplayName("여러 필터 조합은 차원별 카운터로 추정")
+    void count_multipleDimensions_estimated() {
+        // given
+        given(feedRepository.countFeeds(null, null, null, null)).willReturn(100L);
+        given(feedRepository.countFeeds(null, SkyStatus.CLEAR, null, null)).willReturn(50L);
+        given(feedRepository.countFeeds(null, null, PrecipitationType.NONE, null)).willReturn(40L);
+
+        // when
+        long count = feedTotalCounter.count(request(null, SkyStatus.CLEAR, PrecipitationType.NONE, null));
+
+        // then
+        assertThat(count).isEqualTo(20L);
+        verify(feedRepository, never()).countFeeds(null, SkyStatus.CLEAR, PrecipitationType.NONE, null);
+    }
+
+    @Test
+    @DisplayName("EXACT 는 매번 COUNT, NONE 은 계산 생략")
+    void count_exactAndNone() {
+        // given
+        given(feedRepository.countFeeds(null, SkyStatus.CLEAR, null, authorId)).willReturn(3L);
+
+        // when
+        long exact = feedTotalCounter.count(request(authorId, SkyStatus.CLEAR, null, TotalCountMode.EXACT));
+        long none = feedTotalCounter.count(request(authorId, SkyStatus.CLEAR, null, TotalCountMode.NONE));
+
+        // then
+        assertThat(exact).isEqualTo(3L);
+        assertThat(none).isEqualTo(FeedTotalCounter.UNCOUNTED);
+    }
+
+    @Test
+    @DisplayName("피드 생성/삭제 이벤트는 초기화된 카운터만 증감")
+    void apply_incrementsInitializedCounters() {
+        // given
+        UUID weatherId = UUID.randomUUID();
+        Weather weather = Weather.builder()
+            .skyStatus(SkyStatus.CLEAR)
+            .precipitationType(PrecipitationType.NONE)
+            .build();
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(weather));
+        given(feedRepository.countFeeds(null, null, null, authorId)).willReturn(2L);
+        given(feedRepository.countFeeds(null, SkyStatus.CLEAR, null, null)).willReturn(5L);
+        FeedListRequest byAuthor = request(authorId, null, null, null);
+        feedTotalCounter.count(byAuthor);
+
+        // when
+        feedTotalCounter.apply(new FeedCountChangedEvent(authorId, weatherId, 1L));
+        feedTotalCounter.apply(new FeedCountChangedEvent(authorId, weatherId, 1L));
+        feedTotalCounter.apply(new FeedCountChangedEvent(authorId, weatherId, -1L));
+
+        // then
+        assertThat(feedTotalCounter.count(byAuthor)).isEqualTo(3L);
+        assertThat(feedTotalCounter.count(request(null, SkyStatus.CLEAR, null, null))).isEqualTo(5L);
+        verify(feedRepository, times(1)).countFeeds(null, null, null, authorId);
+    }
+
+    private FeedListRequest request(
+        UUID authorId, SkyStatus skyStatus, PrecipitationType precipitationType, TotalCountMode mode
+    ) {
+        return new FeedListRequest(
+            null, null, 10, "createdAt", SortDirection.DESCENDING,
+            null, skyStatus, precipitationType, authorId, mode
+        );
+    }
+}
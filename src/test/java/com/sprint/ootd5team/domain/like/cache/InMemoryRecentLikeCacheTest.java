@@ -0,0 +1,73 @@
+package com.sprint.ootd5team.domain.like.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.ootd5team.domain.like.cache.RecentLikeLookup.Status;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryRecentLikeCache 단위 테스트")
+class InMemoryRecentLikeCacheTest {
+
+    private final InMemoryRecentLikeCache cache = new InMemoryRecentLikeCache(Duration.ofMinutes(10));
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID liked = UUID.randomUUID();
+    private final UUID other = UUID.randomUUID();
+
+    @Test
+    @DisplayName("적재 전에는 MISS, 적재 후에는 좋아요한 피드만 HIT")
+    void lookup_afterLoad() {
+        assertThat(cache.lookup(userId, List.of(liked)).status()).isEqualTo(Status.MISS);
+
+        cache.load(userId, List.of(liked), 0L);
+
+        RecentLikeLookup lookup = cache.lookup(userId, List.of(liked, other));
+        assertThat(lookup.status()).isEqualTo(Status.HIT);
+        assertThat(lookup.likedFeedIds()).containsExactly(liked);
+    }
+
+    @Test
+    @DisplayName("좋아요가 없는 사용자도 적재되면 HIT (overflow 와 구분)")
+    void lookup_emptyLoaded() {
+        cache.load(userId, List.of(), 0L);
+
+        RecentLikeLookup lookup = cache.lookup(userId, List.of(liked));
+        assertThat(lookup.status()).isEqualTo(Status.HIT);
+        assertThat(lookup.likedFeedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화하면 MISS 가 되고 세대가 증가")
+    void invalidate() {
+        cache.load(userId, List.of(liked), cache.generation(userId));
+
+        cache.invalidate(userId);
+
+        assertThat(cache.lookup(userId, List.of(liked)).status()).isEqualTo(Status.MISS);
+        assertThat(cache.generation(userId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("적재 전에 읽은 세대가 바뀌었으면(그 사이 좋아요 / 취소) 낡은 목록을 적재하지 않음")
+    void load_staleGeneration() {
+        long generation = cache.generation(userId);
+        cache.invalidate(userId);
+
+        cache.load(userId, List.of(liked), generation);
+        cache.markOverflow(userId, generation);
+
+        assertThat(cache.lookup(userId, List.of(liked)).status()).isEqualTo(Status.MISS);
+    }
+
+    @Test
+    @DisplayName("세대가 같으면 overflow 표시")
+    void markOverflow() {
+        cache.markOverflow(userId, cache.generation(userId));
+
+        assertThat(cache.lookup(userId, List.of(liked)).status()).isEqualTo(Status.OVERFLOW);
+    }
+}
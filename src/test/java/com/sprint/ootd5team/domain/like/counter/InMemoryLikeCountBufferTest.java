@@ -0,0 +1,82 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryLikeCountBuffer 단위 테스트")
+class InMemoryLikeCountBufferTest {
+
+    private final InMemoryLikeCountBuffer buffer = new InMemoryLikeCountBuffer();
+
+    @Test
+    @DisplayName("피드별 증감을 합산해 꺼내고 비움, 합이 0 인 피드는 제외")
+    void drain_aggregatesPerFeed() {
+        // given
+        UUID hot = UUID.randomUUID();
+        UUID canceled = UUID.randomUUID();
+        buffer.add(hot, 1);
+        buffer.add(hot, 1);
+        buffer.add(hot, -1);
+        buffer.add(hot, 1);
+        buffer.add(canceled, 1);
+        buffer.add(canceled, -1);
+
+        // when
+        Map<UUID, Long> drained = buffer.drain();
+
+        // then
+        assertThat(drained).containsExactlyEntriesOf(Map.of(hot, 2L));
+    }
+
+    @Test
+    @DisplayName("acknowledge 전에는 같은 증감을 다시 반환하고, 이후에는 새로 누적된 증감만 반환")
+    void drain_keepsStagedUntilAcknowledged() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        buffer.add(feedId, 2);
+        buffer.drain();
+        buffer.add(feedId, 1);
+
+        // when
+        Map<UUID, Long> retried = buffer.drain();
+        buffer.acknowledge();
+        Map<UUID, Long> next = buffer.drain();
+        buffer.acknowledge();
+
+        // then
+        assertThat(retried).containsExactlyEntriesOf(Map.of(feedId, 2L));
+        assertThat(next).containsExactlyEntriesOf(Map.of(feedId, 1L));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시 증감과 drain 사이에 유실 없음")
+    void concurrentAddAndDrain_noLostUpdates() throws InterruptedException {
+        // given
+        UUID feedId = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        long total = 0;
+
+        // when
+        for (int i = 0; i < 4_000; i++) {
+            executor.submit(() -> buffer.add(feedId, 1));
+        }
+        for (int i = 0; i < 20; i++) {
+            total += buffer.drain().getOrDefault(feedId, 0L);
+            buffer.acknowledge();
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        total += buffer.drain().getOrDefault(feedId, 0L);
+
+        // then
+        assertThat(total).isEqualTo(4_000L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sprint.ootd5team.domain.like.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
+import com.sprint.ootd5team.domain.feed.event.type.FeedLikeCountUpdateEvent;
+import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCountFlusher 단위 테스트")
+class LikeCountFlusherTest {
+
+    @Mock
+    private FeedRepository feedRepository;
+
+    @Mock
+    private FeedEventProducer feedEventProducer;
+
+    private InMemoryLikeCountBuffer buffer;
+    private LikeCountFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new InMemoryLikeCountBuffer();
+        flusher = new LikeCountFlusher(buffer, feedRepository, feedEventProducer);
+    }
+
+    @Test
+    @DisplayName("피드별 누적 증감을 한 번에 반영하고 피드당 이벤트 1건 발행")
+    void flush_coalescesPerFeed() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            buffer.add(feedId, 1);
+        }
+        FeedLikeCountUpdateEvent event = new FeedLikeCountUpdateEvent(feedId, 15L);
+        given(feedRepository.findLikeCountEvents(Set.of(feedId))).willReturn(List.of(event));
+
+        // when
+        flusher.flush();
+
+        // then
+        then(feedRepository).should().addLikeCount(feedId, 5L);
+        then(feedEventProducer).should().publishLikeCountUpdatedEvent(event);
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 아무것도 하지 않음")
+    void flush_empty() {
+        flusher.flush();
+
+        then(feedRepository).should(never()).addLikeCount(any(), anyLong());
+        then(feedEventProducer).should(never()).publishLikeCountUpdatedEvent(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 증감이 반영 대기 영역에 남아 다음 주기에 재시도")
+    void flush_failure_keepsDeltas() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        buffer.add(feedId, 3);
+        given(feedRepository.addLikeCount(feedId, 3L)).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> flusher.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.drain()).containsEntry(feedId, 3L);
+        then(feedEventProducer).should(never()).publishLikeCountUpdatedEvent(any());
+    }
+
+    @Test
+    @DisplayName("반영 후 이벤트 조회가 실패해도 증감 유실 없음")
+    void flush_eventLookupFailure_keepsDeltas() {
+        // given
+        UUID feedId = UUID.randomUUID();
+        buffer.add(feedId, 2);
+        given(feedRepository.findLikeCountEvents(Set.of(feedId))).willThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> flusher.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(buffer.drain()).containsEntry(feedId, 2L);
+    }
+}
@@ -2,24 +2,29 @@ package com.sprint.ootd5team.domain.like.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.sprint.ootd5team.base.exception.feed.AlreadyLikedException;
 import com.sprint.ootd5team.base.exception.feed.FeedNotFoundException;
-import com.sprint.ootd5team.base.exception.feed.LikeCountUnderflowException;
 import com.sprint.ootd5team.base.exception.feed.LikeNotFoundException;
 import com.sprint.ootd5team.domain.feed.entity.Feed;
-import com.sprint.ootd5team.domain.feed.event.producer.FeedEventProducer;
 import com.sprint.ootd5team.domain.feed.repository.feed.FeedRepository;
+import com.sprint.ootd5team.domain.like.cache.RecentLikeCache;
+import com.sprint.ootd5team.domain.like.counter.LikeCountBuffer;
 import com.sprint.ootd5team.domain.like.entity.FeedLike;
 import com.sprint.ootd5team.domain.like.repository.FeedLikeRepository;
 import com.sprint.ootd5team.domain.like.service.FeedLikeServiceImpl;
 import com.sprint.ootd5team.domain.notification.event.type.single.FeedLikedEvent;
 import com.sprint.ootd5team.domain.user.repository.UserRepository;
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,7 +33,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FeedLikeService 슬라이스 테스트")
@@ -42,7 +50,10 @@ public class FeedLikeServiceTest {
     private FeedRepository feedRepository;
 
     @Mock
-    private FeedEventProducer feedEventProducer;
+    private LikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private RecentLikeCache recentLikeCache;
 
     @Mock
     private UserRepository userRepository;
@@ -70,20 +81,16 @@ public class FeedLikeServiceTest {
         // given
         given(feedRepository.findById(feedId))
             .willReturn(Optional.of(feed));
-        given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId))
-            .willReturn(false);
         given(userRepository.findUserNameById(userId))
             .willReturn("tester");
-        given(feedRepository.findLikeCountByFeedId(feedId))
-            .willReturn(10L);
 
         // when
         feedLikeService.like(feedId, userId);
 
         // then
-        then(feedLikeRepository).should().save(any(FeedLike.class));
-        then(feedRepository).should().incrementLikeCount(feedId);
-        then(feedEventProducer).should().publishLikeCountUpdatedEvent(any());
+        then(feedLikeRepository).should().saveAndFlush(any(FeedLike.class));
+        then(likeCountBuffer).should().add(feedId, 1L);
+        then(recentLikeCache).should().invalidate(userId);
         then(eventPublisher).should().publishEvent(any(FeedLikedEvent.class));
     }
 
@@ -97,42 +104,86 @@ public class FeedLikeServiceTest {
         assertThatThrownBy(() -> feedLikeService.like(feedId, userId))
             .isInstanceOf(FeedNotFoundException.class);
 
-        then(feedLikeRepository).should(never()).save(any());
-        then(feedRepository).should(never()).incrementLikeCount(any());
+        then(feedLikeRepository).should(never()).saveAndFlush(any());
+        then(likeCountBuffer).should(never()).add(any(), anyLong());
     }
 
     @Test
-    @DisplayName("like() - 이미 좋아요 했으면 예외 발생")
+    @DisplayName("like() - 이미 좋아요 했으면(유니크 제약 위반) 예외 발생")
     void like_alreadyLiked() {
         // given
         given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-        given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(true);
+        given(feedLikeRepository.saveAndFlush(any(FeedLike.class)))
+            .willThrow(new DataIntegrityViolationException("uq_feed_like"));
 
         // when & then
         assertThatThrownBy(() -> feedLikeService.like(feedId, userId))
             .isInstanceOf(AlreadyLikedException.class);
 
-        then(feedLikeRepository).should(never()).save(any());
-        then(feedRepository).should(never()).incrementLikeCount(any());
-        then(feedEventProducer).should(never()).publishLikeCountUpdatedEvent(any());
+        then(likeCountBuffer).should(never()).add(any(), anyLong());
+        then(recentLikeCache).should(never()).invalidate(any());
+        then(eventPublisher).should(never()).publishEvent(any(FeedLikedEvent.class));
+    }
+
+    @Test
+    @DisplayName("like() - 저장 중 피드가 삭제되면(FK 위반) 중복 좋아요가 아닌 피드 없음 예외")
+    void like_feedDeletedConcurrently() {
+        // given
+        given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
+        given(feedLikeRepository.saveAndFlush(any(FeedLike.class)))
+            .willThrow(new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("insert failed", new SQLException("fk violation"),
+                    "fk_feed_likes_feed")));
+
+        // when & then
+        assertThatThrownBy(() -> feedLikeService.like(feedId, userId))
+            .isInstanceOf(FeedNotFoundException.class);
+
+        then(likeCountBuffer).should(never()).add(any(), anyLong());
     }
 
     @Test
-    @DisplayName("unLike() - 성공적으로 좋아요 취소 및 이벤트 발행")
+    @DisplayName("unLike() - 성공적으로 좋아요 취소 및 버퍼 반영")
     void unLike_success() {
         // given
         given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-        given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(true);
-        given(feedRepository.decrementLikeCount(feedId)).willReturn(1);
-        given(feedRepository.findLikeCountByFeedId(feedId)).willReturn(8L);
+        given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(1);
 
         // when
         feedLikeService.unLike(feedId, userId);
 
         // then
         then(feedLikeRepository).should().deleteByFeedIdAndUserId(feedId, userId);
-        then(feedRepository).should().decrementLikeCount(feedId);
-        then(feedEventProducer).should().publishLikeCountUpdatedEvent(any());
+        then(likeCountBuffer).should().add(feedId, -1L);
+        then(recentLikeCache).should().invalidate(userId);
+    }
+
+    @Test
+    @DisplayName("unLike() - 트랜잭션 중에는 커밋 직전 / 직후에 캐시 무효화, 버퍼는 커밋 후에만 반영")
+    void unLike_invalidatesAroundCommit() {
+        // given
+        given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
+        given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            feedLikeService.unLike(feedId, userId);
+            List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+
+            // then
+            then(recentLikeCache).should(never()).invalidate(any());
+            synchronizations.forEach(s -> s.beforeCommit(false));
+            then(recentLikeCache).should(times(1)).invalidate(userId);
+            then(likeCountBuffer).should(never()).add(any(), anyLong());
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            then(recentLikeCache).should(times(2)).invalidate(userId);
+            then(likeCountBuffer).should().add(feedId, -1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -146,39 +197,20 @@ public class FeedLikeServiceTest {
             .isInstanceOf(FeedNotFoundException.class);
 
         then(feedLikeRepository).should(never()).deleteByFeedIdAndUserId(any(), any());
-        then(feedRepository).should(never()).decrementLikeCount(any());
+        then(likeCountBuffer).should(never()).add(any(), anyLong());
     }
 
     @Test
-    @DisplayName("unLike() - 좋아요가 존재하지 않으면 예외 발생")
+    @DisplayName("unLike() - 좋아요가 존재하지 않으면(삭제 행 0) 예외 발생")
     void unLike_notFound() {
         // given
         given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-        given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(false);
+        given(feedLikeRepository.deleteByFeedIdAndUserId(feedId, userId)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> feedLikeService.unLike(feedId, userId))
             .isInstanceOf(LikeNotFoundException.class);
 
-        then(feedLikeRepository).should(never()).deleteByFeedIdAndUserId(any(), any());
-        then(feedRepository).should(never()).decrementLikeCount(any());
-        then(feedEventProducer).should(never()).publishLikeCountUpdatedEvent(any());
-    }
-
-    @Test
-    @DisplayName("unLike() - likeCount 감소 실패 시 예외 발생")
-    void unLike_underflow() {
-        // given
-        given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
-        given(feedLikeRepository.existsByFeedIdAndUserId(feedId, userId)).willReturn(true);
-        given(feedRepository.decrementLikeCount(feedId)).willReturn(0);
-
-        // when & then
-        assertThatThrownBy(() -> feedLikeService.unLike(feedId, userId))
-            .isInstanceOf(LikeCountUnderflowException.class);
-
-        then(feedLikeRepository).should().deleteByFeedIdAndUserId(feedId, userId);
-        then(feedRepository).should().decrementLikeCount(feedId);
-        then(feedEventProducer).should(never()).publishLikeCountUpdatedEvent(any());
+        then(likeCountBuffer).should(never()).add(any(), anyLong());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,185 @@
+package com.sprint.ootd5team.domain.like.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.sprint.ootd5team.domain.like.cache.RecentLikeCache;
+import com.sprint.ootd5team.domain.like.cache.RecentLikeLookup;
+import com.sprint.ootd5team.domain.like.repository.FeedLikeRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikedFeedResolver 단위 테스트")
+class LikedFeedResolverTest {
+
+    @Mock
+    private FeedLikeRepository feedLikeRepository;
+
+    @Mock
+    private RecentLikeCache recentLikeCache;
+
+    private LikedFeedResolver resolver;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID liked = UUID.randomUUID();
+    private final UUID other = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        resolver = new LikedFeedResolver(feedLikeRepository, recentLikeCache, true, 2);
+    }
+
+    @Test
+    @DisplayName("비로그인 사용자는 조회 없이 빈 집합")
+    void resolve_anonymous() {
+        assertThat(resolver.resolve(null, List.of(liked))).isEmpty();
+
+        verifyNoInteractions(feedLikeRepository, recentLikeCache);
+    }
+
+    @Test
+    @DisplayName("캐시 HIT 이면 DB 조회 없음")
+    void resolve_cacheHit() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked, other)))
+            .willReturn(RecentLikeLookup.hit(Set.of(liked)));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked, other));
+
+        // then
+        assertThat(result).containsExactly(liked);
+        verifyNoInteractions(feedLikeRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 MISS 이면 좋아요 목록을 적재하고 페이지 피드와 교집합 반환")
+    void resolve_cacheMiss_loads() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked, other))).willReturn(RecentLikeLookup.miss());
+        given(recentLikeCache.generation(userId)).willReturn(3L);
+        given(feedLikeRepository.findFeedIdsByUserId(userId, Limit.of(3))).willReturn(List.of(liked));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked, other));
+
+        // then
+        assertThat(result).containsExactly(liked);
+        then(recentLikeCache).should().load(userId, List.of(liked), 3L);
+        then(feedLikeRepository).should(never()).findLikedFeedIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 수가 상한을 넘으면 overflow 표시 후 페이지 단위 일괄 조회")
+    void resolve_cacheMiss_overflow() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked))).willReturn(RecentLikeLookup.miss());
+        given(recentLikeCache.generation(userId)).willReturn(3L);
+        given(feedLikeRepository.findFeedIdsByUserId(userId, Limit.of(3)))
+            .willReturn(List.of(liked, UUID.randomUUID(), UUID.randomUUID()));
+        given(feedLikeRepository.findLikedFeedIds(userId, List.of(liked))).willReturn(List.of(liked));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked));
+
+        // then
+        assertThat(result).containsExactly(liked);
+        then(recentLikeCache).should().markOverflow(userId, 3L);
+        then(recentLikeCache).should(never()).load(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 조회 실패 시 페이지 단위 일괄 조회로 대체")
+    void resolve_cacheFailure_fallsBackToDb() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked))).willThrow(new IllegalStateException("redis down"));
+        given(feedLikeRepository.findLikedFeedIds(userId, List.of(liked))).willReturn(List.of(liked));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked));
+
+        // then
+        assertThat(result).containsExactly(liked);
+        then(feedLikeRepository).should(never()).findFeedIdsByUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 MISS 후 세대 조회 실패 시 페이지 단위 일괄 조회로 대체")
+    void resolve_generationFailure_fallsBackToDb() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked))).willReturn(RecentLikeLookup.miss());
+        given(recentLikeCache.generation(userId)).willThrow(new IllegalStateException("redis down"));
+        given(feedLikeRepository.findLikedFeedIds(userId, List.of(liked))).willReturn(List.of(liked));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked));
+
+        // then
+        assertThat(result).containsExactly(liked);
+        then(recentLikeCache).should(never()).load(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 적재 실패해도 읽어 둔 DB 좋아요 목록으로 판단")
+    void resolve_loadFailure_usesDbList() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked, other))).willReturn(RecentLikeLookup.miss());
+        given(recentLikeCache.generation(userId)).willReturn(3L);
+        given(feedLikeRepository.findFeedIdsByUserId(userId, Limit.of(3))).willReturn(List.of(liked));
+        willThrow(new IllegalStateException("redis down")).given(recentLikeCache).load(userId, List.of(liked), 3L);
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked, other));
+
+        // then
+        assertThat(result).containsExactly(liked);
+    }
+
+    @Test
+    @DisplayName("overflow 표시 실패해도 페이지 단위 일괄 조회로 판단")
+    void resolve_markOverflowFailure_fallsBackToDb() {
+        // given
+        given(recentLikeCache.lookup(userId, List.of(liked))).willReturn(RecentLikeLookup.miss());
+        given(recentLikeCache.generation(userId)).willReturn(3L);
+        given(feedLikeRepository.findFeedIdsByUserId(userId, Limit.of(3)))
+            .willReturn(List.of(liked, UUID.randomUUID(), UUID.randomUUID()));
+        willThrow(new IllegalStateException("redis down")).given(recentLikeCache).markOverflow(userId, 3L);
+        given(feedLikeRepository.findLikedFeedIds(userId, List.of(liked))).willReturn(List.of(liked));
+
+        // when
+        Set<UUID> result = resolver.resolve(userId, List.of(liked));
+
+        // then
+        assertThat(result).containsExactly(liked);
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시 페이지 단위 일괄 조회만 수행")
+    void resolve_cacheDisabled() {
+        // given
+        LikedFeedResolver noCache = new LikedFeedResolver(feedLikeRepository, recentLikeCache, false, 2);
+        given(feedLikeRepository.findLikedFeedIds(userId, List.of(liked, other))).willReturn(List.of(other));
+
+        // when
+        Set<UUID> result = noCache.resolve(userId, List.of(liked, other));
+
+        // then
+        assertThat(result).containsExactly(other);
+        verifyNoInteractions(recentLikeCache);
+    }
+}
@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.sprint.ootd5team.base.security.service.AuthService;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
 import com.sprint.ootd5team.domain.notification.dto.response.NotificationDtoCursorResponse;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
 import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
 import com.sprint.ootd5team.domain.notification.service.NotificationService;
 import java.time.Instant;
@@ -80,6 +81,20 @@ class NotificationControllerTest {
             .andExpect(jsonPath("$.hasNext").value(true));
     }
 
+    @Test
+    void 안읽은_알림수_조회_성공() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        given(authService.getCurrentUserId()).willReturn(userId);
+        given(notificationService.countUnread(userId)).willReturn(new UnreadCountDto(4L));
+
+        // when & then
+        mockMvc.perform(get("/api/notifications/unread-count")
+                .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(4));
+    }
+
     @Test
     void 알림_삭제_요청_성공시_204반환() throws Exception {
         // given
@@ -0,0 +1,69 @@
+package com.sprint.ootd5team.domain.notification.counter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.ootd5team.domain.notification.repository.unread.InMemoryUnreadCountRepository;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadCountRepairJob 단위 테스트")
+class UnreadCountRepairJobTest {
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    private InMemoryUnreadCountRepository unreadCountRepository;
+    private UnreadCountRepairJob repairJob;
+
+    @BeforeEach
+    void setUp() {
+        unreadCountRepository = new InMemoryUnreadCountRepository(Duration.ofHours(1));
+        repairJob = new UnreadCountRepairJob(unreadCountRepository, unreadNotificationCounter, 600_000L, 2);
+        for (int i = 0; i < 5; i++) {
+            unreadCountRepository.initialize(UUID.randomUUID(), 1L);
+        }
+    }
+
+    @Test
+    void 한_주기에_배치_크기만큼만_보정() {
+        // when
+        repairJob.repair();
+
+        // then
+        then(unreadNotificationCounter).should(times(2)).repair(any(UUID.class));
+    }
+
+    @Test
+    void 실행권이_남아있으면_보정하지_않음() {
+        // given
+        repairJob.repair();
+
+        // when
+        repairJob.repair();
+
+        // then
+        then(unreadNotificationCounter).should(times(2)).repair(any(UUID.class));
+    }
+
+    @Test
+    void 다른_인스턴스가_실행권을_가지면_보정하지_않음() {
+        // given
+        unreadCountRepository.tryAcquireRepairLease(Duration.ofMinutes(10));
+
+        // when
+        repairJob.repair();
+
+        // then
+        then(unreadNotificationCounter).should(never()).repair(any(UUID.class));
+    }
+}
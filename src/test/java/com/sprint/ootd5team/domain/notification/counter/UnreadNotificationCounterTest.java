@@ -0,0 +1,173 @@
+package com.sprint.ootd5team.domain.notification.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.notification.dto.response.UnreadCountDto;
+import com.sprint.ootd5team.domain.notification.event.type.UnreadCountChangedEvent;
+import com.sprint.ootd5team.domain.notification.repository.NotificationRepository;
+import com.sprint.ootd5team.domain.notification.repository.unread.InMemoryUnreadCountRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadNotificationCounter 단위 테스트")
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SseService sseService;
+
+    private InMemoryUnreadCountRepository unreadCountRepository;
+    private UnreadNotificationCounter counter;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        unreadCountRepository = new InMemoryUnreadCountRepository(Duration.ofHours(1));
+        counter = new UnreadNotificationCounter(notificationRepository, unreadCountRepository, sseService);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void 최초_조회시에만_COUNT_이후_카운터_사용() {
+        // given
+        given(notificationRepository.countVisibleByReceiverId(userId)).willReturn(3L);
+
+        // when
+        long first = counter.get(userId);
+        long second = counter.get(userId);
+
+        // then
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        then(notificationRepository).should(times(1)).countVisibleByReceiverId(userId);
+    }
+
+    @Test
+    void 증감후_새값을_unread_count_이벤트로_전송() {
+        // given
+        unreadCountRepository.initialize(userId, 2L);
+
+        // when
+        counter.apply(new UnreadCountChangedEvent(List.of(userId), 1));
+
+        // then
+        assertThat(unreadCountRepository.get(userId)).hasValue(3L);
+        then(sseService).should()
+            .sendEach(UnreadNotificationCounter.EVENT_NAME, Map.of(userId, new UnreadCountDto(3L)));
+    }
+
+    @Test
+    void 초기화되지_않은_카운터는_증감과_전송을_건너뜀() {
+        // when
+        counter.apply(new UnreadCountChangedEvent(List.of(userId), 1));
+
+        // then
+        assertThat(unreadCountRepository.get(userId)).isEmpty();
+        then(sseService).should(never()).sendEach(anyString(), anyMap());
+    }
+
+    @Test
+    void 감소는_0_미만으로_내려가지_않음() {
+        // given
+        unreadCountRepository.initialize(userId, 0L);
+
+        // when
+        counter.apply(new UnreadCountChangedEvent(List.of(userId), -1));
+
+        // then
+        assertThat(unreadCountRepository.get(userId)).hasValue(0L);
+    }
+
+    @Test
+    void 전체_알림은_모든_카운터를_비우고_전송하지_않음() {
+        // given
+        unreadCountRepository.initialize(userId, 2L);
+
+        // when
+        counter.apply(UnreadCountChangedEvent.all());
+
+        // then
+        assertThat(unreadCountRepository.sampleUserIds(10)).isEmpty();
+        then(sseService).should(never()).sendEach(anyString(), anyMap());
+    }
+
+    @Test
+    void SSE_전송_실패해도_카운터는_갱신() {
+        // given
+        unreadCountRepository.initialize(userId, 2L);
+        willThrow(new RuntimeException("boom")).given(sseService).sendEach(anyString(), anyMap());
+
+        // when
+        counter.apply(new UnreadCountChangedEvent(List.of(userId), -1));
+
+        // then
+        assertThat(unreadCountRepository.get(userId)).hasValue(1L);
+    }
+
+    @Test
+    void 보정_DB와_다르면_덮어쓰고_전송() {
+        // given
+        unreadCountRepository.initialize(userId, 5L);
+        given(notificationRepository.countVisibleByReceiverId(userId)).willReturn(2L);
+
+        // when
+        boolean repaired = counter.repair(userId);
+
+        // then
+        assertThat(repaired).isTrue();
+        assertThat(unreadCountRepository.get(userId)).hasValue(2L);
+        then(sseService).should()
+            .sendEach(UnreadNotificationCounter.EVENT_NAME, Map.of(userId, new UnreadCountDto(2L)));
+    }
+
+    @Test
+    void 보정_DB와_같으면_그대로_유지() {
+        // given
+        unreadCountRepository.initialize(userId, 2L);
+        given(notificationRepository.countVisibleByReceiverId(userId)).willReturn(2L);
+
+        // when
+        boolean repaired = counter.repair(userId);
+
+        // then
+        assertThat(repaired).isFalse();
+        then(sseService).should(never()).sendEach(anyString(), anyMap());
+    }
+
+    @Test
+    void 보정_중에_증감되면_덮어쓰지_않음() {
+        // given: COUNT 실행 중 새 알림 카운트 반영
+        unreadCountRepository.initialize(userId, 5L);
+        given(notificationRepository.countVisibleByReceiverId(userId)).willAnswer(invocation -> {
+            unreadCountRepository.incrementIfPresent(List.of(userId), 1);
+            return 3L;
+        });
+
+        // when
+        boolean repaired = counter.repair(userId);
+
+        // then
+        assertThat(repaired).isFalse();
+        assertThat(unreadCountRepository.get(userId)).hasValue(6L);
+        then(sseService).should(never()).sendEach(anyString(), anyMap());
+    }
+}
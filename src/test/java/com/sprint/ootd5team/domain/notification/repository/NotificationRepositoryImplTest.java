@@ -3,7 +3,8 @@ package com.sprint.ootd5team.domain.notification.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sprint.ootd5team.base.config.QuerydslConfig;
-import com.sprint.ootd5team.domain.notification.entity.Notification;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -31,30 +32,33 @@ class NotificationRepositoryImplTest {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+
     @Test
     void DESC_정렬_최신순_알림_조회() {
         // when
-        List<Notification> result = notificationRepository.findByUserWithCursor(
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
             RECEIVER_ID, null, null, 2, Direction.DESC
         );
 
         // then
         assertThat(result).hasSize(3);  // +1
-        assertThat(result.get(0).getTitle()).isEqualTo("알림4");
-        assertThat(result.get(1).getTitle()).isEqualTo("알림3");
+        assertThat(result.get(0).title()).isEqualTo("알림4");
+        assertThat(result.get(1).title()).isEqualTo("알림3");
     }
 
     @Test
     void ASC_정렬_오래된순_알림_조회() {
         // when
-        List<Notification> result = notificationRepository.findByUserWithCursor(
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
             RECEIVER_ID, null, null, 2, Direction.ASC
         );
 
         // then
         assertThat(result).hasSize(3);
-        assertThat(result.get(0).getTitle()).isEqualTo("알림1");
-        assertThat(result.get(1).getTitle()).isEqualTo("알림2");
+        assertThat(result.get(0).title()).isEqualTo("알림1");
+        assertThat(result.get(1).title()).isEqualTo("알림2");
     }
 
     @Test
@@ -64,12 +68,12 @@ class NotificationRepositoryImplTest {
         UUID idAfter = UUID.fromString("33333333-3333-3333-3333-333333333333");
 
         // when
-        List<Notification> result = notificationRepository.findByUserWithCursor(
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
             RECEIVER_ID, cursor, idAfter, 10, Direction.DESC
         );
 
         // then
-        assertThat(result).extracting(Notification::getId)
+        assertThat(result).extracting(NotificationDto::id)
             .containsExactlyInAnyOrder(
                 UUID.fromString("11111111-1111-1111-1111-111111111111"),
                 UUID.fromString("22222222-2222-2222-2222-222222222222")
@@ -83,16 +87,111 @@ class NotificationRepositoryImplTest {
         UUID idAfter = UUID.fromString("11111111-1111-1111-1111-111111111111");
 
         // when
-        List<Notification> result = notificationRepository.findByUserWithCursor(
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
             RECEIVER_ID, cursor, idAfter, 10, Direction.ASC
         );
 
         // then
-        assertThat(result).extracting(Notification::getId)
+        assertThat(result).extracting(NotificationDto::id)
             .contains(
                 UUID.fromString("22222222-2222-2222-2222-222222222222"),
                 UUID.fromString("33333333-3333-3333-3333-333333333333"),
                 UUID.fromString("44444444-4444-4444-4444-444444444444")
             );
     }
-}
\ No newline at end of file
+
+    @Test
+    @Sql(scripts = {"classpath:testdata/user-data.sql", "classpath:testdata/notification-data.sql",
+        "classpath:testdata/broadcast-notification-data.sql"})
+    void 개인알림과_전체알림을_합쳐_최신순_조회() {
+        // when
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
+            RECEIVER_ID, null, null, 3, Direction.DESC
+        );
+
+        // then
+        // 가입 전 공지(공지1)와 숨긴 공지(공지3)는 제외
+        assertThat(result).extracting(NotificationDto::title)
+            .containsExactly("공지4", "알림4", "공지2", "알림3");
+        assertThat(result).extracting(NotificationDto::receiverId).containsOnly(RECEIVER_ID);
+        assertThat(notificationRepository.countVisibleByReceiverId(RECEIVER_ID)).isEqualTo(6);
+    }
+
+    @Test
+    @Sql(scripts = {"classpath:testdata/user-data.sql", "classpath:testdata/notification-data.sql",
+        "classpath:testdata/broadcast-notification-data.sql"})
+    void 전체알림도_커서_이후만_조회() {
+        // given
+        Instant cursor = Instant.parse("2024-01-01T09:30:00Z");
+        UUID idAfter = UUID.fromString("bbbbbbbb-0000-0000-0000-000000000002");
+
+        // when
+        List<NotificationDto> result = notificationRepository.findByUserWithCursor(
+            RECEIVER_ID, cursor, idAfter, 10, Direction.DESC
+        );
+
+        // then
+        assertThat(result).extracting(NotificationDto::title)
+            .containsExactly("알림3", "알림2", "알림1");
+    }
+
+    @Test
+    @Sql(scripts = {"classpath:testdata/user-data.sql", "classpath:testdata/notification-data.sql",
+        "classpath:testdata/broadcast-notification-data.sql"})
+    void 가입_이후_전체알림만_볼_수_있음() {
+        assertThat(broadcastNotificationRepository.existsVisibleTo(
+            UUID.fromString("bbbbbbbb-0000-0000-0000-000000000002"), RECEIVER_ID)).isTrue();
+        assertThat(broadcastNotificationRepository.existsVisibleTo(
+            UUID.fromString("bbbbbbbb-0000-0000-0000-000000000001"), RECEIVER_ID)).isFalse();
+        assertThat(broadcastNotificationRepository.existsVisibleTo(
+            UUID.fromString("bbbbbbbb-0000-0000-0000-000000000002"), UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void 일괄저장시_탈퇴한_수신자는_건너뛰고_나머지만_저장() {
+        // given
+        UUID missingReceiverId = UUID.randomUUID();
+        NotificationDto forReceiver = new NotificationDto(UUID.randomUUID(), Instant.parse("2024-02-01T00:00:00Z"),
+            RECEIVER_ID, "일괄", "일괄 알림", NotificationLevel.INFO);
+        NotificationDto forMissing = new NotificationDto(UUID.randomUUID(), Instant.parse("2024-02-01T00:00:00Z"),
+            missingReceiverId, "일괄", "일괄 알림", NotificationLevel.INFO);
+
+        // when
+        List<NotificationDto> inserted = notificationRepository.bulkInsert(List.of(forReceiver, forMissing));
+
+        // then
+        assertThat(inserted).containsExactly(forReceiver);
+        assertThat(notificationRepository.existsById(forReceiver.id())).isTrue();
+        assertThat(notificationRepository.existsById(forMissing.id())).isFalse();
+    }
+
+    @Test
+    void 일괄저장_재처리시_이미_있는_알림은_건너뜀() {
+        // given
+        NotificationDto notification = new NotificationDto(UUID.randomUUID(), Instant.parse("2024-02-01T00:00:00Z"),
+            RECEIVER_ID, "일괄", "일괄 알림", NotificationLevel.INFO);
+        notificationRepository.bulkInsert(List.of(notification));
+
+        // when
+        List<NotificationDto> retried = notificationRepository.bulkInsert(List.of(notification));
+
+        // then
+        assertThat(retried).isEmpty();
+    }
+
+    @Test
+    void 전체알림은_같은_id로_다시_저장해도_한건만_저장() {
+        // given
+        NotificationDto broadcast = new NotificationDto(UUID.randomUUID(), Instant.parse("2024-02-01T00:00:00Z"),
+            null, "공지", "전체 공지", NotificationLevel.INFO);
+
+        // when
+        boolean first = broadcastNotificationRepository.insertIfAbsent(broadcast);
+        boolean retried = broadcastNotificationRepository.insertIfAbsent(broadcast);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(retried).isFalse();
+        assertThat(broadcastNotificationRepository.count()).isEqualTo(1);
+    }
+}
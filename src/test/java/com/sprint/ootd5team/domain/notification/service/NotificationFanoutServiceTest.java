@@ -0,0 +1,199 @@
+package com.sprint.ootd5team.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.notification.dto.data.FanoutCheckpoint;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
+import com.sprint.ootd5team.domain.notification.enums.NotificationTemplateType;
+import com.sprint.ootd5team.domain.notification.event.type.base.DomainEvent;
+import com.sprint.ootd5team.domain.notification.repository.fanout.InMemoryFanoutCheckpointRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationFanoutService 단위 테스트")
+class NotificationFanoutServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final UUID USER_1 = new UUID(0L, 1L);
+    private static final UUID USER_2 = new UUID(0L, 2L);
+    private static final UUID USER_3 = new UUID(0L, 3L);
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private SseService sseService;
+
+    private InMemoryFanoutCheckpointRepository checkpointRepository;
+    private NotificationFanoutService fanoutService;
+    private UUID fanoutId;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository = new InMemoryFanoutCheckpointRepository(Duration.ofHours(1));
+        fanoutService = new NotificationFanoutService(notificationService, sseService,
+            checkpointRepository, CHUNK_SIZE);
+        fanoutId = UUID.randomUUID();
+    }
+
+    @Test
+    void fanout_수신자를_청크로_나눠_일괄저장하고_청크마다_SSE_한번_전송() {
+        // given
+        DomainEvent<?> event = event(List.of(USER_3, USER_1, USER_2, USER_1));
+        givenCreateNotifications();
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        ArgumentCaptor<List<UUID>> chunks = listCaptor();
+        then(notificationService).should(times(2)).createNotifications(eq(fanoutId), chunks.capture(),
+            eq(NotificationTemplateType.FEED_FOLLOW_CREATED), eq(NotificationLevel.INFO), any());
+        assertThat(chunks.getAllValues()).containsExactly(List.of(USER_1, USER_2), List.of(USER_3));
+
+        ArgumentCaptor<Map<UUID, NotificationDto>> sent = mapCaptor();
+        then(sseService).should(times(2)).sendEach(eq(NotificationFanoutService.EVENT_NAME), sent.capture());
+        assertThat(sent.getAllValues().get(0)).containsOnlyKeys(USER_1, USER_2);
+        assertThat(sent.getAllValues().get(1)).containsOnlyKeys(USER_3);
+
+        assertThat(checkpointRepository.find(fanoutId)).contains(FanoutCheckpoint.done());
+    }
+
+    @Test
+    void fanout_체크포인트_이후_수신자부터_재개() {
+        // given
+        checkpointRepository.save(fanoutId, FanoutCheckpoint.progress(USER_2));
+        DomainEvent<?> event = event(List.of(USER_1, USER_2, USER_3));
+        givenCreateNotifications();
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        then(notificationService).should().createNotifications(eq(fanoutId), eq(List.of(USER_3)),
+            any(), any(), any());
+        assertThat(checkpointRepository.find(fanoutId)).contains(FanoutCheckpoint.done());
+    }
+
+    @Test
+    void fanout_완료된_이벤트는_건너뜀() {
+        // given
+        checkpointRepository.save(fanoutId, FanoutCheckpoint.done());
+        DomainEvent<?> event = mock(DomainEvent.class);
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        then(notificationService).shouldHaveNoInteractions();
+        then(sseService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void fanout_수신자가_없으면_전체알림_한건만_저장하고_브로드캐스트() {
+        // given
+        DomainEvent<?> event = event(List.of());
+        NotificationDto broadcast = new NotificationDto(UUID.randomUUID(), Instant.now(), null, "제목", "내용",
+            NotificationLevel.INFO);
+        given(notificationService.createBroadcastNotification(eq(fanoutId), any(), any(), any()))
+            .willReturn(broadcast);
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        then(notificationService).should().createBroadcastNotification(eq(fanoutId),
+            eq(NotificationTemplateType.FEED_FOLLOW_CREATED), eq(NotificationLevel.INFO), any());
+        then(notificationService).should(never()).createNotifications(any(), anyList(), any(), any(), any());
+        then(sseService).should().broadcast(NotificationFanoutService.EVENT_NAME, broadcast);
+        assertThat(checkpointRepository.find(fanoutId)).contains(FanoutCheckpoint.done());
+    }
+
+    @Test
+    void fanout_SSE_전송에_실패해도_다음_청크_진행() {
+        // given
+        DomainEvent<?> event = event(List.of(USER_1, USER_2, USER_3));
+        givenCreateNotifications();
+        willThrow(new RuntimeException("sse down")).given(sseService).sendEach(any(), anyMap());
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        then(notificationService).should(times(2)).createNotifications(any(), anyList(), any(), any(),
+            any());
+        assertThat(checkpointRepository.find(fanoutId)).contains(FanoutCheckpoint.done());
+    }
+
+    @Test
+    void fanout_탈퇴한_수신자는_저장되지_않아도_청크_완료하고_SSE_제외() {
+        // given
+        DomainEvent<?> event = event(List.of(USER_1, USER_2));
+        // USER_2 는 그 사이 탈퇴 → 저장 결과에서 빠짐
+        given(notificationService.createNotifications(any(), anyList(), any(), any(), any()))
+            .willReturn(List.of(new NotificationDto(UUID.randomUUID(), Instant.now(), USER_1, "제목", "내용",
+                NotificationLevel.INFO)));
+
+        // when
+        fanoutService.fanout(fanoutId, event);
+
+        // then
+        ArgumentCaptor<Map<UUID, NotificationDto>> sent = mapCaptor();
+        then(sseService).should().sendEach(eq(NotificationFanoutService.EVENT_NAME), sent.capture());
+        assertThat(sent.getValue()).containsOnlyKeys(USER_1);
+        assertThat(checkpointRepository.find(fanoutId)).contains(FanoutCheckpoint.done());
+    }
+
+    private DomainEvent<?> event(List<UUID> receiverIds) {
+        DomainEvent<?> event = mock(DomainEvent.class);
+        given(event.getReceiverIds()).willReturn(receiverIds);
+        given(event.getTemplateType()).willReturn(NotificationTemplateType.FEED_FOLLOW_CREATED);
+        given(event.getLevel()).willReturn(NotificationLevel.INFO);
+        given(event.getArgs()).willReturn(new Object[]{"작성자"});
+        return event;
+    }
+
+    private void givenCreateNotifications() {
+        given(notificationService.createNotifications(any(), anyList(), any(), any(), any()))
+            .willAnswer(inv -> {
+                List<UUID> receiverIds = inv.getArgument(1);
+                return receiverIds.stream()
+                    .map(id -> new NotificationDto(UUID.randomUUID(), Instant.now(), id, "제목", "내용",
+                        NotificationLevel.INFO))
+                    .toList();
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<UUID>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<Map<UUID, NotificationDto>> mapCaptor() {
+        return ArgumentCaptor.forClass(Map.class);
+    }
+}
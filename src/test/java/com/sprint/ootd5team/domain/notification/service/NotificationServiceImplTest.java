@@ -2,32 +2,46 @@ package com.sprint.ootd5team.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.sprint.ootd5team.base.exception.notification.NotificationNotFoundException;
+import com.sprint.ootd5team.domain.notification.counter.UnreadNotificationCounter;
+import com.sprint.ootd5team.domain.notification.dto.response.NotificationDto;
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotification;
+import com.sprint.ootd5team.domain.notification.entity.BroadcastNotificationDismissal;
 import com.sprint.ootd5team.domain.notification.entity.Notification;
 import com.sprint.ootd5team.domain.notification.enums.NotificationLevel;
 import com.sprint.ootd5team.domain.notification.fixture.NotificationFixture;
 import com.sprint.ootd5team.domain.notification.enums.NotificationTemplateType;
+import com.sprint.ootd5team.domain.notification.event.type.UnreadCountChangedEvent;
 import com.sprint.ootd5team.domain.notification.fixture.NotificationFixture;
 import com.sprint.ootd5team.domain.notification.mapper.NotificationMapper;
+import com.sprint.ootd5team.domain.notification.repository.BroadcastNotificationDismissalRepository;
+import com.sprint.ootd5team.domain.notification.repository.BroadcastNotificationRepository;
 import com.sprint.ootd5team.domain.notification.repository.NotificationRepository;
 import com.sprint.ootd5team.domain.user.entity.User;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.security.access.AccessDeniedException;
 
@@ -44,6 +58,18 @@ class NotificationServiceImplTest {
     @Mock
     private EntityManager entityManager;
 
+    @Mock
+    private BroadcastNotificationRepository broadcastNotificationRepository;
+
+    @Mock
+    private BroadcastNotificationDismissalRepository dismissalRepository;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -57,13 +83,13 @@ class NotificationServiceImplTest {
     @Test
     void 조회_결과가_limit_이하이면_hasNext_false_nextCursor_null() {
         // given
-        var notifications = NotificationFixture.createTestNotifications(user).subList(0, 2);
+        var notifications = NotificationFixture.createTestNotifications(user).subList(0, 2).stream()
+            .map(NotificationFixture::toDto)
+            .toList();
         given(notificationRepository.findByUserWithCursor(eq(user.getId()), any(), any(), eq(3),
             eq(Direction.DESC)))
             .willReturn(notifications);
-        given(notificationRepository.countByReceiverId(user.getId())).willReturn(2L);
-        given(notificationMapper.toDto(any(Notification.class)))
-            .willAnswer(inv -> NotificationFixture.toDto(inv.getArgument(0)));
+        given(unreadNotificationCounter.get(user.getId())).willReturn(2L);
 
         // when
         var response = notificationService.findAll(user.getId(), null, null, 3, Direction.DESC);
@@ -79,23 +105,25 @@ class NotificationServiceImplTest {
     @Test
     void 조회_결과가_limit초과이면_hasNext_true__nextCursor_nextIdAfter_세팅() {
         // given
-        var notifications = NotificationFixture.createTestNotifications(user);
+        var notifications = NotificationFixture.createTestNotifications(user).stream()
+            .map(NotificationFixture::toDto)
+            .toList();
 
         given(notificationRepository.findByUserWithCursor(eq(user.getId()), any(), any(), eq(2),
             eq(Direction.DESC)))
             .willReturn(notifications); // limit+1
-        given(notificationRepository.countByReceiverId(user.getId())).willReturn(3L);
-        given(notificationMapper.toDto(any(Notification.class)))
-            .willAnswer(inv -> NotificationFixture.toDto(inv.getArgument(0)));
+        given(unreadNotificationCounter.get(user.getId())).willReturn(3L);
 
         // when
         var response = notificationService.findAll(user.getId(), null, null, 2, Direction.DESC);
 
         // then
+        assertThat(response.totalCount()).isEqualTo(3L);
+        then(notificationRepository).should(never()).countVisibleByReceiverId(any());
         assertThat(response.hasNext()).isTrue();
         assertThat(response.data()).hasSize(2);
-        assertThat(response.nextCursor()).isEqualTo(notifications.get(1).getCreatedAt().toString());
-        assertThat(response.nextIdAfter()).isEqualTo(notifications.get(1).getId().toString());
+        assertThat(response.nextCursor()).isEqualTo(notifications.get(1).createdAt().toString());
+        assertThat(response.nextIdAfter()).isEqualTo(notifications.get(1).id().toString());
     }
 
     @Test
@@ -110,6 +138,7 @@ class NotificationServiceImplTest {
 
         // then
         then(notificationRepository).should().delete(notification);
+        then(eventPublisher).should().publishEvent(new UnreadCountChangedEvent(List.of(user.getId()), -1));
     }
 
     @Test
@@ -123,6 +152,57 @@ class NotificationServiceImplTest {
             .isInstanceOf(NotificationNotFoundException.class);
     }
 
+    @Test
+    void 전체_알림_삭제시_행을_지우지_않고_숨김표시만_생성() {
+        // given
+        UUID broadcastId = UUID.randomUUID();
+        given(notificationRepository.findById(broadcastId)).willReturn(Optional.empty());
+        given(broadcastNotificationRepository.existsVisibleTo(broadcastId, user.getId())).willReturn(true);
+        given(dismissalRepository.existsByBroadcastIdAndUserId(broadcastId, user.getId())).willReturn(false);
+
+        // when
+        notificationService.delete(user.getId(), broadcastId);
+
+        // then
+        ArgumentCaptor<BroadcastNotificationDismissal> captor =
+            ArgumentCaptor.forClass(BroadcastNotificationDismissal.class);
+        then(dismissalRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getBroadcastId()).isEqualTo(broadcastId);
+        assertThat(captor.getValue().getUserId()).isEqualTo(user.getId());
+        then(broadcastNotificationRepository).should(never()).deleteById(any());
+        then(eventPublisher).should().publishEvent(new UnreadCountChangedEvent(List.of(user.getId()), -1));
+    }
+
+    @Test
+    void 가입_전_전체_알림은_숨길_수_없음() {
+        // given
+        UUID broadcastId = UUID.randomUUID();
+        given(notificationRepository.findById(broadcastId)).willReturn(Optional.empty());
+        given(broadcastNotificationRepository.existsVisibleTo(broadcastId, user.getId())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> notificationService.delete(user.getId(), broadcastId))
+            .isInstanceOf(NotificationNotFoundException.class);
+        then(dismissalRepository).should(never()).save(any());
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 이미_숨긴_전체_알림은_다시_저장하지_않음() {
+        // given
+        UUID broadcastId = UUID.randomUUID();
+        given(notificationRepository.findById(broadcastId)).willReturn(Optional.empty());
+        given(broadcastNotificationRepository.existsVisibleTo(broadcastId, user.getId())).willReturn(true);
+        given(dismissalRepository.existsByBroadcastIdAndUserId(broadcastId, user.getId())).willReturn(true);
+
+        // when
+        notificationService.delete(user.getId(), broadcastId);
+
+        // then
+        then(dismissalRepository).should(never()).save(any());
+        then(eventPublisher).should(never()).publishEvent(any(Object.class));
+    }
+
     @Test
     void 본인_알림이_아니면_AccessDeniedException_발생() {
         // given
@@ -167,6 +247,7 @@ class NotificationServiceImplTest {
 
         then(notificationRepository).should().save(any(Notification.class));
         then(notificationMapper).should().toDto(any(Notification.class));
+        then(eventPublisher).should().publishEvent(new UnreadCountChangedEvent(List.of(receiverId), 1));
     }
 
     @Test
@@ -186,4 +267,105 @@ class NotificationServiceImplTest {
         )).isInstanceOf(EntityNotFoundException.class);
     }
 
+    @Test
+    @DisplayName("알림 일괄 생성 - 같은 fanoutId 로 다시 만들면 같은 알림 id")
+    void 알림_일괄생성_성공() {
+        // given
+        UUID fanoutId = UUID.randomUUID();
+        List<UUID> receiverIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(notificationRepository.bulkInsert(anyList())).willAnswer(returnsFirstArg());
+
+        // when
+        List<NotificationDto> first = notificationService.createNotifications(
+            fanoutId, receiverIds, NotificationTemplateType.ROLE_UPDATED, NotificationLevel.INFO,
+            "USER", "ADMIN");
+        List<NotificationDto> retried = notificationService.createNotifications(
+            fanoutId, receiverIds, NotificationTemplateType.ROLE_UPDATED, NotificationLevel.INFO,
+            "USER", "ADMIN");
+
+        // then
+        assertThat(first).extracting(NotificationDto::receiverId).containsExactlyElementsOf(receiverIds);
+        assertThat(first).extracting(NotificationDto::title)
+            .containsOnly(NotificationTemplateType.ROLE_UPDATED.formatTitle("USER", "ADMIN"));
+        assertThat(first).extracting(NotificationDto::id).doesNotHaveDuplicates()
+            .containsExactlyElementsOf(retried.stream().map(NotificationDto::id).toList());
+        then(notificationRepository).should(times(2)).bulkInsert(anyList());
+        then(eventPublisher).should(times(2)).publishEvent(new UnreadCountChangedEvent(receiverIds, 1));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 생성 - 실제로 저장된 수신자만 안 읽은 수 증가")
+    void 알림_일괄생성_저장된_수신자만_카운트() {
+        // given
+        List<UUID> receiverIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        given(notificationRepository.bulkInsert(anyList()))
+            .willAnswer(invocation -> List.of(invocation.<List<NotificationDto>>getArgument(0).get(0)))
+            .willReturn(List.of());
+
+        // when
+        notificationService.createNotifications(UUID.randomUUID(), receiverIds,
+            NotificationTemplateType.ROLE_UPDATED, NotificationLevel.INFO, "USER", "ADMIN");
+        notificationService.createNotifications(UUID.randomUUID(), receiverIds,
+            NotificationTemplateType.ROLE_UPDATED, NotificationLevel.INFO, "USER", "ADMIN");
+
+        // then
+        then(eventPublisher).should().publishEvent(new UnreadCountChangedEvent(List.of(receiverIds.get(0)), 1));
+        then(eventPublisher).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("전체 알림은 사용자 수와 무관하게 fanoutId 로 1건만 저장")
+    void 전체_알림_생성_성공() {
+        // given
+        UUID fanoutId = UUID.randomUUID();
+        given(broadcastNotificationRepository.insertIfAbsent(any(NotificationDto.class))).willReturn(true);
+
+        // when
+        NotificationDto result = notificationService.createBroadcastNotification(
+            fanoutId, NotificationTemplateType.CLOTHES_ATTRIBUTE_CREATED, NotificationLevel.INFO, "소재");
+
+        // then
+        assertThat(result.id()).isEqualTo(fanoutId);
+        assertThat(result.receiverId()).isNull();
+        assertThat(result.title()).isEqualTo(NotificationTemplateType.CLOTHES_ATTRIBUTE_CREATED.formatTitle("소재"));
+        then(broadcastNotificationRepository).should().insertIfAbsent(result);
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(eventPublisher).should().publishEvent(UnreadCountChangedEvent.all());
+    }
+
+    @Test
+    @DisplayName("전체 알림 재처리 시 기존 알림을 반환하고 다시 저장 / 카운터 갱신하지 않음")
+    void 전체_알림_재처리() {
+        // given
+        UUID fanoutId = UUID.randomUUID();
+        NotificationDto existing = new NotificationDto(fanoutId, Instant.parse("2025-01-01T00:00:00Z"), null,
+            "제목", "내용", NotificationLevel.INFO);
+        BroadcastNotification entity = BroadcastNotification.builder().build();
+        given(broadcastNotificationRepository.insertIfAbsent(any(NotificationDto.class))).willReturn(false);
+        given(broadcastNotificationRepository.findById(fanoutId)).willReturn(Optional.of(entity));
+        given(notificationMapper.toDto(entity)).willReturn(existing);
+
+        // when
+        NotificationDto result = notificationService.createBroadcastNotification(
+            fanoutId, NotificationTemplateType.CLOTHES_ATTRIBUTE_CREATED, NotificationLevel.INFO, "소재");
+
+        // then
+        assertThat(result).isEqualTo(existing);
+        then(eventPublisher).should(never()).publishEvent(any(UnreadCountChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("안 읽은 알림 수는 카운터에서 조회")
+    void 안읽은_알림수_조회_성공() {
+        // given
+        given(unreadNotificationCounter.get(user.getId())).willReturn(5L);
+
+        // when
+        var result = notificationService.countUnread(user.getId());
+
+        // then
+        assertThat(result.count()).isEqualTo(5L);
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
 }
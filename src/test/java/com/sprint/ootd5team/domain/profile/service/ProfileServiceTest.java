@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.base.storage.FileStorage;
+import com.sprint.ootd5team.domain.feed.event.type.FeedAuthorUpdatedEvent;
 import com.sprint.ootd5team.domain.location.repository.LocationRepository;
 import com.sprint.ootd5team.domain.profile.dto.data.ProfileUpdateRequest;
 import com.sprint.ootd5team.domain.profile.dto.request.ProfileDto;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -48,6 +50,9 @@ public class ProfileServiceTest {
     @Mock
     LocationRepository locationRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     ProfileServiceImpl profileService;
 
@@ -138,6 +143,7 @@ public class ProfileServiceTest {
         verify(profileRepository).findByUserId(testUserId);
         verify(profileRepository).save(testProfile);
         verify(profileMapper).toDto(testProfile);
+        verify(eventPublisher).publishEvent(new FeedAuthorUpdatedEvent(testUserId, "변경이름", null));
     }
 
     @Test
@@ -51,7 +51,7 @@ class RecommendationControllerTest {
             .build();
 
         given(authService.getCurrentUserId()).willReturn(userId);
-        given(recommendationService.getRecommendation(weatherId, userId, false)).willReturn(
+        given(recommendationService.getRecommendation(weatherId, userId, false, false)).willReturn(
             response);
 
         // when
@@ -62,7 +62,7 @@ class RecommendationControllerTest {
         // then
         result.andExpect(status().isOk());
         verify(authService).getCurrentUserId();
-        verify(recommendationService).getRecommendation(weatherId, userId, false);
+        verify(recommendationService).getRecommendation(weatherId, userId, false, false);
     }
 
     @Test
@@ -78,7 +78,7 @@ class RecommendationControllerTest {
             .build();
 
         given(authService.getCurrentUserId()).willReturn(userId);
-        given(recommendationService.getRecommendation(weatherId, userId, false)).willReturn(
+        given(recommendationService.getRecommendation(weatherId, userId, false, false)).willReturn(
             response);
 
         // when
@@ -91,7 +91,7 @@ class RecommendationControllerTest {
             .andExpect(jsonPath("$.weatherId").value(weatherId.toString()))
             .andExpect(jsonPath("$.userId").value(userId.toString()));
         verify(authService).getCurrentUserId();
-        verify(recommendationService).getRecommendation(weatherId, userId, false);
+        verify(recommendationService).getRecommendation(weatherId, userId, false, false);
     }
 
     @Test
@@ -0,0 +1,98 @@
+package com.sprint.ootd5team.domain.recommendation.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
+import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
+import com.sprint.ootd5team.domain.recommendation.enums.Color;
+import com.sprint.ootd5team.domain.recommendation.enums.ColorTone;
+import com.sprint.ootd5team.domain.recommendation.enums.Material;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.OuterType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ClothesFeatureExtractor 단위 테스트")
+class ClothesFeatureExtractorTest {
+
+    private final ClothesFeatureExtractor extractor = new ClothesFeatureExtractor();
+
+    @Test
+    void 속성값과_이름으로_특징값_추출() {
+        // given
+        UUID clothesId = UUID.randomUUID();
+        Clothes clothes = mockClothes(clothesId, "네이비 울 니트", ClothesType.TOP, List.of(
+            mockValue("색상", "네이비"),
+            mockValue("소재", "울"),
+            mockValue("스타일", "캐주얼"),
+            mockValue("계절", "가을/겨울")
+        ));
+
+        // when
+        ClothesFeature feature = extractor.extract(clothes);
+
+        // then
+        assertThat(feature.getClothesId()).isEqualTo(clothesId);
+        assertThat(feature.isVersion(ClothesFeatureExtractor.FEATURE_VERSION)).isTrue();
+        assertThat(feature.getColor()).isEqualTo(Color.NAVY);
+        assertThat(feature.getColorTone()).isEqualTo(ColorTone.COOL);
+        assertThat(feature.getMaterial()).isEqualTo(Material.WOOL);
+        assertThat(feature.getStyle()).isEqualTo(ClothesStyle.CASUAL);
+        assertThat(feature.getTopType()).isEqualTo(TopType.KNIT);
+        assertThat(feature.getBottomType()).isEqualTo(BottomType.COTTON_PANTS);
+        assertThat(feature.getOuterType()).isEqualTo(OuterType.OTHER);
+        assertThat(feature.seasonSet()).containsExactlyInAnyOrder(Season.AUTUMN, Season.WINTER);
+    }
+
+    @Test
+    void 속성이_없으면_기본값() {
+        // given
+        Clothes clothes = mockClothes(UUID.randomUUID(), "이름없는 아이템", ClothesType.BAG, List.of());
+
+        // when
+        ClothesFeature feature = extractor.extract(clothes);
+
+        // then
+        assertThat(feature.getColor()).isEqualTo(Color.OTHER);
+        assertThat(feature.getMaterial()).isEqualTo(Material.OTHER);
+        assertThat(feature.getStyle()).isEqualTo(ClothesStyle.OTHER);
+        assertThat(feature.seasonSet()).isEmpty();
+    }
+
+    @Test
+    void 계절_토큰_파싱() {
+        assertThat(extractor.parseSeasons("봄, Summer")).containsExactlyInAnyOrder(Season.SPRING, Season.SUMMER);
+        assertThat(extractor.parseSeasons("사계절")).containsExactly(Season.OTHER);
+        assertThat(extractor.parseSeasons("없는값")).isEmpty();
+        assertThat(extractor.parseSeasons(null)).isEmpty();
+    }
+
+    private Clothes mockClothes(UUID id, String name, ClothesType type, List<ClothesAttributeValue> values) {
+        Clothes clothes = mock(Clothes.class);
+        given(clothes.getId()).willReturn(id);
+        given(clothes.getName()).willReturn(name);
+        given(clothes.getType()).willReturn(type);
+        given(clothes.getClothesAttributeValues()).willReturn(values);
+        return clothes;
+    }
+
+    private ClothesAttributeValue mockValue(String attrName, String value) {
+        ClothesAttribute attribute = mock(ClothesAttribute.class);
+        given(attribute.getName()).willReturn(attrName);
+
+        ClothesAttributeValue cav = mock(ClothesAttributeValue.class);
+        given(cav.getAttribute()).willReturn(attribute);
+        given(cav.getDefValue()).willReturn(value);
+        return cav;
+    }
+}
@@ -18,10 +18,12 @@ import org.junit.jupiter.api.Test;
 @DisplayName("OutfitCombinationGenerator 단위 테스트")
 class OutfitCombinationGeneratorEngineTest {
 
+    private final RecommendationParallelExecutor parallelExecutor = RecommendationParallelExecutor.sequential();
+
     @Test
     void 상하의_기본_조합생성_및_확장가능() {
         // given
-        OutfitCombinationGenerator generator = new OutfitCombinationGenerator();
+        OutfitCombinationGenerator generator = new OutfitCombinationGenerator(parallelExecutor);
 
         List<ClothesScore> candidates = new ArrayList<>();
         candidates.add(mockScore("화이트 셔츠", ClothesType.TOP, 70));
@@ -58,7 +60,7 @@ class OutfitCombinationGeneratorEngineTest {
     @Test
     void 원피스_기본_조합생성_및_확장가능() {
         // given
-        OutfitCombinationGenerator generator = new OutfitCombinationGenerator();
+        OutfitCombinationGenerator generator = new OutfitCombinationGenerator(parallelExecutor);
 
         ClothesScore dress1 = mockScore("핑크 플로럴 원피스", ClothesType.DRESS, 70);
         ClothesScore dress2 = mockScore("베이지 니트 원피스", ClothesType.DRESS, 68);
@@ -85,6 +87,55 @@ class OutfitCombinationGeneratorEngineTest {
             );
     }
 
+    @Test
+    void 빔_폭만큼만_점수순으로_유지() {
+        // given
+        OutfitCombinationGenerator generator = new OutfitCombinationGenerator(parallelExecutor);
+
+        List<ClothesScore> candidates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            candidates.add(mockScore("상의" + i, ClothesType.TOP, 60 + i));
+            candidates.add(mockScore("하의" + i, ClothesType.BOTTOM, 50 + i));
+        }
+        candidates.add(mockScore("블랙 자켓", ClothesType.OUTER, 72));
+
+        // when
+        List<OutfitScore> result = generator.generateWithScoring(candidates);
+
+        // then
+        assertThat(result).hasSize(10);
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i - 1).normalizedScore())
+                .isGreaterThanOrEqualTo(result.get(i).normalizedScore());
+        }
+    }
+
+    @Test
+    void 결과_점수는_아이템_순차_추가_점수와_일치() {
+        // given
+        OutfitCombinationGenerator generator = new OutfitCombinationGenerator(parallelExecutor);
+
+        List<ClothesScore> candidates = List.of(
+            mockScore("화이트 셔츠", ClothesType.TOP, 70),
+            mockScore("블루 진", ClothesType.BOTTOM, 65),
+            mockScore("블랙 슬랙스", ClothesType.BOTTOM, 60),
+            mockScore("블랙 자켓", ClothesType.OUTER, 72),
+            mockScore("블랙 로퍼", ClothesType.SHOES, 65)
+        );
+
+        // when
+        List<OutfitScore> result = generator.generateWithScoring(candidates);
+
+        // then
+        assertThat(result).isNotEmpty();
+        assertThat(result).allSatisfy(outfit -> {
+            OutfitScore rebuilt = new OutfitScore();
+            outfit.getItems().forEach(rebuilt::add);
+            assertThat(outfit.getTotalScore()).isEqualTo(rebuilt.getTotalScore());
+            assertThat(outfit.normalizedScore()).isEqualTo(rebuilt.normalizedScore());
+        });
+    }
+
     private ClothesFilteredDto mockItem(String name, ClothesType type) {
         ClothesFilteredDto dto = mock(ClothesFilteredDto.class);
         doReturn(name).when(dto).name();
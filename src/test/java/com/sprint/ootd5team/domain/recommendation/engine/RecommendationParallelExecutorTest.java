@@ -0,0 +1,109 @@
+package com.sprint.ootd5team.domain.recommendation.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.recommendation.engine.RecommendationParallelExecutor.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecommendationParallelExecutor 단위 테스트")
+class RecommendationParallelExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecommendationParallelExecutor executor =
+        new RecommendationParallelExecutor(true, 2, 100, 10, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 임계값_이상이면_병렬_실행_결과는_작업_순서() {
+        // given
+        List<Supplier<String>> tasks = List.of(
+            () -> Thread.currentThread().getName(),
+            () -> "second"
+        );
+
+        // when
+        List<String> results = executor.invokeAll(Stage.SCORING, 100, tasks);
+
+        // then
+        assertThat(results.get(0)).startsWith("recommendation-engine-");
+        assertThat(results.get(1)).isEqualTo("second");
+        assertThat(executionCount(Stage.SCORING, "parallel")).isEqualTo(1);
+    }
+
+    @Test
+    void 임계값_미만이면_호출_스레드에서_순차_실행() {
+        // given
+        String caller = Thread.currentThread().getName();
+        List<Supplier<String>> tasks = List.of(
+            () -> Thread.currentThread().getName(),
+            () -> Thread.currentThread().getName()
+        );
+
+        // when
+        List<String> results = executor.invokeAll(Stage.OUTFIT, 9, tasks);
+
+        // then
+        assertThat(results).containsExactly(caller, caller);
+        assertThat(executionCount(Stage.OUTFIT, "sequential")).isEqualTo(1);
+    }
+
+    @Test
+    void 기본_임계값은_계절_필터_후보_풀_크기_안에서_동작() {
+        // given: 기본 설정값, 계절 필터는 타입별 최대 10개 후보
+        RecommendationParallelExecutor defaults =
+            new RecommendationParallelExecutor(true, 2, 60, 40, new SimpleMeterRegistry());
+        int fullPool = 10 * ClothesType.values().length;
+
+        try {
+            // when & then
+            assertThat(defaults.isParallel(Stage.SCORING, fullPool, ClothesType.values().length)).isTrue();
+            assertThat(defaults.isParallel(Stage.SCORING, 60, 6)).isTrue();
+            assertThat(defaults.isParallel(Stage.SCORING, 59, 6)).isFalse();
+        } finally {
+            defaults.shutdown();
+        }
+    }
+
+    @Test
+    void 비활성화_상태면_항상_순차_실행() {
+        RecommendationParallelExecutor sequential = RecommendationParallelExecutor.sequential();
+
+        assertThat(sequential.isParallel(Stage.SCORING, Integer.MAX_VALUE, 10)).isFalse();
+        assertThat(executor.isParallel(Stage.SCORING, 1_000, 1)).isFalse();
+    }
+
+    @Test
+    void 병렬_작업_예외는_원래_예외로_전달() {
+        // given
+        List<Supplier<String>> tasks = List.of(
+            () -> "ok",
+            () -> {
+                throw new IllegalStateException("boom");
+            }
+        );
+
+        // when & then
+        assertThatThrownBy(() -> executor.invokeAll(Stage.SCORING, 100, tasks))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("boom");
+    }
+
+    private long executionCount(Stage stage, String path) {
+        return meterRegistry.get("recommendation.engine.execution")
+            .tag("stage", stage.name().toLowerCase())
+            .tag("path", path)
+            .timer()
+            .count();
+    }
+}
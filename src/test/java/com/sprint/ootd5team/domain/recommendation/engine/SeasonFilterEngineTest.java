@@ -9,6 +9,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sprint.ootd5team.domain.clothes.entity.Clothes;
 import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
 import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
@@ -16,9 +17,12 @@ import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
 import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.model.CandidatePoolKey;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
 import com.sprint.ootd5team.domain.recommendation.fixture.RecommendationFixture;
+import com.sprint.ootd5team.domain.recommendation.service.ClothesFeatureService;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,10 +43,13 @@ class SeasonFilterEngineTest {
     @Mock
     RecommendationMapper recommendationMapper;
 
+    @Mock
+    ClothesFeatureService clothesFeatureService;
+
     @Test
     void 가을기준_계절속성_필터링() {
         // given
-        SeasonFilterEngine engine = new SeasonFilterEngine(clothesRepository, recommendationMapper);
+        SeasonFilterEngine engine = newEngine();
         UUID userId = UUID.randomUUID();
         RecommendationInfoDto info = RecommendationFixture.coldInfo();
 
@@ -85,13 +92,14 @@ class SeasonFilterEngineTest {
 
         List<UUID> filteredIds = List.of(springAutumn.getId(), autumnOnly.getId());
         List<Clothes> clothesList = List.of(springAutumn, autumnOnly);
-        given(clothesRepository.findClothesIdsBySeasonFilter(eq(userId), any(String[].class), eq(true)))
+        given(clothesRepository.findClothesIdsBySeasonFilter(eq(userId), anyList(), any(String[].class), eq(true)))
             .willReturn(filteredIds);
         given(clothesRepository.findAllWithAttributesByIds(filteredIds))
             .willReturn(clothesList);
         ClothesFilteredDto dto1 = mock(ClothesFilteredDto.class);
         ClothesFilteredDto dto2 = mock(ClothesFilteredDto.class);
-        given(recommendationMapper.toFilteredDto(any())).willReturn(dto1, dto2);
+        given(clothesFeatureService.findCurrentByClothesIds(filteredIds)).willReturn(Map.of());
+        given(recommendationMapper.toFilteredDto(any(), any())).willReturn(dto1, dto2);
 
         // when
         List<ClothesFilteredDto> result = engine.getFilteredClothes(userId, info);
@@ -101,10 +109,50 @@ class SeasonFilterEngineTest {
             .hasSize(2);
 
         verify(clothesRepository, times(1))
-            .findClothesIdsBySeasonFilter(eq(userId), any(String[].class), eq(true));
+            .findClothesIdsBySeasonFilter(eq(userId), anyList(), any(String[].class), eq(true));
         verify(clothesRepository, times(1))
             .findAllWithAttributesByIds(anyList());
+        verify(clothesFeatureService, times(1))
+            .findCurrentByClothesIds(filteredIds);
         verify(recommendationMapper, times(2))
-            .toFilteredDto(any());
+            .toFilteredDto(any(), any());
+    }
+
+    @Test
+    void 같은_사용자_계절조합은_후보풀_캐시_사용() {
+        // given
+        SeasonFilterEngine engine = newEngine();
+        UUID userId = UUID.randomUUID();
+        RecommendationInfoDto info = RecommendationFixture.coldInfo();
+
+        Clothes clothes = mock(Clothes.class);
+        UUID clothesId = UUID.randomUUID();
+        given(clothes.getId()).willReturn(clothesId);
+        List<UUID> filteredIds = List.of(clothesId);
+
+        given(clothesRepository.findClothesIdsBySeasonFilter(eq(userId), anyList(), any(String[].class), eq(true)))
+            .willReturn(filteredIds);
+        given(clothesRepository.findAllWithAttributesByIds(filteredIds)).willReturn(List.of(clothes));
+        given(clothesFeatureService.findCurrentByClothesIds(filteredIds)).willReturn(Map.of());
+        given(recommendationMapper.toFilteredDto(any(), any())).willReturn(mock(ClothesFilteredDto.class));
+
+        // when
+        List<ClothesFilteredDto> first = engine.getFilteredClothes(userId, info);
+        List<ClothesFilteredDto> second = engine.getFilteredClothes(userId, info);
+
+        // then
+        assertThat(first).hasSize(1);
+        assertThat(second).hasSize(1);
+        verify(clothesRepository, times(1))
+            .findClothesIdsBySeasonFilter(eq(userId), anyList(), any(String[].class), eq(true));
+        verify(clothesRepository, times(1))
+            .findAllWithAttributesByIds(anyList());
+        verify(recommendationMapper, times(1))
+            .toFilteredDto(any(), any());
+    }
+
+    private SeasonFilterEngine newEngine() {
+        return new SeasonFilterEngine(clothesRepository, recommendationMapper, clothesFeatureService,
+            Caffeine.newBuilder().<CandidatePoolKey, List<ClothesFilteredDto>>build());
     }
-}
\ No newline at end of file
+}
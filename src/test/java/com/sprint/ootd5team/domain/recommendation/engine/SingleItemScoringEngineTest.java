@@ -25,12 +25,14 @@ import org.junit.jupiter.api.Test;
 @DisplayName("SingleItemScoringEngine 단위 테스트")
 class SingleItemScoringEngineTest {
 
+    private final RecommendationParallelExecutor parallelExecutor = RecommendationParallelExecutor.sequential();
+
     private int MAX_ITEMS_PER_TYPE = 5;
 
     @Test
     void 모든컴포넌트_null이면_기준점50() {
         // given
-        SingleItemScoringEngine engine = new SingleItemScoringEngine();
+        SingleItemScoringEngine engine = new SingleItemScoringEngine(parallelExecutor);
         RecommendationInfoDto info = RecommendationFixture.defaultInfo();
 
         ClothesFilteredDto dto = mock(ClothesFilteredDto.class);
@@ -47,7 +49,7 @@ class SingleItemScoringEngineTest {
     @Test
     void 속성별_점수_모두적용() {
         // given
-        SingleItemScoringEngine engine = new SingleItemScoringEngine();
+        SingleItemScoringEngine engine = new SingleItemScoringEngine(parallelExecutor);
         RecommendationInfoDto info = RecommendationFixture.defaultInfo();
 
         ClothesFilteredDto dto = mock(ClothesFilteredDto.class);
@@ -85,7 +87,7 @@ class SingleItemScoringEngineTest {
     @Test
     void 점수가_너무낮을때_하한보정_적용() {
         // given
-        SingleItemScoringEngine engine = new SingleItemScoringEngine();
+        SingleItemScoringEngine engine = new SingleItemScoringEngine(parallelExecutor);
         RecommendationInfoDto info = RecommendationFixture.coldInfo();
 
         ClothesFilteredDto dto = mock(ClothesFilteredDto.class);
@@ -106,7 +108,7 @@ class SingleItemScoringEngineTest {
     @Test
     void 점수가_너무높을때_상한보정_적용() {
         // given
-        SingleItemScoringEngine engine = new SingleItemScoringEngine();
+        SingleItemScoringEngine engine = new SingleItemScoringEngine(parallelExecutor);
         RecommendationInfoDto info = RecommendationFixture.hotInfo();
 
         ClothesFilteredDto dto = mock(ClothesFilteredDto.class);
@@ -127,7 +129,7 @@ class SingleItemScoringEngineTest {
     @Test
     void 타입별_그룹화_후_상위N개_반환() {
         // given
-        SingleItemScoringEngine engine = spy(new SingleItemScoringEngine());
+        SingleItemScoringEngine engine = spy(new SingleItemScoringEngine(parallelExecutor));
         RecommendationInfoDto info = RecommendationFixture.defaultInfo();
 
         List<ClothesFilteredDto> candidates = new ArrayList<>();
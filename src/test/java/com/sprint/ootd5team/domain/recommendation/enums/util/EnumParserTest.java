@@ -0,0 +1,58 @@
+package com.sprint.ootd5team.domain.recommendation.enums.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.ootd5team.domain.recommendation.enums.ClothesStyle;
+import com.sprint.ootd5team.domain.recommendation.enums.Color;
+import com.sprint.ootd5team.domain.recommendation.enums.type.BottomType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.ShoesType;
+import com.sprint.ootd5team.domain.recommendation.enums.type.TopType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EnumParser 단위 테스트")
+class EnumParserTest {
+
+    @Test
+    @DisplayName("name / displayName / alias 정확 일치 (대소문자 무시)")
+    void 정확_일치() {
+        assertThat(EnumParser.safeParse(TopType.class, " t_shirt ", TopType.OTHER)).isEqualTo(TopType.T_SHIRT);
+        assertThat(EnumParser.safeParse(BottomType.class, "데님팬츠", BottomType.OTHER)).isEqualTo(BottomType.JEANS);
+        assertThat(EnumParser.safeParse(BottomType.class, "청바지", BottomType.OTHER)).isEqualTo(BottomType.JEANS);
+        assertThat(EnumParser.safeParse(Color.class, "NAVY", Color.OTHER)).isEqualTo(Color.NAVY);
+        assertThat(EnumParser.safeParse(ShoesType.class, "Rain Boots", ShoesType.OTHER)).isEqualTo(ShoesType.RAIN_BOOTS);
+    }
+
+    @Test
+    @DisplayName("부분 일치는 긴 문자열을 가진 상수를 우선")
+    void 부분_일치_긴_문자열_우선() {
+        // "셔츠"(SHIRT)보다 "스웨트셔츠"(SWEATSHIRT)가 우선
+        assertThat(EnumParser.parseFromAttrAndName(TopType.class, null, "그레이 스웨트셔츠", TopType.OTHER))
+            .isEqualTo(TopType.SWEATSHIRT);
+        assertThat(EnumParser.parseFromAttrAndName(TopType.class, "", "화이트 옥스포드 셔츠", TopType.OTHER))
+            .isEqualTo(TopType.SHIRT);
+        assertThat(EnumParser.safeParse(Color.class, "진한 하늘색", Color.OTHER)).isEqualTo(Color.SKY_BLUE);
+    }
+
+    @Test
+    @DisplayName("aliases 필드가 없는 Enum은 displayName으로 부분 일치")
+    void aliases_없는_enum_부분_일치() {
+        assertThat(EnumParser.parseFromAttrAndName(ClothesStyle.class, "", "빈티지 데님 자켓", ClothesStyle.OTHER))
+            .isEqualTo(ClothesStyle.VINTAGE);
+    }
+
+    @Test
+    @DisplayName("빈 값이나 매칭 실패 시 기본값 반환")
+    void 실패_시_기본값() {
+        assertThat(EnumParser.safeParse(Color.class, null, Color.OTHER)).isEqualTo(Color.OTHER);
+        assertThat(EnumParser.safeParse(Color.class, "  ", Color.OTHER)).isEqualTo(Color.OTHER);
+        assertThat(EnumParser.safeParse(Color.class, "없는색상", Color.OTHER)).isEqualTo(Color.OTHER);
+        assertThat(EnumParser.parseFromAttrAndName(TopType.class, null, null, TopType.OTHER)).isEqualTo(TopType.OTHER);
+    }
+
+    @Test
+    @DisplayName("인덱스는 Enum 클래스당 한 번만 생성")
+    void 인덱스_캐시() {
+        assertThat(EnumLookupIndex.of(Color.class)).isSameAs(EnumLookupIndex.of(Color.class));
+    }
+}
@@ -0,0 +1,67 @@
+package com.sprint.ootd5team.domain.recommendation.enums.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttribute;
+import com.sprint.ootd5team.domain.clothesattribute.entity.ClothesAttributeValue;
+import com.sprint.ootd5team.domain.recommendation.enums.Season;
+import java.util.EnumSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SeasonMask 단위 테스트")
+class SeasonMaskTest {
+
+    @Test
+    @DisplayName("계절 속성값 → 비트마스크")
+    void 계절_속성값_비트마스크() {
+        Clothes clothes = clothes("니트", new ClothesAttributeValue(new ClothesAttribute("색상"), "네이비"),
+            new ClothesAttributeValue(new ClothesAttribute("계절"), "가을/겨울"));
+
+        assertThat(SeasonMask.fromClothes(clothes))
+            .isEqualTo(SeasonMask.of(EnumSet.of(Season.AUTUMN, Season.WINTER)));
+    }
+
+    @Test
+    @DisplayName("계절 속성이 없으면 0")
+    void 계절_속성_없음() {
+        Clothes clothes = clothes("가방", new ClothesAttributeValue(new ClothesAttribute("색상"), "블랙"));
+
+        assertThat(SeasonMask.fromClothes(clothes)).isZero();
+    }
+
+    @Test
+    @DisplayName("허용 계절과 겹치는 마스크만 포함")
+    void 허용_계절_마스크() {
+        List<Integer> masks = SeasonMask.matchingMasks(EnumSet.of(Season.AUTUMN), false);
+
+        int autumn = SeasonMask.bit(Season.AUTUMN);
+        assertThat(masks).allMatch(mask -> (mask & autumn) != 0);
+        assertThat(masks).contains(autumn, autumn | SeasonMask.bit(Season.WINTER));
+        assertThat(masks).doesNotContain(0, SeasonMask.bit(Season.SUMMER), SeasonMask.bit(Season.OTHER));
+        assertThat(masks).hasSize(16);
+    }
+
+    @Test
+    @DisplayName("사계절 포함 시 OTHER 비트 마스크도 포함")
+    void 사계절_포함() {
+        List<Integer> masks = SeasonMask.matchingMasks(EnumSet.of(Season.SUMMER), true);
+
+        assertThat(masks).contains(SeasonMask.bit(Season.OTHER), SeasonMask.bit(Season.SUMMER));
+        assertThat(masks).doesNotContain(SeasonMask.bit(Season.WINTER));
+    }
+
+    private Clothes clothes(String name, ClothesAttributeValue... values) {
+        Clothes clothes = Clothes.builder()
+            .name(name)
+            .type(ClothesType.TOP)
+            .build();
+        for (ClothesAttributeValue value : values) {
+            clothes.addClothesAttributeValue(value);
+        }
+        return clothes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sprint.ootd5team.domain.recommendation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryPrecomputedRecommendationRepository 단위 테스트")
+class InMemoryPrecomputedRecommendationRepositoryTest {
+
+    private InMemoryPrecomputedRecommendationRepository repository;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPrecomputedRecommendationRepository(Duration.ofHours(1), 100);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void 사용자_날씨별_저장_조회() {
+        // given
+        UUID weatherId = UUID.randomUUID();
+        repository.save(recommendation(userId, weatherId));
+
+        // when & then
+        assertThat(repository.find(userId, weatherId)).isPresent();
+        assertThat(repository.find(userId, UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void 사용자_단위_삭제() {
+        // given
+        UUID otherUserId = UUID.randomUUID();
+        UUID weatherId = UUID.randomUUID();
+        repository.save(recommendation(userId, weatherId));
+        repository.save(recommendation(userId, UUID.randomUUID()));
+        repository.save(recommendation(otherUserId, weatherId));
+
+        // when
+        repository.deleteByUserId(userId);
+
+        // then
+        assertThat(repository.find(userId, weatherId)).isEmpty();
+        assertThat(repository.find(otherUserId, weatherId)).isPresent();
+    }
+
+    private PrecomputedRecommendation recommendation(UUID userId, UUID weatherId) {
+        return new PrecomputedRecommendation(userId, weatherId, new ProfileInfoDto("MALE", 25, 3),
+            List.of(List.of(UUID.randomUUID(), UUID.randomUUID())), Instant.now());
+    }
+}
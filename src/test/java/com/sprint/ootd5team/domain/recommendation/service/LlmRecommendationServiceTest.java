@@ -3,17 +3,36 @@ package com.sprint.ootd5team.domain.recommendation.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sprint.ootd5team.base.llm.LlmJsonClient;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.recommendation.dto.ApparentTemperatureDto;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.dto.WeatherInfoDto;
 import com.sprint.ootd5team.domain.recommendation.service.LlmRecommendationService;
+import com.sprint.ootd5team.domain.weather.enums.PrecipitationType;
+import com.sprint.ootd5team.domain.weather.enums.SkyStatus;
+import com.sprint.ootd5team.domain.weather.enums.WindspeedLevel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,7 +55,8 @@ class LlmRecommendationServiceTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        service = new LlmRecommendationService(llmJsonClient, objectMapper);
+        service = new LlmRecommendationService(llmJsonClient, objectMapper,
+            Caffeine.newBuilder().buildAsync(), Duration.ofSeconds(5));
     }
 
     @Test
@@ -89,4 +109,149 @@ class LlmRecommendationServiceTest {
         // then
         assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void 같은_입력이면_캐시된_응답_재사용() {
+        // given
+        UUID id = UUID.randomUUID();
+        List<ClothesFilteredDto> clothes = clothes(3);
+        given(llmJsonClient.callJsonPrompt(any(Prompt.class), any()))
+            .willReturn(Map.of("ids", List.of(id.toString())));
+
+        // when
+        List<ClothesFilteredDto> reversed = new ArrayList<>(clothes);
+        Collections.reverse(reversed);
+        List<UUID> first = service.recommendOutfit(info(20.0), clothes);
+        List<UUID> second = service.recommendOutfit(info(20.5), reversed);
+
+        // then
+        assertThat(first).containsExactly(id);
+        assertThat(second).containsExactly(id);
+        then(llmJsonClient).should(times(1)).callJsonPrompt(any(Prompt.class), any());
+    }
+
+    @Test
+    void 빈_응답은_캐시하지_않음() {
+        // given
+        List<ClothesFilteredDto> clothes = clothes(3);
+        given(llmJsonClient.callJsonPrompt(any(Prompt.class), any()))
+            .willReturn(Map.of("ids", List.of()));
+
+        // when
+        service.recommendOutfit(info(20.0), clothes);
+        service.recommendOutfit(info(20.0), clothes);
+
+        // then
+        then(llmJsonClient).should(times(2)).callJsonPrompt(any(Prompt.class), any());
+    }
+
+    @Test
+    void 동시_요청은_LLM을_한번만_호출() throws Exception {
+        // given
+        UUID id = UUID.randomUUID();
+        List<ClothesFilteredDto> clothes = clothes(3);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(llmJsonClient.callJsonPrompt(any(Prompt.class), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("ids", List.of(id.toString()));
+        });
+
+        // when
+        CompletableFuture<List<UUID>> first =
+            CompletableFuture.supplyAsync(() -> service.recommendOutfit(info(20.0), clothes));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<List<UUID>> second =
+            CompletableFuture.supplyAsync(() -> service.recommendOutfit(info(20.0), clothes));
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsExactly(id);
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsExactly(id);
+        then(llmJsonClient).should(times(1)).callJsonPrompt(any(Prompt.class), any());
+    }
+
+    @Test
+    void 공유_요청_대기중_인터럽트되면_즉시_반환() throws Exception {
+        // given
+        List<ClothesFilteredDto> clothes = clothes(3);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(llmJsonClient.callJsonPrompt(any(Prompt.class), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Map.of("ids", List.of(UUID.randomUUID().toString()));
+        });
+        CompletableFuture<List<UUID>> owner =
+            CompletableFuture.supplyAsync(() -> service.recommendOutfit(info(20.0), clothes));
+        started.await(5, TimeUnit.SECONDS);
+
+        AtomicReference<List<UUID>> waited = new AtomicReference<>();
+        Thread waiter = new Thread(() -> waited.set(service.recommendOutfit(info(20.0), clothes)));
+
+        // when
+        waiter.start();
+        waiter.interrupt();
+        waiter.join(2_000);
+
+        // then
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(waited.get()).isEmpty();
+        release.countDown();
+        owner.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void 후보_샘플링은_입력_순서와_무관하게_결정적() {
+        // given
+        List<ClothesFilteredDto> clothes = clothes(30);
+        List<ClothesFilteredDto> reversed = new ArrayList<>(clothes);
+        Collections.reverse(reversed);
+        String fingerprint = LlmRecommendationService.fingerprint(info(20.0), clothes);
+
+        // when
+        List<ClothesFilteredDto> sample1 = LlmRecommendationService.sample(clothes, fingerprint);
+        List<ClothesFilteredDto> sample2 = LlmRecommendationService.sample(reversed,
+            LlmRecommendationService.fingerprint(info(20.0), reversed));
+
+        // then
+        assertThat(sample1).hasSize(20).isEqualTo(sample2);
+    }
+
+    @Test
+    void 체감온도_구간이_다르면_지문도_다름() {
+        List<ClothesFilteredDto> clothes = clothes(3);
+
+        assertThat(LlmRecommendationService.fingerprint(info(20.0), clothes))
+            .isEqualTo(LlmRecommendationService.fingerprint(info(21.9), clothes))
+            .isNotEqualTo(LlmRecommendationService.fingerprint(info(22.0), clothes));
+    }
+
+    @Test
+    void 강수확률은_10퍼센트_구간으로_지문_생성() {
+        List<ClothesFilteredDto> clothes = clothes(3);
+
+        assertThat(LlmRecommendationService.fingerprint(info(20.0, 60.0), clothes))
+            .isEqualTo(LlmRecommendationService.fingerprint(info(20.0, 64.0), clothes))
+            .isNotEqualTo(LlmRecommendationService.fingerprint(info(20.0, 75.0), clothes));
+    }
+
+    private RecommendationInfoDto info(double personalFeelsTemp) {
+        return info(personalFeelsTemp, 60.0);
+    }
+
+    private RecommendationInfoDto info(double personalFeelsTemp, double precipitationProbability) {
+        WeatherInfoDto weather = new WeatherInfoDto(PrecipitationType.NONE, precipitationProbability,
+            WindspeedLevel.WEAK, SkyStatus.CLEAR, new ApparentTemperatureDto(20, 50, 1, null));
+        return new RecommendationInfoDto(weather, new ProfileInfoDto("FEMALE", 30, 3),
+            personalFeelsTemp);
+    }
+
+    private List<ClothesFilteredDto> clothes(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new ClothesFilteredDto(UUID.randomUUID(), "옷" + i, null,
+                ClothesType.TOP, List.of()))
+            .toList();
+    }
+}
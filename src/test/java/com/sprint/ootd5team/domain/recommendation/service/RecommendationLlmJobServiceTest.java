@@ -0,0 +1,107 @@
+package com.sprint.ootd5team.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.ootd5team.base.sse.service.SseService;
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationClothesDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationDto;
+import com.sprint.ootd5team.domain.recommendation.dto.RecommendationInfoDto;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationLlmJobService 단위 테스트")
+class RecommendationLlmJobServiceTest {
+
+    @Mock private LlmRecommendationService llmRecommendationService;
+    @Mock private RecommendationMapper recommendationMapper;
+    @Mock private SseService sseService;
+    @Mock private RecommendationInfoDto info;
+
+    private RecommendationLlmJobService service;
+    private UUID userId;
+    private UUID weatherId;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecommendationLlmJobService(llmRecommendationService, recommendationMapper,
+            sseService, new SyncTaskExecutor(), Duration.ofSeconds(5));
+        userId = UUID.randomUUID();
+        weatherId = UUID.randomUUID();
+    }
+
+    @Test
+    void LLM_결과를_SSE_recommendations_이벤트로_전송() {
+        // given
+        ClothesFilteredDto top = clothes(ClothesType.TOP);
+        ClothesFilteredDto bottom = clothes(ClothesType.BOTTOM);
+        given(llmRecommendationService.recommendOutfit(eq(info), anyList()))
+            .willReturn(List.of(top.clothesId()));
+        given(recommendationMapper.toDto(top)).willReturn(
+            new RecommendationClothesDto(top.clothesId(), "옷", null, ClothesType.TOP, List.of()));
+
+        // when
+        Optional<UUID> jobId = service.submit(userId, weatherId, info, List.of(top, bottom));
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        then(sseService).should().send(eq(List.of(userId)),
+            eq(RecommendationLlmJobService.EVENT_NAME), captor.capture());
+        RecommendationDto sent = (RecommendationDto) captor.getValue();
+        assertThat(jobId).isPresent();
+        assertThat(sent.jobId()).isEqualTo(jobId.get());
+        assertThat(sent.clothes()).hasSize(1);
+    }
+
+    @Test
+    void LLM_결과가_없으면_전송하지_않음() {
+        // given
+        given(llmRecommendationService.recommendOutfit(eq(info), anyList())).willReturn(List.of());
+
+        // when
+        service.submit(userId, weatherId, info, List.of(clothes(ClothesType.TOP)));
+
+        // then
+        then(sseService).should(never()).send(any(), any(), any());
+    }
+
+    @Test
+    void 스레드풀_포화시_작업ID_없음() {
+        // given
+        service = new RecommendationLlmJobService(llmRecommendationService, recommendationMapper,
+            sseService, task -> {
+                throw new TaskRejectedException("full");
+            }, Duration.ofSeconds(5));
+
+        // when
+        Optional<UUID> jobId = service.submit(userId, weatherId, info, List.of(clothes(ClothesType.TOP)));
+
+        // then
+        assertThat(jobId).isEmpty();
+        then(llmRecommendationService).shouldHaveNoInteractions();
+    }
+
+    private ClothesFilteredDto clothes(ClothesType type) {
+        return new ClothesFilteredDto(UUID.randomUUID(), "옷", null, type, List.of());
+    }
+}
@@ -0,0 +1,130 @@
+package com.sprint.ootd5team.domain.recommendation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.location.entity.Location;
+import com.sprint.ootd5team.domain.profile.entity.Profile;
+import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
+import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
+import com.sprint.ootd5team.domain.recommendation.engine.OutfitCombinationGenerator;
+import com.sprint.ootd5team.domain.recommendation.engine.SeasonFilterEngine;
+import com.sprint.ootd5team.domain.recommendation.engine.SingleItemScoringEngine;
+import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
+import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
+import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationInfoMapper;
+import com.sprint.ootd5team.domain.weather.entity.Weather;
+import com.sprint.ootd5team.domain.weather.service.WeatherService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecommendationPrecomputeService 단위 테스트")
+class RecommendationPrecomputeServiceTest {
+
+    private static final int TOP_N = 2;
+
+    @Mock private ProfileRepository profileRepository;
+    @Mock private WeatherService weatherService;
+    @Mock private RecommendationInfoMapper recommendationInfoMapper;
+    @Mock private SeasonFilterEngine seasonFilterEngine;
+    @Mock private SingleItemScoringEngine singleItemScoringEngine;
+    @Mock private OutfitCombinationGenerator outfitCombinationGenerator;
+
+    private RecommendationPrecomputeService service;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        service = new RecommendationPrecomputeService(profileRepository, weatherService,
+            recommendationInfoMapper, seasonFilterEngine, singleItemScoringEngine,
+            outfitCombinationGenerator, TOP_N);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void 상위_N개_코디의_의상_ID만_저장() {
+        // given
+        Profile profile = profileWithLocation();
+        Weather weather = mock(Weather.class);
+        UUID weatherId = UUID.randomUUID();
+        ProfileInfoDto profileInfo = new ProfileInfoDto("FEMALE", 30, 3);
+
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+        given(weatherService.getLatestWeatherForLocationAndDate(any(), any())).willReturn(weather);
+        given(weather.getId()).willReturn(weatherId);
+        given(recommendationInfoMapper.toProfileInfoDto(profile)).willReturn(profileInfo);
+        given(seasonFilterEngine.getFilteredClothes(eq(userId), any())).willReturn(List.of(clothes()));
+
+        List<OutfitScore> ranked = List.of(outfit(), outfit(), outfit());
+        given(singleItemScoringEngine.getTopItemsByType(any(), anyList())).willReturn(List.of());
+        given(outfitCombinationGenerator.generateWithScoring(anyList())).willReturn(ranked);
+
+        // when
+        Optional<PrecomputedRecommendation> result = service.precompute(userId);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().weatherId()).isEqualTo(weatherId);
+        assertThat(result.get().profileInfo()).isEqualTo(profileInfo);
+        assertThat(result.get().outfits()).hasSize(TOP_N);
+        assertThat(result.get().outfits().get(0))
+            .containsExactly(ranked.get(0).getItems().get(0).item().clothesId());
+    }
+
+    @Test
+    void 대상_예보가_없으면_계산하지_않음() {
+        // given
+        Profile profile = profileWithLocation();
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+        given(weatherService.getLatestWeatherForLocationAndDate(any(), any())).willReturn(null);
+
+        // when
+        Optional<PrecomputedRecommendation> result = service.precompute(userId);
+
+        // then
+        assertThat(result).isEmpty();
+        then(seasonFilterEngine).should(never()).getFilteredClothes(any(), any());
+    }
+
+    @Test
+    void 위치가_없는_프로필은_건너뜀() {
+        // given
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(mock(Profile.class)));
+
+        // when & then
+        assertThat(service.precompute(userId)).isEmpty();
+        then(weatherService).shouldHaveNoInteractions();
+    }
+
+    private Profile profileWithLocation() {
+        Profile profile = mock(Profile.class);
+        given(profile.getLocation()).willReturn(mock(Location.class));
+        return profile;
+    }
+
+    private ClothesFilteredDto clothes() {
+        return new ClothesFilteredDto(UUID.randomUUID(), "셔츠", null, ClothesType.TOP, List.of());
+    }
+
+    private OutfitScore outfit() {
+        return new OutfitScore(new ArrayList<>(List.of(new ClothesScore(clothes(), 1.0))), 1.0);
+    }
+}
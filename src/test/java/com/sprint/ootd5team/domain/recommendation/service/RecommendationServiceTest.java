@@ -6,23 +6,30 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mock;
 
 import com.sprint.ootd5team.base.exception.profile.ProfileNotFoundException;
 import com.sprint.ootd5team.base.exception.user.UserNotFoundException;
+import com.sprint.ootd5team.domain.clothes.entity.Clothes;
 import com.sprint.ootd5team.domain.clothes.enums.ClothesType;
+import com.sprint.ootd5team.domain.clothes.repository.ClothesRepository;
 import com.sprint.ootd5team.domain.location.entity.Location;
 import com.sprint.ootd5team.domain.profile.entity.Profile;
 import com.sprint.ootd5team.domain.profile.repository.ProfileRepository;
 import com.sprint.ootd5team.domain.recommendation.dto.ClothesFilteredDto;
+import com.sprint.ootd5team.domain.recommendation.dto.PrecomputedRecommendation;
+import com.sprint.ootd5team.domain.recommendation.dto.ProfileInfoDto;
 import com.sprint.ootd5team.domain.recommendation.dto.RecommendationDto;
 import com.sprint.ootd5team.domain.recommendation.engine.OutfitCombinationGenerator;
 import com.sprint.ootd5team.domain.recommendation.engine.SeasonFilterEngine;
 import com.sprint.ootd5team.domain.recommendation.engine.SingleItemScoringEngine;
 import com.sprint.ootd5team.domain.recommendation.engine.model.ClothesScore;
 import com.sprint.ootd5team.domain.recommendation.engine.model.OutfitScore;
+import com.sprint.ootd5team.domain.recommendation.entity.ClothesFeature;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationInfoMapper;
 import com.sprint.ootd5team.domain.recommendation.mapper.RecommendationMapper;
+import com.sprint.ootd5team.domain.recommendation.repository.PrecomputedRecommendationRepository;
 import com.sprint.ootd5team.domain.recommendation.service.LlmRecommendationService;
 import com.sprint.ootd5team.domain.recommendation.service.RecommendationFallbackService;
 import com.sprint.ootd5team.domain.recommendation.service.RecommendationService;
@@ -37,6 +44,7 @@ import com.sprint.ootd5team.domain.weather.repository.WeatherRepository;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -64,6 +72,10 @@ class RecommendationServiceTest {
     @Mock private LlmRecommendationService llmRecommendationService;
     @Mock private RecommendationFallbackService recommendationFallbackService;
     @Mock private SeasonFilterEngine seasonFilterEngine;
+    @Mock private ClothesRepository clothesRepository;
+    @Mock private PrecomputedRecommendationRepository precomputedRecommendationRepository;
+    @Mock private RecommendationLlmJobService recommendationLlmJobService;
+    @Mock private ClothesFeatureService clothesFeatureService;
 
     @InjectMocks
     private RecommendationService recommendationService;
@@ -227,4 +239,86 @@ class RecommendationServiceTest {
         assertThatThrownBy(() -> recommendationService.getRecommendation(weatherId, userId, false))
             .isInstanceOf(WeatherNotFoundException.class);
     }
+
+    @Test
+    void 사전계산_결과가_있으면_실시간_계산_생략() {
+        // given
+        ReflectionTestUtils.setField(weather, "id", weatherId);
+        ProfileInfoDto profileInfo = new ProfileInfoDto("MALE", 25, 3);
+        Clothes clothes = Clothes.builder().owner(user).name("셔츠").type(ClothesType.TOP).build();
+        UUID clothesId = UUID.randomUUID();
+        ReflectionTestUtils.setField(clothes, "id", clothesId);
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(weather));
+        given(recommendationInfoMapper.toProfileInfoDto(profile)).willReturn(profileInfo);
+        given(precomputedRecommendationRepository.find(userId, weatherId)).willReturn(Optional.of(
+            new PrecomputedRecommendation(userId, weatherId, profileInfo,
+                List.of(List.of(clothesId)), Instant.now())));
+        given(clothesRepository.findAllWithAttributesByIds(List.of(clothesId)))
+            .willReturn(List.of(clothes));
+        ClothesFeature feature = ClothesFeature.builder().clothesId(clothesId).build();
+        given(clothesFeatureService.findCurrentByClothesIds(List.of(clothesId)))
+            .willReturn(Map.of(clothesId, feature));
+        given(recommendationMapper.toFilteredDto(clothes, feature)).willReturn(sampleClothes());
+
+        // when
+        RecommendationDto result = recommendationService.getRecommendation(weatherId, userId, false);
+
+        // then
+        assertThat(result.clothes()).hasSize(1);
+        then(recommendationMapper).should(never()).toFilteredDto(clothes);
+        then(seasonFilterEngine).should(never()).getFilteredClothes(any(), any());
+    }
+
+    @Test
+    void 사전계산_의상이_삭제되었으면_실시간_계산() {
+        // given
+        ReflectionTestUtils.setField(weather, "id", weatherId);
+        ProfileInfoDto profileInfo = new ProfileInfoDto("MALE", 25, 3);
+        UUID clothesId = UUID.randomUUID();
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(weather));
+        given(recommendationInfoMapper.toProfileInfoDto(profile)).willReturn(profileInfo);
+        given(precomputedRecommendationRepository.find(userId, weatherId)).willReturn(Optional.of(
+            new PrecomputedRecommendation(userId, weatherId, profileInfo,
+                List.of(List.of(clothesId)), Instant.now())));
+        given(clothesRepository.findAllWithAttributesByIds(List.of(clothesId))).willReturn(List.of());
+        given(seasonFilterEngine.getFilteredClothes(any(), any())).willReturn(List.of());
+
+        // when
+        recommendationService.getRecommendation(weatherId, userId, false);
+
+        // then
+        then(seasonFilterEngine).should().getFilteredClothes(any(), any());
+        then(recommendationFallbackService).should().getRandomOutfit(userId);
+    }
+
+    @Test
+    void 비동기_AI추천은_알고리즘_결과와_작업ID_즉시_반환() {
+        // given
+        UUID jobId = UUID.randomUUID();
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+        given(weatherRepository.findById(weatherId)).willReturn(Optional.of(weather));
+        given(seasonFilterEngine.getFilteredClothes(any(), any())).willReturn(List.of(sampleClothes()));
+
+        ClothesScore score = new ClothesScore(sampleClothes(), 0.9);
+        given(singleItemScoringEngine.getTopItemsByType(any(), anyList())).willReturn(List.of(score));
+        given(outfitCombinationGenerator.generateWithScoring(any()))
+            .willReturn(List.of(new OutfitScore(List.of(score), 0.9)));
+        given(recommendationLlmJobService.submit(any(), any(), any(), anyList()))
+            .willReturn(Optional.of(jobId));
+
+        // when
+        RecommendationDto result = recommendationService.getRecommendation(weatherId, userId, true, true);
+
+        // then
+        assertThat(result.jobId()).isEqualTo(jobId);
+        assertThat(result.clothes()).hasSize(1);
+        then(llmRecommendationService).shouldHaveNoInteractions();
+    }
 }
@@ -0,0 +1,12 @@
+-- 전체 알림 데이터 삽입 (사용자 가입 시각: 2024-01-01 00:00:00+00)
+INSERT INTO tbl_broadcast_notifications (id, title, content, level, created_at)
+VALUES
+    ('bbbbbbbb-0000-0000-0000-000000000001', '공지1', '가입 전 공지', 'INFO', '2023-12-31T00:00:00Z'),
+    ('bbbbbbbb-0000-0000-0000-000000000002', '공지2', '내용', 'INFO', '2024-01-01T09:30:00Z'),
+    ('bbbbbbbb-0000-0000-0000-000000000003', '공지3', '숨긴 공지', 'INFO', '2024-01-01T11:00:00Z'),
+    ('bbbbbbbb-0000-0000-0000-000000000004', '공지4', '내용', 'INFO', '2024-01-01T12:00:00Z');
+
+INSERT INTO tbl_broadcast_notification_dismissals (id, broadcast_id, user_id, created_at)
+VALUES
+    ('dddddddd-0000-0000-0000-000000000001', 'bbbbbbbb-0000-0000-0000-000000000003',
+     'aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa', '2024-01-01T11:30:00Z');